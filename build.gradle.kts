@@ -9,6 +9,7 @@ plugins {
     id("io.spring.dependency-management") version "1.1.4"
     id("info.solidsoft.pitest") version "1.15.0"
     id("org.sonarqube") version "4.4.1.3373"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 java {
@@ -28,6 +29,8 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.flywaydb:flyway-core")
     implementation("org.postgresql:postgresql")
 
@@ -42,6 +45,7 @@ dependencies {
     testImplementation("org.testcontainers:junit-jupiter:1.20.6")
     testImplementation("org.testcontainers:postgresql:1.20.6")
     testImplementation("com.tngtech.archunit:archunit-junit5:1.2.1")
+    testImplementation("net.jqwik:jqwik:1.8.4")
 }
 
 jacoco {
@@ -106,6 +110,14 @@ pitest {
 //    )
 }
 
+jmh {
+    // Benchmarks live in src/jmh/java; run with ./gradlew jmh. The gc profiler reports allocation rates.
+    profilers.set(listOf("gc"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
+
 tasks.register<Test>("integrationTest") {
     useJUnitPlatform {
         includeTags("integration")
@@ -3,8 +3,8 @@ package simulations.config;
 import java.time.Duration;
 
 public class TestSettings {
-    public static final int AT_ONCE_USERS = 10;
-    public static final int RAMP_USERS = 50;
+    public static final int AT_ONCE_USERS = 100;
+    public static final int RAMP_USERS = 500;
     public static final Duration RAMP_DURATION = Duration.ofMinutes(2);
     public static final long MAX_RESPONSE_TIME_MS = 5000L;
 
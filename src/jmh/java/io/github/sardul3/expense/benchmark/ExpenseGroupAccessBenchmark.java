@@ -0,0 +1,69 @@
+package io.github.sardul3.expense.benchmark;
+
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading an aggregate's collections through its getters against the copy-on-read
+ * getters they replaced. With the gc profiler, {@code gc.alloc.rate.norm} for the view benchmarks
+ * should stay near zero while the copy baseline grows with the activity count.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpenseGroupAccessBenchmark {
+
+    @Param({"100", "10000"})
+    private int activityCount;
+
+    private ExpenseGroup group;
+
+    @Setup
+    public void setUp() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        group = ExpenseGroup.from(GroupName.withName("benchmark"), alice);
+        group.addParticipant(bob);
+        group.activate();
+        for (int i = 0; i < activityCount; i++) {
+            group.addActivity(ExpenseActivity.from("Expense " + i, Money.ofCents(100 + i), i % 2 == 0 ? alice : bob));
+        }
+    }
+
+    @Benchmark
+    public int activitiesView() {
+        return group.getActivities().size();
+    }
+
+    /** Baseline: what each getActivities() call cost when it returned a fresh wrapped copy. */
+    @Benchmark
+    public int activitiesCopy() {
+        return Collections.unmodifiableList(new ArrayList<>(group.getActivities())).size();
+    }
+
+    @Benchmark
+    public int participantsView() {
+        int total = 0;
+        List<Participant> participants = group.getParticipants();
+        for (int i = 0; i < participants.size(); i++) {
+            total += participants.get(i).getEmail().length();
+        }
+        return total;
+    }
+}
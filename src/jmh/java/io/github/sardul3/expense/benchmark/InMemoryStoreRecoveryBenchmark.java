@@ -0,0 +1,84 @@
+package io.github.sardul3.expense.benchmark;
+
+import io.github.sardul3.expense.adapter.out.event.NoOpDomainEventPublisher;
+import io.github.sardul3.expense.adapter.out.persistence.inmemory.InMemoryExpenseGroupRepository;
+import io.github.sardul3.expense.config.InMemoryStoreProperties;
+import io.github.sardul3.expense.config.InMemoryStoreProperties.FsyncPolicy;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup recovery time of the durable in-memory store. The same groups are recovered either from
+ * the log alone, one record per save, or from a checkpoint snapshot mapped in one pass; the gap
+ * between the two is what checkpointing buys. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class InMemoryStoreRecoveryBenchmark {
+
+    private static final int ACTIVITIES_PER_GROUP = 10;
+
+    @Param({"1000", "10000"})
+    private int groupCount;
+
+    @Param({"false", "true"})
+    private boolean checkpointed;
+
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("in-memory-store-recovery");
+        InMemoryExpenseGroupRepository repository = open();
+        for (int i = 0; i < groupCount; i++) {
+            Participant owner = Participant.withEmail("owner" + i + "@example.com");
+            ExpenseGroup group = ExpenseGroup.from(GroupName.withName("group-" + i), owner);
+            group.addParticipant(Participant.withEmail("member" + i + "@example.com"));
+            group.activate();
+            repository.save(group);
+            for (int j = 0; j < ACTIVITIES_PER_GROUP; j++) {
+                group.addActivity(ExpenseActivity.from("Expense " + j, Money.ofCents(100 + j), owner));
+                repository.save(group);
+            }
+        }
+        if (checkpointed) {
+            repository.checkpoint();
+        }
+        repository.close();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        InMemoryStoreWriteBenchmark.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public InMemoryExpenseGroupRepository recover() {
+        InMemoryExpenseGroupRepository recovered = open();
+        recovered.close();
+        return recovered;
+    }
+
+    private InMemoryExpenseGroupRepository open() {
+        return new InMemoryExpenseGroupRepository(new NoOpDomainEventPublisher(), new InMemoryStoreProperties(
+                true, directory.toString(), FsyncPolicy.NEVER, null, null, null));
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.sardul3.expense.benchmark;
+
+import io.github.sardul3.expense.adapter.out.event.NoOpDomainEventPublisher;
+import io.github.sardul3.expense.adapter.out.persistence.inmemory.InMemoryExpenseGroupRepository;
+import io.github.sardul3.expense.config.InMemoryStoreProperties;
+import io.github.sardul3.expense.config.InMemoryStoreProperties.FsyncPolicy;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Save throughput of the durable in-memory store under each fsync policy. Each thread settles
+ * one cent within its own group and saves it, so every operation appends one log record; with
+ * several threads, {@code ALWAYS} shows how much group commit recovers of the cost of a force per
+ * save. The non-durable store is the baseline. Checkpoints run as the log grows, as they would in
+ * production. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class InMemoryStoreWriteBenchmark {
+
+    /** {@code OFF} is the store without a log. */
+    @Param({"OFF", "ALWAYS", "INTERVAL", "NEVER"})
+    private String fsync;
+
+    private Path directory;
+    private InMemoryExpenseGroupRepository repository;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("in-memory-store-write");
+        boolean durable = !"OFF".equals(fsync);
+        repository = new InMemoryExpenseGroupRepository(new NoOpDomainEventPublisher(), new InMemoryStoreProperties(
+                durable, directory.toString(), durable ? FsyncPolicy.valueOf(fsync) : null, null, null, null));
+        repository.start();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        repository.stop();
+        deleteRecursively(directory);
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+
+        private ExpenseGroup group;
+        private ParticipantId from;
+        private ParticipantId to;
+
+        @Setup
+        public void setUp(InMemoryStoreWriteBenchmark benchmark) {
+            Participant owner = Participant.withEmail("owner@example.com");
+            Participant member = Participant.withEmail("member@example.com");
+            group = ExpenseGroup.from(GroupName.withName("writer-" + UUID.randomUUID()), owner);
+            group.addParticipant(member);
+            group.activate();
+            benchmark.repository.save(group);
+            from = member.getParticipantId();
+            to = owner.getParticipantId();
+        }
+    }
+
+    @Benchmark
+    public ExpenseGroup settleAndSave(Writer writer) {
+        writer.group.settle(Settlement.of(writer.from, writer.to, Money.ofCents(1)));
+        return repository.save(writer.group);
+    }
+
+    static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
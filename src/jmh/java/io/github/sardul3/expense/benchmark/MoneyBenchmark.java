@@ -0,0 +1,77 @@
+package io.github.sardul3.expense.benchmark;
+
+import io.github.sardul3.expense.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Money} arithmetic against the plain scale-2 HALF_UP BigDecimal arithmetic it
+ * replaced. Run with {@code ./gradlew jmh}; the gc profiler's {@code gc.alloc.rate.norm} column
+ * shows bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MoneyBenchmark {
+
+    private static final int SCALE = 2;
+
+    private Money balance;
+    private Money expense;
+    private BigDecimal balanceDecimal;
+    private BigDecimal expenseDecimal;
+
+    @Setup
+    public void setUp() {
+        balance = Money.fromBalance(new BigDecimal("-1234.56"));
+        expense = Money.of(new BigDecimal("100.00"));
+        balanceDecimal = new BigDecimal("-1234.56").setScale(SCALE, RoundingMode.HALF_UP);
+        expenseDecimal = new BigDecimal("100.00").setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public Money addMoney() {
+        return balance.add(expense);
+    }
+
+    @Benchmark
+    public BigDecimal addBigDecimal() {
+        return balanceDecimal.add(expenseDecimal).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public Money splitMoney() {
+        return expense.split(3);
+    }
+
+    @Benchmark
+    public BigDecimal splitBigDecimal() {
+        return expenseDecimal.divide(BigDecimal.valueOf(3), SCALE, RoundingMode.HALF_UP)
+                .setScale(SCALE, RoundingMode.HALF_UP);
+    }
+
+    /** One even-split expense as applied to a payer and one member: split, debit, credit. */
+    @Benchmark
+    public Money expenseRoundMoney() {
+        Money share = expense.split(3);
+        return balance.subtract(share).add(expense.subtract(share));
+    }
+
+    @Benchmark
+    public BigDecimal expenseRoundBigDecimal() {
+        BigDecimal share = expenseDecimal.divide(BigDecimal.valueOf(3), SCALE, RoundingMode.HALF_UP)
+                .setScale(SCALE, RoundingMode.HALF_UP);
+        BigDecimal debited = balanceDecimal.subtract(share).setScale(SCALE, RoundingMode.HALF_UP);
+        return debited.add(expenseDecimal.subtract(share).setScale(SCALE, RoundingMode.HALF_UP))
+                .setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.sardul3.expense.benchmark;
+
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.service.SettlementPlanner;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times {@link SettlementPlanner#plan} on random balances. Sizes up to
+ * {@link SettlementPlanner#EXACT_SEARCH_LIMIT} take the exact subset search; larger ones take
+ * greedy matching. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SettlementPlannerBenchmark {
+
+    @Param({"16", "1000", "100000"})
+    private int participantCount;
+
+    private List<Participant> participants;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        participants = new ArrayList<>(participantCount);
+        long total = 0;
+        for (int i = 0; i < participantCount - 1; i++) {
+            long cents = random.nextLong(-500_000, 500_000);
+            total += cents;
+            participants.add(Participant.reconstitute(ParticipantId.generate(), "member" + i + "@example.com",
+                    Money.ofCents(cents)));
+        }
+        participants.add(Participant.reconstitute(ParticipantId.generate(), "last@example.com",
+                Money.ofCents(-total)));
+    }
+
+    @Benchmark
+    public List<Settlement> plan() {
+        return SettlementPlanner.plan(participants);
+    }
+}
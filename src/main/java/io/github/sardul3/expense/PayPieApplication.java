@@ -1,12 +1,22 @@
 package io.github.sardul3.expense;
 
 import io.github.sardul3.expense.config.AppApiProperties;
+import io.github.sardul3.expense.config.BalanceReadModelProperties;
+import io.github.sardul3.expense.config.CommandExecutionProperties;
+import io.github.sardul3.expense.config.ConcurrencyProperties;
+import io.github.sardul3.expense.config.EventPublisherProperties;
+import io.github.sardul3.expense.config.GroupCacheProperties;
+import io.github.sardul3.expense.config.InMemoryStoreProperties;
+import io.github.sardul3.expense.config.OutboxProperties;
+import io.github.sardul3.expense.config.PersistenceProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(AppApiProperties.class)
+@EnableConfigurationProperties({AppApiProperties.class, PersistenceProperties.class, ConcurrencyProperties.class,
+        CommandExecutionProperties.class, GroupCacheProperties.class, EventPublisherProperties.class, OutboxProperties.class,
+        BalanceReadModelProperties.class, InMemoryStoreProperties.class})
 public class PayPieApplication {
     public static void main(String[] args) {
         SpringApplication.run(PayPieApplication.class, args);
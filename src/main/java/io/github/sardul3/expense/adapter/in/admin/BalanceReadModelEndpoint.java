@@ -0,0 +1,40 @@
+package io.github.sardul3.expense.adapter.in.admin;
+
+import io.github.sardul3.expense.adapter.common.PrimaryAdapter;
+import io.github.sardul3.expense.application.dto.BalanceReadModelRebuildResponse;
+import io.github.sardul3.expense.application.port.in.RebuildBalanceReadModelUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint that rebuilds the group balance read model: {@code POST /actuator/balancereadmodel}.
+ * It sits with the other management endpoints rather than the public API, so it is exposed and
+ * secured with them. Not available with {@code event-sourced}, whose groups are not in the tables
+ * the rebuild copies from.
+ */
+@PrimaryAdapter
+@Component
+@Profile("!event-sourced")
+@Endpoint(id = "balancereadmodel")
+public class BalanceReadModelEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceReadModelEndpoint.class);
+
+    private final RebuildBalanceReadModelUseCase rebuildBalanceReadModelUseCase;
+
+    public BalanceReadModelEndpoint(RebuildBalanceReadModelUseCase rebuildBalanceReadModelUseCase) {
+        this.rebuildBalanceReadModelUseCase = rebuildBalanceReadModelUseCase;
+    }
+
+    @WriteOperation
+    public BalanceReadModelRebuildResponse rebuild() {
+        log.info("Rebuild balance read model request");
+        int groups = rebuildBalanceReadModelUseCase.rebuild();
+        log.info("Balance read model rebuilt: groups={}", groups);
+        return new BalanceReadModelRebuildResponse(groups);
+    }
+}
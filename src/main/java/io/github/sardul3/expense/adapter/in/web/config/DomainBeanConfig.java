@@ -3,22 +3,37 @@ package io.github.sardul3.expense.adapter.in.web.config;
 import io.github.sardul3.expense.application.port.in.AddParticipantUseCase;
 import io.github.sardul3.expense.application.port.in.CreateExpenseActivityUseCase;
 import io.github.sardul3.expense.application.port.in.CreateExpenseGroupUseCase;
+import io.github.sardul3.expense.application.port.in.ExportExpenseHistoryUseCase;
 import io.github.sardul3.expense.application.port.in.GetExpenseHistoryUseCase;
 import io.github.sardul3.expense.application.port.in.GetGroupBalanceUseCase;
+import io.github.sardul3.expense.application.port.in.GetSettlementPlanUseCase;
+import io.github.sardul3.expense.application.port.in.ImportExpenseActivitiesUseCase;
+import io.github.sardul3.expense.application.port.in.RebuildBalanceReadModelUseCase;
 import io.github.sardul3.expense.application.port.in.RetrieveAllExpenseGroupsUseCase;
 import io.github.sardul3.expense.application.port.in.RetrieveExpenseGroupUseCase;
 import io.github.sardul3.expense.application.port.in.SettleUpUseCase;
-import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
 import io.github.sardul3.expense.application.port.out.ExpenseActivityQueryRepository;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupSummaryQueryRepository;
+import io.github.sardul3.expense.application.port.out.GroupBalanceReadModel;
 import io.github.sardul3.expense.application.usecase.AddParticipantService;
+import io.github.sardul3.expense.application.usecase.ConflictRetryPolicy;
 import io.github.sardul3.expense.application.usecase.CreateExpenseActivityService;
 import io.github.sardul3.expense.application.usecase.CreateExpenseGroupService;
+import io.github.sardul3.expense.application.usecase.DirectGroupCommandExecutor;
+import io.github.sardul3.expense.application.usecase.ExportExpenseHistoryService;
 import io.github.sardul3.expense.application.usecase.GetExpenseHistoryService;
 import io.github.sardul3.expense.application.usecase.GetGroupBalanceService;
+import io.github.sardul3.expense.application.usecase.GetSettlementPlanService;
+import io.github.sardul3.expense.application.usecase.GroupCommandExecutor;
+import io.github.sardul3.expense.application.usecase.ImportExpenseActivitiesService;
+import io.github.sardul3.expense.application.usecase.LanedGroupCommandExecutor;
+import io.github.sardul3.expense.application.usecase.RebuildBalanceReadModelService;
 import io.github.sardul3.expense.application.usecase.RetrieveAllExpenseGroupService;
 import io.github.sardul3.expense.application.usecase.RetrieveExpenseGroupService;
 import io.github.sardul3.expense.application.usecase.SettleUpService;
+import io.github.sardul3.expense.config.CommandExecutionProperties;
+import io.github.sardul3.expense.config.ConcurrencyProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -30,36 +45,69 @@ public class DomainBeanConfig {
     }
 
     @Bean
-    public RetrieveAllExpenseGroupsUseCase retrieveAllExpenseGroupsUseCase(ExpenseGroupRepository expenseGroupRepository) {
-        return new RetrieveAllExpenseGroupService(expenseGroupRepository);
+    public RetrieveAllExpenseGroupsUseCase retrieveAllExpenseGroupsUseCase(
+            ExpenseGroupSummaryQueryRepository expenseGroupSummaryQueryRepository) {
+        return new RetrieveAllExpenseGroupService(expenseGroupSummaryQueryRepository);
     }
 
     @Bean
-    public CreateExpenseActivityUseCase createExpenseActivityUseCase(ExpenseGroupRepository expenseGroupRepository,
-                                                                     DomainEventPublisher domainEventPublisher) {
-        return new CreateExpenseActivityService(expenseGroupRepository, domainEventPublisher);
+    public ConflictRetryPolicy conflictRetryPolicy(ConcurrencyProperties concurrencyProperties) {
+        return new ConflictRetryPolicy(concurrencyProperties.maxAttempts(),
+                concurrencyProperties.initialBackoff(), concurrencyProperties.maxBackoff());
     }
 
     @Bean
-    public RetrieveExpenseGroupUseCase retrieveExpenseGroupUseCase(ExpenseGroupRepository expenseGroupRepository) {
-        return new RetrieveExpenseGroupService(expenseGroupRepository);
+    public GroupCommandExecutor groupCommandExecutor(ExpenseGroupRepository expenseGroupRepository,
+                                                     ConflictRetryPolicy conflictRetryPolicy,
+                                                     CommandExecutionProperties commandExecutionProperties) {
+        if (commandExecutionProperties.laned()) {
+            return new LanedGroupCommandExecutor(expenseGroupRepository, conflictRetryPolicy,
+                    commandExecutionProperties.lanes(), commandExecutionProperties.maxBatchSize(),
+                    commandExecutionProperties.commandTimeout());
+        }
+        return new DirectGroupCommandExecutor(expenseGroupRepository, conflictRetryPolicy);
     }
 
     @Bean
-    public AddParticipantUseCase addParticipantUseCase(ExpenseGroupRepository expenseGroupRepository,
-                                                      DomainEventPublisher domainEventPublisher) {
-        return new AddParticipantService(expenseGroupRepository, domainEventPublisher);
+    public CreateExpenseActivityUseCase createExpenseActivityUseCase(GroupCommandExecutor groupCommandExecutor) {
+        return new CreateExpenseActivityService(groupCommandExecutor);
     }
 
     @Bean
-    public GetGroupBalanceUseCase getGroupBalanceUseCase(ExpenseGroupRepository expenseGroupRepository) {
-        return new GetGroupBalanceService(expenseGroupRepository);
+    public ImportExpenseActivitiesUseCase importExpenseActivitiesUseCase(GroupCommandExecutor groupCommandExecutor) {
+        return new ImportExpenseActivitiesService(groupCommandExecutor);
     }
 
     @Bean
-    public SettleUpUseCase settleUpUseCase(ExpenseGroupRepository expenseGroupRepository,
-                                           DomainEventPublisher domainEventPublisher) {
-        return new SettleUpService(expenseGroupRepository, domainEventPublisher);
+    public RetrieveExpenseGroupUseCase retrieveExpenseGroupUseCase(ExpenseGroupRepository expenseGroupRepository,
+                                                                   GroupBalanceReadModel groupBalanceReadModel) {
+        return new RetrieveExpenseGroupService(expenseGroupRepository, groupBalanceReadModel);
+    }
+
+    @Bean
+    public AddParticipantUseCase addParticipantUseCase(GroupCommandExecutor groupCommandExecutor) {
+        return new AddParticipantService(groupCommandExecutor);
+    }
+
+    @Bean
+    public GetGroupBalanceUseCase getGroupBalanceUseCase(ExpenseGroupRepository expenseGroupRepository,
+                                                         GroupBalanceReadModel groupBalanceReadModel) {
+        return new GetGroupBalanceService(expenseGroupRepository, groupBalanceReadModel);
+    }
+
+    @Bean
+    public RebuildBalanceReadModelUseCase rebuildBalanceReadModelUseCase(GroupBalanceReadModel groupBalanceReadModel) {
+        return new RebuildBalanceReadModelService(groupBalanceReadModel);
+    }
+
+    @Bean
+    public GetSettlementPlanUseCase getSettlementPlanUseCase(ExpenseGroupRepository expenseGroupRepository) {
+        return new GetSettlementPlanService(expenseGroupRepository);
+    }
+
+    @Bean
+    public SettleUpUseCase settleUpUseCase(GroupCommandExecutor groupCommandExecutor) {
+        return new SettleUpService(groupCommandExecutor);
     }
 
     @Bean
@@ -67,4 +115,10 @@ public class DomainBeanConfig {
                                                              ExpenseActivityQueryRepository expenseActivityQueryRepository) {
         return new GetExpenseHistoryService(expenseGroupRepository, expenseActivityQueryRepository);
     }
+
+    @Bean
+    public ExportExpenseHistoryUseCase exportExpenseHistoryUseCase(ExpenseGroupRepository expenseGroupRepository,
+                                                                   ExpenseActivityQueryRepository expenseActivityQueryRepository) {
+        return new ExportExpenseHistoryService(expenseGroupRepository, expenseActivityQueryRepository);
+    }
 }
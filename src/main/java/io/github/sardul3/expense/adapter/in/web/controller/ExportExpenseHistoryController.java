@@ -0,0 +1,135 @@
+package io.github.sardul3.expense.adapter.in.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.sardul3.expense.adapter.common.PrimaryAdapter;
+import io.github.sardul3.expense.application.dto.ActivityExport;
+import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.port.in.ExportExpenseHistoryUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Streams a group's entire activity history as NDJSON or CSV. Rows go from the database cursor
+ * to the response one at a time, so the export size is not limited by heap or by page size.
+ * Both formats carry the full split: its type, its members and their shares (weights, basis
+ * points or cents), so an export records exactly how each amount was shared. In CSV the members
+ * and shares are {@code ;}-separated lists in the same order.
+ */
+@PrimaryAdapter
+@RestController
+@RequestMapping("/api/v1/expense")
+public class ExportExpenseHistoryController {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportExpenseHistoryController.class);
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final String CSV_HEADER = "id,description,amount,paidByParticipantId,splitEvenly,splitType,splitMembers,splitShares\n";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportExpenseHistoryUseCase exportExpenseHistoryUseCase;
+    private final ObjectWriter activityWriter;
+
+    public ExportExpenseHistoryController(ExportExpenseHistoryUseCase exportExpenseHistoryUseCase,
+                                          ObjectMapper objectMapper) {
+        this.exportExpenseHistoryUseCase = exportExpenseHistoryUseCase;
+        this.activityWriter = objectMapper.writerFor(ActivityView.class);
+    }
+
+    @GetMapping("/groups/{id}/activities/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        boolean csv = switch (format.toLowerCase(Locale.ROOT)) {
+            case "ndjson" -> false;
+            case "csv" -> true;
+            default -> throw new IllegalArgumentException("format must be ndjson or csv");
+        };
+        log.info("Export expense history request: groupId={}, format={}", id, format);
+        ActivityExport export = exportExpenseHistoryUseCase.exportHistory(id);
+
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            if (csv) {
+                writer.write(CSV_HEADER);
+            }
+            export.forEach(activity -> {
+                try {
+                    if (csv) {
+                        writeCsvRow(writer, activity);
+                    } else {
+                        writer.write(activityWriter.writeValueAsString(activity));
+                        writer.write('\n');
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(csv ? CSV : NDJSON);
+        if (csv) {
+            response.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"activities-" + id + ".csv\"");
+        }
+        return response.body(body);
+    }
+
+    private static void writeCsvRow(Writer writer, ActivityView activity) throws IOException {
+        writer.write(activity.id().toString());
+        writer.write(',');
+        writeCsvField(writer, activity.description());
+        writer.write(',');
+        writer.write(activity.amount().toPlainString());
+        writer.write(',');
+        writer.write(activity.paidByParticipantId().toString());
+        writer.write(',');
+        writer.write(Boolean.toString(activity.splitEvenly()));
+        writer.write(',');
+        writer.write(activity.splitType());
+        writer.write(',');
+        writeCsvList(writer, activity.splitMembers());
+        writer.write(',');
+        writeCsvList(writer, activity.splitShares());
+        writer.write('\n');
+    }
+
+    private static void writeCsvList(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(';');
+            }
+            writer.write(values.get(i).toString());
+        }
+    }
+
+    /** RFC 4180: quote fields containing separators, quotes or line breaks and double the quotes. */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
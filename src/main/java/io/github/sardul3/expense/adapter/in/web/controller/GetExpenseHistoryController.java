@@ -1,6 +1,7 @@
 package io.github.sardul3.expense.adapter.in.web.controller;
 
 import io.github.sardul3.expense.adapter.common.PrimaryAdapter;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
 import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
 import io.github.sardul3.expense.application.port.in.GetExpenseHistoryUseCase;
 import org.slf4j.Logger;
@@ -40,4 +41,19 @@ public class GetExpenseHistoryController {
         ExpenseHistoryPageResponse response = getExpenseHistoryUseCase.getExpenseHistory(id, safePage, safeSize);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Cursor-paginated history, newest first. Pass the {@code nextCursor} of one page as
+     * {@code cursor} to get the next; every page costs the same however deep it is.
+     */
+    @GetMapping(value = "/groups/{id}/activities/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ExpenseHistoryCursorPageResponse> getExpenseHistoryAfter(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        int safeSize = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+        log.info("Get expense history request: groupId={}, cursor={}, size={}", id, cursor, safeSize);
+        return ResponseEntity.ok(getExpenseHistoryUseCase.getExpenseHistoryAfter(id, cursor, safeSize, includeTotal));
+    }
 }
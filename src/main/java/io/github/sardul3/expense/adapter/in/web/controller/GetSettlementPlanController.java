@@ -0,0 +1,36 @@
+package io.github.sardul3.expense.adapter.in.web.controller;
+
+import io.github.sardul3.expense.adapter.common.PrimaryAdapter;
+import io.github.sardul3.expense.application.dto.SettlementPlanResponse;
+import io.github.sardul3.expense.application.port.in.GetSettlementPlanUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@PrimaryAdapter
+@RestController
+@RequestMapping("/api/v1/expense")
+public class GetSettlementPlanController {
+
+    private static final Logger log = LoggerFactory.getLogger(GetSettlementPlanController.class);
+
+    private final GetSettlementPlanUseCase getSettlementPlanUseCase;
+
+    public GetSettlementPlanController(GetSettlementPlanUseCase getSettlementPlanUseCase) {
+        this.getSettlementPlanUseCase = getSettlementPlanUseCase;
+    }
+
+    @GetMapping(value = "/groups/{id}/settlement-plan", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<SettlementPlanResponse> getSettlementPlan(@PathVariable UUID id) {
+        log.info("Get settlement plan request: groupId={}", id);
+        SettlementPlanResponse response = getSettlementPlanUseCase.getSettlementPlan(id);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,147 @@
+package io.github.sardul3.expense.adapter.in.web.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.sardul3.expense.adapter.common.PrimaryAdapter;
+import io.github.sardul3.expense.adapter.in.web.dto.CreateExpenseActivityRequest;
+import io.github.sardul3.expense.adapter.in.web.dto.ImportExpenseActivityRequest;
+import io.github.sardul3.expense.application.dto.CreateExpenseActivityCommand;
+import io.github.sardul3.expense.application.dto.ExpenseImportOutcome;
+import io.github.sardul3.expense.application.dto.ExpenseImportReport;
+import io.github.sardul3.expense.application.port.in.ImportExpenseActivitiesUseCase;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of expenses across groups. The body is either NDJSON (one record per line) or a
+ * JSON array, and is read incrementally: records are validated as they are parsed and handed to
+ * the use case in chunks, so a large import never has to be held in memory as one request.
+ * The response reports an outcome for every record.
+ */
+@PrimaryAdapter
+@RestController
+@RequestMapping("/api/v1/expense")
+public class ImportExpenseActivitiesController {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportExpenseActivitiesController.class);
+    private static final int CHUNK_SIZE = 5_000;
+
+    private final ImportExpenseActivitiesUseCase importExpenseActivitiesUseCase;
+    private final ObjectReader recordReader;
+    private final Validator validator;
+
+    public ImportExpenseActivitiesController(ImportExpenseActivitiesUseCase importExpenseActivitiesUseCase,
+                                             ObjectMapper objectMapper,
+                                             Validator validator) {
+        this.importExpenseActivitiesUseCase = importExpenseActivitiesUseCase;
+        this.recordReader = objectMapper.readerFor(ImportExpenseActivityRequest.class);
+        this.validator = validator;
+    }
+
+    @PostMapping(value = "/activities/import",
+            consumes = {"application/x-ndjson", MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ExpenseImportReport> importActivities(InputStream body) throws IOException {
+        List<ExpenseImportOutcome> outcomes = new ArrayList<>();
+        Chunk chunk = new Chunk();
+        int position = 0;
+        try (MappingIterator<ImportExpenseActivityRequest> records = recordReader.readValues(body)) {
+            while (true) {
+                ImportExpenseActivityRequest request;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    request = records.nextValue();
+                } catch (JsonProcessingException e) {
+                    // the parser cannot resynchronise after malformed input; report it and stop
+                    outcomes.add(ExpenseImportOutcome.rejected(position, null, "Malformed record: " + e.getOriginalMessage()));
+                    break;
+                }
+                String violation = validate(request);
+                if (violation != null) {
+                    outcomes.add(ExpenseImportOutcome.rejected(position, request.getGroupId(), violation));
+                } else {
+                    chunk.add(position, request);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        outcomes.addAll(chunk.importWith(importExpenseActivitiesUseCase));
+                        chunk = new Chunk();
+                    }
+                }
+                position++;
+            }
+        }
+        outcomes.addAll(chunk.importWith(importExpenseActivitiesUseCase));
+        outcomes.sort(Comparator.comparingInt(ExpenseImportOutcome::index));
+
+        ExpenseImportReport report = ExpenseImportReport.of(outcomes);
+        log.info("Bulk import: received={}, created={}, rejected={}", report.received(), report.created(), report.rejected());
+        return ResponseEntity.ok(report);
+    }
+
+    private String validate(ImportExpenseActivityRequest request) {
+        Set<ConstraintViolation<ImportExpenseActivityRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> fieldOf(v.getPropertyPath()) + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /** The field a violation is on, without the path to the unwrapped activity. */
+    private static String fieldOf(Path path) {
+        String field = null;
+        for (Path.Node node : path) {
+            field = node.getName();
+        }
+        return field;
+    }
+
+    /** Validated records waiting to be imported, with their positions in the request body. */
+    private static final class Chunk {
+        private final List<Integer> positions = new ArrayList<>();
+        private final List<CreateExpenseActivityCommand> commands = new ArrayList<>();
+
+        void add(int position, ImportExpenseActivityRequest request) {
+            CreateExpenseActivityRequest activity = request.getActivity();
+            positions.add(position);
+            commands.add(new CreateExpenseActivityCommand(request.getGroupId(), activity.description(),
+                    activity.amount(), activity.paidBy(), activity.splitWith()));
+        }
+
+        int size() {
+            return commands.size();
+        }
+
+        /** Imports the chunk and maps each outcome's index back to its position in the body. */
+        List<ExpenseImportOutcome> importWith(ImportExpenseActivitiesUseCase useCase) {
+            if (commands.isEmpty()) {
+                return List.of();
+            }
+            return useCase.importActivities(commands).stream()
+                    .map(o -> new ExpenseImportOutcome(positions.get(o.index()), o.groupId(), o.created(),
+                            o.activityId(), o.error()))
+                    .toList();
+        }
+    }
+}
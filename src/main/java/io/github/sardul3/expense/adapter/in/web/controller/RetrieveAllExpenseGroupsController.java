@@ -1,8 +1,7 @@
 package io.github.sardul3.expense.adapter.in.web.controller;
 
 import io.github.sardul3.expense.adapter.common.PrimaryAdapter;
-import io.github.sardul3.expense.adapter.in.web.dto.AllExpenseGroupsResponse;
-import io.github.sardul3.expense.application.dto.RetrieveExpenseGroupsResponse;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryPageResponse;
 import io.github.sardul3.expense.application.port.in.RetrieveAllExpenseGroupsUseCase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,13 +10,12 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @PrimaryAdapter
 @RestController
 @RequestMapping("/api/v1/expense")
 public class RetrieveAllExpenseGroupsController {
     private static final Logger log = LoggerFactory.getLogger(RetrieveAllExpenseGroupsController.class);
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final RetrieveAllExpenseGroupsUseCase retrieveAllExpenseGroupsUseCase;
 
@@ -25,14 +23,14 @@ public class RetrieveAllExpenseGroupsController {
         this.retrieveAllExpenseGroupsUseCase = retrieveAllExpenseGroupsUseCase;
     }
 
-    @GetMapping(value ="/groups", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<List<AllExpenseGroupsResponse>> getAllExpenseGroups() {
-        log.info("Get All expense groups request");
+    @GetMapping(value ="/groups", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ExpenseGroupSummaryPageResponse> getAllExpenseGroups(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        int safeSize = Math.min(Math.max(1, size), MAX_PAGE_SIZE);
+        log.info("Get All expense groups request: cursor={}, size={}", cursor, safeSize);
 
-        List<RetrieveExpenseGroupsResponse> allExpenseGroups = retrieveAllExpenseGroupsUseCase.getAllExpenseGroups();
-        List<AllExpenseGroupsResponse> response = allExpenseGroups.stream()
-                .map(entry -> new AllExpenseGroupsResponse(entry.name()))
-                .toList();
+        ExpenseGroupSummaryPageResponse response = retrieveAllExpenseGroupsUseCase.getAllExpenseGroups(cursor, safeSize);
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 }
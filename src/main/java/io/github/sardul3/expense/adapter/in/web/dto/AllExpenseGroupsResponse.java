@@ -1,4 +0,0 @@
-package io.github.sardul3.expense.adapter.in.web.dto;
-
-public record AllExpenseGroupsResponse(String name) {
-}
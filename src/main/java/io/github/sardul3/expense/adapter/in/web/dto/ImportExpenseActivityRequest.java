@@ -0,0 +1,48 @@
+package io.github.sardul3.expense.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * One record of a bulk import: a {@link CreateExpenseActivityRequest} plus the group it targets.
+ * The activity's fields sit at the top level of the record and are validated by that request's
+ * own constraints, so both endpoints accept the same activities. A class rather than a record,
+ * as Jackson cannot unwrap into a record's constructor.
+ */
+public class ImportExpenseActivityRequest {
+
+    @NotNull(message = "cannot be null")
+    private UUID groupId;
+
+    @JsonUnwrapped
+    @NotNull(message = "cannot be null")
+    @Valid
+    private CreateExpenseActivityRequest activity;
+
+    public ImportExpenseActivityRequest() {
+    }
+
+    public ImportExpenseActivityRequest(UUID groupId, CreateExpenseActivityRequest activity) {
+        this.groupId = groupId;
+        this.activity = activity;
+    }
+
+    public UUID getGroupId() {
+        return groupId;
+    }
+
+    public void setGroupId(UUID groupId) {
+        this.groupId = groupId;
+    }
+
+    public CreateExpenseActivityRequest getActivity() {
+        return activity;
+    }
+
+    public void setActivity(CreateExpenseActivityRequest activity) {
+        this.activity = activity;
+    }
+}
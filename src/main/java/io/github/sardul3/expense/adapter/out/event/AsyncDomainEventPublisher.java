@@ -0,0 +1,265 @@
+package io.github.sardul3.expense.adapter.out.event;
+
+import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
+import io.github.sardul3.expense.config.EventPublisherProperties;
+import io.github.sardul3.expense.config.EventPublisherProperties.OverflowPolicy;
+import io.github.sardul3.expense.domain.event.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * DomainEventPublisher that hands events to background consumers so handlers never run on the
+ * request thread. {@code publish} only claims a slot in a bounded lock-free ring buffer; a fixed
+ * number of virtual-thread consumers drain it and pass each batch (up to {@code maxBatchSize}
+ * events) to every {@link DomainEventBatchHandler} in turn. As with
+ * {@link ForwardingDomainEventPublisher}, a failing handler does not stop the others.
+ * <p>
+ * When the buffer is full the configured {@link OverflowPolicy} applies: block the publisher until
+ * a slot frees up, drop the event, or spill it to an unbounded overflow queue that consumers drain
+ * after the buffer. Idle consumers park without a timeout and are unparked by the next publish,
+ * so a quiet publisher costs no CPU.
+ * <p>
+ * {@link #close()} stops accepting work for the consumers, lets them drain what is queued within
+ * the drain timeout, and delivers anything left on the closing thread. Events published after
+ * close are delivered on the publishing thread, so none are lost during shutdown.
+ * <p>
+ * Metrics: {@code domain.events.queue.depth}, {@code domain.events.published},
+ * {@code domain.events.dropped}, {@code domain.events.spilled}, {@code domain.events.blocked},
+ * {@code domain.events.batch.size}, {@code domain.events.handler.latency} and
+ * {@code domain.events.handler.failures}, the last two tagged by handler name.
+ */
+public class AsyncDomainEventPublisher implements DomainEventPublisher, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncDomainEventPublisher.class);
+
+    /** How long a blocked publisher waits before retrying a full buffer. */
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final List<DomainEventBatchHandler> handlers;
+    private final List<Timer> handlerLatency;
+    private final List<Counter> handlerFailures;
+    private final EventRingBuffer<DomainEvent> buffer;
+    private final Queue<DomainEvent> spill = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spillSize = new AtomicInteger();
+    private final OverflowPolicy overflowPolicy;
+    private final int maxBatchSize;
+    private final Duration drainTimeout;
+    private final Thread[] consumers;
+    private final AtomicIntegerArray idle;
+    private final Counter published;
+    private final Counter dropped;
+    private final Counter spilled;
+    private final Counter blocked;
+    private final DistributionSummary batchSize;
+    private volatile boolean closed;
+
+    public AsyncDomainEventPublisher(List<DomainEventBatchHandler> handlers, EventPublisherProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.handlers = List.copyOf(Objects.requireNonNull(handlers, "handlers cannot be null"));
+        this.buffer = new EventRingBuffer<>(properties.bufferSize());
+        this.overflowPolicy = properties.overflowPolicy();
+        this.maxBatchSize = properties.maxBatchSize();
+        this.drainTimeout = properties.drainTimeout();
+
+        this.handlerLatency = new ArrayList<>(this.handlers.size());
+        this.handlerFailures = new ArrayList<>(this.handlers.size());
+        for (DomainEventBatchHandler handler : this.handlers) {
+            handlerLatency.add(Timer.builder("domain.events.handler.latency")
+                    .description("Time a handler takes to process one batch")
+                    .tag("handler", handler.name())
+                    .register(meterRegistry));
+            handlerFailures.add(Counter.builder("domain.events.handler.failures")
+                    .tag("handler", handler.name())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("domain.events.queue.depth", this, AsyncDomainEventPublisher::queueDepth)
+                .description("Events published but not yet taken by a consumer")
+                .register(meterRegistry);
+        this.published = meterRegistry.counter("domain.events.published");
+        this.dropped = meterRegistry.counter("domain.events.dropped");
+        this.spilled = meterRegistry.counter("domain.events.spilled");
+        this.blocked = meterRegistry.counter("domain.events.blocked");
+        this.batchSize = meterRegistry.summary("domain.events.batch.size");
+
+        int consumerCount = properties.consumers();
+        this.idle = new AtomicIntegerArray(consumerCount);
+        this.consumers = new Thread[consumerCount];
+        for (int i = 0; i < consumerCount; i++) {
+            int index = i;
+            consumers[i] = Thread.ofVirtual().name("domain-event-consumer-" + i).start(() -> consume(index));
+        }
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        Objects.requireNonNull(event, "event cannot be null");
+        published.increment();
+        if (closed) {
+            deliver(List.of(event));
+            return;
+        }
+        if (spillSize.get() == 0 && buffer.offer(event)) {
+            wakeConsumer();
+        } else {
+            overflow(event);
+        }
+        if (closed) {
+            // close() may have finished its final drain just before this event landed
+            deliverRemaining();
+        }
+    }
+
+    /** Events published but not yet taken by a consumer, including spilled ones. */
+    public int queueDepth() {
+        return buffer.size() + spillSize.get();
+    }
+
+    /**
+     * Stops the consumers once the queue is drained, waiting at most the drain timeout, then
+     * delivers whatever is left on the calling thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Thread consumer : consumers) {
+            LockSupport.unpark(consumer);
+        }
+        long deadline = System.nanoTime() + drainTimeout.toNanos();
+        try {
+            for (Thread consumer : consumers) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining > 0) {
+                    consumer.join(Duration.ofNanos(remaining));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Thread consumer : consumers) {
+            if (consumer.isAlive()) {
+                log.warn("Event consumer {} still running after drain timeout {}; interrupting",
+                        consumer.getName(), drainTimeout);
+                consumer.interrupt();
+            }
+        }
+        deliverRemaining();
+    }
+
+    private void overflow(DomainEvent event) {
+        switch (overflowPolicy) {
+            case DROP -> {
+                dropped.increment();
+                log.debug("Event buffer full; dropping {}", event.getClass().getSimpleName());
+            }
+            case SPILL -> {
+                // once anything has spilled, later events follow it so consumers see publish order
+                spill.add(event);
+                spillSize.incrementAndGet();
+                spilled.increment();
+                wakeConsumer();
+            }
+            case BLOCK -> {
+                blocked.increment();
+                while (!buffer.offer(event)) {
+                    if (closed) {
+                        deliver(List.of(event));
+                        return;
+                    }
+                    wakeConsumer();
+                    LockSupport.parkNanos(this, FULL_PARK_NANOS);
+                }
+                wakeConsumer();
+            }
+        }
+    }
+
+    private void wakeConsumer() {
+        for (int i = 0; i < consumers.length; i++) {
+            if (idle.get(i) == 1) {
+                LockSupport.unpark(consumers[i]);
+                return;
+            }
+        }
+    }
+
+    private void consume(int index) {
+        List<DomainEvent> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            takeBatch(batch);
+            if (!batch.isEmpty()) {
+                deliver(batch);
+                batch.clear();
+                continue;
+            }
+            if (closed) {
+                return;
+            }
+            // advertise idleness before the final emptiness check so a concurrent publish either
+            // sees this consumer as idle, and unparks it, or lands before the check; an unpark that
+            // arrives before park leaves a permit, so no wake-up is lost and no timeout is needed
+            idle.set(index, 1);
+            if (queueDepth() == 0 && !closed) {
+                LockSupport.park(this);
+            }
+            idle.set(index, 0);
+        }
+    }
+
+    private void takeBatch(List<DomainEvent> batch) {
+        buffer.drainTo(batch, maxBatchSize);
+        DomainEvent event;
+        while (batch.size() < maxBatchSize && (event = spill.poll()) != null) {
+            spillSize.decrementAndGet();
+            batch.add(event);
+        }
+    }
+
+    private void deliverRemaining() {
+        List<DomainEvent> batch = new ArrayList<>();
+        while (true) {
+            takeBatch(batch);
+            if (batch.isEmpty()) {
+                return;
+            }
+            deliver(batch);
+            batch.clear();
+        }
+    }
+
+    private void deliver(List<DomainEvent> batch) {
+        List<DomainEvent> view = Collections.unmodifiableList(batch);
+        batchSize.record(batch.size());
+        for (int i = 0; i < handlers.size(); i++) {
+            DomainEventBatchHandler handler = handlers.get(i);
+            long start = System.nanoTime();
+            try {
+                handler.handle(view);
+            } catch (RuntimeException e) {
+                handlerFailures.get(i).increment();
+                log.warn("Event handler {} failed on a batch of {} events", handler.name(), batch.size(), e);
+            } finally {
+                handlerLatency.get(i).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.sardul3.expense.adapter.out.event;
+
+import io.github.sardul3.expense.domain.event.DomainEvent;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Receives domain events in batches from {@link AsyncDomainEventPublisher}. Beans of this type are
+ * registered with the publisher automatically. A batch holds events in the order one consumer took
+ * them from the buffer; batches from different consumers may interleave.
+ */
+@FunctionalInterface
+public interface DomainEventBatchHandler {
+
+    /**
+     * @param events one or more events; the list must not be retained after returning
+     */
+    void handle(List<DomainEvent> events);
+
+    /** Name used to tag this handler's latency metric. */
+    default String name() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * Adapts a per-event handler, such as those given to {@link ForwardingDomainEventPublisher}.
+     *
+     * @param name    metric tag for the handler
+     * @param handler invoked once per event
+     * @return batch handler calling {@code handler} for each event in turn
+     */
+    static DomainEventBatchHandler forEach(String name, Consumer<DomainEvent> handler) {
+        Objects.requireNonNull(handler, "handler cannot be null");
+        return new DomainEventBatchHandler() {
+            @Override
+            public void handle(List<DomainEvent> events) {
+                events.forEach(handler);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.sardul3.expense.adapter.out.event;
+
+import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
+import io.github.sardul3.expense.config.EventPublisherProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Chooses the DomainEventPublisher: the asynchronous ring-buffer publisher, fed to every
+ * {@link DomainEventBatchHandler} bean, or the no-op publisher when {@code app.events.async} is
+ * false or no handler is registered. Without a handler the consumers would only drain events
+ * nobody reads, so they are not started until one exists.
+ */
+@Configuration
+public class DomainEventPublisherConfig {
+
+    @Bean
+    public DomainEventPublisher domainEventPublisher(EventPublisherProperties properties,
+                                                     ObjectProvider<DomainEventBatchHandler> handlers,
+                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        List<DomainEventBatchHandler> registered = handlers.orderedStream().toList();
+        if (!properties.async() || registered.isEmpty()) {
+            return new NoOpDomainEventPublisher();
+        }
+        return new AsyncDomainEventPublisher(registered, properties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
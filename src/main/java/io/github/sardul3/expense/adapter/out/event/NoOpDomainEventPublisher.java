@@ -2,13 +2,12 @@ package io.github.sardul3.expense.adapter.out.event;
 
 import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
 import io.github.sardul3.expense.domain.event.DomainEvent;
-import org.springframework.stereotype.Component;
 
 /**
- * No-op implementation of DomainEventPublisher. Use for tests or when no handlers are configured.
- * Replace with a real implementation (e.g. Spring ApplicationEventPublisher or message broker) when needed.
+ * No-op implementation of DomainEventPublisher. Use for tests or when no handlers are configured;
+ * selected by {@link DomainEventPublisherConfig} when {@code app.events.async} is false or no
+ * {@link DomainEventBatchHandler} is registered.
  */
-@Component
 public class NoOpDomainEventPublisher implements DomainEventPublisher {
 
     @Override
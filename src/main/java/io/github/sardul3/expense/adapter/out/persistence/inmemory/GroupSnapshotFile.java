@@ -0,0 +1,178 @@
+package io.github.sardul3.expense.adapter.out.persistence.inmemory;
+
+import io.github.sardul3.expense.adapter.out.persistence.inmemory.InMemoryExpenseGroupRepository.StoredGroup;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamCodec;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Checkpoint of the in-memory store: every group's state and version in one binary file, written
+ * and read through memory-mapped buffers. The header records the first write-ahead log segment
+ * not covered by the snapshot, which is where replay starts. Each group is stored as its version,
+ * the payload length, a CRC32 and the snapshot payload from {@link GroupStreamCodec}.
+ * <p>
+ * A new snapshot is written to a temporary file, forced and then moved over the previous one, so
+ * a crash during a checkpoint leaves the previous snapshot and its log segments in place.
+ */
+final class GroupSnapshotFile {
+
+    private static final String FILE_NAME = "snapshot.bin";
+    private static final String TEMP_FILE_NAME = "snapshot.bin.tmp";
+    private static final int MAGIC = 0x50505331;
+    private static final byte FORMAT = 1;
+    /** Magic, format, first log segment and group count. */
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + Long.BYTES + Integer.BYTES;
+    /** Version, payload length and CRC32. */
+    private static final int ENTRY_HEADER_BYTES = Long.BYTES + 2 * Integer.BYTES;
+    /** Large snapshots are mapped a window at a time, so their size is not limited to 2 GB. */
+    private static final long WINDOW_BYTES = 256L << 20;
+
+    private GroupSnapshotFile() {
+    }
+
+    /**
+     * Replaces the snapshot with the given groups.
+     *
+     * @param firstSegment first log segment whose records may be missing from {@code groups}
+     */
+    static void write(Path directory, long firstSegment, Collection<StoredGroup> groups) throws IOException {
+        List<StoredGroup> entries = new ArrayList<>(groups.size());
+        List<byte[]> payloads = new ArrayList<>(groups.size());
+        long size = HEADER_BYTES;
+        for (StoredGroup stored : groups) {
+            byte[] payload = GroupStreamCodec.encodeSnapshot(stored.group());
+            entries.add(stored);
+            payloads.add(payload);
+            size += ENTRY_HEADER_BYTES + payload.length;
+        }
+
+        Path temp = directory.resolve(TEMP_FILE_NAME);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            Window window = new Window(out, FileChannel.MapMode.READ_WRITE, size);
+            window.require(HEADER_BYTES)
+                    .putInt(MAGIC)
+                    .put(FORMAT)
+                    .putLong(firstSegment)
+                    .putInt(entries.size());
+            CRC32 crc = new CRC32();
+            for (int i = 0; i < entries.size(); i++) {
+                byte[] payload = payloads.get(i);
+                crc.reset();
+                crc.update(payload);
+                window.require(ENTRY_HEADER_BYTES + payload.length)
+                        .putLong(entries.get(i).version())
+                        .putInt(payload.length)
+                        .putInt((int) crc.getValue())
+                        .put(payload);
+            }
+            window.force();
+        }
+        Files.move(temp, directory.resolve(FILE_NAME), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        GroupWriteAheadLog.forceDirectory(directory);
+    }
+
+    /**
+     * Hands every group in the snapshot to {@code handler}.
+     *
+     * @return the first log segment to replay after the snapshot; 1, the first segment ever
+     *         written, if there is no snapshot
+     * @throws IllegalStateException if the snapshot is damaged
+     */
+    static long read(Path directory, SnapshotHandler handler) throws IOException {
+        Path file = directory.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return 1L;
+        }
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = in.size();
+            if (size < HEADER_BYTES) {
+                throw new IllegalStateException("Snapshot " + file + " is truncated");
+            }
+            Window window = new Window(in, FileChannel.MapMode.READ_ONLY, size);
+            MappedByteBuffer header = window.require(HEADER_BYTES);
+            if (header.getInt() != MAGIC) {
+                throw new IllegalStateException(file + " is not a snapshot");
+            }
+            byte format = header.get();
+            if (format != FORMAT) {
+                throw new IllegalStateException("Unsupported snapshot format " + format + " in " + file);
+            }
+            long firstSegment = header.getLong();
+            int count = header.getInt();
+            CRC32 crc = new CRC32();
+            for (int i = 0; i < count; i++) {
+                MappedByteBuffer entry = window.require(ENTRY_HEADER_BYTES);
+                long version = entry.getLong();
+                int length = entry.getInt();
+                int checksum = entry.getInt();
+                if (length < 0) {
+                    throw new IllegalStateException("Snapshot " + file + " is damaged at group " + i);
+                }
+                byte[] payload = new byte[length];
+                window.require(length).get(payload);
+                crc.reset();
+                crc.update(payload);
+                if ((int) crc.getValue() != checksum) {
+                    throw new IllegalStateException("Snapshot " + file + " is damaged at group " + i);
+                }
+                handler.accept(GroupStreamCodec.decodeSnapshot(payload), version);
+            }
+            return firstSegment;
+        }
+    }
+
+    /** Receives the groups of a snapshot being read. */
+    @FunctionalInterface
+    interface SnapshotHandler {
+        void accept(ExpenseGroup group, long version);
+    }
+
+    /** Sequential access to a file through a sliding mapped window. */
+    private static final class Window {
+
+        private final FileChannel channel;
+        private final FileChannel.MapMode mode;
+        private final long fileSize;
+        private long start;
+        private MappedByteBuffer buffer;
+
+        Window(FileChannel channel, FileChannel.MapMode mode, long fileSize) {
+            this.channel = channel;
+            this.mode = mode;
+            this.fileSize = fileSize;
+        }
+
+        /** Returns the mapped buffer, remapped if fewer than {@code bytes} remain in the window. */
+        MappedByteBuffer require(int bytes) throws IOException {
+            if (buffer != null && buffer.remaining() >= bytes) {
+                return buffer;
+            }
+            long position = buffer == null ? 0 : start + buffer.position();
+            if (position + bytes > fileSize) {
+                throw new IllegalStateException("Snapshot ends " + (position + bytes - fileSize) + " bytes early");
+            }
+            force();
+            start = position;
+            buffer = channel.map(mode, position, Math.max(bytes, Math.min(WINDOW_BYTES, fileSize - position)));
+            return buffer;
+        }
+
+        void force() {
+            if (buffer != null && mode == FileChannel.MapMode.READ_WRITE) {
+                buffer.force();
+            }
+        }
+    }
+}
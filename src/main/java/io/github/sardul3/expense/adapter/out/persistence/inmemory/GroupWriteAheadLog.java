@@ -0,0 +1,335 @@
+package io.github.sardul3.expense.adapter.out.persistence.inmemory;
+
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamCodec;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent;
+import io.github.sardul3.expense.config.InMemoryStoreProperties.FsyncPolicy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of saves, split into numbered segment files ({@code wal-<n>.log}) so a
+ * checkpoint can drop the part it covers. Each record holds one save: the group id, the version
+ * the save produced and the stream events of the change, framed by the body length and a CRC32 so
+ * a write cut short by a crash is recognised on replay.
+ * <p>
+ * {@link #append} only queues the encoded record. Whichever saver reaches {@link #awaitDurable}
+ * first writes every queued record with one gathering write and, under {@link FsyncPolicy#ALWAYS},
+ * one force; the savers behind it find their records already written. Concurrent saves therefore
+ * share the cost of a flush (group commit). Once a write fails the log refuses further appends,
+ * since memory may then be ahead of the disk; a restart recovers from what reached it.
+ */
+final class GroupWriteAheadLog implements AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "wal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    /** Body length and CRC32 of the body. */
+    private static final int FRAME_BYTES = 2 * Integer.BYTES;
+    /** Group id and version, ahead of the encoded events. */
+    private static final int BODY_PREFIX_BYTES = 3 * Long.BYTES;
+
+    private final Path directory;
+    private final FsyncPolicy fsync;
+    private final SegmentOpener opener;
+    private final ReentrantLock queueLock = new ReentrantLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final AtomicLong segmentBytes = new AtomicLong();
+
+    /** Guarded by {@code queueLock}. */
+    private List<ByteBuffer> queued = new ArrayList<>();
+    /** Guarded by {@code queueLock}. */
+    private long queuedThrough;
+    private volatile long writtenThrough;
+    /** Guarded by {@code writeLock}; created on the first write to the segment. */
+    private FileChannel channel;
+    /** Guarded by {@code writeLock}. */
+    private long segment;
+    private volatile IOException failure;
+
+    GroupWriteAheadLog(Path directory, FsyncPolicy fsync, long firstSegment) {
+        this(directory, fsync, firstSegment, SegmentOpener.FILES);
+    }
+
+    GroupWriteAheadLog(Path directory, FsyncPolicy fsync, long firstSegment, SegmentOpener opener) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.segment = firstSegment;
+        this.opener = opener;
+    }
+
+    /**
+     * Queues a record for the save. Callers must append the versions of one group in order.
+     *
+     * @return the record's position, to pass to {@link #awaitDurable}
+     */
+    long append(UUID groupId, long version, byte[] commit) {
+        ensureHealthy();
+        ByteBuffer body = ByteBuffer.allocate(BODY_PREFIX_BYTES + commit.length)
+                .putLong(groupId.getMostSignificantBits())
+                .putLong(groupId.getLeastSignificantBits())
+                .putLong(version)
+                .put(commit)
+                .flip();
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        ByteBuffer record = ByteBuffer.allocate(FRAME_BYTES + body.remaining())
+                .putInt(body.remaining())
+                .putInt((int) crc.getValue())
+                .put(body)
+                .flip();
+        queueLock.lock();
+        try {
+            queued.add(record);
+            return ++queuedThrough;
+        } finally {
+            queueLock.unlock();
+        }
+    }
+
+    /**
+     * Returns once the record at {@code position}, and every record queued before it, is written
+     * and, under {@link FsyncPolicy#ALWAYS}, forced.
+     *
+     * @throws UncheckedIOException if the write fails
+     */
+    void awaitDurable(long position) {
+        if (writtenThrough >= position) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (writtenThrough < position) {
+                writeQueued(fsync == FsyncPolicy.ALWAYS);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Forces what has been written so far; run on a timer under {@link FsyncPolicy#INTERVAL}. */
+    void force() {
+        writeLock.lock();
+        try {
+            if (channel != null && failure == null) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw fail(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes and forces everything queued, then moves on to a new segment. The caller must hold
+     * off appends while this runs, so that every record in the earlier segments is already
+     * reflected in memory.
+     *
+     * @return number of the new segment
+     */
+    long rotate() {
+        writeLock.lock();
+        try {
+            writeQueued(true);
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+            segmentBytes.set(0);
+            return ++segment;
+        } catch (IOException e) {
+            throw fail(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** Bytes written to the current segment. */
+    long size() {
+        return segmentBytes.get();
+    }
+
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (failure == null) {
+                writeQueued(true);
+            }
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Hands every record in segments numbered {@code fromSegment} and up to {@code handler},
+     * oldest first. A record cut short or failing its checksum at the end of the newest segment is
+     * a write that never completed, and the segment is truncated before it; anywhere else it means
+     * the log is corrupt.
+     *
+     * @return number of the newest segment read, or {@code fromSegment - 1} if there was none
+     * @throws IllegalStateException if a segment other than the newest is corrupt
+     */
+    static long replay(Path directory, long fromSegment, RecordHandler handler) throws IOException {
+        List<Long> segments = segmentsFrom(directory, fromSegment);
+        for (int i = 0; i < segments.size(); i++) {
+            Path file = segmentFile(directory, segments.get(i));
+            try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long size = in.size();
+                if (size > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Write-ahead log segment " + file + " exceeds 2 GB");
+                }
+                long valid = size == 0 ? 0 : readRecords(in.map(FileChannel.MapMode.READ_ONLY, 0, size), handler);
+                if (valid < size) {
+                    if (i < segments.size() - 1) {
+                        throw new IllegalStateException("Corrupt write-ahead log segment " + file + " at offset " + valid);
+                    }
+                    in.truncate(valid);
+                    in.force(true);
+                }
+            }
+        }
+        return segments.isEmpty() ? fromSegment - 1 : segments.get(segments.size() - 1);
+    }
+
+    /** Deletes the segments numbered below {@code segment}, once a snapshot covers them. */
+    static void deleteSegmentsBefore(Path directory, long segment) throws IOException {
+        for (long older : segmentsFrom(directory, 0)) {
+            if (older < segment) {
+                Files.deleteIfExists(segmentFile(directory, older));
+            }
+        }
+    }
+
+    /** Makes file creations and renames in the directory durable; a no-op where that is unsupported. */
+    static void forceDirectory(Path directory) {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // some platforms cannot open or force a directory; the entries are flushed with the file system
+        }
+    }
+
+    private void writeQueued(boolean force) {
+        ensureHealthy();
+        List<ByteBuffer> batch;
+        long through;
+        queueLock.lock();
+        try {
+            batch = queued;
+            through = queuedThrough;
+            queued = new ArrayList<>();
+        } finally {
+            queueLock.unlock();
+        }
+        try {
+            if (!batch.isEmpty()) {
+                if (channel == null) {
+                    channel = opener.open(segmentFile(directory, segment));
+                    forceDirectory(directory);
+                }
+                ByteBuffer[] buffers = batch.toArray(ByteBuffer[]::new);
+                long bytes = 0;
+                for (ByteBuffer buffer : buffers) {
+                    bytes += buffer.remaining();
+                }
+                long written = 0;
+                while (written < bytes) {
+                    written += channel.write(buffers);
+                }
+                segmentBytes.addAndGet(bytes);
+            }
+            if (force && channel != null) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw fail(e);
+        }
+        writtenThrough = through;
+    }
+
+    private UncheckedIOException fail(IOException e) {
+        failure = e;
+        return new UncheckedIOException("Write-ahead log write failed", e);
+    }
+
+    private void ensureHealthy() {
+        IOException failed = failure;
+        if (failed != null) {
+            throw new UncheckedIOException("Write-ahead log is unusable after an earlier write failed; restart to recover", failed);
+        }
+    }
+
+    /** Reads records until the end of the buffer or the first damaged one; returns where it stopped. */
+    private static long readRecords(ByteBuffer segment, RecordHandler handler) {
+        while (segment.remaining() >= FRAME_BYTES) {
+            int start = segment.position();
+            int length = segment.getInt();
+            int checksum = segment.getInt();
+            if (length < BODY_PREFIX_BYTES || length > segment.remaining()) {
+                return start;
+            }
+            ByteBuffer body = segment.slice(segment.position(), length);
+            CRC32 crc = new CRC32();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return start;
+            }
+            UUID groupId = new UUID(body.getLong(), body.getLong());
+            long version = body.getLong();
+            byte[] commit = new byte[body.remaining()];
+            body.get(commit);
+            handler.accept(groupId, version, GroupStreamCodec.decodeCommit(commit));
+            segment.position(segment.position() + length);
+        }
+        return segment.position();
+    }
+
+    private static List<Long> segmentsFrom(Path directory, long fromSegment) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .filter(number -> number >= fromSegment)
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static Path segmentFile(Path directory, long segment) {
+        return directory.resolve(SEGMENT_PREFIX + segment + SEGMENT_SUFFIX);
+    }
+
+    /** Opens a new segment file for writing; tests substitute one that fails. */
+    @FunctionalInterface
+    interface SegmentOpener {
+
+        SegmentOpener FILES = file -> FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+        FileChannel open(Path file) throws IOException;
+    }
+
+    /** Receives the records of a replayed log. */
+    @FunctionalInterface
+    interface RecordHandler {
+        void accept(UUID groupId, long version, List<GroupStreamEvent> events);
+    }
+}
@@ -0,0 +1,113 @@
+package io.github.sardul3.expense.adapter.out.persistence.inmemory;
+
+import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
+import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
+import io.github.sardul3.expense.application.port.out.ExpenseActivityQueryRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads activity history from the stored copies in {@link InMemoryExpenseGroupRepository}.
+ * Activities are only ever appended, so a group's history is its activity list read backwards and
+ * the cursor is simply the position of the last activity returned; pages stay stable while new
+ * activities are added.
+ */
+@SecondaryAdapter
+@Component
+@Profile("in-memory")
+public class InMemoryExpenseActivityQueryRepository implements ExpenseActivityQueryRepository {
+
+    private final InMemoryExpenseGroupRepository repository;
+
+    public InMemoryExpenseActivityQueryRepository(InMemoryExpenseGroupRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public ExpenseHistoryPageResponse findByGroupId(UUID groupId, int page, int size) {
+        List<ExpenseActivity> activities = activitiesOf(groupId);
+        int total = activities.size();
+        int from = total - (int) Math.min((long) page * size, total);
+        List<ActivityView> content = newestFirst(activities, from, size);
+        return new ExpenseHistoryPageResponse(content, total, (total + size - 1) / size, page, size);
+    }
+
+    @Override
+    public ExpenseHistoryCursorPageResponse findByGroupIdAfter(UUID groupId, String cursor, int size,
+                                                               boolean includeTotal) {
+        List<ExpenseActivity> activities = activitiesOf(groupId);
+        int from = cursor == null || cursor.isBlank()
+                ? activities.size()
+                : Math.min(decodeCursor(cursor), activities.size());
+        List<ActivityView> content = newestFirst(activities, from, size);
+        int next = from - content.size();
+        String nextCursor = !content.isEmpty() && next > 0 ? encodeCursor(next) : null;
+        return new ExpenseHistoryCursorPageResponse(content, nextCursor, size,
+                includeTotal ? (long) activities.size() : null);
+    }
+
+    @Override
+    public void forEachByGroupId(UUID groupId, Consumer<ActivityView> action) {
+        List<ExpenseActivity> activities = activitiesOf(groupId);
+        for (int i = activities.size() - 1; i >= 0; i--) {
+            action.accept(toActivityView(activities.get(i)));
+        }
+    }
+
+    private List<ExpenseActivity> activitiesOf(UUID groupId) {
+        return repository.stored(groupId).map(group -> group.getActivities()).orElse(List.of());
+    }
+
+    /** Up to {@code size} activities before position {@code from}, newest first. */
+    private static List<ActivityView> newestFirst(List<ExpenseActivity> activities, int from, int size) {
+        int to = Math.max(0, from - size);
+        List<ActivityView> views = new ArrayList<>(from - to);
+        for (int i = from - 1; i >= to; i--) {
+            views.add(toActivityView(activities.get(i)));
+        }
+        return views;
+    }
+
+    private static ActivityView toActivityView(ExpenseActivity activity) {
+        ExpenseSplit split = activity.getSplit();
+        return new ActivityView(
+                activity.getId().getId(),
+                activity.getDescription(),
+                activity.getAmount().getAmount(),
+                activity.getPaidBy().getParticipantId().getId(),
+                split.isSplitEvenlyForAllMembers(),
+                split.getType().name(),
+                split.getSplitMembers().stream().map(ParticipantId::getId).toList(),
+                Arrays.stream(split.getShares()).boxed().toList()
+        );
+    }
+
+    private static String encodeCursor(int position) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Integer.toString(position).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encodeCursor(int)}
+     */
+    private static int decodeCursor(String token) {
+        int position = Integer.parseInt(new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8));
+        if (position < 0) {
+            throw new IllegalArgumentException("Invalid history cursor");
+        }
+        return position;
+    }
+}
@@ -1,36 +1,468 @@
 package io.github.sardul3.expense.adapter.out.persistence.inmemory;
 
+import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
+import io.github.sardul3.expense.adapter.out.event.NoOpDomainEventPublisher;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamCodec;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.GroupCreated;
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.exception.ExpenseGroupAlreadyExistsException;
+import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.config.InMemoryStoreProperties;
+import io.github.sardul3.expense.config.InMemoryStoreProperties.FsyncPolicy;
+import io.github.sardul3.expense.domain.event.DomainEvent;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
 import io.github.sardul3.expense.domain.model.ExpenseGroup;
 import io.github.sardul3.expense.domain.model.Participant;
-import io.github.sardul3.expense.domain.valueobject.ExpenseGroupId;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
 
-import java.util.*;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-public class InMemoryExpenseGroupRepository implements ExpenseGroupRepository {
+/**
+ * Keeps expense groups in memory, for tests and for instances that run without PostgreSQL.
+ * <p>
+ * Groups live in a {@link ConcurrentHashMap}, which locks per bin, so saves of different groups
+ * do not contend and reads never block. A second map from name to id answers
+ * {@link #existsByName} without scanning, and a sorted id set serves the keyset-paged listings of
+ * the in-memory query adapters. The store only ever holds private copies: a save stores a copy of
+ * the aggregate and every read hands out a fresh one, so callers cannot change stored state except
+ * through {@link #save}.
+ * <p>
+ * Each stored group carries a version. Like the database-backed repositories, a save of an
+ * instance loaded at an older version, or a save that would create a group whose id or name is
+ * already taken, is rejected. There is no transaction to join, so the events pulled from a saved
+ * group are published as soon as it is stored.
+ * <p>
+ * With {@code app.in-memory.durable} set, every save is also logged to a
+ * {@link GroupWriteAheadLog} as stream events, and does not return until the record is written
+ * under the configured fsync policy. A checkpoint writes all groups to a {@link GroupSnapshotFile}
+ * and deletes the log segments it covers; one runs every {@code checkpoint-interval}, once the
+ * current segment outgrows {@code checkpoint-log-size}, and at shutdown. On startup the snapshot
+ * is mapped and the log written after it is replayed, so recovery reads at most one interval's
+ * worth of log. Other requests may read a change just before it is durable; if the log write then
+ * fails, the change is rolled back to the group as it was and the instance refuses further saves
+ * until it is restarted.
+ * <p>
+ * Active under the {@code in-memory} profile, together with the other adapters in this package.
+ */
+@SecondaryAdapter
+@Component
+@Profile("in-memory")
+public class InMemoryExpenseGroupRepository implements ExpenseGroupRepository, SmartLifecycle, AutoCloseable {
 
-    private Map<ExpenseGroupId, ExpenseGroup> store = new HashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(InMemoryExpenseGroupRepository.class);
+
+    private final Map<UUID, StoredGroup> groups = new ConcurrentHashMap<>();
+    private final Map<String, UUID> idsByName = new ConcurrentHashMap<>();
+    private final NavigableSet<UUID> orderedIds = new ConcurrentSkipListSet<>();
+    /** Version of every aggregate instance handed out or saved; held weakly, keyed by identity. */
+    private final Map<ExpenseGroup, Long> versions = Collections.synchronizedMap(new WeakHashMap<>());
+    private final DomainEventPublisher domainEventPublisher;
+    private final InMemoryStoreProperties properties;
+
+    /** Null unless the store is durable. */
+    private final GroupWriteAheadLog writeAheadLog;
+    private final Path directory;
+    /** Saves hold it shared while they update a group and queue its log record; a checkpoint holds it to switch segments. */
+    private final ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+    private final AtomicBoolean checkpointQueued = new AtomicBoolean();
+    private volatile ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public InMemoryExpenseGroupRepository() {
+        this(new NoOpDomainEventPublisher(), new InMemoryStoreProperties(false, null, null, null, null, null));
+    }
+
+    /**
+     * Recovers the groups on disk first when the store is durable.
+     *
+     * @throws UncheckedIOException  if the snapshot or log cannot be read
+     * @throws IllegalStateException if the snapshot or a log segment before the newest is corrupt
+     */
+    @Autowired
+    public InMemoryExpenseGroupRepository(DomainEventPublisher domainEventPublisher, InMemoryStoreProperties properties) {
+        this(domainEventPublisher, properties, GroupWriteAheadLog.SegmentOpener.FILES);
+    }
+
+    InMemoryExpenseGroupRepository(DomainEventPublisher domainEventPublisher, InMemoryStoreProperties properties,
+                                   GroupWriteAheadLog.SegmentOpener segmentOpener) {
+        this.domainEventPublisher = domainEventPublisher;
+        this.properties = properties;
+        if (!properties.durable()) {
+            this.directory = null;
+            this.writeAheadLog = null;
+            return;
+        }
+        this.directory = Path.of(properties.directory());
+        try {
+            Files.createDirectories(directory);
+            this.writeAheadLog = recover(segmentOpener);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot recover expense groups from " + directory, e);
+        }
+    }
 
     @Override
     public boolean existsByName(GroupName groupName) {
-        return store.values().stream()
-                .anyMatch(expenseGroup -> expenseGroup.getGroupName().equals(groupName));
+        return idsByName.containsKey(groupName.getName());
     }
 
+    /**
+     * Stores a copy of the group and publishes its events. An instance this repository has not
+     * handed out creates a new group; its name is reserved before the group is stored and released
+     * again if the store fails. A loaded instance without recorded events is unchanged, as
+     * {@link io.github.sardul3.expense.domain.common.base.BaseAggregateRoot} guarantees, and is left as stored.
+     *
+     * @throws ExpenseGroupAlreadyExistsException if a new group's name is taken by another group
+     * @throws ConcurrentGroupUpdateException     if the group was saved since this instance was loaded,
+     *                                            or a new group's id is already stored
+     * @throws UncheckedIOException               if the store is durable and the log write fails; the
+     *                                            group is then left as it was before the save
+     */
     @Override
     public ExpenseGroup save(ExpenseGroup expenseGroup) {
-       store.put(expenseGroup.getId(), expenseGroup);
-       return expenseGroup;
+        UUID groupId = expenseGroup.getId().getId();
+        String name = expenseGroup.getGroupName().getName();
+        Long loadedVersion = versions.get(expenseGroup);
+        List<DomainEvent> domainEvents = expenseGroup.pullEvents();
+        if (loadedVersion != null && domainEvents.isEmpty()) {
+            return expenseGroup;
+        }
+        ExpenseGroup copy = copyOf(expenseGroup);
+        byte[] commit = writeAheadLog == null ? null : encodeChange(expenseGroup, copy, loadedVersion, domainEvents);
+
+        boolean reserved = false;
+        if (loadedVersion == null) {
+            UUID holder = idsByName.putIfAbsent(name, groupId);
+            if (holder != null && !holder.equals(groupId)) {
+                throw new ExpenseGroupAlreadyExistsException("Expense group with name " + name + " already exists");
+            }
+            reserved = holder == null;
+        }
+        StoredGroup[] previous = new StoredGroup[1];
+        StoredGroup stored;
+        long[] logPosition = new long[1];
+        Lock shared = segmentLock.readLock();
+        shared.lock();
+        try {
+            stored = groups.compute(groupId, (id, current) -> {
+                long currentVersion = current == null ? 0L : current.version();
+                if (currentVersion != (loadedVersion == null ? 0L : loadedVersion)) {
+                    throw conflict(groupId, loadedVersion);
+                }
+                previous[0] = current;
+                StoredGroup next = new StoredGroup(copy, currentVersion + 1);
+                if (writeAheadLog != null) {
+                    logPosition[0] = writeAheadLog.append(groupId, next.version(), commit);
+                }
+                return next;
+            });
+        } catch (RuntimeException e) {
+            if (reserved) {
+                idsByName.remove(name, groupId);
+            }
+            throw e;
+        } finally {
+            shared.unlock();
+        }
+        orderedIds.add(groupId);
+        if (writeAheadLog != null) {
+            try {
+                writeAheadLog.awaitDurable(logPosition[0]);
+            } catch (RuntimeException e) {
+                rollBack(groupId, stored, previous[0], reserved ? name : null);
+                throw e;
+            }
+            if (writeAheadLog.size() >= properties.checkpointLogSize().toBytes()) {
+                queueCheckpoint();
+            }
+        }
+        versions.put(expenseGroup, stored.version());
+        domainEventPublisher.publishAll(domainEvents);
+        return expenseGroup;
+    }
+
+    /**
+     * Undoes a save whose log record did not reach the disk. Once the log fails, every record
+     * queued behind it fails as well, so the saves stacked on this one roll back too; whichever
+     * rolls back first restores the group to what this save replaced, and the others leave it.
+     */
+    private void rollBack(UUID groupId, StoredGroup stored, StoredGroup previous, String reservedName) {
+        groups.computeIfPresent(groupId, (id, current) -> current.version() >= stored.version() ? previous : current);
+        if (previous == null) {
+            orderedIds.remove(groupId);
+            if (reservedName != null) {
+                idsByName.remove(reservedName, groupId);
+            }
+        }
     }
 
     @Override
     public List<ExpenseGroup> findAll() {
-        return store.values().stream().toList();
+        List<ExpenseGroup> all = new ArrayList<>(groups.size());
+        for (StoredGroup stored : groups.values()) {
+            all.add(handOut(stored));
+        }
+        return all;
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return groups.containsKey(id);
     }
 
     @Override
     public Optional<ExpenseGroup> findById(UUID id) {
-        return Optional.ofNullable(store.get(ExpenseGroupId.from(id)));
+        return Optional.ofNullable(groups.get(id)).map(this::handOut);
+    }
+
+    /**
+     * The stored copy of a group, for the read adapters in this package. It is shared, so callers
+     * must only read it.
+     */
+    Optional<ExpenseGroup> stored(UUID id) {
+        return Optional.ofNullable(groups.get(id)).map(StoredGroup::group);
+    }
+
+    /** Ids of stored groups greater than {@code afterId} (all ids if null), in ascending order. */
+    Collection<UUID> idsAfter(UUID afterId) {
+        return afterId == null ? orderedIds : orderedIds.tailSet(afterId, false);
+    }
+
+    private ExpenseGroup handOut(StoredGroup stored) {
+        ExpenseGroup copy = copyOf(stored.group());
+        versions.put(copy, stored.version());
+        return copy;
+    }
+
+    /**
+     * Rebuilds the group from new participant and activity objects; names, ids, money and splits
+     * are immutable and shared. The copy has no recorded events.
+     */
+    private static ExpenseGroup copyOf(ExpenseGroup group) {
+        List<Participant> participants = new ArrayList<>(group.getParticipants().size());
+        Map<Participant, Participant> copies = new HashMap<>();
+        for (Participant participant : group.getParticipants()) {
+            Participant copy = Participant.reconstitute(participant.getParticipantId(), participant.getEmail(),
+                    Money.fromBalance(participant.getBalance()));
+            participants.add(copy);
+            copies.put(participant, copy);
+        }
+        List<ExpenseActivity> activities = new ArrayList<>(group.getActivities().size());
+        for (ExpenseActivity activity : group.getActivities()) {
+            Participant paidBy = copies.get(activity.getPaidBy());
+            if (paidBy == null) {
+                paidBy = group.getParticipantById(activity.getPaidBy().getParticipantId())
+                        .map(copies::get)
+                        .orElseThrow(() -> new IllegalStateException("Activity " + activity.getId().getId()
+                                + " was paid by a participant outside group " + group.getId().getId()));
+            }
+            activities.add(ExpenseActivity.reconstitute(activity.getId(), activity.getDescription(),
+                    activity.getAmount(), paidBy, activity.getSplit()));
+        }
+        return ExpenseGroup.reconstitute(group.getId(), group.getGroupName(), group.getGroupCreator().getEmail(),
+                participants, group.isActivated(), activities);
+    }
+
+    /**
+     * Writes a snapshot of every group and deletes the log segments it covers. Saves pause only
+     * while the log switches to a new segment; the snapshot may therefore include changes that
+     * are also in the new segment, and replay skips records at or below a group's snapshot version.
+     *
+     * @throws UncheckedIOException if the snapshot cannot be written
+     */
+    public synchronized void checkpoint() {
+        if (writeAheadLog == null) {
+            return;
+        }
+        long firstSegment;
+        Lock exclusive = segmentLock.writeLock();
+        exclusive.lock();
+        try {
+            firstSegment = writeAheadLog.rotate();
+        } finally {
+            exclusive.unlock();
+        }
+        try {
+            GroupSnapshotFile.write(directory, firstSegment, groups.values());
+            GroupWriteAheadLog.deleteSegmentsBefore(directory, firstSegment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Checkpoint to " + directory + " failed", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (writeAheadLog == null || running) {
+            return;
+        }
+        running = true;
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("in-memory-checkpoint").daemon().factory());
+        long checkpointMillis = properties.checkpointInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::checkpointQuietly, checkpointMillis, checkpointMillis, TimeUnit.MILLISECONDS);
+        if (properties.fsync() == FsyncPolicy.INTERVAL) {
+            long fsyncMillis = properties.fsyncInterval().toMillis();
+            scheduler.scheduleAtFixedRate(this::forceQuietly, fsyncMillis, fsyncMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Stops the timers and takes a final checkpoint, so the next start only has to map the snapshot. */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        ScheduledExecutorService timers = scheduler;
+        timers.shutdown();
+        try {
+            timers.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler = null;
+        checkpoint();
+        close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** Below the web server's phase, so the store stops only after requests have drained. */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /** Closes the log without a checkpoint; the next start replays it. */
+    @Override
+    public void close() {
+        if (writeAheadLog != null) {
+            writeAheadLog.close();
+        }
+    }
+
+    /** Loads the snapshot, replays the log after it, and opens the log for new saves. */
+    private GroupWriteAheadLog recover(GroupWriteAheadLog.SegmentOpener segmentOpener) throws IOException {
+        long started = System.nanoTime();
+        long firstSegment = GroupSnapshotFile.read(directory, this::restore);
+        int snapshotGroups = groups.size();
+        long[] replayed = new long[1];
+        long lastSegment = GroupWriteAheadLog.replay(directory, firstSegment, (groupId, version, events) -> {
+            StoredGroup current = groups.get(groupId);
+            long currentVersion = current == null ? 0L : current.version();
+            if (version <= currentVersion) {
+                return;
+            }
+            if (version != currentVersion + 1) {
+                throw new IllegalStateException("Write-ahead log jumps from version " + currentVersion
+                        + " to " + version + " of expense group " + groupId);
+            }
+            ExpenseGroup group = current == null ? null : current.group();
+            for (GroupStreamEvent event : events) {
+                group = event.applyTo(group);
+            }
+            // events recorded while replaying were already delivered when they were first saved
+            group.pullEvents();
+            restore(group, version);
+            replayed[0]++;
+        });
+        log.info("Recovered {} expense groups from {}: {} from the snapshot, {} log records replayed, in {} ms",
+                groups.size(), directory, snapshotGroups, replayed[0],
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return new GroupWriteAheadLog(directory, properties.fsync(), Math.max(firstSegment, lastSegment + 1),
+                segmentOpener);
+    }
+
+    private void restore(ExpenseGroup group, long version) {
+        UUID groupId = group.getId().getId();
+        groups.put(groupId, new StoredGroup(group, version));
+        idsByName.put(group.getGroupName().getName(), groupId);
+        orderedIds.add(groupId);
+    }
+
+    /**
+     * Encodes what the save changes: the whole group when it is new, otherwise the stream events
+     * for the domain events it recorded since it was loaded.
+     */
+    private byte[] encodeChange(ExpenseGroup group, ExpenseGroup copy, Long loadedVersion, List<DomainEvent> domainEvents) {
+        if (loadedVersion == null) {
+            return GroupStreamCodec.encodeCommit(List.of(new GroupCreated(copy)));
+        }
+        StoredGroup loaded = groups.get(group.getId().getId());
+        if (loaded == null || loaded.version() != loadedVersion) {
+            throw conflict(group.getId().getId(), loadedVersion);
+        }
+        return GroupStreamCodec.encodeCommit(
+                GroupStreamEvent.fromDomainEvents(group, loaded.group().getActivities().size(), domainEvents));
+    }
+
+    private static ConcurrentGroupUpdateException conflict(UUID groupId, Long loadedVersion) {
+        return new ConcurrentGroupUpdateException(loadedVersion == null
+                ? "Expense group " + groupId + " was created concurrently"
+                : "Expense group " + groupId + " was modified concurrently");
+    }
+
+    private void queueCheckpoint() {
+        ScheduledExecutorService timers = scheduler;
+        if (timers != null && checkpointQueued.compareAndSet(false, true)) {
+            timers.execute(() -> {
+                checkpointQueued.set(false);
+                checkpointQuietly();
+            });
+        }
+    }
+
+    private void checkpointQuietly() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            log.warn("Checkpoint of in-memory expense groups failed; the log keeps growing until one succeeds", e);
+        }
+    }
+
+    private void forceQuietly() {
+        try {
+            writeAheadLog.force();
+        } catch (RuntimeException e) {
+            log.error("Forcing the write-ahead log failed", e);
+        }
+    }
+
+    /** A group as stored, with the version the save that stored it produced. */
+    record StoredGroup(ExpenseGroup group, long version) {
     }
 }
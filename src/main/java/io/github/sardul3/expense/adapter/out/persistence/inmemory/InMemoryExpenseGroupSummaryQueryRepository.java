@@ -0,0 +1,40 @@
+package io.github.sardul3.expense.adapter.out.persistence.inmemory;
+
+import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryView;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupSummaryQueryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads group summaries from the stored copies in {@link InMemoryExpenseGroupRepository}, walking
+ * its sorted id set from the keyset position, so every page costs the same regardless of depth.
+ */
+@SecondaryAdapter
+@Component
+@Profile("in-memory")
+public class InMemoryExpenseGroupSummaryQueryRepository implements ExpenseGroupSummaryQueryRepository {
+
+    private final InMemoryExpenseGroupRepository repository;
+
+    public InMemoryExpenseGroupSummaryQueryRepository(InMemoryExpenseGroupRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public List<ExpenseGroupSummaryView> findPage(UUID afterId, int limit) {
+        List<ExpenseGroupSummaryView> page = new ArrayList<>(Math.min(limit, 64));
+        for (UUID id : repository.idsAfter(afterId)) {
+            if (page.size() == limit) {
+                break;
+            }
+            repository.stored(id).ifPresent(group -> page.add(new ExpenseGroupSummaryView(
+                    id, group.getGroupName().getName(), group.isActivated(), group.getParticipants().size())));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.sardul3.expense.adapter.out.persistence.inmemory;
+
+import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
+import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
+import io.github.sardul3.expense.application.port.out.GroupBalanceReadModel;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read model for the {@code in-memory} profile. Loading a group from
+ * {@link InMemoryExpenseGroupRepository} is already a map lookup, so this keeps nothing and always
+ * reports the group as unknown; the use cases then build the view from the aggregate.
+ */
+@SecondaryAdapter
+@Component
+@Profile("in-memory")
+public class InMemoryGroupBalanceReadModel implements GroupBalanceReadModel {
+
+    @Override
+    public Optional<ExpenseGroupDetailResponse> findByGroupId(UUID groupId) {
+        return Optional.empty();
+    }
+
+    /** Holds no groups, so there is nothing to rebuild. */
+    @Override
+    public int rebuild() {
+        return 0;
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -33,17 +35,44 @@ public class ExpenseActivityEntity {
     @Column(name = "split_evenly", nullable = false)
     private boolean splitEvenly = true;
 
+    /** Name of the split's {@code ExpenseSplit.Type}. */
+    @Column(name = "split_type", nullable = false, length = 16)
+    private String splitType = "EVEN";
+
+    /** Split members in allocation order; empty for an even split across all members. */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "split_members", nullable = false)
+    private UUID[] splitMembers = new UUID[0];
+
+    /** Weights, basis points or cents aligned with {@link #splitMembers}; empty for even splits. */
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "split_shares", nullable = false)
+    private long[] splitShares = new long[0];
+
+    /** Assigned by the database on insert from a sequence; orders the history. */
+    @Column(name = "seq", insertable = false, updatable = false)
+    private Long seq;
+
     public ExpenseActivityEntity() {
     }
 
     public ExpenseActivityEntity(UUID id, UUID groupId, String description, BigDecimal amount,
                                   UUID paidByParticipantId, boolean splitEvenly) {
+        this(id, groupId, description, amount, paidByParticipantId, splitEvenly, "EVEN", new UUID[0], new long[0]);
+    }
+
+    public ExpenseActivityEntity(UUID id, UUID groupId, String description, BigDecimal amount,
+                                  UUID paidByParticipantId, boolean splitEvenly, String splitType,
+                                  UUID[] splitMembers, long[] splitShares) {
         this.id = id;
         this.groupId = groupId;
         this.description = description;
         this.amount = amount;
         this.paidByParticipantId = paidByParticipantId;
         this.splitEvenly = splitEvenly;
+        this.splitType = splitType;
+        this.splitMembers = splitMembers;
+        this.splitShares = splitShares;
     }
 
     public UUID getId() {
@@ -93,4 +122,32 @@ public class ExpenseActivityEntity {
     public void setSplitEvenly(boolean splitEvenly) {
         this.splitEvenly = splitEvenly;
     }
+
+    public String getSplitType() {
+        return splitType;
+    }
+
+    public void setSplitType(String splitType) {
+        this.splitType = splitType;
+    }
+
+    public UUID[] getSplitMembers() {
+        return splitMembers;
+    }
+
+    public void setSplitMembers(UUID[] splitMembers) {
+        this.splitMembers = splitMembers;
+    }
+
+    public long[] getSplitShares() {
+        return splitShares;
+    }
+
+    public void setSplitShares(long[] splitShares) {
+        this.splitShares = splitShares;
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
 }
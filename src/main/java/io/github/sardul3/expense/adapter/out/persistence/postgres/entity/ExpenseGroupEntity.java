@@ -16,6 +16,7 @@ public class ExpenseGroupEntity {
     private String name;
     private String createdBy;
     private boolean activated;
+    private long version;
 
     public ExpenseGroupEntity() {
     }
@@ -76,6 +77,14 @@ public class ExpenseGroupEntity {
         this.activated = activated;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
 
     public static final class Builder {
         private UUID id;
@@ -31,6 +31,10 @@ public class ParticipantEntity {
     @Column(name = "balance_amount", nullable = false, precision = 19, scale = 2)
     private BigDecimal balanceAmount = BigDecimal.ZERO;
 
+    /** Assigned by the database on insert; orders the participants by when they joined. */
+    @Column(name = "join_seq", insertable = false, updatable = false)
+    private Long joinSeq;
+
     public ParticipantEntity() {
     }
 
@@ -72,4 +76,8 @@ public class ParticipantEntity {
     public void setBalanceAmount(BigDecimal balanceAmount) {
         this.balanceAmount = balanceAmount != null ? balanceAmount : BigDecimal.ZERO;
     }
+
+    public Long getJoinSeq() {
+        return joinSeq;
+    }
 }
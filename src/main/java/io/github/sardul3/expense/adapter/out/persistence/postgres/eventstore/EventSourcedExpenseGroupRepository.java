@@ -0,0 +1,222 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.eventstore;
+
+import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.outbox.OutboxWriter;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamCodec;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.GroupCreated;
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.exception.ExpenseGroupAlreadyExistsException;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.config.PersistenceProperties;
+import io.github.sardul3.expense.domain.event.DomainEvent;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.WeakHashMap;
+
+/**
+ * Stores each expense group as an append-only stream instead of mutable rows. A save appends one
+ * commit row holding the events it produced (group created, participant joined, group activated,
+ * activity added, settlement recorded) with a single insert; the {@code (group_id, commit_seq)}
+ * key rejects a second writer that loaded the same commit. Once {@code snapshotInterval} events
+ * have been appended since the last snapshot, the group's full state is written as a binary
+ * snapshot in the same transaction. Loading reads the latest snapshot and the commits after it
+ * in one query and replays them, so reload cost is bounded by the snapshot interval rather than
+ * by the group's history.
+ * <p>
+ * The stream events are derived from the domain events the aggregate recorded, which are also
+ * appended to the outbox in the same transaction, as with {@code PostgresExpenseGroupRepository}.
+ * <p>
+ * Active under the {@code event-sourced} profile. The table-backed read adapters (group list,
+ * history pages and exports) are not fed by this store, nor can the balance read model be
+ * rebuilt from them, so its rebuild endpoint is not offered under this profile.
+ */
+@SecondaryAdapter
+@Component
+@Primary
+@Profile("event-sourced")
+public class EventSourcedExpenseGroupRepository implements ExpenseGroupRepository {
+
+    private static final String APPEND_COMMIT = """
+            INSERT INTO group_event_stream (group_id, commit_seq, event_version, event_count, group_name, payload)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (group_id, commit_seq) DO NOTHING
+            """;
+
+    private static final String UPSERT_SNAPSHOT = """
+            INSERT INTO group_snapshots (group_id, commit_seq, event_version, payload)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (group_id) DO UPDATE
+                SET commit_seq = EXCLUDED.commit_seq, event_version = EXCLUDED.event_version, payload = EXCLUDED.payload
+                WHERE group_snapshots.commit_seq < EXCLUDED.commit_seq
+            """;
+
+    /** Snapshot first, then the commits after it; one statement, so both come from one MVCC snapshot. */
+    private static final String LOAD_STREAM = """
+            SELECT 0 AS kind, commit_seq, event_version, payload
+            FROM group_snapshots
+            WHERE group_id = ?
+            UNION ALL
+            SELECT 1 AS kind, commit_seq, event_version, payload
+            FROM group_event_stream
+            WHERE group_id = ?
+              AND commit_seq > COALESCE((SELECT commit_seq FROM group_snapshots WHERE group_id = ?), 0)
+            ORDER BY kind, commit_seq
+            """;
+
+    private static final String EXISTS_BY_NAME =
+            "SELECT EXISTS (SELECT 1 FROM group_event_stream WHERE commit_seq = 1 AND group_name = ?)";
+
+    private static final String EXISTS_BY_ID =
+            "SELECT EXISTS (SELECT 1 FROM group_event_stream WHERE commit_seq = 1 AND group_id = ?)";
+
+    private static final String ALL_GROUP_IDS =
+            "SELECT group_id FROM group_event_stream WHERE commit_seq = 1 ORDER BY recorded_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxWriter outboxWriter;
+    private final int snapshotInterval;
+    /** Stream position of every aggregate instance handed out or saved; held weakly, keyed by identity. */
+    private final Map<ExpenseGroup, StreamPosition> positions = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public EventSourcedExpenseGroupRepository(JdbcTemplate jdbcTemplate, OutboxWriter outboxWriter,
+                                              PersistenceProperties persistenceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outboxWriter = outboxWriter;
+        this.snapshotInterval = persistenceProperties.snapshotInterval();
+    }
+
+    @Override
+    public boolean existsByName(GroupName groupName) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_BY_NAME, Boolean.class, groupName.getName()));
+    }
+
+    /**
+     * Appends the changes since the aggregate was loaded as one commit. An aggregate this
+     * repository has not handed out starts a new stream with its current state; the unique index on
+     * the first commit's {@code group_name} rejects a taken name within that same insert.
+     *
+     * @throws ConcurrentGroupUpdateException if another commit was appended since the aggregate was loaded
+     * @throws ExpenseGroupAlreadyExistsException if a new group's name is taken by another group
+     */
+    @Override
+    @Transactional
+    public ExpenseGroup save(ExpenseGroup expenseGroup) {
+        UUID groupId = expenseGroup.getId().getId();
+        List<DomainEvent> domainEvents = expenseGroup.pullEvents();
+        StreamPosition position = positions.get(expenseGroup);
+        List<GroupStreamEvent> events = position == null
+                ? List.of(new GroupCreated(expenseGroup))
+                : GroupStreamEvent.fromDomainEvents(expenseGroup, position.activityCount(), domainEvents);
+        if (events.isEmpty()) {
+            return expenseGroup;
+        }
+        StreamPosition current = position != null ? position : StreamPosition.EMPTY;
+        long commitSeq = current.commitSeq() + 1;
+        long eventVersion = current.eventVersion() + events.size();
+
+        String groupName = commitSeq == 1 ? expenseGroup.getGroupName().getName() : null;
+        int inserted;
+        try {
+            inserted = jdbcTemplate.update(APPEND_COMMIT, groupId, commitSeq, eventVersion, events.size(),
+                    groupName, GroupStreamCodec.encodeCommit(events));
+        } catch (DuplicateKeyException e) {
+            // the commit key is the conflict target, so only the name index can raise here
+            throw new ExpenseGroupAlreadyExistsException("Expense group with name " + groupName + " already exists");
+        }
+        if (inserted == 0) {
+            throw new ConcurrentGroupUpdateException(commitSeq == 1
+                    ? "Expense group " + groupId + " was created concurrently"
+                    : "Expense group " + groupId + " was modified concurrently");
+        }
+
+        long snapshotVersion = current.snapshotVersion();
+        if (eventVersion - snapshotVersion >= snapshotInterval) {
+            jdbcTemplate.update(UPSERT_SNAPSHOT, groupId, commitSeq, eventVersion, GroupStreamCodec.encodeSnapshot(expenseGroup));
+            snapshotVersion = eventVersion;
+        }
+        positions.put(expenseGroup, StreamPosition.of(expenseGroup, commitSeq, eventVersion, snapshotVersion));
+        outboxWriter.append(groupId, domainEvents);
+        return expenseGroup;
+    }
+
+    /** Loads every group, one stream read each. */
+    @Override
+    public List<ExpenseGroup> findAll() {
+        List<UUID> ids = jdbcTemplate.queryForList(ALL_GROUP_IDS, UUID.class);
+        List<ExpenseGroup> groups = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            findById(id).ifPresent(groups::add);
+        }
+        return groups;
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_BY_ID, Boolean.class, id));
+    }
+
+    /** Decodes the latest snapshot, if any, and replays the commits appended after it. */
+    @Override
+    public Optional<ExpenseGroup> findById(UUID id) {
+        Replay replay = new Replay();
+        jdbcTemplate.query(LOAD_STREAM, (ResultSet rs) -> {
+            byte[] payload = rs.getBytes("payload");
+            if (rs.getInt("kind") == 0) {
+                replay.group = GroupStreamCodec.decodeSnapshot(payload);
+                replay.snapshotVersion = rs.getLong("event_version");
+            } else {
+                for (GroupStreamEvent event : GroupStreamCodec.decodeCommit(payload)) {
+                    replay.group = event.applyTo(replay.group);
+                }
+            }
+            replay.commitSeq = rs.getLong("commit_seq");
+            replay.eventVersion = rs.getLong("event_version");
+        }, id, id, id);
+        if (replay.group == null) {
+            return Optional.empty();
+        }
+        // events recorded while replaying were already delivered when they were first saved
+        replay.group.pullEvents();
+        positions.put(replay.group, StreamPosition.of(replay.group, replay.commitSeq, replay.eventVersion, replay.snapshotVersion));
+        return Optional.of(replay.group);
+    }
+
+    /**
+     * Where an aggregate instance stands in its stream, plus what save needs to diff against.
+     *
+     * @param commitSeq       last commit applied to the instance
+     * @param eventVersion    number of events up to and including that commit
+     * @param snapshotVersion event version covered by the latest snapshot known to the instance
+     * @param activityCount   activities the instance held at that commit
+     */
+    private record StreamPosition(long commitSeq, long eventVersion, long snapshotVersion, int activityCount) {
+
+        static final StreamPosition EMPTY = new StreamPosition(0L, 0L, 0L, 0);
+
+        static StreamPosition of(ExpenseGroup group, long commitSeq, long eventVersion, long snapshotVersion) {
+            return new StreamPosition(commitSeq, eventVersion, snapshotVersion, group.getActivities().size());
+        }
+    }
+
+    private static final class Replay {
+        private ExpenseGroup group;
+        private long commitSeq;
+        private long eventVersion;
+        private long snapshotVersion;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.outbox;
+
+import io.github.sardul3.expense.domain.event.DomainEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A domain event as relayed from the outbox.
+ *
+ * @param dedupKey   unique per recorded event and stable across redeliveries; handlers that must
+ *                   act once should remember the keys they have processed
+ * @param groupId    group whose change produced the event
+ * @param event      the event itself
+ * @param recordedAt when the change was written
+ * @param position   the outbox row id; assigned in insertion order, so later writes get higher positions
+ */
+public record OutboxEvent(UUID dedupKey, UUID groupId, DomainEvent event, Instant recordedAt, long position) {
+}
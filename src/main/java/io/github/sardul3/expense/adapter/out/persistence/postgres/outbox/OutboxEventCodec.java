@@ -0,0 +1,68 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.sardul3.expense.domain.event.DomainEvent;
+import io.github.sardul3.expense.domain.event.ExpenseAddedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupActivatedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupCreatedEvent;
+import io.github.sardul3.expense.domain.event.ParticipantAddedEvent;
+import io.github.sardul3.expense.domain.event.SettlementCompletedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Maps domain events to an outbox {@code event_type} and JSON payload and back. The type is the
+ * event's simple class name, so renaming an event class needs a migration of pending rows.
+ */
+@Component
+@Profile("!in-memory")
+class OutboxEventCodec {
+
+    private static final Map<String, Class<? extends DomainEvent>> TYPES = Stream.of(
+                    ExpenseGroupCreatedEvent.class, ExpenseGroupActivatedEvent.class, ExpenseAddedEvent.class,
+                    ParticipantAddedEvent.class, SettlementCompletedEvent.class)
+            .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private final ObjectMapper objectMapper;
+
+    OutboxEventCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    String typeOf(DomainEvent event) {
+        String type = event.getClass().getSimpleName();
+        if (!TYPES.containsKey(type)) {
+            throw new IllegalArgumentException("No outbox mapping for event type " + type);
+        }
+        return type;
+    }
+
+    String encode(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise " + event.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if the type is unknown or the payload does not match it
+     */
+    DomainEvent decode(String type, String payload) {
+        Class<? extends DomainEvent> eventClass = TYPES.get(type);
+        if (eventClass == null) {
+            throw new IllegalArgumentException("Unknown outbox event type " + type);
+        }
+        try {
+            return objectMapper.readValue(payload, eventClass);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed " + type + " payload", e);
+        }
+    }
+}
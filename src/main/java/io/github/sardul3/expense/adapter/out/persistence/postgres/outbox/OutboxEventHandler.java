@@ -0,0 +1,28 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.outbox;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Receives batches of outbox events from {@link OutboxRelay}; beans of this type are registered
+ * automatically. Delivery is at least once: the batch is removed from the outbox only if every
+ * handler returns normally, so after a failure or crash the same events, with the same
+ * {@link OutboxEvent#dedupKey()}, arrive again.
+ */
+@FunctionalInterface
+public interface OutboxEventHandler {
+
+    /**
+     * @param events events in the order they were recorded
+     */
+    void handle(List<OutboxEvent> events);
+
+    /**
+     * Called on the instance that wrote events for a group once their transaction has committed,
+     * before they are relayed. Handlers that serve reads can drop what they hold for the group.
+     *
+     * @param groupId group whose events were committed
+     */
+    default void eventsCommitted(UUID groupId) {
+    }
+}
@@ -0,0 +1,190 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.outbox;
+
+import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
+import io.github.sardul3.expense.config.OutboxProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves events from the outbox to their handlers on a background virtual thread. Each cycle claims
+ * up to {@code batchSize} of the oldest rows with {@code FOR UPDATE SKIP LOCKED}, hands them to
+ * every {@link OutboxEventHandler} and deletes them, all in one transaction. Relays on several
+ * instances therefore work on disjoint batches, and a handler failure rolls the claim back so the
+ * batch is retried on the next cycle. Ordering holds within a batch; with several relays, batches
+ * may be dispatched out of order.
+ * <p>
+ * Once a batch has committed its events are also passed to the {@link DomainEventPublisher}, for
+ * handlers that tolerate loss (for example notifications through the asynchronous publisher).
+ * <p>
+ * Rows that cannot be decoded are logged and discarded rather than blocking the outbox.
+ */
+@Component
+@Profile("!in-memory")
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String CLAIM_BATCH = """
+            SELECT id, dedup_key, group_id, event_type, payload::text AS payload, created_at
+            FROM outbox
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_BATCH = "DELETE FROM outbox WHERE id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxEventCodec codec;
+    private final List<OutboxEventHandler> handlers;
+    private final DomainEventPublisher domainEventPublisher;
+    private final boolean relayEnabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private volatile Thread thread;
+    private volatile boolean running;
+
+    OutboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, OutboxEventCodec codec,
+                ObjectProvider<OutboxEventHandler> handlers, DomainEventPublisher domainEventPublisher,
+                OutboxProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.codec = codec;
+        this.handlers = handlers.orderedStream().toList();
+        this.domainEventPublisher = domainEventPublisher;
+        this.relayEnabled = properties.relayEnabled();
+        this.batchSize = properties.batchSize();
+        this.pollInterval = properties.pollInterval();
+    }
+
+    /**
+     * Runs one relay cycle on the calling thread.
+     *
+     * @return number of outbox rows consumed, including discarded ones
+     */
+    public int relayBatch() {
+        List<OutboxEvent> dispatched = new ArrayList<>();
+        Integer claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = new ArrayList<>();
+            jdbcTemplate.query(CLAIM_BATCH, (ResultSet rs) -> {
+                ids.add(rs.getLong("id"));
+                OutboxEvent event = decode(rs);
+                if (event != null) {
+                    dispatched.add(event);
+                }
+            }, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            List<OutboxEvent> batch = List.copyOf(dispatched);
+            for (OutboxEventHandler handler : handlers) {
+                handler.handle(batch);
+            }
+            jdbcTemplate.update(con -> {
+                var ps = con.prepareStatement(DELETE_BATCH);
+                ps.setArray(1, con.createArrayOf("bigint", ids.toArray()));
+                return ps;
+            });
+            return ids.size();
+        });
+        if (!dispatched.isEmpty()) {
+            domainEventPublisher.publishAll(dispatched.stream().map(OutboxEvent::event).toList());
+        }
+        return claimed == null ? 0 : claimed;
+    }
+
+    /**
+     * Tells every handler that events for the group were committed, then wakes the relay so they
+     * are dispatched without waiting for the next poll.
+     */
+    public void eventsCommitted(UUID groupId) {
+        for (OutboxEventHandler handler : handlers) {
+            handler.eventsCommitted(groupId);
+        }
+        wakeUp();
+    }
+
+    /** Cuts the current poll wait short, e.g. right after events were committed. */
+    public void wakeUp() {
+        Thread relayThread = thread;
+        if (relayThread != null) {
+            LockSupport.unpark(relayThread);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!relayEnabled || running) {
+            return;
+        }
+        running = true;
+        thread = Thread.ofVirtual().name("outbox-relay").start(this::run);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread relayThread = thread;
+        if (relayThread == null) {
+            return;
+        }
+        LockSupport.unpark(relayThread);
+        try {
+            relayThread.join(Duration.ofSeconds(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            int relayed;
+            try {
+                relayed = relayBatch();
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay cycle failed; retrying in {}", pollInterval, e);
+                relayed = 0;
+            }
+            if (relayed < batchSize && running) {
+                LockSupport.parkNanos(this, pollInterval.toNanos());
+            }
+        }
+    }
+
+    private OutboxEvent decode(ResultSet rs) throws SQLException {
+        String type = rs.getString("event_type");
+        try {
+            return new OutboxEvent(
+                    rs.getObject("dedup_key", UUID.class),
+                    rs.getObject("group_id", UUID.class),
+                    codec.decode(type, rs.getString("payload")),
+                    rs.getTimestamp("created_at").toInstant(),
+                    rs.getLong("id"));
+        } catch (IllegalArgumentException e) {
+            log.error("Discarding outbox row {} of type {}", rs.getLong("id"), type, e);
+            return null;
+        }
+    }
+}
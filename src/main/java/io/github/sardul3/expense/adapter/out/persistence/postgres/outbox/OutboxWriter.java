@@ -0,0 +1,62 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.outbox;
+
+import io.github.sardul3.expense.domain.event.DomainEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Appends domain events to the outbox table with one batched insert. Must run inside the
+ * transaction that writes the change the events describe; the relay is told once it commits,
+ * so events are dispatched as one batch without waiting for the next poll.
+ */
+@Component
+@Profile("!in-memory")
+public class OutboxWriter {
+
+    private static final String INSERT = """
+            INSERT INTO outbox (dedup_key, group_id, event_type, payload)
+            VALUES (?, ?, ?, ?::jsonb)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OutboxEventCodec codec;
+    private final OutboxRelay relay;
+
+    OutboxWriter(JdbcTemplate jdbcTemplate, OutboxEventCodec codec, OutboxRelay relay) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.codec = codec;
+        this.relay = relay;
+    }
+
+    public void append(UUID groupId, List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, events, events.size(), (ps, event) -> {
+            ps.setObject(1, UUID.randomUUID());
+            ps.setObject(2, groupId);
+            ps.setString(3, codec.typeOf(event));
+            ps.setString(4, codec.encode(event));
+        });
+        notifyRelayAfterCommit(groupId);
+    }
+
+    private void notifyRelayAfterCommit(UUID groupId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            relay.eventsCommitted(groupId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                relay.eventsCommitted(groupId);
+            }
+        });
+    }
+}
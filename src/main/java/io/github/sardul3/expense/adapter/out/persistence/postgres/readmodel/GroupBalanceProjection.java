@@ -0,0 +1,463 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.readmodel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.outbox.OutboxEvent;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.outbox.OutboxEventHandler;
+import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
+import io.github.sardul3.expense.application.dto.ParticipantBalanceView;
+import io.github.sardul3.expense.application.port.out.GroupBalanceReadModel;
+import io.github.sardul3.expense.config.BalanceReadModelProperties;
+import io.github.sardul3.expense.domain.event.DomainEvent;
+import io.github.sardul3.expense.domain.event.ExpenseAddedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupActivatedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupCreatedEvent;
+import io.github.sardul3.expense.domain.event.ParticipantAddedEvent;
+import io.github.sardul3.expense.domain.event.SettlementCompletedEvent;
+import io.github.sardul3.expense.domain.service.ExpenseShares;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Group details and balances kept up to date from domain events instead of loading aggregates.
+ * As an {@link OutboxEventHandler} it runs inside the relay transaction, so applying a batch and
+ * removing it from the outbox commit together and no event is applied twice. A batch is folded
+ * into per-participant balance deltas first, so it costs a handful of batched statements however
+ * many events it holds; deltas are written in key order so concurrent relays cannot deadlock.
+ * Expense events carry only the split's inputs: their deltas are worked out with
+ * {@link ExpenseShares} against the group's members in join order, read once per batch.
+ * <p>
+ * Reads are served from an in-memory projection keyed by group id, loaded from the tables with one
+ * query on a miss. A group is never served while the outbox still holds events for it: the read
+ * returns empty and the caller falls back to the aggregate. Entries are dropped once this
+ * instance commits or applies events for the group; changes made through another instance are
+ * picked up within {@code app.read-model.balances.expire-after-write}.
+ * <p>
+ * The delay between a change being committed and applied is recorded as the
+ * {@code read_model.group_balances.lag} timer; the in-memory projection is monitored as
+ * {@code cache.*} metrics tagged {@code cache=group-balances}.
+ */
+@SecondaryAdapter
+@Component
+@Profile("!in-memory")
+public class GroupBalanceProjection implements GroupBalanceReadModel, OutboxEventHandler {
+
+    static final String NAME = "group-balances";
+
+    /** Shared with other relays; a rebuild chunk takes the row exclusively and waits for them. */
+    private static final String LOCK_FOR_APPLY = "SELECT id FROM balance_projection_state WHERE id = 1 FOR SHARE";
+
+    private static final String LOCK_FOR_REBUILD = "SELECT id FROM balance_projection_state WHERE id = 1 FOR UPDATE";
+
+    /** Blocks new outbox writes and waits for in-flight ones, so the stored state matches the outbox. */
+    private static final String HOLD_WRITES = "LOCK TABLE outbox IN SHARE MODE";
+
+    private static final String LAST_OUTBOX_POSITION = "SELECT COALESCE(MAX(id), 0) FROM outbox";
+
+    private static final String SELECT_REBUILT_THROUGH = """
+            SELECT group_id, rebuilt_through FROM group_balance_view
+            WHERE group_id = ANY(?) AND rebuilt_through > 0
+            """;
+
+    private static final String NEXT_CHUNK = "SELECT id FROM expense_groups WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String DELETE_PARTICIPANTS_IN_RANGE =
+            "DELETE FROM participant_balance_view WHERE group_id > ? AND group_id <= ?";
+
+    private static final String DELETE_GROUPS_IN_RANGE = "DELETE FROM group_balance_view WHERE group_id > ? AND group_id <= ?";
+
+    private static final String DELETE_PARTICIPANTS_AFTER = "DELETE FROM participant_balance_view WHERE group_id > ?";
+
+    private static final String DELETE_GROUPS_AFTER = "DELETE FROM group_balance_view WHERE group_id > ?";
+
+    private static final String COPY_GROUPS = """
+            INSERT INTO group_balance_view (group_id, name, created_by, activated, rebuilt_through)
+            SELECT id, name, created_by, activated, ? FROM expense_groups
+            WHERE id = ANY(?)
+            """;
+
+    /** In join order, so the view numbers each group's members as the aggregate orders them. */
+    private static final String COPY_PARTICIPANTS = """
+            INSERT INTO participant_balance_view (group_id, participant_id, email, balance)
+            SELECT group_id, participant_id, email, balance_amount FROM expense_group_participants
+            WHERE group_id = ANY(?)
+            ORDER BY group_id, join_seq
+            """;
+
+    /** The lowest UUID; group ids are compared as PostgreSQL orders uuid values. */
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private static final String INSERT_GROUP = """
+            INSERT INTO group_balance_view (group_id, name, created_by, activated)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String INSERT_PARTICIPANT = """
+            INSERT INTO participant_balance_view (group_id, participant_id, email, balance)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String SELECT_MEMBERS = """
+            SELECT group_id, participant_id FROM participant_balance_view
+            WHERE group_id = ANY(?)
+            ORDER BY group_id, join_seq
+            """;
+
+    private static final String ACTIVATE_GROUPS = "UPDATE group_balance_view SET activated = TRUE WHERE group_id = ANY(?)";
+
+    private static final String ADD_TO_BALANCE = """
+            UPDATE participant_balance_view SET balance = balance + ?
+            WHERE group_id = ? AND participant_id = ?
+            """;
+
+    private static final String LOAD_GROUP = """
+            SELECT g.name, g.created_by, g.activated, p.participant_id, p.email, p.balance,
+                   EXISTS (SELECT 1 FROM outbox o
+                           WHERE o.group_id = g.group_id
+                             AND o.id > g.rebuilt_through) AS behind
+            FROM group_balance_view g
+            LEFT JOIN participant_balance_view p ON p.group_id = g.group_id
+            WHERE g.group_id = ?
+            ORDER BY p.email
+            """;
+
+    private static final Comparator<ParticipantKey> KEY_ORDER =
+            Comparator.comparing(ParticipantKey::groupId).thenComparing(ParticipantKey::participantId);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int rebuildChunkSize;
+    private final Cache<UUID, ExpenseGroupDetailResponse> projection;
+    private final Timer lag;
+
+    public GroupBalanceProjection(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                  BalanceReadModelProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.rebuildChunkSize = properties.rebuildChunkSize();
+        this.projection = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        CaffeineCacheMetrics.monitor(registry, projection, NAME);
+        this.lag = Timer.builder("read_model.group_balances.lag")
+                .description("Time from a change being committed to it being applied to the balance read model")
+                .register(registry);
+    }
+
+    /**
+     * @return the group from memory or the read model tables; empty if unknown or if the outbox
+     *         still holds events for it
+     */
+    @Override
+    public Optional<ExpenseGroupDetailResponse> findByGroupId(UUID groupId) {
+        return Optional.ofNullable(projection.get(groupId, this::load));
+    }
+
+    /** Applies a relayed batch; events already covered by a rebuild of their group are skipped. */
+    @Override
+    public void handle(List<OutboxEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.queryForObject(LOCK_FOR_APPLY, Integer.class);
+        Map<UUID, Long> rebuiltThrough = rebuiltThrough(events);
+        Changes changes = new Changes();
+        Instant now = Instant.now();
+        for (OutboxEvent event : events) {
+            if (event.position() <= rebuiltThrough.getOrDefault(event.groupId(), 0L)) {
+                continue;
+            }
+            changes.apply(event.groupId(), event.event());
+            lag.record(Duration.between(event.recordedAt(), now));
+        }
+        changes.writeTo(jdbcTemplate);
+        evictAfterCommit(changes.touched);
+    }
+
+    @Override
+    public void eventsCommitted(UUID groupId) {
+        projection.invalidate(groupId);
+    }
+
+    /**
+     * Copies the stored groups into the read model a chunk at a time, in group id order, each chunk
+     * in its own transaction. A chunk takes the projection state row exclusively, which waits for
+     * relays applying a batch, and holds outbox writes only while it copies its groups: every outbox
+     * row present then describes a change already in the copied rows, so the chunk's groups record
+     * its position and such rows are skipped when relayed. Rows are copied by the database, so the
+     * rebuild holds no groups in memory however many there are.
+     */
+    @Override
+    public int rebuild() {
+        int groups = 0;
+        UUID after = FIRST_ID;
+        while (after != null) {
+            UUID from = after;
+            List<UUID> chunk = transactionTemplate.execute(status -> rebuildChunk(from));
+            groups += chunk.size();
+            after = chunk.size() < rebuildChunkSize ? null : chunk.get(chunk.size() - 1);
+        }
+        projection.invalidateAll();
+        return groups;
+    }
+
+    /**
+     * Replaces the read model rows of the groups after {@code after}, up to and including the last
+     * group of the chunk; the final chunk also drops rows of any groups after it, so groups that no
+     * longer exist leave the read model.
+     *
+     * @return ids of the copied groups, in order
+     */
+    private List<UUID> rebuildChunk(UUID after) {
+        jdbcTemplate.queryForObject(LOCK_FOR_REBUILD, Integer.class);
+        jdbcTemplate.execute(HOLD_WRITES);
+        Long lastPosition = jdbcTemplate.queryForObject(LAST_OUTBOX_POSITION, Long.class);
+        List<UUID> chunk = jdbcTemplate.queryForList(NEXT_CHUNK, UUID.class, after, rebuildChunkSize);
+        if (chunk.size() < rebuildChunkSize) {
+            jdbcTemplate.update(DELETE_PARTICIPANTS_AFTER, after);
+            jdbcTemplate.update(DELETE_GROUPS_AFTER, after);
+        } else {
+            UUID through = chunk.get(chunk.size() - 1);
+            jdbcTemplate.update(DELETE_PARTICIPANTS_IN_RANGE, after, through);
+            jdbcTemplate.update(DELETE_GROUPS_IN_RANGE, after, through);
+        }
+        if (!chunk.isEmpty()) {
+            UUID[] ids = chunk.toArray(UUID[]::new);
+            jdbcTemplate.update(con -> {
+                var ps = con.prepareStatement(COPY_GROUPS);
+                ps.setLong(1, lastPosition != null ? lastPosition : 0L);
+                ps.setArray(2, con.createArrayOf("uuid", ids));
+                return ps;
+            });
+            jdbcTemplate.update(con -> {
+                var ps = con.prepareStatement(COPY_PARTICIPANTS);
+                ps.setArray(1, con.createArrayOf("uuid", ids));
+                return ps;
+            });
+        }
+        return chunk;
+    }
+
+    /** Positions up to which each group of the batch was rebuilt, for the groups that have been. */
+    private Map<UUID, Long> rebuiltThrough(List<OutboxEvent> events) {
+        UUID[] groupIds = events.stream().map(OutboxEvent::groupId).distinct().toArray(UUID[]::new);
+        Map<UUID, Long> rebuiltThrough = new HashMap<>();
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(SELECT_REBUILT_THROUGH);
+            ps.setArray(1, con.createArrayOf("uuid", groupIds));
+            return ps;
+        }, (ResultSet rs) -> {
+            rebuiltThrough.put(rs.getObject("group_id", UUID.class), rs.getLong("rebuilt_through"));
+        });
+        return rebuiltThrough;
+    }
+
+    private ExpenseGroupDetailResponse load(UUID groupId) {
+        GroupRows rows = new GroupRows();
+        jdbcTemplate.query(LOAD_GROUP, (ResultSet rs) -> {
+            rows.name = rs.getString("name");
+            rows.createdBy = rs.getString("created_by");
+            rows.activated = rs.getBoolean("activated");
+            rows.behind = rs.getBoolean("behind");
+            UUID participantId = rs.getObject("participant_id", UUID.class);
+            if (participantId != null) {
+                rows.participants.add(new ParticipantBalanceView(participantId, rs.getString("email"),
+                        rs.getBigDecimal("balance")));
+            }
+        }, groupId);
+        if (rows.name == null || rows.behind) {
+            return null;
+        }
+        return new ExpenseGroupDetailResponse(groupId, rows.name, rows.createdBy, rows.activated,
+                List.copyOf(rows.participants));
+    }
+
+    private void evictAfterCommit(Set<UUID> groupIds) {
+        if (groupIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            projection.invalidateAll(groupIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                projection.invalidateAll(groupIds);
+            }
+        });
+    }
+
+    private static void insertParticipants(JdbcTemplate jdbcTemplate, List<ParticipantRow> participants) {
+        jdbcTemplate.batchUpdate(INSERT_PARTICIPANT, participants, participants.size(), (ps, participant) -> {
+            ps.setObject(1, participant.groupId());
+            ps.setObject(2, participant.participantId());
+            ps.setString(3, participant.email());
+            ps.setBigDecimal(4, participant.balance());
+        });
+    }
+
+    /** One batch of events folded into the rows and balance deltas it produces. */
+    private static final class Changes {
+        private final Map<UUID, ExpenseGroupCreatedEvent> created = new LinkedHashMap<>();
+        private final List<ParticipantRow> joined = new ArrayList<>();
+        private final Set<UUID> activated = new LinkedHashSet<>();
+        private final List<GroupExpense> expenses = new ArrayList<>();
+        private final Map<ParticipantKey, BigDecimal> deltas = new TreeMap<>(KEY_ORDER);
+        private final Set<UUID> touched = new LinkedHashSet<>();
+
+        void apply(UUID groupId, DomainEvent event) {
+            touched.add(groupId);
+            if (event instanceof ExpenseGroupCreatedEvent groupCreated) {
+                created.put(groupId, groupCreated);
+                joined.add(new ParticipantRow(groupId, groupCreated.creatorParticipantId(),
+                        groupCreated.creatorEmail(), BigDecimal.ZERO));
+            } else if (event instanceof ParticipantAddedEvent participantAdded) {
+                joined.add(new ParticipantRow(groupId, participantAdded.participantId(), participantAdded.email(),
+                        BigDecimal.ZERO));
+            } else if (event instanceof ExpenseGroupActivatedEvent) {
+                activated.add(groupId);
+            } else if (event instanceof ExpenseAddedEvent expenseAdded) {
+                expenses.add(new GroupExpense(groupId, expenseAdded));
+            } else if (event instanceof SettlementCompletedEvent settlement) {
+                add(groupId, settlement.fromParticipantId(), settlement.amount());
+                add(groupId, settlement.toParticipantId(), settlement.amount().negate());
+            }
+        }
+
+        private void add(UUID groupId, UUID participantId, BigDecimal change) {
+            deltas.merge(new ParticipantKey(groupId, participantId), change, BigDecimal::add);
+        }
+
+        /**
+         * Adds the deltas of each expense. Runs after this batch's participants are inserted, so
+         * the members read include everyone who had joined when any of its expenses was added.
+         */
+        private void addExpenseDeltas(JdbcTemplate jdbcTemplate) {
+            if (expenses.isEmpty()) {
+                return;
+            }
+            UUID[] groupIds = expenses.stream().map(GroupExpense::groupId).distinct().toArray(UUID[]::new);
+            Map<UUID, Members> membersByGroup = new HashMap<>();
+            jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(SELECT_MEMBERS);
+                ps.setArray(1, con.createArrayOf("uuid", groupIds));
+                return ps;
+            }, (ResultSet rs) -> {
+                membersByGroup.computeIfAbsent(rs.getObject("group_id", UUID.class), id -> new Members())
+                        .add(rs.getObject("participant_id", UUID.class));
+            });
+            for (GroupExpense expense : expenses) {
+                Members members = membersByGroup.getOrDefault(expense.groupId(), new Members());
+                ExpenseAddedEvent added = expense.event();
+                if (added.memberCount() > members.ids.size()) {
+                    throw new IllegalStateException("Group " + expense.groupId() + " had " + added.memberCount()
+                            + " members when the expense was added but the read model holds " + members.ids.size());
+                }
+                ExpenseShares.allocate(Money.of(added.amount()), added.split(),
+                        ParticipantId.from(added.paidByParticipantId()), added.memberCount(), members::positionOf,
+                        (position, amount, credit) -> add(expense.groupId(), members.ids.get(position),
+                                credit ? amount.getAmount() : amount.getAmount().negate()));
+            }
+        }
+
+        /** Rows first, so deltas in the same batch find the participants they change. */
+        void writeTo(JdbcTemplate jdbcTemplate) {
+            if (!created.isEmpty()) {
+                List<ExpenseGroupCreatedEvent> groups = List.copyOf(created.values());
+                jdbcTemplate.batchUpdate(INSERT_GROUP, groups, groups.size(), (ps, group) -> {
+                    ps.setObject(1, group.groupId());
+                    ps.setString(2, group.name());
+                    ps.setString(3, group.creatorEmail());
+                    ps.setBoolean(4, false);
+                });
+            }
+            if (!joined.isEmpty()) {
+                insertParticipants(jdbcTemplate, joined);
+            }
+            addExpenseDeltas(jdbcTemplate);
+            if (!activated.isEmpty()) {
+                jdbcTemplate.update(con -> {
+                    var ps = con.prepareStatement(ACTIVATE_GROUPS);
+                    ps.setArray(1, con.createArrayOf("uuid", activated.toArray()));
+                    return ps;
+                });
+            }
+            if (!deltas.isEmpty()) {
+                List<Map.Entry<ParticipantKey, BigDecimal>> rows = List.copyOf(deltas.entrySet());
+                jdbcTemplate.batchUpdate(ADD_TO_BALANCE, rows, rows.size(), (ps, row) -> {
+                    ps.setBigDecimal(1, row.getValue());
+                    ps.setObject(2, row.getKey().groupId());
+                    ps.setObject(3, row.getKey().participantId());
+                });
+            }
+        }
+    }
+
+    private record ParticipantKey(UUID groupId, UUID participantId) {
+    }
+
+    private record GroupExpense(UUID groupId, ExpenseAddedEvent event) {
+    }
+
+    /** A group's members in join order, with each member's position. */
+    private static final class Members {
+        private final List<UUID> ids = new ArrayList<>();
+        private final Map<UUID, Integer> positions = new HashMap<>();
+
+        void add(UUID participantId) {
+            positions.put(participantId, ids.size());
+            ids.add(participantId);
+        }
+
+        int positionOf(ParticipantId participantId) {
+            Integer position = positions.get(participantId.getId());
+            return position != null ? position : -1;
+        }
+    }
+
+    private record ParticipantRow(UUID groupId, UUID participantId, String email, BigDecimal balance) {
+    }
+
+    private static final class GroupRows {
+        private String name;
+        private String createdBy;
+        private boolean activated;
+        private boolean behind;
+        private final List<ParticipantBalanceView> participants = new ArrayList<>();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseActivityEntity;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseGroupEntity;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ParticipantEntity;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The stored rows of one expense group as last read or committed. Aggregates are mutable and
+ * tracked per instance, so the cache holds these rows instead and every hit reconstitutes a new
+ * aggregate from them. The entities are never modified once cached.
+ *
+ * @param group        group row, including the version it was read or written at
+ * @param participants participant rows
+ * @param activities   activity rows, or null when the history was never loaded; hits then
+ *                     fall back to a lazily loaded history
+ */
+record CachedExpenseGroup(
+        ExpenseGroupEntity group,
+        List<ParticipantEntity> participants,
+        List<ExpenseActivityEntity> activities
+) {
+    CachedExpenseGroup {
+        participants = List.copyOf(participants);
+        activities = activities == null ? null : List.copyOf(activities);
+    }
+
+    UUID id() {
+        return group.getId();
+    }
+
+    long version() {
+        return group.getVersion();
+    }
+
+    /** One unit per cached row. */
+    int weight() {
+        return 1 + participants.size() + (activities == null ? 0 : activities.size());
+    }
+}
@@ -4,6 +4,7 @@ import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.Expense
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,7 +15,26 @@ public interface ExpenseActivityJpaRepository extends JpaRepository<ExpenseActiv
 
     List<ExpenseActivityEntity> findByGroupIdOrderByAmountDesc(UUID groupId);
 
-    Page<ExpenseActivityEntity> findByGroupId(UUID groupId, Pageable pageable);
+    Page<ExpenseActivityEntity> findByGroupIdOrderBySeqDesc(UUID groupId, Pageable pageable);
+
+    @Query(value = """
+            SELECT * FROM expense_activities
+            WHERE group_id = :groupId
+            ORDER BY seq DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ExpenseActivityEntity> findNewestByGroupId(UUID groupId, int limit);
+
+    /** Activities inserted before the one numbered {@code seq}, newest first. */
+    @Query(value = """
+            SELECT * FROM expense_activities
+            WHERE group_id = :groupId AND seq < :seq
+            ORDER BY seq DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ExpenseActivityEntity> findByGroupIdBefore(UUID groupId, long seq, int limit);
+
+    long countByGroupId(UUID groupId);
 
     void deleteByGroupId(UUID groupId);
 }
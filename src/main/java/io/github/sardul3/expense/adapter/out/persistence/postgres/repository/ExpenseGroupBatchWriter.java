@@ -0,0 +1,166 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseActivityEntity;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseGroupEntity;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ParticipantEntity;
+import io.github.sardul3.expense.config.PersistenceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bulk write path for expense group rows. Participants and activities are sent as batched
+ * {@code INSERT ... ON CONFLICT DO UPDATE} statements, so a save costs one round-trip per table
+ * and batch instead of a select-before-insert per row. Must run inside the caller's transaction.
+ */
+@Component
+@Profile("!in-memory")
+class ExpenseGroupBatchWriter {
+
+    private static final String INSERT_GROUP = """
+            INSERT INTO expense_groups (id, name, created_by, activated, version)
+            VALUES (?, ?, ?, ?, 0)
+            ON CONFLICT (id) DO NOTHING
+            """;
+
+    private static final String UPDATE_GROUP_IF_VERSION = """
+            UPDATE expense_groups SET activated = ?, version = version + 1
+            WHERE id = ? AND version = ?
+            """;
+
+    private static final String UPSERT_PARTICIPANT = """
+            INSERT INTO expense_group_participants (group_id, participant_id, email, balance_amount)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (group_id, participant_id) DO UPDATE SET balance_amount = EXCLUDED.balance_amount
+            """;
+
+    private static final String UPSERT_ACTIVITY = """
+            INSERT INTO expense_activities (id, group_id, description, amount, paid_by_participant_id, split_evenly,
+                split_type, split_members, split_shares)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE SET description = EXCLUDED.description,
+                amount = EXCLUDED.amount,
+                paid_by_participant_id = EXCLUDED.paid_by_participant_id,
+                split_evenly = EXCLUDED.split_evenly,
+                split_type = EXCLUDED.split_type,
+                split_members = EXCLUDED.split_members,
+                split_shares = EXCLUDED.split_shares
+            """;
+
+    private static final String APPLY_BALANCE_DELTA = """
+            UPDATE expense_group_participants SET balance_amount = balance_amount + ?
+            WHERE group_id = ? AND participant_id = ?
+            """;
+
+    private static final String DELETE_PARTICIPANTS =
+            "DELETE FROM expense_group_participants WHERE group_id = ? AND participant_id = ANY(?)";
+
+    private static final String DELETE_ACTIVITIES =
+            "DELETE FROM expense_activities WHERE group_id = ? AND id = ANY(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    ExpenseGroupBatchWriter(JdbcTemplate jdbcTemplate, PersistenceProperties persistenceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = persistenceProperties.batchSize();
+    }
+
+    /**
+     * Inserts a new group row at version 0.
+     *
+     * @return false if a row with this id already exists
+     * @throws org.springframework.dao.DuplicateKeyException if another group already has the name
+     */
+    boolean insertGroup(ExpenseGroupEntity group) {
+        return jdbcTemplate.update(INSERT_GROUP, group.getId(), group.getName(), group.getCreatedBy(),
+                group.isActivated()) == 1;
+    }
+
+    /**
+     * Writes the activation flag and bumps the version, but only if the stored version is still
+     * {@code expectedVersion}.
+     *
+     * @return false if another writer changed the group since {@code expectedVersion} was read
+     */
+    boolean updateGroupIfVersion(UUID groupId, boolean activated, long expectedVersion) {
+        return jdbcTemplate.update(UPDATE_GROUP_IF_VERSION, activated, groupId, expectedVersion) == 1;
+    }
+
+    void upsertParticipants(Collection<ParticipantEntity> participants) {
+        if (participants.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_PARTICIPANT, participants, batchSize, (ps, p) -> {
+            ps.setObject(1, p.getGroupId());
+            ps.setObject(2, p.getParticipantId());
+            ps.setString(3, p.getEmail());
+            ps.setBigDecimal(4, p.getBalanceAmount());
+        });
+    }
+
+    /**
+     * Adds each delta to the stored balance in place rather than overwriting it, so the write does
+     * not depend on the caller having read the latest balance.
+     */
+    void applyBalanceDeltas(UUID groupId, Map<UUID, BigDecimal> deltasByParticipant) {
+        if (deltasByParticipant.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPLY_BALANCE_DELTA, deltasByParticipant.entrySet(), batchSize, (ps, delta) -> {
+            ps.setBigDecimal(1, delta.getValue());
+            ps.setObject(2, groupId);
+            ps.setObject(3, delta.getKey());
+        });
+    }
+
+    void upsertActivities(Collection<ExpenseActivityEntity> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_ACTIVITY, activities, batchSize, (ps, a) -> {
+            ps.setObject(1, a.getId());
+            ps.setObject(2, a.getGroupId());
+            ps.setString(3, a.getDescription());
+            ps.setBigDecimal(4, a.getAmount());
+            ps.setObject(5, a.getPaidByParticipantId());
+            ps.setBoolean(6, a.isSplitEvenly());
+            ps.setString(7, a.getSplitType());
+            ps.setArray(8, ps.getConnection().createArrayOf("uuid", a.getSplitMembers()));
+            ps.setArray(9, ps.getConnection().createArrayOf("bigint", boxed(a.getSplitShares())));
+        });
+    }
+
+    void deleteParticipants(UUID groupId, Collection<UUID> participantIds) {
+        deleteByIds(DELETE_PARTICIPANTS, groupId, participantIds);
+    }
+
+    void deleteActivities(UUID groupId, Collection<UUID> activityIds) {
+        deleteByIds(DELETE_ACTIVITIES, groupId, activityIds);
+    }
+
+    private static Long[] boxed(long[] values) {
+        Long[] boxed = new Long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+
+    private void deleteByIds(String sql, UUID groupId, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(sql);
+            ps.setObject(1, groupId);
+            ps.setArray(2, con.createArrayOf("uuid", ids.toArray()));
+            return ps;
+        });
+    }
+}
@@ -0,0 +1,156 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseActivityEntity;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseGroupEntity;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ParticipantEntity;
+import io.github.sardul3.expense.config.PersistenceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Set-based read path for reconstituting expense groups. Participants and activities for a whole
+ * set of group ids are fetched with {@code WHERE group_id = ANY(?)}, one query per table and chunk,
+ * instead of two queries per group; a single group and its participants are read with one join.
+ */
+@Component
+@Profile("!in-memory")
+class ExpenseGroupBulkLoader {
+
+    private static final String SELECT_PARTICIPANTS = """
+            SELECT group_id, participant_id, email, balance_amount
+            FROM expense_group_participants
+            WHERE group_id = ANY(?)
+            ORDER BY group_id, join_seq
+            """;
+
+    private static final String SELECT_ACTIVITIES = """
+            SELECT id, group_id, description, amount, paid_by_participant_id, split_evenly,
+                split_type, split_members, split_shares
+            FROM expense_activities
+            WHERE group_id = ANY(?)
+            ORDER BY group_id, amount DESC
+            """;
+
+    private static final String SELECT_GROUP_WITH_PARTICIPANTS = """
+            SELECT g.id, g.name, g.created_by, g.activated, g.version,
+                p.participant_id, p.email, p.balance_amount
+            FROM expense_groups g
+            LEFT JOIN expense_group_participants p ON p.group_id = g.id
+            WHERE g.id = ?
+            ORDER BY p.join_seq
+            """;
+
+    private static final RowMapper<ParticipantEntity> PARTICIPANT_ROW = (rs, rowNum) -> new ParticipantEntity(
+            rs.getObject("group_id", UUID.class),
+            rs.getObject("participant_id", UUID.class),
+            rs.getString("email"),
+            rs.getBigDecimal("balance_amount"));
+
+    private static final RowMapper<ExpenseActivityEntity> ACTIVITY_ROW = (rs, rowNum) -> new ExpenseActivityEntity(
+            rs.getObject("id", UUID.class),
+            rs.getObject("group_id", UUID.class),
+            rs.getString("description"),
+            rs.getBigDecimal("amount"),
+            rs.getObject("paid_by_participant_id", UUID.class),
+            rs.getBoolean("split_evenly"),
+            rs.getString("split_type"),
+            uuids(rs.getArray("split_members")),
+            longs(rs.getArray("split_shares")));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    ExpenseGroupBulkLoader(JdbcTemplate jdbcTemplate, PersistenceProperties persistenceProperties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = persistenceProperties.batchSize();
+    }
+
+    /** Participant rows per group id, each list in join order. Groups without rows are absent. */
+    Map<UUID, List<ParticipantEntity>> participantsByGroup(List<UUID> groupIds) {
+        return loadByGroup(SELECT_PARTICIPANTS, groupIds, PARTICIPANT_ROW, ParticipantEntity::getGroupId);
+    }
+
+    /** Activity rows per group id, each list ordered by amount descending. Groups without rows are absent. */
+    Map<UUID, List<ExpenseActivityEntity>> activitiesByGroup(List<UUID> groupIds) {
+        return loadByGroup(SELECT_ACTIVITIES, groupIds, ACTIVITY_ROW, ExpenseActivityEntity::getGroupId);
+    }
+
+    /**
+     * Reads one group row and its participants, in join order, with a single statement. Both then
+     * come from the same snapshot even outside a transaction, whereas two selects could straddle a
+     * committing save and pair the group row with another version's participants.
+     */
+    Optional<CachedExpenseGroup> groupWithParticipants(UUID groupId) {
+        ResultSetExtractor<Optional<CachedExpenseGroup>> extractor = rs -> {
+            ExpenseGroupEntity group = null;
+            List<ParticipantEntity> participants = new ArrayList<>();
+            while (rs.next()) {
+                if (group == null) {
+                    group = ExpenseGroupEntity.builder()
+                            .id(groupId)
+                            .name(rs.getString("name"))
+                            .createdBy(rs.getString("created_by"))
+                            .activated(rs.getBoolean("activated"))
+                            .build();
+                    group.setVersion(rs.getLong("version"));
+                }
+                UUID participantId = rs.getObject("participant_id", UUID.class);
+                if (participantId != null) {
+                    participants.add(new ParticipantEntity(groupId, participantId, rs.getString("email"),
+                            rs.getBigDecimal("balance_amount")));
+                }
+            }
+            return group == null ? Optional.empty() : Optional.of(new CachedExpenseGroup(group, participants, null));
+        };
+        return jdbcTemplate.query(SELECT_GROUP_WITH_PARTICIPANTS, extractor, groupId);
+    }
+
+    private <T> Map<UUID, List<T>> loadByGroup(String sql, List<UUID> groupIds, RowMapper<T> rowMapper,
+                                               Function<T, UUID> groupIdOf) {
+        Map<UUID, List<T>> byGroup = new HashMap<>();
+        for (int from = 0; from < groupIds.size(); from += chunkSize) {
+            List<UUID> chunk = groupIds.subList(from, Math.min(from + chunkSize, groupIds.size()));
+            List<T> rows = jdbcTemplate.query(con -> {
+                var ps = con.prepareStatement(sql);
+                Array ids = con.createArrayOf("uuid", chunk.toArray());
+                ps.setArray(1, ids);
+                return ps;
+            }, rowMapper);
+            for (T row : rows) {
+                byGroup.computeIfAbsent(groupIdOf.apply(row), id -> new ArrayList<>()).add(row);
+            }
+        }
+        return byGroup;
+    }
+
+    private static UUID[] uuids(Array array) throws SQLException {
+        Object[] values = (Object[]) array.getArray();
+        UUID[] uuids = new UUID[values.length];
+        for (int i = 0; i < values.length; i++) {
+            uuids[i] = (UUID) values[i];
+        }
+        return uuids;
+    }
+
+    private static long[] longs(Array array) throws SQLException {
+        Object[] values = (Object[]) array.getArray();
+        long[] longs = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            longs[i] = ((Number) values[i]).longValue();
+        }
+        return longs;
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.github.sardul3.expense.config.GroupCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded cache of stored expense group rows used by {@link PostgresExpenseGroupRepository}.
+ * Eviction is Caffeine's W-TinyLFU, weighted by the number of cached rows so one large group
+ * counts as much as many small ones. Saves write through once their transaction commits, and an
+ * entry is only ever replaced by one at the same or a newer version.
+ * <p>
+ * Hit, miss and eviction counts are published as {@code cache.*} metrics tagged
+ * {@code cache=expense-groups} when a meter registry is present. When
+ * {@code app.cache.expense-groups.enabled} is false every lookup misses and nothing is stored.
+ */
+@Component
+@Profile("!in-memory")
+public class ExpenseGroupCache {
+
+    static final String NAME = "expense-groups";
+
+    private final Cache<UUID, CachedExpenseGroup> cache;
+
+    public ExpenseGroupCache(GroupCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        if (!properties.enabled()) {
+            this.cache = null;
+            return;
+        }
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumWeight())
+                .weigher((UUID id, CachedExpenseGroup group) -> group.weight())
+                .expireAfterWrite(properties.expireAfterWrite())
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, cache, NAME));
+    }
+
+    /** Drops the cached rows of one group, e.g. after it was changed outside this instance. */
+    public void invalidate(UUID groupId) {
+        if (cache != null) {
+            cache.invalidate(groupId);
+        }
+    }
+
+    /** Drops every cached group. */
+    public void invalidateAll() {
+        if (cache != null) {
+            cache.invalidateAll();
+        }
+    }
+
+    /** Hit, miss and eviction counters since startup; empty when the cache is disabled. */
+    public CacheStats stats() {
+        return cache != null ? cache.stats() : CacheStats.empty();
+    }
+
+    Optional<CachedExpenseGroup> get(UUID groupId) {
+        return cache != null ? Optional.ofNullable(cache.getIfPresent(groupId)) : Optional.empty();
+    }
+
+    /** Stores rows read from the database; a newer version already cached is kept. */
+    void put(CachedExpenseGroup group) {
+        if (cache != null) {
+            cache.asMap().merge(group.id(), group,
+                    (current, offered) -> offered.version() >= current.version() ? offered : current);
+        }
+    }
+
+    /** Stores rows being written, once (and only if) the surrounding transaction commits. */
+    void putAfterCommit(CachedExpenseGroup group) {
+        if (cache == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(group);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(group);
+            }
+        });
+    }
+}
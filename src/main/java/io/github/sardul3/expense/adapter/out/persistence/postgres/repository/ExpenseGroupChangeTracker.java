@@ -0,0 +1,29 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * Remembers the persisted state of every aggregate instance handed out by (or saved through)
+ * the repository, so that save can write only what changed since load.
+ * <p>
+ * Entries are keyed by aggregate instance (ExpenseGroup uses identity equality) and held weakly,
+ * so they disappear once the request that loaded the aggregate lets go of it.
+ */
+class ExpenseGroupChangeTracker {
+
+    private final Map<ExpenseGroup, PersistedGroupState> states =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    void track(ExpenseGroup expenseGroup, PersistedGroupState state) {
+        states.put(expenseGroup, state);
+    }
+
+    Optional<PersistedGroupState> stateOf(ExpenseGroup expenseGroup) {
+        return Optional.ofNullable(states.get(expenseGroup));
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a group's history: the insertion sequence number of the last activity a client has
+ * seen. Clients only ever see it as an opaque URL-safe token.
+ *
+ * @param seq sequence number of the last activity returned; unique and increasing in insertion order
+ */
+record HistoryCursor(long seq) {
+
+    String encode() {
+        byte[] raw = Long.toString(seq).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    static HistoryCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new HistoryCursor(Long.parseLong(raw));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid history cursor", e);
+        }
+    }
+}
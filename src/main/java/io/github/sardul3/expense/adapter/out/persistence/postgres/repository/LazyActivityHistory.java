@@ -0,0 +1,80 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Activity list handed to a reconstituted {@code ExpenseGroup} in place of its full history.
+ * Stored activities are fetched on the first read ({@code get}, {@code size}, iteration), while
+ * appends are buffered without touching storage, so adding an expense costs the same regardless
+ * of how many activities the group already has. The buffered appends are what the repository
+ * writes on the next save. Like the aggregate that owns it, this list is not thread-safe.
+ */
+final class LazyActivityHistory extends AbstractList<ExpenseActivity> {
+
+    private final Supplier<List<ExpenseActivity>> loader;
+    private final List<ExpenseActivity> unsaved = new ArrayList<>();
+    private List<ExpenseActivity> loaded;
+
+    LazyActivityHistory(Supplier<List<ExpenseActivity>> loader) {
+        this.loader = loader;
+    }
+
+    @Override
+    public ExpenseActivity get(int index) {
+        return history().get(index);
+    }
+
+    @Override
+    public int size() {
+        return history().size();
+    }
+
+    @Override
+    public boolean add(ExpenseActivity activity) {
+        unsaved.add(activity);
+        if (loaded != null) {
+            loaded.add(activity);
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Activities have identity equality, so a stored activity can only be present if the caller
+     * already read the history; until then only the buffered appends need checking.
+     */
+    @Override
+    public boolean contains(Object o) {
+        return loaded != null ? loaded.contains(o) : unsaved.contains(o);
+    }
+
+    /** Activities appended since the last save, in append order. */
+    List<ExpenseActivity> unsaved() {
+        return List.copyOf(unsaved);
+    }
+
+    /** Whether the stored activities have been fetched. */
+    boolean isLoaded() {
+        return loaded != null;
+    }
+
+    /** Marks the buffered appends as written. */
+    void markSaved() {
+        unsaved.clear();
+    }
+
+    private List<ExpenseActivity> history() {
+        if (loaded == null) {
+            List<ExpenseActivity> stored = loader.get();
+            loaded = new ArrayList<>(stored.size() + unsaved.size());
+            loaded.addAll(stored);
+            loaded.addAll(unsaved);
+        }
+        return loaded;
+    }
+}
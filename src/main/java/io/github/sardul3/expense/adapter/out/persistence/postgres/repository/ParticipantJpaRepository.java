@@ -11,7 +11,8 @@ import java.util.UUID;
 @Repository
 public interface ParticipantJpaRepository extends JpaRepository<ParticipantEntity, GroupParticipantId> {
 
-    List<ParticipantEntity> findByGroupIdOrderByEmail(UUID groupId);
+    /** Participants in the order they joined the group, which is the aggregate's order. */
+    List<ParticipantEntity> findByGroupIdOrderByJoinSeq(UUID groupId);
 
     void deleteByGroupId(UUID groupId);
 }
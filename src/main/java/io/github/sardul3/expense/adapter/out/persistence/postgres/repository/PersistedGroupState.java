@@ -0,0 +1,36 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * What is currently stored for one expense group: the activation flag, each participant's
+ * persisted balance and the ids of persisted activities. Used as the baseline when computing
+ * the delta to write on save. Groups loaded with a lazy history carry that history instead of
+ * activity ids; its unsaved appends are the activity delta.
+ *
+ * @param activated           persisted activation flag
+ * @param version             persisted version; a save must still find it to succeed
+ * @param participantBalances participant id to persisted balance
+ * @param activityIds         ids of persisted activities; empty when {@code history} is set
+ * @param history             lazily loaded activity list handed to the aggregate, or null
+ */
+record PersistedGroupState(
+        boolean activated,
+        long version,
+        Map<UUID, BigDecimal> participantBalances,
+        Set<UUID> activityIds,
+        LazyActivityHistory history
+) {
+    PersistedGroupState(boolean activated, long version, Map<UUID, BigDecimal> participantBalances,
+                        Set<UUID> activityIds) {
+        this(activated, version, participantBalances, activityIds, null);
+    }
+
+    PersistedGroupState {
+        participantBalances = Map.copyOf(participantBalances);
+        activityIds = Set.copyOf(activityIds);
+    }
+}
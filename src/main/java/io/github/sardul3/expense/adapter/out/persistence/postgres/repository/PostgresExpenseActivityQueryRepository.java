@@ -3,27 +3,49 @@ package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
 import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
 import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseActivityEntity;
 import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
 import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
 import io.github.sardul3.expense.application.port.out.ExpenseActivityQueryRepository;
+import io.github.sardul3.expense.config.PersistenceProperties;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 @SecondaryAdapter
 @Component
+@Profile("!in-memory")
 public class PostgresExpenseActivityQueryRepository implements ExpenseActivityQueryRepository {
 
+    private static final String STREAM_BY_GROUP = """
+            SELECT id, description, amount, paid_by_participant_id, split_evenly, split_type, split_members, split_shares
+            FROM expense_activities
+            WHERE group_id = ?
+            ORDER BY seq DESC
+            """;
+
     private final ExpenseActivityJpaRepository expenseActivityJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int streamFetchSize;
 
-    public PostgresExpenseActivityQueryRepository(ExpenseActivityJpaRepository expenseActivityJpaRepository) {
+    public PostgresExpenseActivityQueryRepository(ExpenseActivityJpaRepository expenseActivityJpaRepository,
+                                                  JdbcTemplate jdbcTemplate,
+                                                  PersistenceProperties persistenceProperties) {
         this.expenseActivityJpaRepository = expenseActivityJpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamFetchSize = persistenceProperties.streamFetchSize();
     }
 
     @Override
     public ExpenseHistoryPageResponse findByGroupId(UUID groupId, int page, int size) {
         var pageable = PageRequest.of(page, size);
-        var springPage = expenseActivityJpaRepository.findByGroupId(groupId, pageable);
+        var springPage = expenseActivityJpaRepository.findByGroupIdOrderBySeqDesc(groupId, pageable);
         var content = springPage.getContent().stream()
                 .map(this::toActivityView)
                 .toList();
@@ -36,13 +58,67 @@ public class PostgresExpenseActivityQueryRepository implements ExpenseActivityQu
         );
     }
 
+    /**
+     * Keyset pagination over the insertion sequence: fetches one row more than requested to learn
+     * whether another page exists, and never runs OFFSET or COUNT unless a total is asked for.
+     */
+    @Override
+    public ExpenseHistoryCursorPageResponse findByGroupIdAfter(UUID groupId, String cursor, int size,
+                                                               boolean includeTotal) {
+        List<ExpenseActivityEntity> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = expenseActivityJpaRepository.findNewestByGroupId(groupId, size + 1);
+        } else {
+            HistoryCursor position = HistoryCursor.decode(cursor);
+            rows = expenseActivityJpaRepository.findByGroupIdBefore(groupId, position.seq(), size + 1);
+        }
+        boolean hasMore = rows.size() > size;
+        List<ExpenseActivityEntity> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ExpenseActivityEntity last = page.get(page.size() - 1);
+            nextCursor = new HistoryCursor(last.getSeq()).encode();
+        }
+        Long total = includeTotal ? expenseActivityJpaRepository.countByGroupId(groupId) : null;
+        return new ExpenseHistoryCursorPageResponse(page.stream().map(this::toActivityView).toList(), nextCursor, size, total);
+    }
+
+    /**
+     * Reads rows straight into views rather than through JPA, which would keep every entity in
+     * the persistence context. The PostgreSQL driver only uses a server-side cursor (and honours
+     * the fetch size) inside a transaction, hence the read-only transaction around the scan.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByGroupId(UUID groupId, Consumer<ActivityView> action) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement(STREAM_BY_GROUP);
+            ps.setFetchSize(streamFetchSize);
+            ps.setObject(1, groupId);
+            return ps;
+        }, rs -> {
+            action.accept(new ActivityView(
+                    rs.getObject("id", UUID.class),
+                    rs.getString("description"),
+                    rs.getBigDecimal("amount"),
+                    rs.getObject("paid_by_participant_id", UUID.class),
+                    rs.getBoolean("split_evenly"),
+                    rs.getString("split_type"),
+                    List.of((UUID[]) rs.getArray("split_members").getArray()),
+                    List.of((Long[]) rs.getArray("split_shares").getArray())));
+        });
+    }
+
     private ActivityView toActivityView(ExpenseActivityEntity e) {
         return new ActivityView(
                 e.getId(),
                 e.getDescription(),
                 e.getAmount(),
                 e.getPaidByParticipantId(),
-                e.isSplitEvenly()
+                e.isSplitEvenly(),
+                e.getSplitType(),
+                List.of(e.getSplitMembers()),
+                Arrays.stream(e.getSplitShares()).boxed().toList()
         );
     }
 }
@@ -4,36 +4,61 @@ import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
 import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseActivityEntity;
 import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ExpenseGroupEntity;
 import io.github.sardul3.expense.adapter.out.persistence.postgres.entity.ParticipantEntity;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.outbox.OutboxWriter;
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.exception.ExpenseGroupAlreadyExistsException;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
 import io.github.sardul3.expense.domain.model.ExpenseActivity;
 import io.github.sardul3.expense.domain.model.ExpenseGroup;
 import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.ExpenseActivityId;
 import io.github.sardul3.expense.domain.valueobject.ExpenseGroupId;
 import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
 import io.github.sardul3.expense.domain.valueobject.Money;
 import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @SecondaryAdapter
 @Component
+@Profile("!in-memory")
 public class PostgresExpenseGroupRepository implements ExpenseGroupRepository {
 
     private final ExpenseGroupJpaRepository expenseGroupJpaRepository;
-    private final ParticipantJpaRepository participantJpaRepository;
     private final ExpenseActivityJpaRepository expenseActivityJpaRepository;
+    private final ExpenseGroupBatchWriter batchWriter;
+    private final ExpenseGroupBulkLoader bulkLoader;
+    private final ExpenseGroupCache cache;
+    private final OutboxWriter outboxWriter;
+    private final ExpenseGroupChangeTracker changeTracker = new ExpenseGroupChangeTracker();
 
     public PostgresExpenseGroupRepository(ExpenseGroupJpaRepository expenseGroupJpaRepository,
-                                          ParticipantJpaRepository participantJpaRepository,
-                                          ExpenseActivityJpaRepository expenseActivityJpaRepository) {
+                                          ExpenseActivityJpaRepository expenseActivityJpaRepository,
+                                          ExpenseGroupBatchWriter batchWriter,
+                                          ExpenseGroupBulkLoader bulkLoader,
+                                          ExpenseGroupCache cache,
+                                          OutboxWriter outboxWriter) {
         this.expenseGroupJpaRepository = expenseGroupJpaRepository;
-        this.participantJpaRepository = participantJpaRepository;
         this.expenseActivityJpaRepository = expenseActivityJpaRepository;
+        this.batchWriter = batchWriter;
+        this.bulkLoader = bulkLoader;
+        this.cache = cache;
+        this.outboxWriter = outboxWriter;
     }
 
     @Override
@@ -41,88 +66,324 @@ public class PostgresExpenseGroupRepository implements ExpenseGroupRepository {
         return expenseGroupJpaRepository.existsByName(groupName.getName());
     }
 
+    /**
+     * Writes only the delta between the aggregate and what was persisted when it was loaded:
+     * new participants and activities are inserted, changed balances are applied as in-place
+     * increments and removed rows are deleted. An aggregate the repository has not handed out or
+     * saved is a new group; if its row already exists the save is rejected rather than adopting the
+     * stored version, so a detached or stale copy cannot overwrite newer changes. Groups loaded by {@link #findById} append their new
+     * activities without reading the stored history, so the cost of a save does not grow with it.
+     * <p>
+     * Every save bumps {@code expense_groups.version}, guarded by the version the aggregate was
+     * loaded at, before anything else is written. The written rows replace the cached ones once
+     * the transaction commits; a version conflict evicts the group so the retry reads fresh rows.
+     * <p>
+     * The aggregate's pending events are pulled and appended to the outbox in the same
+     * transaction, after the version check, so a rejected or rolled-back save never leaves events
+     * behind; the relay is woken to dispatch them once the transaction commits.
+     *
+     * @throws ConcurrentGroupUpdateException if the group changed since it was loaded, or an instance
+     *                                        this repository did not load names a stored group
+     * @throws ExpenseGroupAlreadyExistsException if a new group's name is taken by another group
+     */
     @Override
     @Transactional
     public ExpenseGroup save(ExpenseGroup expenseGroup) {
-        ExpenseGroupEntity expenseGroupEntity =
-                ExpenseGroupEntity.builder()
-                        .id(expenseGroup.getId().getId())
-                        .activated(expenseGroup.isActivated())
-                        .name(expenseGroup.getGroupName().getName())
-                        .createdBy(expenseGroup.getGroupCreator().getEmail())
-                        .build();
-        expenseGroupJpaRepository.save(expenseGroupEntity);
-
-        participantJpaRepository.deleteByGroupId(expenseGroup.getId().getId());
-        for (Participant p : expenseGroup.getParticipants()) {
-            ParticipantEntity pe = new ParticipantEntity(
-                    expenseGroup.getId().getId(),
-                    p.getParticipantId().getId(),
-                    p.getEmail(),
-                    p.getBalance()
-            );
-            participantJpaRepository.save(pe);
+        UUID groupId = expenseGroup.getId().getId();
+        Optional<PersistedGroupState> stored = changeTracker.stateOf(expenseGroup);
+
+        PersistedGroupState persisted = stored.orElseGet(() -> new PersistedGroupState(false, 0L, Map.of(), Set.of()));
+        long version;
+        try {
+            version = writeGroupRow(expenseGroup, stored);
+        } catch (ConcurrentGroupUpdateException e) {
+            cache.invalidate(groupId);
+            throw e;
         }
-        expenseActivityJpaRepository.deleteByGroupId(expenseGroup.getId().getId());
-        for (ExpenseActivity a : expenseGroup.getActivities()) {
-            ExpenseActivityEntity ae = new ExpenseActivityEntity(
-                    UUID.randomUUID(),
-                    expenseGroup.getId().getId(),
-                    a.getDescription(),
-                    a.getAmount().getAmount(),
-                    a.getPaidBy().getParticipantId().getId(),
-                    a.getSplit().isSplitEvenlyForAllMembers()
-            );
-            expenseActivityJpaRepository.save(ae);
+        List<Participant> participants = expenseGroup.getParticipants();
+        saveParticipantDelta(groupId, participants, persisted.participantBalances());
+
+        LazyActivityHistory history = persisted.history();
+        if (history != null) {
+            batchWriter.upsertActivities(toEntities(groupId, history.unsaved()));
+            history.markSaved();
+            changeTracker.track(expenseGroup, new PersistedGroupState(
+                    expenseGroup.isActivated(), version, balancesOf(participants), Set.of(), history));
+            cache.putAfterCommit(snapshotOf(expenseGroup, version,
+                    history.isLoaded() ? toEntities(groupId, history) : null));
+        } else {
+            List<ExpenseActivity> activities = expenseGroup.getActivities();
+            saveActivityDelta(groupId, activities, persisted.activityIds());
+            changeTracker.track(expenseGroup, stateOf(expenseGroup.isActivated(), version, participants, activities));
+            cache.putAfterCommit(snapshotOf(expenseGroup, version, toEntities(groupId, activities)));
         }
+        outboxWriter.append(groupId, expenseGroup.pullEvents());
         return expenseGroup;
     }
 
+    /**
+     * Reconstitutes all groups with a constant number of queries per chunk of groups
+     * (see {@link ExpenseGroupBulkLoader}) rather than two queries per group.
+     */
     @Override
     public List<ExpenseGroup> findAll() {
-        return expenseGroupJpaRepository.findAll()
-                .stream()
-                .map(this::toDomain)
-                .toList();
+        return toDomain(expenseGroupJpaRepository.findAll());
+    }
+
+    /** Primary-key probe; answered from the cache when the group is cached. */
+    @Override
+    public boolean existsById(UUID id) {
+        return cache.get(id).isPresent() || expenseGroupJpaRepository.existsById(id);
     }
 
+    /**
+     * Serves the group from {@link ExpenseGroupCache} when possible; each hit is a new aggregate
+     * built from the cached rows. On a miss only the group and its participants are loaded, with
+     * one statement so the rows belong to a single committed version; the cache keeps them only
+     * if no newer version was cached meanwhile. The activity history is fetched the first time
+     * the aggregate's activities are read, which command handlers that just append never do.
+     */
     @Override
     public Optional<ExpenseGroup> findById(UUID id) {
-        return expenseGroupJpaRepository.findById(id)
-                .map(this::toDomain);
+        Optional<CachedExpenseGroup> cached = cache.get(id);
+        if (cached.isPresent()) {
+            return Optional.of(fromCache(cached.get()));
+        }
+        return bulkLoader.groupWithParticipants(id)
+                .map(loaded -> {
+                    cache.put(loaded);
+                    return toDomainWithLazyHistory(loaded.group(), loaded.participants());
+                });
+    }
+
+    /**
+     * Inserts the group row for a new group, or bumps the version of an existing one. A new group's
+     * name is checked by the unique index on {@code expense_groups.name} as part of the insert, so
+     * two creates racing for one name cannot both succeed and no separate lookup is needed.
+     *
+     * @return the version now stored
+     */
+    private long writeGroupRow(ExpenseGroup expenseGroup, Optional<PersistedGroupState> stored) {
+        UUID groupId = expenseGroup.getId().getId();
+        if (stored.isEmpty()) {
+            ExpenseGroupEntity expenseGroupEntity =
+                    ExpenseGroupEntity.builder()
+                            .id(groupId)
+                            .activated(expenseGroup.isActivated())
+                            .name(expenseGroup.getGroupName().getName())
+                            .createdBy(expenseGroup.getGroupCreator().getEmail())
+                            .build();
+            boolean inserted;
+            try {
+                inserted = batchWriter.insertGroup(expenseGroupEntity);
+            } catch (DuplicateKeyException e) {
+                // an id clash is absorbed by the insert, so the name index is the only one left to reject it
+                throw new ExpenseGroupAlreadyExistsException(
+                        "Expense group with name " + expenseGroupEntity.getName() + " already exists");
+            }
+            if (!inserted) {
+                throw new ConcurrentGroupUpdateException("Expense group " + groupId
+                        + " already exists; only an instance loaded from the repository can change it");
+            }
+            return 0L;
+        }
+        long expectedVersion = stored.get().version();
+        if (!batchWriter.updateGroupIfVersion(groupId, expenseGroup.isActivated(), expectedVersion)) {
+            throw new ConcurrentGroupUpdateException("Expense group " + groupId + " was modified concurrently");
+        }
+        return expectedVersion + 1;
+    }
+
+    private void saveParticipantDelta(UUID groupId, List<Participant> participants,
+                                      Map<UUID, BigDecimal> persistedBalances) {
+        Set<UUID> current = new HashSet<>();
+        List<ParticipantEntity> inserts = new ArrayList<>();
+        Map<UUID, BigDecimal> balanceDeltas = new HashMap<>();
+        for (Participant p : participants) {
+            UUID participantId = p.getParticipantId().getId();
+            current.add(participantId);
+            BigDecimal persistedBalance = persistedBalances.get(participantId);
+            if (persistedBalance == null) {
+                inserts.add(new ParticipantEntity(groupId, participantId, p.getEmail(), p.getBalance()));
+            } else if (persistedBalance.compareTo(p.getBalance()) != 0) {
+                balanceDeltas.put(participantId, p.getBalance().subtract(persistedBalance));
+            }
+        }
+        batchWriter.upsertParticipants(inserts);
+        batchWriter.applyBalanceDeltas(groupId, balanceDeltas);
+
+        List<UUID> removed = persistedBalances.keySet().stream()
+                .filter(id -> !current.contains(id))
+                .toList();
+        batchWriter.deleteParticipants(groupId, removed);
+    }
+
+    private void saveActivityDelta(UUID groupId, List<ExpenseActivity> activities, Set<UUID> persistedIds) {
+        Set<UUID> current = new HashSet<>();
+        List<ExpenseActivity> inserts = new ArrayList<>();
+        for (ExpenseActivity a : activities) {
+            UUID activityId = a.getId().getId();
+            current.add(activityId);
+            if (!persistedIds.contains(activityId)) {
+                inserts.add(a);
+            }
+        }
+        batchWriter.upsertActivities(toEntities(groupId, inserts));
+
+        List<UUID> removed = persistedIds.stream()
+                .filter(id -> !current.contains(id))
+                .toList();
+        batchWriter.deleteActivities(groupId, removed);
+    }
+
+    private static List<ExpenseActivityEntity> toEntities(UUID groupId, List<ExpenseActivity> activities) {
+        List<ExpenseActivityEntity> entities = new ArrayList<>(activities.size());
+        for (ExpenseActivity a : activities) {
+            ExpenseSplit split = a.getSplit();
+            entities.add(new ExpenseActivityEntity(
+                    a.getId().getId(),
+                    groupId,
+                    a.getDescription(),
+                    a.getAmount().getAmount(),
+                    a.getPaidBy().getParticipantId().getId(),
+                    split.isSplitEvenlyForAllMembers(),
+                    split.getType().name(),
+                    split.getSplitMembers().stream().map(ParticipantId::getId).toArray(UUID[]::new),
+                    split.getShares()
+            ));
+        }
+        return entities;
+    }
+
+    private static PersistedGroupState stateOf(boolean activated, long version, List<Participant> participants,
+                                               List<ExpenseActivity> activities) {
+        Set<UUID> activityIds = new HashSet<>();
+        for (ExpenseActivity a : activities) {
+            activityIds.add(a.getId().getId());
+        }
+        return new PersistedGroupState(activated, version, balancesOf(participants), activityIds);
     }
 
-    private ExpenseGroup toDomain(ExpenseGroupEntity entity) {
-        ExpenseGroupId id = ExpenseGroupId.from(entity.getId());
-        GroupName groupName = GroupName.withName(entity.getName());
-        List<ParticipantEntity> participantEntities = participantJpaRepository.findByGroupIdOrderByEmail(entity.getId());
+    private static CachedExpenseGroup snapshotOf(ExpenseGroup expenseGroup, long version,
+                                                 List<ExpenseActivityEntity> activities) {
+        UUID groupId = expenseGroup.getId().getId();
+        ExpenseGroupEntity group = ExpenseGroupEntity.builder()
+                .id(groupId)
+                .name(expenseGroup.getGroupName().getName())
+                .createdBy(expenseGroup.getGroupCreator().getEmail())
+                .activated(expenseGroup.isActivated())
+                .build();
+        group.setVersion(version);
+        // aggregate order is join order, the order participant rows are read back in on a miss
+        List<ParticipantEntity> participants = expenseGroup.getParticipants().stream()
+                .map(p -> new ParticipantEntity(groupId, p.getParticipantId().getId(), p.getEmail(), p.getBalance()))
+                .toList();
+        return new CachedExpenseGroup(group, participants, activities);
+    }
+
+    private ExpenseGroup fromCache(CachedExpenseGroup cached) {
+        if (cached.activities() == null) {
+            return toDomainWithLazyHistory(cached.group(), cached.participants());
+        }
+        return toDomain(cached.group(), cached.participants(), cached.activities());
+    }
+
+    private static Map<UUID, BigDecimal> balancesOf(List<Participant> participants) {
+        Map<UUID, BigDecimal> balances = new HashMap<>();
+        for (Participant p : participants) {
+            balances.put(p.getParticipantId().getId(), p.getBalance());
+        }
+        return balances;
+    }
+
+    private List<ExpenseGroup> toDomain(List<ExpenseGroupEntity> entities) {
+        List<UUID> groupIds = entities.stream().map(ExpenseGroupEntity::getId).toList();
+        Map<UUID, List<ParticipantEntity>> participantsByGroup = bulkLoader.participantsByGroup(groupIds);
+        Map<UUID, List<ExpenseActivityEntity>> activitiesByGroup = bulkLoader.activitiesByGroup(groupIds);
+        return entities.stream()
+                .map(entity -> toDomain(entity,
+                        participantsByGroup.getOrDefault(entity.getId(), List.of()),
+                        activitiesByGroup.getOrDefault(entity.getId(), List.of())))
+                .toList();
+    }
+
+    private ExpenseGroup toDomain(ExpenseGroupEntity entity, List<ParticipantEntity> participantEntities,
+                                  List<ExpenseActivityEntity> activityEntities) {
+        if (participantEntities.isEmpty()) {
+            return toDomainWithoutParticipants(entity);
+        }
+        List<Participant> participants = toParticipants(participantEntities);
+        Map<UUID, Participant> participantsById = indexById(participants);
+        List<ExpenseActivity> activities = activityEntities.stream()
+                .map(ae -> toActivity(ae, participantsById))
+                .toList();
+        ExpenseGroup expenseGroup = ExpenseGroup.reconstitute(ExpenseGroupId.from(entity.getId()),
+                GroupName.withName(entity.getName()), entity.getCreatedBy(), participants, entity.isActivated(), activities);
+        changeTracker.track(expenseGroup, stateOf(entity.isActivated(), entity.getVersion(), participants, activities));
+        return expenseGroup;
+    }
+
+    private ExpenseGroup toDomainWithLazyHistory(ExpenseGroupEntity entity, List<ParticipantEntity> participantEntities) {
         if (participantEntities.isEmpty()) {
-            Participant creator = Participant.withEmail(entity.getCreatedBy());
-            return ExpenseGroup.reconstitute(id, groupName, creator, entity.isActivated());
+            return toDomainWithoutParticipants(entity);
         }
-        List<Participant> participants = participantEntities.stream()
+        UUID groupId = entity.getId();
+        List<Participant> participants = toParticipants(participantEntities);
+        Map<UUID, Participant> participantsById = indexById(participants);
+        LazyActivityHistory history = new LazyActivityHistory(() ->
+                expenseActivityJpaRepository.findByGroupIdOrderByAmountDesc(groupId).stream()
+                        .map(ae -> toActivity(ae, participantsById))
+                        .toList());
+        ExpenseGroup expenseGroup = ExpenseGroup.reconstituteWithActivityHistory(ExpenseGroupId.from(groupId),
+                GroupName.withName(entity.getName()), entity.getCreatedBy(), participants, entity.isActivated(), history);
+        changeTracker.track(expenseGroup, new PersistedGroupState(
+                entity.isActivated(), entity.getVersion(), balancesOf(participants), Set.of(), history));
+        return expenseGroup;
+    }
+
+    private ExpenseGroup toDomainWithoutParticipants(ExpenseGroupEntity entity) {
+        Participant creator = Participant.withEmail(entity.getCreatedBy());
+        ExpenseGroup expenseGroup = ExpenseGroup.reconstitute(ExpenseGroupId.from(entity.getId()),
+                GroupName.withName(entity.getName()), creator, entity.isActivated());
+        changeTracker.track(expenseGroup, stateOf(entity.isActivated(), entity.getVersion(), List.of(), List.of()));
+        return expenseGroup;
+    }
+
+    private static List<Participant> toParticipants(List<ParticipantEntity> participantEntities) {
+        return participantEntities.stream()
                 .map(pe -> Participant.reconstitute(
                         ParticipantId.from(pe.getParticipantId()),
                         pe.getEmail(),
                         Money.fromBalance(pe.getBalanceAmount())))
                 .toList();
-        List<ExpenseActivityEntity> activityEntities = expenseActivityJpaRepository.findByGroupIdOrderByAmountDesc(entity.getId());
-        List<ExpenseActivity> activities = activityEntities.stream()
-                .map(ae -> toActivity(ae, participants))
-                .toList();
-        return ExpenseGroup.reconstitute(id, groupName, entity.getCreatedBy(), participants, entity.isActivated(), activities);
     }
 
-    private ExpenseActivity toActivity(ExpenseActivityEntity ae, List<Participant> participants) {
-        Participant paidBy = participants.stream()
-                .filter(p -> p.getParticipantId().getId().equals(ae.getPaidByParticipantId()))
-                .findFirst()
+    private static Map<UUID, Participant> indexById(List<Participant> participants) {
+        return participants.stream()
+                .collect(Collectors.toMap(p -> p.getParticipantId().getId(), p -> p));
+    }
+
+    private ExpenseActivity toActivity(ExpenseActivityEntity ae, Map<UUID, Participant> participantsById) {
+        Participant paidBy = Optional.ofNullable(participantsById.get(ae.getPaidByParticipantId()))
                 .orElseThrow(() -> new IllegalStateException("Activity references unknown participant: " + ae.getPaidByParticipantId()));
-        return ExpenseActivity.from(
+        return ExpenseActivity.reconstitute(
+                ExpenseActivityId.from(ae.getId()),
                 ae.getDescription(),
                 Money.of(ae.getAmount()),
                 paidBy,
-                new ExpenseSplit(ae.isSplitEvenly())
+                splitOf(ae)
         );
     }
+
+    /** Rebuilds the exact split from the {@code split_*} columns, members in their stored order. */
+    private static ExpenseSplit splitOf(ExpenseActivityEntity ae) {
+        UUID[] members = ae.getSplitMembers();
+        long[] shares = ae.getSplitShares();
+        ExpenseSplit.Type type = ExpenseSplit.Type.valueOf(ae.getSplitType());
+        if (type != ExpenseSplit.Type.EVEN && shares.length != members.length) {
+            throw new IllegalStateException("Activity " + ae.getId() + " has " + members.length
+                    + " split members but " + shares.length + " shares");
+        }
+        return ExpenseSplit.of(type, ae.isSplitEvenly(), Arrays.stream(members).map(ParticipantId::from).toList(), shares);
+    }
 }
@@ -0,0 +1,52 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres.repository;
+
+import io.github.sardul3.expense.adapter.common.SecondaryAdapter;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryView;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupSummaryQueryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads group summaries straight from expense_groups, walking the primary-key index with a
+ * keyset predicate so every page costs the same regardless of how deep it is.
+ */
+@SecondaryAdapter
+@Component
+@Profile("!in-memory")
+public class PostgresExpenseGroupSummaryQueryRepository implements ExpenseGroupSummaryQueryRepository {
+
+    private static final String SELECT_SUMMARY = """
+            SELECT g.id, g.name, g.activated,
+                   (SELECT count(*) FROM expense_group_participants p WHERE p.group_id = g.id) AS participant_count
+            FROM expense_groups g
+            """;
+
+    private static final String FIRST_PAGE = SELECT_SUMMARY + " ORDER BY g.id LIMIT ?";
+
+    private static final String NEXT_PAGE = SELECT_SUMMARY + " WHERE g.id > ? ORDER BY g.id LIMIT ?";
+
+    private static final RowMapper<ExpenseGroupSummaryView> SUMMARY_ROW = (rs, rowNum) -> new ExpenseGroupSummaryView(
+            rs.getObject("id", UUID.class),
+            rs.getString("name"),
+            rs.getBoolean("activated"),
+            rs.getLong("participant_count"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostgresExpenseGroupSummaryQueryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<ExpenseGroupSummaryView> findPage(UUID afterId, int limit) {
+        if (afterId == null) {
+            return jdbcTemplate.query(FIRST_PAGE, SUMMARY_ROW, limit);
+        }
+        return jdbcTemplate.query(NEXT_PAGE, SUMMARY_ROW, afterId, limit);
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.sardul3.expense.adapter.out.persistence.stream;
+
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.ActivityAdded;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.GroupActivated;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.GroupCreated;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.ParticipantJoined;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.SettlementRecorded;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.ExpenseActivityId;
+import io.github.sardul3.expense.domain.valueobject.ExpenseGroupId;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compact binary encoding for stream commits and snapshots. Ids are written as two longs and
+ * amounts as cents, so a snapshot costs a few dozen bytes per participant and activity. Every
+ * payload starts with a format byte so the layout can evolve without rewriting old rows or files.
+ */
+public final class GroupStreamCodec {
+
+    private static final byte FORMAT = 1;
+
+    private static final byte GROUP_CREATED = 1;
+    private static final byte PARTICIPANT_JOINED = 2;
+    private static final byte GROUP_ACTIVATED = 3;
+    private static final byte ACTIVITY_ADDED = 4;
+    private static final byte SETTLEMENT_RECORDED = 5;
+
+    private static final ExpenseSplit.Type[] SPLIT_TYPES = ExpenseSplit.Type.values();
+
+    private GroupStreamCodec() {
+    }
+
+    public static byte[] encodeCommit(List<GroupStreamEvent> events) {
+        return write(out -> {
+            out.writeInt(events.size());
+            for (GroupStreamEvent event : events) {
+                writeEvent(out, event);
+            }
+        });
+    }
+
+    public static List<GroupStreamEvent> decodeCommit(byte[] payload) {
+        return read(payload, in -> {
+            int count = in.readInt();
+            List<GroupStreamEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                events.add(readEvent(in));
+            }
+            return events;
+        });
+    }
+
+    public static byte[] encodeSnapshot(ExpenseGroup group) {
+        return write(out -> writeGroup(out, group));
+    }
+
+    public static ExpenseGroup decodeSnapshot(byte[] payload) {
+        return read(payload, GroupStreamCodec::readGroup);
+    }
+
+    private static void writeEvent(DataOutputStream out, GroupStreamEvent event) throws IOException {
+        switch (event) {
+            case GroupCreated created -> {
+                out.writeByte(GROUP_CREATED);
+                writeGroup(out, created.initialState());
+            }
+            case ParticipantJoined joined -> {
+                out.writeByte(PARTICIPANT_JOINED);
+                writeUuid(out, joined.participantId());
+                out.writeUTF(joined.email());
+            }
+            case GroupActivated ignored -> out.writeByte(GROUP_ACTIVATED);
+            case ActivityAdded added -> {
+                out.writeByte(ACTIVITY_ADDED);
+                writeUuid(out, added.activityId());
+                out.writeUTF(added.description());
+                out.writeLong(added.amountCents());
+                writeUuid(out, added.paidBy());
+                writeSplit(out, added.split());
+            }
+            case SettlementRecorded settled -> {
+                out.writeByte(SETTLEMENT_RECORDED);
+                writeUuid(out, settled.fromParticipantId());
+                writeUuid(out, settled.toParticipantId());
+                out.writeLong(settled.amountCents());
+            }
+        }
+    }
+
+    private static GroupStreamEvent readEvent(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case GROUP_CREATED -> new GroupCreated(readGroup(in));
+            case PARTICIPANT_JOINED -> new ParticipantJoined(readUuid(in), in.readUTF());
+            case GROUP_ACTIVATED -> new GroupActivated();
+            case ACTIVITY_ADDED -> new ActivityAdded(readUuid(in), in.readUTF(), in.readLong(), readUuid(in), readSplit(in));
+            case SETTLEMENT_RECORDED -> new SettlementRecorded(readUuid(in), readUuid(in), in.readLong());
+            default -> throw new IllegalArgumentException("Unknown stream event tag " + tag);
+        };
+    }
+
+    private static void writeGroup(DataOutputStream out, ExpenseGroup group) throws IOException {
+        writeUuid(out, group.getId().getId());
+        out.writeUTF(group.getGroupName().getName());
+        out.writeUTF(group.getGroupCreator().getEmail());
+        out.writeBoolean(group.isActivated());
+        List<Participant> participants = group.getParticipants();
+        out.writeInt(participants.size());
+        for (Participant participant : participants) {
+            writeUuid(out, participant.getParticipantId().getId());
+            out.writeUTF(participant.getEmail());
+            out.writeLong(Money.fromBalance(participant.getBalance()).getCents());
+        }
+        List<ExpenseActivity> activities = group.getActivities();
+        out.writeInt(activities.size());
+        for (ExpenseActivity activity : activities) {
+            writeUuid(out, activity.getId().getId());
+            out.writeUTF(activity.getDescription());
+            out.writeLong(activity.getAmount().getCents());
+            writeUuid(out, activity.getPaidBy().getParticipantId().getId());
+            writeSplit(out, activity.getSplit());
+        }
+    }
+
+    private static ExpenseGroup readGroup(DataInputStream in) throws IOException {
+        ExpenseGroupId id = ExpenseGroupId.from(readUuid(in));
+        GroupName name = GroupName.withName(in.readUTF());
+        String creatorEmail = in.readUTF();
+        boolean activated = in.readBoolean();
+        int participantCount = in.readInt();
+        List<Participant> participants = new ArrayList<>(participantCount);
+        Map<UUID, Participant> participantsById = new HashMap<>(participantCount * 2);
+        for (int i = 0; i < participantCount; i++) {
+            UUID participantId = readUuid(in);
+            Participant participant = Participant.reconstitute(
+                    ParticipantId.from(participantId), in.readUTF(), Money.ofCents(in.readLong()));
+            participants.add(participant);
+            participantsById.put(participantId, participant);
+        }
+        int activityCount = in.readInt();
+        List<ExpenseActivity> activities = new ArrayList<>(activityCount);
+        for (int i = 0; i < activityCount; i++) {
+            ExpenseActivityId activityId = ExpenseActivityId.from(readUuid(in));
+            String description = in.readUTF();
+            Money amount = Money.ofCents(in.readLong());
+            Participant paidBy = participantsById.get(readUuid(in));
+            activities.add(ExpenseActivity.reconstitute(activityId, description, amount, paidBy, readSplit(in)));
+        }
+        return ExpenseGroup.reconstitute(id, name, creatorEmail, participants, activated, activities);
+    }
+
+    private static void writeSplit(DataOutputStream out, ExpenseSplit split) throws IOException {
+        out.writeByte(split.getType().ordinal());
+        out.writeBoolean(split.isSplitEvenlyForAllMembers());
+        List<ParticipantId> members = split.getSplitMembers();
+        out.writeInt(members.size());
+        for (ParticipantId member : members) {
+            writeUuid(out, member.getId());
+        }
+        switch (split.getType()) {
+            case WEIGHTED, PERCENTAGE -> {
+                for (long weight : split.getWeights()) {
+                    out.writeLong(weight);
+                }
+            }
+            case FIXED -> {
+                for (Money amount : split.getFixedAmounts()) {
+                    out.writeLong(amount.getCents());
+                }
+            }
+            case EVEN -> {
+            }
+        }
+    }
+
+    private static ExpenseSplit readSplit(DataInputStream in) throws IOException {
+        ExpenseSplit.Type type = SPLIT_TYPES[in.readByte()];
+        boolean evenlyForAll = in.readBoolean();
+        int memberCount = in.readInt();
+        List<ParticipantId> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(ParticipantId.from(readUuid(in)));
+        }
+        return switch (type) {
+            case EVEN -> evenlyForAll ? new ExpenseSplit(true) : ExpenseSplit.customSplit(members);
+            case WEIGHTED -> {
+                Map<ParticipantId, Long> weights = new LinkedHashMap<>();
+                for (ParticipantId member : members) {
+                    weights.put(member, in.readLong());
+                }
+                yield ExpenseSplit.weighted(weights);
+            }
+            case PERCENTAGE -> {
+                Map<ParticipantId, BigDecimal> percentages = new LinkedHashMap<>();
+                for (ParticipantId member : members) {
+                    percentages.put(member, BigDecimal.valueOf(in.readLong(), 2));
+                }
+                yield ExpenseSplit.byPercentage(percentages);
+            }
+            case FIXED -> {
+                Map<ParticipantId, Money> amounts = new LinkedHashMap<>();
+                for (ParticipantId member : members) {
+                    amounts.put(member, Money.ofCents(in.readLong()));
+                }
+                yield ExpenseSplit.fixedAmounts(amounts);
+            }
+        };
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static byte[] write(Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT);
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static <T> T read(byte[] payload, Reader<T> reader) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte format = in.readByte();
+            if (format != FORMAT) {
+                throw new IllegalArgumentException("Unsupported stream payload format " + format);
+            }
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+}
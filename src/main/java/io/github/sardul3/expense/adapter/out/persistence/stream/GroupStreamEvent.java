@@ -0,0 +1,128 @@
+package io.github.sardul3.expense.adapter.out.persistence.stream;
+
+import io.github.sardul3.expense.domain.event.DomainEvent;
+import io.github.sardul3.expense.domain.event.ExpenseAddedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupActivatedEvent;
+import io.github.sardul3.expense.domain.event.ParticipantAddedEvent;
+import io.github.sardul3.expense.domain.event.SettlementCompletedEvent;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.ExpenseActivityId;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One entry in a group's event stream. Unlike the published domain events these carry everything
+ * needed to rebuild the aggregate, and replay goes through the aggregate's own methods so balances
+ * are recomputed by the same code that produced them.
+ */
+public sealed interface GroupStreamEvent {
+
+    /**
+     * Applies the event during replay.
+     *
+     * @param group state so far; {@code null} only before {@link GroupCreated}
+     * @return the state after the event
+     */
+    ExpenseGroup applyTo(ExpenseGroup group);
+
+    /**
+     * Turns the domain events of one save into stream events, in the order they were raised.
+     * Activities are taken from the aggregate, since {@link ExpenseAddedEvent} does not carry the
+     * split.
+     *
+     * @param group           the aggregate being saved
+     * @param knownActivities number of activities the group held when it was loaded
+     * @param domainEvents    events the aggregate recorded since it was loaded
+     */
+    static List<GroupStreamEvent> fromDomainEvents(ExpenseGroup group, int knownActivities,
+                                                   List<DomainEvent> domainEvents) {
+        List<ExpenseActivity> activities = group.getActivities();
+        int nextActivity = knownActivities;
+        List<GroupStreamEvent> events = new ArrayList<>(domainEvents.size());
+        for (DomainEvent event : domainEvents) {
+            if (event instanceof ParticipantAddedEvent added) {
+                events.add(new ParticipantJoined(added.participantId(), added.email()));
+            } else if (event instanceof ExpenseGroupActivatedEvent) {
+                events.add(new GroupActivated());
+            } else if (event instanceof ExpenseAddedEvent) {
+                events.add(ActivityAdded.of(activities.get(nextActivity++)));
+            } else if (event instanceof SettlementCompletedEvent settled) {
+                events.add(new SettlementRecorded(settled.fromParticipantId(), settled.toParticipantId(),
+                        Money.of(settled.amount()).getCents()));
+            } else {
+                throw new IllegalArgumentException("Cannot store event " + event.getClass().getSimpleName());
+            }
+        }
+        if (nextActivity != activities.size()) {
+            throw new IllegalStateException("Expense group " + group.getId().getId()
+                    + " has activities without a matching event");
+        }
+        return events;
+    }
+
+    /** First event of every stream; carries the group as it was first saved. */
+    record GroupCreated(ExpenseGroup initialState) implements GroupStreamEvent {
+        @Override
+        public ExpenseGroup applyTo(ExpenseGroup group) {
+            if (group != null) {
+                throw new IllegalStateException("Stream already created for group " + group.getId().getId());
+            }
+            return initialState;
+        }
+    }
+
+    record ParticipantJoined(UUID participantId, String email) implements GroupStreamEvent {
+        @Override
+        public ExpenseGroup applyTo(ExpenseGroup group) {
+            group.addParticipant(Participant.reconstitute(ParticipantId.from(participantId), email, Money.withZeroBalance()));
+            return group;
+        }
+    }
+
+    record GroupActivated() implements GroupStreamEvent {
+        @Override
+        public ExpenseGroup applyTo(ExpenseGroup group) {
+            group.activate();
+            return group;
+        }
+    }
+
+    record ActivityAdded(UUID activityId, String description, long amountCents, UUID paidBy, ExpenseSplit split)
+            implements GroupStreamEvent {
+
+        public static ActivityAdded of(ExpenseActivity activity) {
+            return new ActivityAdded(
+                    activity.getId().getId(),
+                    activity.getDescription(),
+                    activity.getAmount().getCents(),
+                    activity.getPaidBy().getParticipantId().getId(),
+                    activity.getSplit());
+        }
+
+        @Override
+        public ExpenseGroup applyTo(ExpenseGroup group) {
+            Participant payer = group.getParticipantById(ParticipantId.from(paidBy))
+                    .orElseThrow(() -> new IllegalStateException("Payer " + paidBy + " not in group " + group.getId().getId()));
+            group.addActivity(ExpenseActivity.reconstitute(
+                    ExpenseActivityId.from(activityId), description, Money.ofCents(amountCents), payer, split));
+            return group;
+        }
+    }
+
+    record SettlementRecorded(UUID fromParticipantId, UUID toParticipantId, long amountCents) implements GroupStreamEvent {
+        @Override
+        public ExpenseGroup applyTo(ExpenseGroup group) {
+            group.settle(Settlement.of(
+                    ParticipantId.from(fromParticipantId), ParticipantId.from(toParticipantId), Money.ofCents(amountCents)));
+            return group;
+        }
+    }
+}
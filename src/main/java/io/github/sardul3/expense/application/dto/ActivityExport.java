@@ -0,0 +1,14 @@
+package io.github.sardul3.expense.application.dto;
+
+import java.util.function.Consumer;
+
+/**
+ * A group's activity history that has not been read yet. Rows are pushed to the action one at
+ * a time while the underlying cursor is open, so nothing is buffered beyond the current row.
+ */
+@FunctionalInterface
+public interface ActivityExport {
+
+    /** Reads the history, newest first, calling {@code action} once per activity. */
+    void forEach(Consumer<ActivityView> action);
+}
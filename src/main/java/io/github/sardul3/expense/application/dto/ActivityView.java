@@ -1,6 +1,7 @@
 package io.github.sardul3.expense.application.dto;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,12 +12,28 @@ import java.util.UUID;
  * @param amount               amount
  * @param paidByParticipantId  participant who paid
  * @param splitEvenly          whether split was even for all members
+ * @param splitType            how the amount is shared: {@code EVEN}, {@code WEIGHTED}, {@code PERCENTAGE} or {@code FIXED}
+ * @param splitMembers         members of the split in allocation order; empty for an even split across all members
+ * @param splitShares          shares aligned with {@code splitMembers}: weights, basis points or cents; empty for {@code EVEN}
  */
 public record ActivityView(
         UUID id,
         String description,
         BigDecimal amount,
         UUID paidByParticipantId,
-        boolean splitEvenly
+        boolean splitEvenly,
+        String splitType,
+        List<UUID> splitMembers,
+        List<Long> splitShares
 ) {
+
+    public ActivityView {
+        splitMembers = splitMembers == null ? List.of() : List.copyOf(splitMembers);
+        splitShares = splitShares == null ? List.of() : List.copyOf(splitShares);
+    }
+
+    /** View of an even split, across all members when {@code splitEvenly} is set. */
+    public ActivityView(UUID id, String description, BigDecimal amount, UUID paidByParticipantId, boolean splitEvenly) {
+        this(id, description, amount, paidByParticipantId, splitEvenly, "EVEN", List.of(), List.of());
+    }
 }
@@ -0,0 +1,7 @@
+package io.github.sardul3.expense.application.dto;
+
+/**
+ * Result of rebuilding the group balance read model: how many groups it now holds.
+ */
+public record BalanceReadModelRebuildResponse(int groups) {
+}
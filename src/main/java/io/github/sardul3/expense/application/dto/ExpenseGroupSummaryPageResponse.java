@@ -0,0 +1,17 @@
+package io.github.sardul3.expense.application.dto;
+
+import java.util.List;
+
+/**
+ * Cursor-paginated response for expense group listings.
+ *
+ * @param content    group summaries on this page, ordered by group id
+ * @param nextCursor opaque cursor for the next page; null when this is the last page
+ * @param size       requested page size
+ */
+public record ExpenseGroupSummaryPageResponse(
+        List<ExpenseGroupSummaryView> content,
+        String nextCursor,
+        int size
+) {
+}
@@ -0,0 +1,20 @@
+package io.github.sardul3.expense.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Lightweight summary of an expense group for listings; read straight from storage without
+ * reconstituting the aggregate.
+ *
+ * @param id               group id
+ * @param name             group name
+ * @param activated        whether the group has been activated
+ * @param participantCount number of participants in the group
+ */
+public record ExpenseGroupSummaryView(
+        UUID id,
+        String name,
+        boolean activated,
+        long participantCount
+) {
+}
@@ -0,0 +1,19 @@
+package io.github.sardul3.expense.application.dto;
+
+import java.util.List;
+
+/**
+ * Cursor-paginated response for expense history, newest first.
+ *
+ * @param content       list of activities for this page
+ * @param nextCursor    opaque cursor for the next (older) page, or null when this is the last page
+ * @param size          requested page size
+ * @param totalElements total number of activities in the group; null unless requested
+ */
+public record ExpenseHistoryCursorPageResponse(
+        List<ActivityView> content,
+        String nextCursor,
+        int size,
+        Long totalElements
+) {
+}
@@ -0,0 +1,28 @@
+package io.github.sardul3.expense.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Result of importing one expense record.
+ *
+ * @param index      zero-based position of the record in the import
+ * @param groupId    group the record targeted; null if it named none
+ * @param created    whether the expense was recorded
+ * @param activityId id of the recorded activity; null if rejected
+ * @param error      reason the record was rejected; null if created
+ */
+public record ExpenseImportOutcome(
+        int index,
+        UUID groupId,
+        boolean created,
+        UUID activityId,
+        String error
+) {
+    public static ExpenseImportOutcome created(int index, UUID groupId, UUID activityId) {
+        return new ExpenseImportOutcome(index, groupId, true, activityId, null);
+    }
+
+    public static ExpenseImportOutcome rejected(int index, UUID groupId, String error) {
+        return new ExpenseImportOutcome(index, groupId, false, null, error);
+    }
+}
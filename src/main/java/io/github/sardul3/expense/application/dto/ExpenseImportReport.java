@@ -0,0 +1,23 @@
+package io.github.sardul3.expense.application.dto;
+
+import java.util.List;
+
+/**
+ * Per-record report for a bulk expense import.
+ *
+ * @param received number of records read
+ * @param created  number of expenses recorded
+ * @param rejected number of records rejected
+ * @param outcomes one outcome per record, in input order
+ */
+public record ExpenseImportReport(
+        int received,
+        int created,
+        int rejected,
+        List<ExpenseImportOutcome> outcomes
+) {
+    public static ExpenseImportReport of(List<ExpenseImportOutcome> outcomes) {
+        int created = (int) outcomes.stream().filter(ExpenseImportOutcome::created).count();
+        return new ExpenseImportReport(outcomes.size(), created, outcomes.size() - created, List.copyOf(outcomes));
+    }
+}
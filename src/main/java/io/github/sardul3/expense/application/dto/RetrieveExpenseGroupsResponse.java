@@ -1,6 +0,0 @@
-package io.github.sardul3.expense.application.dto;
-
-public record RetrieveExpenseGroupsResponse(
-        String name
-) {
-}
@@ -0,0 +1,10 @@
+package io.github.sardul3.expense.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Settlement plan for a group: transfers that bring every balance to zero.
+ */
+public record SettlementPlanResponse(UUID groupId, List<SettlementTransferView> transfers) {
+}
@@ -0,0 +1,10 @@
+package io.github.sardul3.expense.application.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * One suggested transfer: the debtor pays the creditor the given amount.
+ */
+public record SettlementTransferView(UUID fromParticipantId, UUID toParticipantId, BigDecimal amount) {
+}
@@ -0,0 +1,11 @@
+package io.github.sardul3.expense.application.exception;
+
+/**
+ * Thrown when an expense group was changed by another request between being loaded and saved.
+ * Use cases retry these; one that surfaces to the API means the retries ran out.
+ */
+public class ConcurrentGroupUpdateException extends BaseAppException {
+    public ConcurrentGroupUpdateException(String message) {
+        super(ErrorCode.CONFLICT, message);
+    }
+}
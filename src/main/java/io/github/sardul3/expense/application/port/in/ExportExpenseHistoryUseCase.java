@@ -0,0 +1,23 @@
+package io.github.sardul3.expense.application.port.in;
+
+import io.github.sardul3.expense.application.common.annotation.InputPort;
+import io.github.sardul3.expense.application.dto.ActivityExport;
+
+import java.util.UUID;
+
+/**
+ * Input port: exports the full expense history of a group.
+ */
+@InputPort(description = "Exports the full expense history of a group")
+public interface ExportExpenseHistoryUseCase {
+
+    /**
+     * Checks that the group exists and returns its history for streaming. The history is read
+     * when the returned export is consumed.
+     *
+     * @param groupId group id
+     * @return the group's activities, read lazily
+     * @throws io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException if group not found
+     */
+    ActivityExport exportHistory(UUID groupId);
+}
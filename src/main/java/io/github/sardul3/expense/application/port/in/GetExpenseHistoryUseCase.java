@@ -1,6 +1,7 @@
 package io.github.sardul3.expense.application.port.in;
 
 import io.github.sardul3.expense.application.common.annotation.InputPort;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
 import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
 
 import java.util.UUID;
@@ -21,4 +22,16 @@ public interface GetExpenseHistoryUseCase {
      * @throws io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException if group not found
      */
     ExpenseHistoryPageResponse getExpenseHistory(UUID groupId, int page, int size);
+
+    /**
+     * Returns the next page of expense activities after the cursor, newest first.
+     *
+     * @param groupId      group id
+     * @param cursor       cursor returned with the previous page, or null for the first page
+     * @param size         page size
+     * @param includeTotal whether to count all activities in the group as well
+     * @return activity page with the cursor for the next one
+     * @throws io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException if group not found
+     */
+    ExpenseHistoryCursorPageResponse getExpenseHistoryAfter(UUID groupId, String cursor, int size, boolean includeTotal);
 }
@@ -0,0 +1,23 @@
+package io.github.sardul3.expense.application.port.in;
+
+import io.github.sardul3.expense.application.common.annotation.InputPort;
+import io.github.sardul3.expense.application.dto.SettlementPlanResponse;
+
+import java.util.UUID;
+
+/**
+ * Input port: suggests the transfers that settle every participant in a group.
+ */
+@InputPort(description = "Returns a minimal settlement plan for a group")
+public interface GetSettlementPlanUseCase {
+
+    /**
+     * Returns a short list of debtor-to-creditor transfers that clears all balances. Nothing is
+     * applied; each transfer can be submitted as a settle-up.
+     *
+     * @param groupId the expense group id
+     * @return group id and suggested transfers
+     * @throws io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException if group not found
+     */
+    SettlementPlanResponse getSettlementPlan(UUID groupId);
+}
@@ -0,0 +1,22 @@
+package io.github.sardul3.expense.application.port.in;
+
+import io.github.sardul3.expense.application.common.annotation.InputPort;
+import io.github.sardul3.expense.application.dto.CreateExpenseActivityCommand;
+import io.github.sardul3.expense.application.dto.ExpenseImportOutcome;
+
+import java.util.List;
+
+/**
+ * Input port: records many expense activities, possibly across many groups, in one call.
+ */
+@InputPort(description = "Imports expense activities in bulk")
+public interface ImportExpenseActivitiesUseCase {
+
+    /**
+     * Applies the commands group by group. A rejected command does not affect the others.
+     *
+     * @param commands expenses to record; each names its group
+     * @return one outcome per command, in input order, with {@code index} as the position in {@code commands}
+     */
+    List<ExpenseImportOutcome> importActivities(List<CreateExpenseActivityCommand> commands);
+}
@@ -0,0 +1,17 @@
+package io.github.sardul3.expense.application.port.in;
+
+import io.github.sardul3.expense.application.common.annotation.InputPort;
+
+/**
+ * Input port: rebuilds the group balance read model from the stored groups.
+ */
+@InputPort(description = "Rebuilds the group balance read model from scratch")
+public interface RebuildBalanceReadModelUseCase {
+
+    /**
+     * Replaces the read model with one derived from the current state of every group.
+     *
+     * @return number of groups in the rebuilt read model
+     */
+    int rebuild();
+}
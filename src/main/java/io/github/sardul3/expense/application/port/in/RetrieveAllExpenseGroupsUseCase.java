@@ -1,15 +1,20 @@
 package io.github.sardul3.expense.application.port.in;
 
 import io.github.sardul3.expense.application.common.annotation.InputPort;
-import io.github.sardul3.expense.application.dto.RetrieveExpenseGroupsResponse;
-
-import java.util.List;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryPageResponse;
 
 /**
- * Input port: retrieves all expense groups (e.g. for listing).
+ * Input port: retrieves expense group summaries page by page (e.g. for listing).
  */
 @InputPort(description = "Handles command to fetch all the expense groups present")
 public interface RetrieveAllExpenseGroupsUseCase {
-    /** Returns all expense groups in the system. */
-    List<RetrieveExpenseGroupsResponse> getAllExpenseGroups();
+
+    /**
+     * Returns one page of expense group summaries.
+     *
+     * @param cursor opaque cursor from the previous page; null or blank for the first page
+     * @param size   page size
+     * @return page of summaries with the cursor for the next page
+     */
+    ExpenseGroupSummaryPageResponse getAllExpenseGroups(String cursor, int size);
 }
@@ -3,6 +3,8 @@ package io.github.sardul3.expense.application.port.out;
 import io.github.sardul3.expense.application.common.annotation.OutputPort;
 import io.github.sardul3.expense.domain.event.DomainEvent;
 
+import java.util.List;
+
 /**
  * Output port: publishes domain events so that handlers can react (e.g. notify members).
  */
@@ -18,4 +20,14 @@ public interface DomainEventPublisher {
      * @param event domain event (must not be null)
      */
     void publish(DomainEvent event);
+
+    /**
+     * Publishes events that were committed together, in order. Implementations that batch may
+     * override this to hand them over in one go.
+     *
+     * @param events domain events (none null)
+     */
+    default void publishAll(List<DomainEvent> events) {
+        events.forEach(this::publish);
+    }
 }
@@ -2,9 +2,11 @@ package io.github.sardul3.expense.application.port.out;
 
 import io.github.sardul3.expense.application.common.annotation.OutputPort;
 import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
 import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
 
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Output port: query expense activities for a group with pagination.
@@ -21,4 +23,26 @@ public interface ExpenseActivityQueryRepository {
      * @return paginated response
      */
     ExpenseHistoryPageResponse findByGroupId(UUID groupId, int page, int size);
+
+    /**
+     * Returns the activities that come after the cursor, newest first, ordered by creation time
+     * and id. Each page costs the same regardless of how deep it is.
+     *
+     * @param groupId      group id
+     * @param cursor       opaque cursor from a previous page, or null for the first page
+     * @param size         page size
+     * @param includeTotal whether to also count all activities in the group
+     * @return the page and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    ExpenseHistoryCursorPageResponse findByGroupIdAfter(UUID groupId, String cursor, int size, boolean includeTotal);
+
+    /**
+     * Streams every activity of the group, newest first, to {@code action}. Rows are read from a
+     * server-side cursor in fixed-size chunks, so memory use does not depend on the history size.
+     *
+     * @param groupId group id
+     * @param action  called once per activity, on the calling thread, while the cursor is open
+     */
+    void forEachByGroupId(UUID groupId, Consumer<ActivityView> action);
 }
@@ -19,12 +19,28 @@ public interface ExpenseGroupRepository {
     /** Returns true if a group with the given name already exists. */
     boolean existsByName(GroupName groupName);
 
-    /** Persists the aggregate; returns the same instance. */
+    /**
+     * Persists the aggregate; returns the same instance. Events the aggregate recorded since it was
+     * loaded are pulled and stored atomically with it, so they are delivered if and only if the
+     * change is, and reach handlers in one batch once the save is durable.
+     *
+     * @throws io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException
+     *         if the group was changed by someone else since this instance was loaded
+     * @throws io.github.sardul3.expense.application.exception.ExpenseGroupAlreadyExistsException
+     *         if the group is new and another group already has its name; checked atomically with
+     *         the write, so callers need no {@link #existsByName} lookup first
+     */
     ExpenseGroup save(ExpenseGroup expenseGroup);
 
     /** Returns all expense groups (reconstituted from storage). */
     List<ExpenseGroup> findAll();
 
+    /**
+     * Returns true if a group with the given id exists, without loading the aggregate. Use this
+     * where a use case only needs to validate the group id.
+     */
+    boolean existsById(UUID id);
+
     /** Returns the expense group with the given id if present. */
     Optional<ExpenseGroup> findById(UUID id);
 }
@@ -0,0 +1,23 @@
+package io.github.sardul3.expense.application.port.out;
+
+import io.github.sardul3.expense.application.common.annotation.OutputPort;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryView;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port: read-only group summaries for listings, paginated with keyset (cursor) semantics.
+ */
+@OutputPort(description = "Query expense group summaries with keyset pagination", role = OutputPort.Role.PERSISTENCE)
+public interface ExpenseGroupSummaryQueryRepository {
+
+    /**
+     * Returns up to {@code limit} group summaries ordered by id, strictly after {@code afterId}.
+     *
+     * @param afterId id of the last group on the previous page; null for the first page
+     * @param limit   maximum number of summaries to return
+     * @return summaries ordered by id
+     */
+    List<ExpenseGroupSummaryView> findPage(UUID afterId, int limit);
+}
@@ -0,0 +1,33 @@
+package io.github.sardul3.expense.application.port.out;
+
+import io.github.sardul3.expense.application.common.annotation.OutputPort;
+import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port: group details and participant balances kept as a read model, updated from the
+ * domain events the write side records rather than by loading the aggregate.
+ */
+@OutputPort(description = "Read model of group details and participant balances", role = OutputPort.Role.PERSISTENCE)
+public interface GroupBalanceReadModel {
+
+    /**
+     * Returns the group as the read model currently holds it.
+     *
+     * @param groupId the expense group id
+     * @return the group's details and balances; empty if the read model does not know the group or
+     *         has not yet applied every committed change to it
+     */
+    Optional<ExpenseGroupDetailResponse> findByGroupId(UUID groupId);
+
+    /**
+     * Discards the read model and rebuilds it from the stored state of every group. The groups are
+     * copied a chunk at a time; writes are held back only while a chunk is copied, so no change is
+     * lost or counted twice and the store keeps taking writes between chunks.
+     *
+     * @return number of groups in the rebuilt read model
+     */
+    int rebuild();
+}
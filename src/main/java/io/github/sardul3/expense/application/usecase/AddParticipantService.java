@@ -3,13 +3,9 @@ package io.github.sardul3.expense.application.usecase;
 import io.github.sardul3.expense.application.common.annotation.UseCase;
 import io.github.sardul3.expense.application.dto.AddParticipantCommand;
 import io.github.sardul3.expense.application.dto.AddParticipantResponse;
-import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.exception.ParticipantAlreadyInGroupException;
 import io.github.sardul3.expense.application.port.in.AddParticipantUseCase;
-import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
-import io.github.sardul3.expense.domain.event.ParticipantAddedEvent;
-import io.github.sardul3.expense.domain.model.ExpenseGroup;
 import io.github.sardul3.expense.domain.model.Participant;
 
 import java.util.Objects;
@@ -21,13 +17,14 @@ import java.util.UUID;
 @UseCase(description = "Adds a participant to an expense group by email", inputPort = AddParticipantUseCase.class)
 public class AddParticipantService implements AddParticipantUseCase {
 
-    private final ExpenseGroupRepository expenseGroupRepository;
-    private final DomainEventPublisher domainEventPublisher;
+    private final GroupCommandExecutor commandExecutor;
 
-    public AddParticipantService(ExpenseGroupRepository expenseGroupRepository,
-                                DomainEventPublisher domainEventPublisher) {
-        this.expenseGroupRepository = expenseGroupRepository;
-        this.domainEventPublisher = domainEventPublisher;
+    public AddParticipantService(ExpenseGroupRepository expenseGroupRepository) {
+        this(new DirectGroupCommandExecutor(expenseGroupRepository, ConflictRetryPolicy.defaults()));
+    }
+
+    public AddParticipantService(GroupCommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
     }
 
     @Override
@@ -37,23 +34,15 @@ public class AddParticipantService implements AddParticipantUseCase {
         }
         Objects.requireNonNull(command, "AddParticipantCommand cannot be null");
 
-        ExpenseGroup group = expenseGroupRepository.findById(groupId)
-                .orElseThrow(() -> new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
-
-        boolean alreadyMember = group.getParticipants().stream()
-                .anyMatch(p -> p.getEmail().equalsIgnoreCase(command.email()));
-        if (alreadyMember) {
-            throw new ParticipantAlreadyInGroupException("Participant with email " + command.email() + " is already in the group");
-        }
-
-        Participant newParticipant = Participant.withEmail(command.email());
-        group.addParticipant(newParticipant);
-        expenseGroupRepository.save(group);
+        Participant newParticipant = commandExecutor.execute(groupId, group -> {
+            if (group.getParticipantByEmail(command.email()).isPresent()) {
+                throw new ParticipantAlreadyInGroupException("Participant with email " + command.email() + " is already in the group");
+            }
 
-        domainEventPublisher.publish(new ParticipantAddedEvent(
-                groupId,
-                newParticipant.getParticipantId().getId(),
-                newParticipant.getEmail()));
+            Participant participant = Participant.withEmail(command.email());
+            group.addParticipant(participant);
+            return participant;
+        });
 
         return new AddParticipantResponse(newParticipant.getParticipantId().getId(), newParticipant.getEmail());
     }
@@ -0,0 +1,70 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Re-runs a load-modify-save block when its save loses a race with another writer
+ * ({@link ConcurrentGroupUpdateException}). Between attempts it sleeps a random time up to an
+ * exponentially growing ceiling, so competing writers spread out instead of colliding again.
+ * The last conflict is rethrown once the attempts run out.
+ * <p>
+ * The block must reload the aggregate on every attempt; retrying a save of the same stale
+ * instance can never succeed.
+ */
+public final class ConflictRetryPolicy {
+
+    private static final ConflictRetryPolicy DEFAULT =
+            new ConflictRetryPolicy(5, Duration.ofMillis(10), Duration.ofMillis(200));
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    public ConflictRetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1");
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Backoff must be non-negative and maxBackoff >= initialBackoff");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+    }
+
+    /** Five attempts, backing off from 10ms up to 200ms. */
+    public static ConflictRetryPolicy defaults() {
+        return DEFAULT;
+    }
+
+    public <T> T execute(Supplier<T> attempt) {
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.get();
+            } catch (ConcurrentGroupUpdateException conflict) {
+                if (attemptNumber >= maxAttempts) {
+                    throw conflict;
+                }
+                backOff(attemptNumber, conflict);
+            }
+        }
+    }
+
+    private void backOff(int attemptNumber, ConcurrentGroupUpdateException conflict) {
+        long ceiling = Math.min(maxBackoffNanos, initialBackoffNanos << Math.min(attemptNumber - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
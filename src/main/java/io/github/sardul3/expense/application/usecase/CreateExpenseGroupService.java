@@ -11,7 +11,8 @@ import io.github.sardul3.expense.domain.model.Participant;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
 
 /**
- * Use case: creates a new expense group. Ensures name uniqueness and persists via the repository.
+ * Use case: creates a new expense group. Name uniqueness is enforced by the repository as part of
+ * the save, so a create is one write and concurrent creates with the same name cannot both succeed.
  */
 @UseCase(description = "Creates a new expense group in the system", inputPort = CreateExpenseGroupUseCase.class)
 public class CreateExpenseGroupService implements CreateExpenseGroupUseCase {
@@ -22,14 +23,13 @@ public class CreateExpenseGroupService implements CreateExpenseGroupUseCase {
         this.expenseGroupRepository = expenseGroupRepository;
     }
 
+    /**
+     * @throws ExpenseGroupAlreadyExistsException if a group with the name already exists
+     */
     @Override
     public CreateExpenseGroupResponse createExpenseGroup(CreateExpenseGroupCommand command) {
         GroupName groupName = GroupName.withName(command.getName());
 
-        if (expenseGroupRepository.existsByName(groupName)) {
-            throw new ExpenseGroupAlreadyExistsException("Expense group with name " + groupName.getName() + " already exists");
-        }
-
         Participant creator = Participant.withEmail(command.getCreatedBy());
         ExpenseGroup group = ExpenseGroup.from(groupName, creator);
         expenseGroupRepository.save(group);
@@ -0,0 +1,34 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Runs each command on the calling thread with its own load/apply/save cycle. Concurrent commands
+ * for one group race at the database and the loser is retried by the {@link ConflictRetryPolicy}.
+ */
+public class DirectGroupCommandExecutor implements GroupCommandExecutor {
+
+    private final ExpenseGroupRepository expenseGroupRepository;
+    private final ConflictRetryPolicy retryPolicy;
+
+    public DirectGroupCommandExecutor(ExpenseGroupRepository expenseGroupRepository, ConflictRetryPolicy retryPolicy) {
+        this.expenseGroupRepository = expenseGroupRepository;
+        this.retryPolicy = retryPolicy;
+    }
+
+    @Override
+    public <R> R execute(UUID groupId, Function<ExpenseGroup, R> command) {
+        return retryPolicy.execute(() -> {
+            ExpenseGroup group = expenseGroupRepository.findById(groupId)
+                    .orElseThrow(() -> new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
+            R result = command.apply(group);
+            expenseGroupRepository.save(group);
+            return result;
+        });
+    }
+}
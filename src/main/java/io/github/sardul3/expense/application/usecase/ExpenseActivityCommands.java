@@ -0,0 +1,52 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.dto.CreateExpenseActivityCommand;
+import io.github.sardul3.expense.application.exception.ParticipantNotFoundInGroupException;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+
+import java.util.List;
+
+/**
+ * Applies a {@link CreateExpenseActivityCommand} to a loaded group. Shared by the single and
+ * bulk expense use cases so both validate and split the same way.
+ */
+final class ExpenseActivityCommands {
+
+    private ExpenseActivityCommands() {
+    }
+
+    /**
+     * Validates the command against the group, then records the activity. Throws before
+     * touching the group if the command is rejected.
+     *
+     * @return the recorded activity
+     */
+    static ExpenseActivity addTo(ExpenseGroup expenseGroup, CreateExpenseActivityCommand command) {
+        var paidBy = expenseGroup.getParticipantById(ParticipantId.from(command.paidBy()))
+                .orElseThrow(() -> new ParticipantNotFoundInGroupException("Participant not found"));
+
+        ExpenseActivity activity;
+        if (command.splitWith() != null && !command.splitWith().isEmpty()) {
+            List<ParticipantId> customSplit = command.splitWith().stream()
+                    .map(ParticipantId::from)
+                    .toList();
+            for (ParticipantId splitId : customSplit) {
+                if (expenseGroup.getParticipantById(splitId).isEmpty()) {
+                    throw new IllegalArgumentException(
+                            "Split participant " + splitId.getId() + " is not a member of the group");
+                }
+            }
+            ExpenseSplit split = ExpenseSplit.customSplitWithPayerIncluded(customSplit, paidBy.getParticipantId());
+            activity = ExpenseActivity.from(command.description(), Money.of(command.amount()), paidBy, split);
+        } else {
+            activity = ExpenseActivity.from(command.description(), Money.of(command.amount()), paidBy);
+        }
+
+        expenseGroup.addActivity(activity);
+        return activity;
+    }
+}
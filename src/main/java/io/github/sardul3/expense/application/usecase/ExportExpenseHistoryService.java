@@ -0,0 +1,38 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.common.annotation.UseCase;
+import io.github.sardul3.expense.application.dto.ActivityExport;
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.in.ExportExpenseHistoryUseCase;
+import io.github.sardul3.expense.application.port.out.ExpenseActivityQueryRepository;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+
+import java.util.UUID;
+
+/**
+ * Use case: exports a group's full expense history as a stream of activity views.
+ */
+@UseCase(description = "Exports the full expense history of a group", inputPort = ExportExpenseHistoryUseCase.class)
+public class ExportExpenseHistoryService implements ExportExpenseHistoryUseCase {
+
+    private final ExpenseGroupRepository expenseGroupRepository;
+    private final ExpenseActivityQueryRepository expenseActivityQueryRepository;
+
+    public ExportExpenseHistoryService(ExpenseGroupRepository expenseGroupRepository,
+                                       ExpenseActivityQueryRepository expenseActivityQueryRepository) {
+        this.expenseGroupRepository = expenseGroupRepository;
+        this.expenseActivityQueryRepository = expenseActivityQueryRepository;
+    }
+
+    @Override
+    public ActivityExport exportHistory(UUID groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId cannot be null");
+        }
+        // Checked up front: once the export starts streaming, the response status is already sent.
+        if (!expenseGroupRepository.existsById(groupId)) {
+            throw new ExpenseGroupNotFoundException("Expense group not found: " + groupId);
+        }
+        return action -> expenseActivityQueryRepository.forEachByGroupId(groupId, action);
+    }
+}
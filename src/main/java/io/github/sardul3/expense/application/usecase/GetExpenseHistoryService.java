@@ -1,6 +1,7 @@
 package io.github.sardul3.expense.application.usecase;
 
 import io.github.sardul3.expense.application.common.annotation.UseCase;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
 import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.port.in.GetExpenseHistoryUseCase;
@@ -35,15 +36,39 @@ public class GetExpenseHistoryService implements GetExpenseHistoryUseCase {
         if (page < 0) {
             throw new IllegalArgumentException("page cannot be negative");
         }
+        validateSize(size);
+
+        // A non-empty page proves the group exists (activities reference it), so only an empty
+        // page needs the separate existence probe to tell "no activities" from "no group".
+        ExpenseHistoryPageResponse history = expenseActivityQueryRepository.findByGroupId(groupId, page, size);
+        if (history.content().isEmpty() && !expenseGroupRepository.existsById(groupId)) {
+            throw new ExpenseGroupNotFoundException("Expense group not found: " + groupId);
+        }
+        return history;
+    }
+
+    @Override
+    public ExpenseHistoryCursorPageResponse getExpenseHistoryAfter(UUID groupId, String cursor, int size,
+                                                                   boolean includeTotal) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId cannot be null");
+        }
+        validateSize(size);
+
+        ExpenseHistoryCursorPageResponse history =
+                expenseActivityQueryRepository.findByGroupIdAfter(groupId, cursor, size, includeTotal);
+        if (history.content().isEmpty() && !expenseGroupRepository.existsById(groupId)) {
+            throw new ExpenseGroupNotFoundException("Expense group not found: " + groupId);
+        }
+        return history;
+    }
+
+    private static void validateSize(int size) {
         if (size <= 0) {
             throw new IllegalArgumentException("size must be positive");
         }
         if (size > MAX_PAGE_SIZE) {
             throw new IllegalArgumentException("size cannot exceed " + MAX_PAGE_SIZE);
         }
-
-        expenseGroupRepository.findById(groupId)
-                .orElseThrow(() -> new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
-        return expenseActivityQueryRepository.findByGroupId(groupId, page, size);
     }
 }
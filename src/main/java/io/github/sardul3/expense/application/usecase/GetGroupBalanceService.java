@@ -1,27 +1,29 @@
 package io.github.sardul3.expense.application.usecase;
 
 import io.github.sardul3.expense.application.common.annotation.UseCase;
+import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
 import io.github.sardul3.expense.application.dto.GroupBalanceResponse;
-import io.github.sardul3.expense.application.dto.ParticipantBalanceView;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.port.in.GetGroupBalanceUseCase;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
-import io.github.sardul3.expense.domain.model.ExpenseGroup;
-import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.application.port.out.GroupBalanceReadModel;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
- * Use case: returns current balances for all participants in a group.
+ * Use case: returns current balances for all participants in a group. Served from the balance
+ * read model, falling back to the aggregate while the read model is behind for the group.
  */
 @UseCase(description = "Returns group balance for all participants", inputPort = GetGroupBalanceUseCase.class)
 public class GetGroupBalanceService implements GetGroupBalanceUseCase {
 
     private final ExpenseGroupRepository expenseGroupRepository;
+    private final GroupBalanceReadModel groupBalanceReadModel;
 
-    public GetGroupBalanceService(ExpenseGroupRepository expenseGroupRepository) {
+    public GetGroupBalanceService(ExpenseGroupRepository expenseGroupRepository,
+                                  GroupBalanceReadModel groupBalanceReadModel) {
         this.expenseGroupRepository = expenseGroupRepository;
+        this.groupBalanceReadModel = groupBalanceReadModel;
     }
 
     @Override
@@ -29,16 +31,10 @@ public class GetGroupBalanceService implements GetGroupBalanceUseCase {
         if (groupId == null) {
             throw new IllegalArgumentException("groupId cannot be null");
         }
-        ExpenseGroup group = expenseGroupRepository.findById(groupId)
+        ExpenseGroupDetailResponse group = groupBalanceReadModel.findByGroupId(groupId)
+                .or(() -> expenseGroupRepository.findById(groupId).map(GroupDetailViews::of))
                 .orElseThrow(() -> new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
 
-        List<ParticipantBalanceView> participants = group.getParticipants().stream()
-                .map(p -> new ParticipantBalanceView(
-                        p.getParticipantId().getId(),
-                        p.getEmail(),
-                        p.getBalance()))
-                .toList();
-
-        return new GroupBalanceResponse(group.getId().getId(), participants);
+        return new GroupBalanceResponse(group.id(), group.participants());
     }
 }
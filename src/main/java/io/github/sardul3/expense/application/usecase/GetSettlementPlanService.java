@@ -0,0 +1,44 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.common.annotation.UseCase;
+import io.github.sardul3.expense.application.dto.SettlementPlanResponse;
+import io.github.sardul3.expense.application.dto.SettlementTransferView;
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.in.GetSettlementPlanUseCase;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.service.SettlementPlanner;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case: computes a settlement plan from current participant balances.
+ */
+@UseCase(description = "Returns a minimal settlement plan for a group", inputPort = GetSettlementPlanUseCase.class)
+public class GetSettlementPlanService implements GetSettlementPlanUseCase {
+
+    private final ExpenseGroupRepository expenseGroupRepository;
+
+    public GetSettlementPlanService(ExpenseGroupRepository expenseGroupRepository) {
+        this.expenseGroupRepository = expenseGroupRepository;
+    }
+
+    @Override
+    public SettlementPlanResponse getSettlementPlan(UUID groupId) {
+        if (groupId == null) {
+            throw new IllegalArgumentException("groupId cannot be null");
+        }
+        ExpenseGroup group = expenseGroupRepository.findById(groupId)
+                .orElseThrow(() -> new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
+
+        List<SettlementTransferView> transfers = SettlementPlanner.plan(group.getParticipants()).stream()
+                .map(s -> new SettlementTransferView(
+                        s.getFromParticipantId().getId(),
+                        s.getToParticipantId().getId(),
+                        s.getAmount().getAmount()))
+                .toList();
+
+        return new SettlementPlanResponse(group.getId().getId(), transfers);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Runs a mutation against one expense group: loads the aggregate, applies the command and saves
+ * it, then returns the command's result to the caller. Implementations decide how commands for
+ * the same group are ordered and how many of them share one load/save cycle.
+ * <p>
+ * Commands must validate before they mutate, as the aggregate's own methods do: a command that
+ * throws is reported to its caller only and must leave the aggregate unchanged, because other
+ * commands may be saved together with it.
+ * <p>
+ * Events raised by the aggregate while a command runs are recorded on it and pulled by the
+ * repository on save, so commands do not publish them.
+ */
+public interface GroupCommandExecutor {
+
+    /**
+     * @param groupId group to load
+     * @param command mutation to apply; may run more than once if the save has to be retried
+     * @return the command's result from the attempt that was saved
+     * @throws io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException if the group does not exist
+     */
+    <R> R execute(UUID groupId, Function<ExpenseGroup, R> command);
+}
@@ -0,0 +1,34 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
+import io.github.sardul3.expense.application.dto.ParticipantBalanceView;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+
+/**
+ * Maps a loaded group to its detail view. Shared by the read use cases, which fall back to the
+ * aggregate when the read model cannot answer, and by the read model rebuild.
+ */
+final class GroupDetailViews {
+
+    private GroupDetailViews() {
+    }
+
+    static ExpenseGroupDetailResponse of(ExpenseGroup group) {
+        return new ExpenseGroupDetailResponse(
+                group.getId().getId(),
+                group.getGroupName().getName(),
+                group.getGroupCreator().getEmail(),
+                group.isActivated(),
+                group.getParticipants().stream().map(GroupDetailViews::toParticipantBalanceView).toList()
+        );
+    }
+
+    private static ParticipantBalanceView toParticipantBalanceView(Participant p) {
+        return new ParticipantBalanceView(
+                p.getParticipantId().getId(),
+                p.getEmail(),
+                p.getBalance()
+        );
+    }
+}
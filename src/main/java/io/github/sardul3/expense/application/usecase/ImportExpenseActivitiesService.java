@@ -0,0 +1,84 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.common.annotation.UseCase;
+import io.github.sardul3.expense.application.dto.CreateExpenseActivityCommand;
+import io.github.sardul3.expense.application.dto.ExpenseImportOutcome;
+import io.github.sardul3.expense.application.port.in.ImportExpenseActivitiesUseCase;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Use case: imports expense activities in bulk. Commands are grouped by group id and each group's
+ * commands are validated and applied to the aggregate in a single load/apply/save cycle, so the
+ * cost per group is one load plus one batched write however many expenses it receives. Groups
+ * are processed concurrently. The events for a group's imported activities are stored and dispatched
+ * as one batch with its save.
+ */
+@UseCase(description = "Imports expense activities in bulk, one load and save per group",
+        inputPort = ImportExpenseActivitiesUseCase.class)
+public class ImportExpenseActivitiesService implements ImportExpenseActivitiesUseCase {
+
+    private final GroupCommandExecutor commandExecutor;
+
+    public ImportExpenseActivitiesService(GroupCommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public List<ExpenseImportOutcome> importActivities(List<CreateExpenseActivityCommand> commands) {
+        Objects.requireNonNull(commands, "commands cannot be null");
+        ExpenseImportOutcome[] outcomes = new ExpenseImportOutcome[commands.size()];
+        Map<UUID, List<Integer>> indexesByGroup = new LinkedHashMap<>();
+        for (int i = 0; i < commands.size(); i++) {
+            CreateExpenseActivityCommand command = commands.get(i);
+            if (command == null || command.groupId() == null) {
+                outcomes[i] = ExpenseImportOutcome.rejected(i, null, "groupId cannot be null");
+            } else {
+                indexesByGroup.computeIfAbsent(command.groupId(), id -> new ArrayList<>()).add(i);
+            }
+        }
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            indexesByGroup.forEach((groupId, indexes) ->
+                    workers.execute(() -> importGroup(groupId, indexes, commands, outcomes)));
+        }
+        return List.of(outcomes);
+    }
+
+    private void importGroup(UUID groupId, List<Integer> indexes, List<CreateExpenseActivityCommand> commands,
+                             ExpenseImportOutcome[] outcomes) {
+        List<ExpenseImportOutcome> result;
+        try {
+            // outcomes are rebuilt on every attempt, in case the save is retried
+            result = commandExecutor.execute(groupId, group -> {
+                List<ExpenseImportOutcome> attempt = new ArrayList<>(indexes.size());
+                for (int index : indexes) {
+                    try {
+                        ExpenseActivity activity = ExpenseActivityCommands.addTo(group, commands.get(index));
+                        attempt.add(ExpenseImportOutcome.created(index, groupId, activity.getId().getId()));
+                    } catch (RuntimeException e) {
+                        attempt.add(ExpenseImportOutcome.rejected(index, groupId, e.getMessage()));
+                    }
+                }
+                return attempt;
+            });
+        } catch (RuntimeException e) {
+            for (int index : indexes) {
+                outcomes[index] = ExpenseImportOutcome.rejected(index, groupId, e.getMessage());
+            }
+            return;
+        }
+
+        for (ExpenseImportOutcome outcome : result) {
+            outcomes[outcome.index()] = outcome;
+        }
+    }
+}
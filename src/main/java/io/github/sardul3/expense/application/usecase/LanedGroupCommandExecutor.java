@@ -0,0 +1,253 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Serialises commands per group without database locks. Each group id hashes onto one of a fixed
+ * number of lanes, and each lane is a single thread working through its own queue, so commands
+ * for one group never race while different groups proceed in parallel.
+ * <p>
+ * When a lane picks up work it drains everything queued behind it (up to {@code maxBatchSize}) and
+ * runs all commands for the same group in a single load/apply/save cycle. A hot group therefore
+ * pays one round-trip per batch rather than per command. The batch builds up naturally while the
+ * previous cycle is in flight, so an idle group adds no latency. If a save conflicts with a
+ * writer in another process, the whole batch is reloaded and reapplied.
+ * <p>
+ * Callers wait at most {@code commandTimeout} for their result. A command that times out while
+ * still queued is skipped; one that was already picked up may still be saved. {@link #close()}
+ * rejects new commands, fails everything still queued and lets batches in flight finish.
+ */
+public class LanedGroupCommandExecutor implements GroupCommandExecutor, AutoCloseable {
+
+    private final ExpenseGroupRepository expenseGroupRepository;
+    private final ConflictRetryPolicy retryPolicy;
+    private final int maxBatchSize;
+    private final Duration commandTimeout;
+    private final Lane[] lanes;
+
+    public LanedGroupCommandExecutor(ExpenseGroupRepository expenseGroupRepository, ConflictRetryPolicy retryPolicy,
+                                     int laneCount, int maxBatchSize, Duration commandTimeout) {
+        if (laneCount < 1 || maxBatchSize < 1) {
+            throw new IllegalArgumentException("laneCount and maxBatchSize must be at least 1");
+        }
+        if (commandTimeout.isNegative() || commandTimeout.isZero()) {
+            throw new IllegalArgumentException("commandTimeout must be positive");
+        }
+        this.expenseGroupRepository = expenseGroupRepository;
+        this.retryPolicy = retryPolicy;
+        this.maxBatchSize = maxBatchSize;
+        this.commandTimeout = commandTimeout;
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i);
+        }
+    }
+
+    @Override
+    public <R> R execute(UUID groupId, Function<ExpenseGroup, R> command) {
+        PendingCommand<R> pending = new PendingCommand<>(groupId, command);
+        lanes[Math.floorMod(groupId.hashCode(), lanes.length)].submit(pending);
+        return pending.await(commandTimeout);
+    }
+
+    /**
+     * Stops the lanes: commands still queued fail with {@link IllegalStateException} and later
+     * submissions are rejected. Batches already running are not interrupted; this waits up to
+     * {@code commandTimeout} for them to finish.
+     */
+    @Override
+    public void close() {
+        for (Lane lane : lanes) {
+            lane.stop();
+        }
+        long deadline = System.nanoTime() + commandTimeout.toNanos();
+        for (Lane lane : lanes) {
+            lane.awaitTermination(deadline);
+        }
+    }
+
+    /** Commands queued but not yet picked up, across all lanes. */
+    int queuedCommands() {
+        int queued = 0;
+        for (Lane lane : lanes) {
+            queued += lane.queue.size();
+        }
+        return queued;
+    }
+
+    private void runBatch(UUID groupId, List<PendingCommand<?>> commands) {
+        try {
+            retryPolicy.execute(() -> {
+                ExpenseGroup group = expenseGroupRepository.findById(groupId)
+                        .orElseThrow(() -> new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
+                boolean anyApplied = false;
+                for (PendingCommand<?> command : commands) {
+                    anyApplied |= command.applyTo(group);
+                }
+                if (anyApplied) {
+                    expenseGroupRepository.save(group);
+                }
+                return null;
+            });
+            commands.forEach(PendingCommand::complete);
+        } catch (Throwable e) {
+            // Errors too: the lane must outlive any batch, and every caller must hear back.
+            commands.forEach(command -> command.fail(e));
+        }
+    }
+
+    private final class Lane implements Runnable {
+        private final BlockingQueue<PendingCommand<?>> queue = new LinkedBlockingQueue<>();
+        private final Thread thread;
+        // Guarded by this lane's monitor, so no command is queued after stop() has drained the queue.
+        private boolean running = true;
+
+        private Lane(int index) {
+            this.thread = Thread.ofVirtual().name("group-command-lane-" + index).start(this);
+        }
+
+        private synchronized void submit(PendingCommand<?> command) {
+            if (!running) {
+                throw shutDown();
+            }
+            queue.add(command);
+        }
+
+        @Override
+        public void run() {
+            List<PendingCommand<?>> batch = new ArrayList<>();
+            boolean stopping = false;
+            while (!stopping) {
+                try {
+                    batch.add(queue.take());
+                } catch (InterruptedException e) {
+                    // Nothing interrupts a lane on purpose; keep serving until stop() wakes it.
+                    continue;
+                }
+                queue.drainTo(batch, maxBatchSize - 1);
+                stopping = batch.remove(STOP);
+                Map<UUID, List<PendingCommand<?>>> byGroup = new LinkedHashMap<>();
+                for (PendingCommand<?> command : batch) {
+                    byGroup.computeIfAbsent(command.groupId, id -> new ArrayList<>()).add(command);
+                }
+                byGroup.forEach(LanedGroupCommandExecutor.this::runBatch);
+                batch.clear();
+            }
+        }
+
+        /**
+         * Rejects further submissions and fails whatever is still queued. The lane thread finishes
+         * the batch it is running, then takes the stop marker and exits.
+         */
+        private void stop() {
+            List<PendingCommand<?>> abandoned = new ArrayList<>();
+            synchronized (this) {
+                if (!running) {
+                    return;
+                }
+                running = false;
+                queue.drainTo(abandoned);
+                queue.add(STOP);
+            }
+            IllegalStateException shutDown = shutDown();
+            abandoned.forEach(command -> command.fail(shutDown));
+        }
+
+        private void awaitTermination(long deadlineNanos) {
+            try {
+                thread.join(Duration.ofNanos(Math.max(1, deadlineNanos - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static IllegalStateException shutDown() {
+        return new IllegalStateException("Group command executor is shut down");
+    }
+
+    /** Queued by {@link Lane#stop()} to wake the lane thread; never applied. */
+    private static final PendingCommand<Void> STOP = new PendingCommand<>(null, group -> null);
+
+    private static final class PendingCommand<R> {
+        private final UUID groupId;
+        private final Function<ExpenseGroup, R> command;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+        private R result;
+        private RuntimeException failure;
+
+        private PendingCommand(UUID groupId, Function<ExpenseGroup, R> command) {
+            this.groupId = groupId;
+            this.command = command;
+        }
+
+        /** Applies the command for this attempt; returns false if it was rejected or its caller gave up. */
+        private boolean applyTo(ExpenseGroup group) {
+            if (future.isDone()) {
+                result = null;
+                failure = null;
+                return false;
+            }
+            try {
+                result = command.apply(group);
+                failure = null;
+                return true;
+            } catch (RuntimeException e) {
+                result = null;
+                failure = e;
+                return false;
+            }
+        }
+
+        private void complete() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+
+        private void fail(Throwable e) {
+            future.completeExceptionally(e);
+        }
+
+        private R await(Duration timeout) {
+            try {
+                return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                giveUp();
+                throw new IllegalStateException("Interrupted while waiting for group command", e);
+            } catch (TimeoutException e) {
+                giveUp();
+                throw new IllegalStateException("Group command for " + groupId + " did not finish within " + timeout, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        /** Marks the command abandoned so a lane that has not picked it up yet skips it. */
+        private void giveUp() {
+            future.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.common.annotation.UseCase;
+import io.github.sardul3.expense.application.port.in.RebuildBalanceReadModelUseCase;
+import io.github.sardul3.expense.application.port.out.GroupBalanceReadModel;
+
+/**
+ * Use case: rebuilds the group balance read model from every stored group, e.g. after it was
+ * lost or after groups were written by a store that does not record events.
+ */
+@UseCase(description = "Rebuilds the group balance read model from the stored groups",
+        inputPort = RebuildBalanceReadModelUseCase.class)
+public class RebuildBalanceReadModelService implements RebuildBalanceReadModelUseCase {
+
+    private final GroupBalanceReadModel groupBalanceReadModel;
+
+    public RebuildBalanceReadModelService(GroupBalanceReadModel groupBalanceReadModel) {
+        this.groupBalanceReadModel = groupBalanceReadModel;
+    }
+
+    @Override
+    public int rebuild() {
+        return groupBalanceReadModel.rebuild();
+    }
+}
@@ -1,33 +1,61 @@
 package io.github.sardul3.expense.application.usecase;
 
 import io.github.sardul3.expense.application.common.annotation.UseCase;
-import io.github.sardul3.expense.application.dto.RetrieveExpenseGroupsResponse;
-import io.github.sardul3.expense.application.port.in.CreateExpenseGroupUseCase;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryPageResponse;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryView;
 import io.github.sardul3.expense.application.port.in.RetrieveAllExpenseGroupsUseCase;
-import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupSummaryQueryRepository;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
-import java.util.Objects;
+import java.util.UUID;
 
 /**
- * Use case: fetches all expense groups from the repository and maps to response DTOs.
+ * Use case: lists expense group summaries with keyset pagination, without rehydrating aggregates.
  */
 @UseCase(description = "Fetches all the expense groups in the system", inputPort = RetrieveAllExpenseGroupsUseCase.class)
 public class RetrieveAllExpenseGroupService implements RetrieveAllExpenseGroupsUseCase {
 
-    private final ExpenseGroupRepository expenseGroupRepository;
+    /** Maximum allowed page size for group listings. */
+    public static final int MAX_PAGE_SIZE = 500;
 
-    public RetrieveAllExpenseGroupService(ExpenseGroupRepository expenseGroupRepository) {
-        this.expenseGroupRepository = expenseGroupRepository;
+    private final ExpenseGroupSummaryQueryRepository expenseGroupSummaryQueryRepository;
+
+    public RetrieveAllExpenseGroupService(ExpenseGroupSummaryQueryRepository expenseGroupSummaryQueryRepository) {
+        this.expenseGroupSummaryQueryRepository = expenseGroupSummaryQueryRepository;
     }
 
     @Override
-    public List<RetrieveExpenseGroupsResponse> getAllExpenseGroups() {
-        return expenseGroupRepository.findAll()
-                .stream()
-                .filter(Objects::nonNull)
-                .filter(expenseGroup -> expenseGroup.getGroupName() != null)
-                .map(entry -> new RetrieveExpenseGroupsResponse(entry.getGroupName().getName()))
-                .toList();
+    public ExpenseGroupSummaryPageResponse getAllExpenseGroups(String cursor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        if (size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size cannot exceed " + MAX_PAGE_SIZE);
+        }
+        UUID afterId = decodeCursor(cursor);
+
+        List<ExpenseGroupSummaryView> rows = expenseGroupSummaryQueryRepository.findPage(afterId, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ExpenseGroupSummaryView> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1).id()) : null;
+        return new ExpenseGroupSummaryPageResponse(List.copyOf(content), nextCursor, size);
+    }
+
+    private static String encodeCursor(UUID lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static UUID decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("cursor is invalid");
+        }
     }
 }
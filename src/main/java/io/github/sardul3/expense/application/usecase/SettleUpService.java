@@ -3,12 +3,8 @@ package io.github.sardul3.expense.application.usecase;
 import io.github.sardul3.expense.application.common.annotation.UseCase;
 import io.github.sardul3.expense.application.dto.SettleUpCommand;
 import io.github.sardul3.expense.application.dto.SettleUpResponse;
-import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.port.in.SettleUpUseCase;
-import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
-import io.github.sardul3.expense.domain.event.SettlementCompletedEvent;
-import io.github.sardul3.expense.domain.model.ExpenseGroup;
 import io.github.sardul3.expense.domain.valueobject.Money;
 import io.github.sardul3.expense.domain.valueobject.ParticipantId;
 import io.github.sardul3.expense.domain.valueobject.Settlement;
@@ -22,13 +18,14 @@ import java.util.UUID;
 @UseCase(description = "Records a settlement and updates balances", inputPort = SettleUpUseCase.class)
 public class SettleUpService implements SettleUpUseCase {
 
-    private final ExpenseGroupRepository expenseGroupRepository;
-    private final DomainEventPublisher domainEventPublisher;
+    private final GroupCommandExecutor commandExecutor;
 
-    public SettleUpService(ExpenseGroupRepository expenseGroupRepository,
-                           DomainEventPublisher domainEventPublisher) {
-        this.expenseGroupRepository = expenseGroupRepository;
-        this.domainEventPublisher = domainEventPublisher;
+    public SettleUpService(ExpenseGroupRepository expenseGroupRepository) {
+        this(new DirectGroupCommandExecutor(expenseGroupRepository, ConflictRetryPolicy.defaults()));
+    }
+
+    public SettleUpService(GroupCommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
     }
 
     @Override
@@ -38,22 +35,15 @@ public class SettleUpService implements SettleUpUseCase {
         }
         Objects.requireNonNull(command, "SettleUpCommand cannot be null");
 
-        ExpenseGroup group = expenseGroupRepository.findById(groupId)
-                .orElseThrow(() -> new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
-
         Settlement settlement = Settlement.of(
                 ParticipantId.from(command.fromParticipantId()),
                 ParticipantId.from(command.toParticipantId()),
                 Money.of(command.amount())
         );
-        group.settle(settlement);
-        expenseGroupRepository.save(group);
-
-        domainEventPublisher.publish(new SettlementCompletedEvent(
-                groupId,
-                command.fromParticipantId(),
-                command.toParticipantId(),
-                command.amount()));
+        commandExecutor.execute(groupId, group -> {
+            group.settle(settlement);
+            return null;
+        });
 
         return new SettleUpResponse(groupId);
     }
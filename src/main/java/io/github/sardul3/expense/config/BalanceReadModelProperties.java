@@ -0,0 +1,42 @@
+package io.github.sardul3.expense.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Typed configuration for the group balance read model.
+ * Keys under {@code app.read-model.balances}.
+ *
+ * @param maximumSize      most groups held in memory; others are read from the read model tables
+ * @param expireAfterWrite how long a group may be served from memory; bounds how stale a read can be
+ *                         when another instance applies events for the same group
+ * @param rebuildChunkSize groups copied per transaction by a rebuild; writes wait only while one chunk is copied
+ */
+@ConfigurationProperties(prefix = "app.read-model.balances")
+@Validated
+public record BalanceReadModelProperties(
+        Long maximumSize,
+        Duration expireAfterWrite,
+        Integer rebuildChunkSize
+) {
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofSeconds(5);
+    private static final int DEFAULT_REBUILD_CHUNK_SIZE = 500;
+
+    /**
+     * Compact constructor; supplies defaults for null or non-positive values.
+     */
+    public BalanceReadModelProperties {
+        if (maximumSize == null || maximumSize <= 0) {
+            maximumSize = DEFAULT_MAXIMUM_SIZE;
+        }
+        if (expireAfterWrite == null || expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            expireAfterWrite = DEFAULT_EXPIRE_AFTER_WRITE;
+        }
+        if (rebuildChunkSize == null || rebuildChunkSize <= 0) {
+            rebuildChunkSize = DEFAULT_REBUILD_CHUNK_SIZE;
+        }
+    }
+}
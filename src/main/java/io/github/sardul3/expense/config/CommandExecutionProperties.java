@@ -0,0 +1,47 @@
+package io.github.sardul3.expense.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Typed configuration for how group mutations are executed. Keys under {@code app.commands}.
+ *
+ * @param laned          serialise commands per group on single-threaded lanes; when false each
+ *                       command runs on the caller's thread and relies on optimistic locking alone
+ * @param lanes          number of lanes group ids are hashed onto; bounds cross-group parallelism
+ * @param maxBatchSize   most queued commands a lane drains into one load/apply/save cycle
+ * @param commandTimeout how long a caller waits for its command on a lane, and how long shutdown
+ *                       waits for running batches
+ */
+@ConfigurationProperties(prefix = "app.commands")
+@Validated
+public record CommandExecutionProperties(
+        Boolean laned,
+        Integer lanes,
+        Integer maxBatchSize,
+        Duration commandTimeout
+) {
+    private static final int DEFAULT_LANES = 16;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(30);
+
+    /**
+     * Compact constructor; supplies defaults for null or non-positive values.
+     */
+    public CommandExecutionProperties {
+        if (laned == null) {
+            laned = Boolean.TRUE;
+        }
+        if (lanes == null || lanes <= 0) {
+            lanes = DEFAULT_LANES;
+        }
+        if (maxBatchSize == null || maxBatchSize <= 0) {
+            maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        }
+        if (commandTimeout == null || commandTimeout.isNegative() || commandTimeout.isZero()) {
+            commandTimeout = DEFAULT_COMMAND_TIMEOUT;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.sardul3.expense.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Typed configuration for retrying commands that lose an optimistic-locking race on an
+ * expense group. Keys under {@code app.concurrency}.
+ *
+ * @param maxAttempts    attempts per command, including the first
+ * @param initialBackoff backoff ceiling after the first conflict; doubles per attempt
+ * @param maxBackoff     upper bound for the backoff ceiling
+ */
+@ConfigurationProperties(prefix = "app.concurrency")
+@Validated
+public record ConcurrencyProperties(
+        Integer maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff
+) {
+    private static final int DEFAULT_MAX_ATTEMPTS = 5;
+    private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(10);
+    private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofMillis(200);
+
+    /**
+     * Compact constructor; supplies defaults for null or non-positive values.
+     */
+    public ConcurrencyProperties {
+        if (maxAttempts == null || maxAttempts <= 0) {
+            maxAttempts = DEFAULT_MAX_ATTEMPTS;
+        }
+        if (initialBackoff == null || initialBackoff.isNegative()) {
+            initialBackoff = DEFAULT_INITIAL_BACKOFF;
+        }
+        if (maxBackoff == null || maxBackoff.compareTo(initialBackoff) < 0) {
+            maxBackoff = initialBackoff.compareTo(DEFAULT_MAX_BACKOFF) > 0 ? initialBackoff : DEFAULT_MAX_BACKOFF;
+        }
+    }
+}
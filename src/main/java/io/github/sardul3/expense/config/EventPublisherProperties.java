@@ -0,0 +1,67 @@
+package io.github.sardul3.expense.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Typed configuration for domain event delivery. Keys under {@code app.events}.
+ *
+ * @param async          hand events to handlers on background consumers instead of discarding them;
+ *                       when false, or when no handler is registered, the no-op publisher is used
+ * @param bufferSize     ring buffer capacity, rounded up to a power of two
+ * @param consumers      number of virtual-thread consumers draining the buffer
+ * @param maxBatchSize   most events one consumer hands to the handlers in a single call
+ * @param overflowPolicy what {@code publish} does when the buffer is full
+ * @param drainTimeout   how long shutdown waits for queued events to be delivered
+ */
+@ConfigurationProperties(prefix = "app.events")
+@Validated
+public record EventPublisherProperties(
+        Boolean async,
+        Integer bufferSize,
+        Integer consumers,
+        Integer maxBatchSize,
+        OverflowPolicy overflowPolicy,
+        Duration drainTimeout
+) {
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int DEFAULT_CONSUMERS = 2;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 256;
+    private static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Behaviour of {@code publish} when the ring buffer is full. */
+    public enum OverflowPolicy {
+        /** Wait for a free slot; the publishing thread absorbs the backpressure. */
+        BLOCK,
+        /** Discard the event and count it; publishing never waits. */
+        DROP,
+        /** Queue the event in an unbounded overflow list drained after the buffer. */
+        SPILL
+    }
+
+    /**
+     * Compact constructor; supplies defaults for null or non-positive values.
+     */
+    public EventPublisherProperties {
+        if (async == null) {
+            async = Boolean.TRUE;
+        }
+        if (bufferSize == null || bufferSize <= 0) {
+            bufferSize = DEFAULT_BUFFER_SIZE;
+        }
+        if (consumers == null || consumers <= 0) {
+            consumers = DEFAULT_CONSUMERS;
+        }
+        if (maxBatchSize == null || maxBatchSize <= 0) {
+            maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        }
+        if (overflowPolicy == null) {
+            overflowPolicy = OverflowPolicy.BLOCK;
+        }
+        if (drainTimeout == null || drainTimeout.isNegative()) {
+            drainTimeout = DEFAULT_DRAIN_TIMEOUT;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.sardul3.expense.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Typed configuration for the expense group cache in the persistence adapter.
+ * Keys under {@code app.cache.expense-groups}.
+ *
+ * @param enabled          whether loaded and saved groups are cached at all
+ * @param maximumWeight    upper bound on cached rows (one per group, participant and cached activity)
+ * @param expireAfterWrite how long an entry may be served before it is reloaded; bounds how stale
+ *                         a read can be when another instance writes the same group
+ */
+@ConfigurationProperties(prefix = "app.cache.expense-groups")
+@Validated
+public record GroupCacheProperties(
+        Boolean enabled,
+        Long maximumWeight,
+        Duration expireAfterWrite
+) {
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 100_000;
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    /**
+     * Compact constructor; supplies defaults for null or non-positive values.
+     */
+    public GroupCacheProperties {
+        if (enabled == null) {
+            enabled = Boolean.TRUE;
+        }
+        if (maximumWeight == null || maximumWeight <= 0) {
+            maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+        }
+        if (expireAfterWrite == null || expireAfterWrite.isNegative() || expireAfterWrite.isZero()) {
+            expireAfterWrite = DEFAULT_EXPIRE_AFTER_WRITE;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.sardul3.expense.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Typed configuration for the in-memory expense group store used by the {@code in-memory} profile.
+ * Keys under {@code app.in-memory}.
+ *
+ * @param durable            log every save to a write-ahead log and checkpoint snapshots, so groups
+ *                           survive a restart; when false nothing is written to disk
+ * @param directory          directory holding the write-ahead log segments and the snapshot
+ * @param fsync              when log writes are forced to the device
+ * @param fsyncInterval      how often the log is forced under {@link FsyncPolicy#INTERVAL}
+ * @param checkpointInterval how often a snapshot is written and the log segments it covers deleted
+ * @param checkpointLogSize  log size after which a checkpoint is taken without waiting for the interval
+ */
+@ConfigurationProperties(prefix = "app.in-memory")
+@Validated
+public record InMemoryStoreProperties(
+        Boolean durable,
+        String directory,
+        FsyncPolicy fsync,
+        Duration fsyncInterval,
+        Duration checkpointInterval,
+        DataSize checkpointLogSize
+) {
+    private static final String DEFAULT_DIRECTORY = "data/in-memory";
+    private static final Duration DEFAULT_FSYNC_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofMinutes(5);
+    private static final DataSize DEFAULT_CHECKPOINT_LOG_SIZE = DataSize.ofMegabytes(64);
+
+    /** When writes to the write-ahead log are forced to the storage device. */
+    public enum FsyncPolicy {
+        /** Force before {@code save} returns; concurrent saves share one force (group commit). */
+        ALWAYS,
+        /** Write before {@code save} returns and force on a timer; a crash loses at most one interval. */
+        INTERVAL,
+        /** Write before {@code save} returns and leave forcing to the operating system. */
+        NEVER
+    }
+
+    /**
+     * Compact constructor; supplies defaults for null or non-positive values.
+     */
+    public InMemoryStoreProperties {
+        if (durable == null) {
+            durable = Boolean.FALSE;
+        }
+        if (directory == null || directory.isBlank()) {
+            directory = DEFAULT_DIRECTORY;
+        }
+        if (fsync == null) {
+            fsync = FsyncPolicy.ALWAYS;
+        }
+        if (fsyncInterval == null || fsyncInterval.isNegative() || fsyncInterval.isZero()) {
+            fsyncInterval = DEFAULT_FSYNC_INTERVAL;
+        }
+        if (checkpointInterval == null || checkpointInterval.isNegative() || checkpointInterval.isZero()) {
+            checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+        }
+        if (checkpointLogSize == null || checkpointLogSize.toBytes() <= 0) {
+            checkpointLogSize = DEFAULT_CHECKPOINT_LOG_SIZE;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.sardul3.expense.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Typed configuration for the transactional outbox relay. Keys under {@code app.outbox}.
+ *
+ * @param relayEnabled whether this instance runs a relay; events are written to the outbox either way
+ * @param batchSize    most outbox rows claimed and dispatched per relay transaction
+ * @param pollInterval how long the relay waits after finding fewer rows than a full batch
+ */
+@ConfigurationProperties(prefix = "app.outbox")
+@Validated
+public record OutboxProperties(
+        Boolean relayEnabled,
+        Integer batchSize,
+        Duration pollInterval
+) {
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final Duration DEFAULT_POLL_INTERVAL = Duration.ofMillis(200);
+
+    /**
+     * Compact constructor; supplies defaults for null or non-positive values.
+     */
+    public OutboxProperties {
+        if (relayEnabled == null) {
+            relayEnabled = Boolean.TRUE;
+        }
+        if (batchSize == null || batchSize <= 0) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+            pollInterval = DEFAULT_POLL_INTERVAL;
+        }
+    }
+}
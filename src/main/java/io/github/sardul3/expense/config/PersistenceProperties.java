@@ -0,0 +1,39 @@
+package io.github.sardul3.expense.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Typed configuration for the persistence adapters. Keys under {@code app.persistence}.
+ *
+ * @param batchSize       number of rows sent per JDBC batch when writing participants and activities
+ * @param streamFetchSize number of rows fetched per round-trip when streaming a history export
+ * @param snapshotInterval number of events the event-sourced store appends to a group's stream before
+ *                         writing a new snapshot of it
+ */
+@ConfigurationProperties(prefix = "app.persistence")
+@Validated
+public record PersistenceProperties(
+        Integer batchSize,
+        Integer streamFetchSize,
+        Integer snapshotInterval
+) {
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int DEFAULT_STREAM_FETCH_SIZE = 1_000;
+    private static final int DEFAULT_SNAPSHOT_INTERVAL = 100;
+
+    /**
+     * Compact constructor; supplies defaults for null or non-positive values.
+     */
+    public PersistenceProperties {
+        if (batchSize == null || batchSize <= 0) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+        if (streamFetchSize == null || streamFetchSize <= 0) {
+            streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
+        }
+        if (snapshotInterval == null || snapshotInterval <= 0) {
+            snapshotInterval = DEFAULT_SNAPSHOT_INTERVAL;
+        }
+    }
+}
@@ -1,14 +1,46 @@
 package io.github.sardul3.expense.domain.common.base;
 
+import io.github.sardul3.expense.domain.event.DomainEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
 /**
- * Marker base class for aggregate roots.
- * Will support domain events and lifecycle metadata in the future.
+ * Base class for aggregate roots. Records the domain events raised by state changes until the
+ * repository that persists the aggregate pulls them; aggregates never dispatch events themselves.
+ * <p>
+ * Every change to the aggregate, including to the entities it owns, goes through a method of the
+ * root that records an event for it, and a method that finds nothing to change records none.
+ * Entities inside the aggregate are never changed directly by code outside it. Repositories rely
+ * on this: an instance with no recorded events is unchanged and is not written again.
  */
 public abstract class BaseAggregateRoot<ID extends BaseId<?>> extends BaseEntity<ID> {
 
+    private final List<DomainEvent> pendingEvents = new ArrayList<>();
+
     protected BaseAggregateRoot(ID id) {
         super(id);
     }
 
-    //TODO: Future enhancement: domain event recording, auditing, etc.
+    /**
+     * Records an event for a change that has already been applied. Call it last, after all
+     * validation, so a rejected change leaves no event behind.
+     */
+    protected void registerEvent(DomainEvent event) {
+        pendingEvents.add(Objects.requireNonNull(event, "event cannot be null"));
+    }
+
+    /**
+     * Returns the events recorded since the last pull, in the order they were raised, and clears
+     * them. Called by persistence when the aggregate is saved.
+     */
+    public List<DomainEvent> pullEvents() {
+        if (pendingEvents.isEmpty()) {
+            return List.of();
+        }
+        List<DomainEvent> events = List.copyOf(pendingEvents);
+        pendingEvents.clear();
+        return events;
+    }
 }
@@ -1,16 +1,44 @@
 package io.github.sardul3.expense.domain.event;
 
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 /**
- * Domain event raised when an expense activity is added to a group.
+ * Domain event raised when an expense activity is added to a group. It carries the inputs of the
+ * split rather than its result, so its size does not grow with the group; consumers work out the
+ * balance changes with {@code ExpenseShares}, exactly as the group did.
  *
  * @param groupId             expense group id
  * @param description         expense description
  * @param amount              expense amount
- * @param paidByParticipantId  participant who paid
+ * @param paidByParticipantId participant who paid
+ * @param splitType           how the amount is shared
+ * @param memberCount         for a split evenly across all members, the number of members at the time,
+ *                            who are the first ones in join order; zero for every other split
+ * @param splitMembers        members of any other split, in split order; empty when {@code memberCount} is set
+ * @param splitShares         shares aligned with {@code splitMembers} as in {@link ExpenseSplit#getShares()}
  */
-public record ExpenseAddedEvent(UUID groupId, String description, BigDecimal amount, UUID paidByParticipantId)
+public record ExpenseAddedEvent(UUID groupId, String description, BigDecimal amount, UUID paidByParticipantId,
+                                ExpenseSplit.Type splitType, int memberCount, List<UUID> splitMembers,
+                                List<Long> splitShares)
         implements DomainEvent {
+
+    public ExpenseAddedEvent {
+        splitMembers = splitMembers == null ? List.of() : List.copyOf(splitMembers);
+        splitShares = splitShares == null ? List.of() : List.copyOf(splitShares);
+    }
+
+    /** The split this event describes. */
+    public ExpenseSplit split() {
+        long[] shares = new long[splitShares.size()];
+        for (int i = 0; i < shares.length; i++) {
+            shares[i] = splitShares.get(i);
+        }
+        return ExpenseSplit.of(splitType, memberCount > 0,
+                splitMembers.stream().map(ParticipantId::from).toList(), shares);
+    }
 }
@@ -0,0 +1,11 @@
+package io.github.sardul3.expense.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Domain event raised when an expense group is activated and can start recording expenses.
+ *
+ * @param groupId expense group id
+ */
+public record ExpenseGroupActivatedEvent(UUID groupId) implements DomainEvent {
+}
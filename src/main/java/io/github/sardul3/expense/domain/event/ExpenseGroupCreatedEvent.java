@@ -0,0 +1,15 @@
+package io.github.sardul3.expense.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Domain event raised when an expense group is created with its creator as first participant.
+ *
+ * @param groupId              expense group id
+ * @param name                 group name
+ * @param creatorParticipantId participant id of the creator
+ * @param creatorEmail         creator email
+ */
+public record ExpenseGroupCreatedEvent(UUID groupId, String name, UUID creatorParticipantId, String creatorEmail)
+        implements DomainEvent {
+}
@@ -1,6 +1,8 @@
 package io.github.sardul3.expense.domain.model;
 
 import io.github.sardul3.expense.domain.common.annotation.DomainEntity;
+import io.github.sardul3.expense.domain.common.base.BaseEntity;
+import io.github.sardul3.expense.domain.valueobject.ExpenseActivityId;
 import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
 import io.github.sardul3.expense.domain.valueobject.Money;
 import io.github.sardul3.expense.domain.valueobject.ParticipantId;
@@ -12,7 +14,7 @@ import java.util.List;
         boundedContext = "expense-management",
         isAggregateRoot = false
 )
-public class ExpenseActivity {
+public class ExpenseActivity extends BaseEntity<ExpenseActivityId> {
     private static final int MAX_DESCRIPTION_LENGTH = 50;
 
     private final String description;
@@ -20,7 +22,8 @@ public class ExpenseActivity {
     private final Participant paidBy;
     private final ExpenseSplit split;
 
-    private ExpenseActivity(String description, Money amount, Participant paidBy, ExpenseSplit split) {
+    private ExpenseActivity(ExpenseActivityId id, String description, Money amount, Participant paidBy, ExpenseSplit split) {
+        super(id);
         this.description = description;
         this.amount = amount;
         this.paidBy = paidBy;
@@ -30,13 +33,31 @@ public class ExpenseActivity {
     public static ExpenseActivity from(String description, Money amount, Participant paidBy) {
         validateExpenseAmount(amount);
         validateExpenseDescription(description);
-        return new ExpenseActivity(description, amount, paidBy, new ExpenseSplit(true));
+        return new ExpenseActivity(ExpenseActivityId.generate(), description, amount, paidBy, new ExpenseSplit(true));
     }
 
     public static ExpenseActivity from(String description, Money amount, Participant paidBy, ExpenseSplit split) {
         validateExpenseAmount(amount);
         validateExpenseDescription(description);
-        return new ExpenseActivity(description, amount, paidBy, split);
+        if (split != null) {
+            split.validateFor(amount);
+        }
+        return new ExpenseActivity(ExpenseActivityId.generate(), description, amount, paidBy, split);
+    }
+
+    /**
+     * Reconstitutes an activity from persistence, keeping its stored identity.
+     *
+     * @param id          persisted activity id
+     * @param description activity description
+     * @param amount      activity amount
+     * @param paidBy      participant who paid
+     * @param split       how the amount was split
+     * @return reconstituted activity
+     */
+    public static ExpenseActivity reconstitute(ExpenseActivityId id, String description, Money amount,
+                                               Participant paidBy, ExpenseSplit split) {
+        return new ExpenseActivity(id, description, amount, paidBy, split);
     }
 
     private static void validateExpenseAmount(Money amount) {
@@ -60,7 +81,7 @@ public class ExpenseActivity {
     public static ExpenseActivity from(String description, Money amount, Participant paidBy, List<ParticipantId> splitMembers) {
         validateExpenseAmount(amount);
         validateExpenseDescription(description);
-        return new ExpenseActivity(description, amount, paidBy, ExpenseSplit.customSplit(splitMembers));
+        return new ExpenseActivity(ExpenseActivityId.generate(), description, amount, paidBy, ExpenseSplit.customSplit(splitMembers));
     }
 
     public Participant getPaidBy() {
@@ -2,20 +2,31 @@ package io.github.sardul3.expense.domain.model;
 
 import io.github.sardul3.expense.domain.common.annotation.AggregateRoot;
 import io.github.sardul3.expense.domain.common.base.BaseAggregateRoot;
+import io.github.sardul3.expense.domain.event.ExpenseAddedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupActivatedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupCreatedEvent;
+import io.github.sardul3.expense.domain.event.ParticipantAddedEvent;
+import io.github.sardul3.expense.domain.event.SettlementCompletedEvent;
+import io.github.sardul3.expense.domain.service.ExpenseShares;
 import io.github.sardul3.expense.domain.valueobject.ExpenseGroupId;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
-import io.github.sardul3.expense.domain.valueobject.Money;
 import io.github.sardul3.expense.domain.valueobject.ParticipantId;
 import io.github.sardul3.expense.domain.valueobject.Settlement;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Aggregate root: a group of participants sharing expenses. Manages participants, activation, and activities.
+ * Creating the group, adding a participant, activating, adding an activity and settling record a domain
+ * event for the repository to pull on save; reconstituting a group records none.
  */
 @AggregateRoot(
         description = "Represents a group of participants collaborating on shared expenses",
@@ -28,8 +39,14 @@ public class ExpenseGroup extends BaseAggregateRoot<ExpenseGroupId> {
     private final GroupName groupName;
     private final Participant groupCreator;
     private boolean isActivated = false;
-    private List<Participant> participants;
-    private List<ExpenseActivity> activities;
+    private final List<Participant> participants;
+    private final List<Participant> participantsView;
+    /** Position of each participant in {@link #participants}; participants are never removed. */
+    private final Map<ParticipantId, Integer> participantIndexById = new HashMap<>();
+    /** Participants keyed by lower-cased email, matching {@code ParticipantEmail} normalisation. */
+    private final Map<String, Participant> participantsByEmail = new HashMap<>();
+    private final List<ExpenseActivity> activities;
+    private final List<ExpenseActivity> activitiesView;
 
     private ExpenseGroup(ExpenseGroupId expenseGroupId, GroupName groupName, Participant groupCreator) {
         this(expenseGroupId, groupName, groupCreator, false);
@@ -41,16 +58,21 @@ public class ExpenseGroup extends BaseAggregateRoot<ExpenseGroupId> {
         this.groupCreator = groupCreator;
         this.isActivated = isActivated;
         this.participants = new ArrayList<>();
-        this.participants.add(groupCreator);
+        index(groupCreator);
         this.activities = new ArrayList<>();
+        this.participantsView = Collections.unmodifiableList(this.participants);
+        this.activitiesView = Collections.unmodifiableList(this.activities);
     }
 
     public static ExpenseGroup from(GroupName groupName, Participant creator) {
-        return new ExpenseGroup(
+        ExpenseGroup group = new ExpenseGroup(
                 ExpenseGroupId.generate(),
                 groupName,
                 creator
         );
+        group.registerEvent(new ExpenseGroupCreatedEvent(
+                group.getId().getId(), groupName.getName(), creator.getParticipantId().getId(), creator.getEmail()));
+        return group;
     }
 
     /**
@@ -99,14 +121,48 @@ public class ExpenseGroup extends BaseAggregateRoot<ExpenseGroupId> {
         return new ExpenseGroup(id, groupName, creator, isActivated, participants, activities);
     }
 
+    /**
+     * Reconstitutes an ExpenseGroup whose activity history is supplied by storage. The list is
+     * adopted as-is rather than copied, so storage may hand over a list that loads on first read;
+     * new activities are appended to it through {@code add}.
+     *
+     * @param id              the persisted aggregate id
+     * @param groupName       the group name
+     * @param creatorEmail    email of the group creator (must match one participant)
+     * @param participants    all participants with their balances
+     * @param isActivated     whether the group has been activated
+     * @param activityHistory mutable activity list owned by the aggregate from now on
+     * @return reconstituted aggregate
+     */
+    public static ExpenseGroup reconstituteWithActivityHistory(ExpenseGroupId id, GroupName groupName, String creatorEmail,
+                                                               List<Participant> participants, boolean isActivated,
+                                                               List<ExpenseActivity> activityHistory) {
+        Participant creator = participants.stream()
+                .filter(p -> p.getEmail().equals(creatorEmail))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Creator email " + creatorEmail + " not in participants"));
+        return new ExpenseGroup(id, groupName, creator, isActivated, participants, activityHistory, false);
+    }
+
     private ExpenseGroup(ExpenseGroupId expenseGroupId, GroupName groupName, Participant groupCreator,
                          boolean isActivated, List<Participant> participants, List<ExpenseActivity> activities) {
+        this(expenseGroupId, groupName, groupCreator, isActivated, participants, activities, true);
+    }
+
+    private ExpenseGroup(ExpenseGroupId expenseGroupId, GroupName groupName, Participant groupCreator,
+                         boolean isActivated, List<Participant> participants, List<ExpenseActivity> activities,
+                         boolean copyActivities) {
         super(expenseGroupId);
         this.groupName = groupName;
         this.groupCreator = groupCreator;
         this.isActivated = isActivated;
-        this.participants = new ArrayList<>(participants);
-        this.activities = new ArrayList<>(activities);
+        this.participants = new ArrayList<>(participants.size());
+        for (Participant participant : participants) {
+            index(participant);
+        }
+        this.activities = copyActivities ? new ArrayList<>(activities) : activities;
+        this.participantsView = Collections.unmodifiableList(this.participants);
+        this.activitiesView = Collections.unmodifiableList(this.activities);
     }
 
     private ExpenseGroup(ExpenseGroupId expenseGroupId, GroupName groupName, Participant groupCreator,
@@ -115,10 +171,25 @@ public class ExpenseGroup extends BaseAggregateRoot<ExpenseGroupId> {
     }
 
     public void addParticipant(Participant participant) {
-        if(this.participants.contains(participant)) {
+        if(this.participantIndexById.containsKey(participant.getParticipantId())) {
             throw new IllegalArgumentException("Participant " + participant + " already exists in the expense group");
         }
-        this.participants.add(participant);
+        index(participant);
+        registerEvent(new ParticipantAddedEvent(
+                getId().getId(), participant.getParticipantId().getId(), participant.getEmail()));
+    }
+
+    /**
+     * Looks up a participant by email, ignoring case.
+     *
+     * @param email participant email
+     * @return the participant with that email, if any
+     */
+    public Optional<Participant> getParticipantByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(participantsByEmail.get(email.toLowerCase()));
     }
 
     /**
@@ -134,27 +205,64 @@ public class ExpenseGroup extends BaseAggregateRoot<ExpenseGroupId> {
                 .orElseThrow(() -> new IllegalArgumentException("Receiver participant not in group: " + settlement.getToParticipantId()));
         from.credit(settlement.getAmount());
         to.debit(settlement.getAmount());
+        registerEvent(new SettlementCompletedEvent(
+                getId().getId(), from.getParticipantId().getId(), to.getParticipantId().getId(),
+                settlement.getAmount().getAmount()));
     }
 
     public void activate() {
         if(this.participants.size() < MIN_MEMBERS_NEEDED_BEFORE_ACTIVATION) {
             throw new IllegalStateException("Group cannot be activated as it has less than " + MIN_MEMBERS_NEEDED_BEFORE_ACTIVATION + " members");
         }
-        this.isActivated = true;
+        if (!this.isActivated) {
+            this.isActivated = true;
+            registerEvent(new ExpenseGroupActivatedEvent(getId().getId()));
+        }
     }
 
+    /**
+     * Records the activity and applies it to balances. Every share is resolved before the first
+     * balance changes and the activity is appended only after that, so an activity that is
+     * rejected, including by the split calculation, leaves the group exactly as it was.
+     */
     public void addActivity(ExpenseActivity expenseActivity) {
         validateActivity(expenseActivity);
-        this.activities.add(expenseActivity);
         calculateGroupBalance(expenseActivity);
+        this.activities.add(expenseActivity);
+        registerEvent(expenseAdded(expenseActivity));
     }
 
+    /** The event carries the split's inputs, so an even split across all members adds no per-member data. */
+    private ExpenseAddedEvent expenseAdded(ExpenseActivity activity) {
+        ExpenseSplit split = activity.getSplit();
+        boolean acrossAll = split.isEvenSplit() && split.isSplitEvenlyForAllMembers();
+        List<UUID> splitMembers = new ArrayList<>(split.getSplitMembers().size());
+        for (ParticipantId member : split.getSplitMembers()) {
+            splitMembers.add(member.getId());
+        }
+        List<Long> splitShares = new ArrayList<>();
+        for (long share : split.getShares()) {
+            splitShares.add(share);
+        }
+        return new ExpenseAddedEvent(getId().getId(), activity.getDescription(), activity.getAmount().getAmount(),
+                activity.getPaidBy().getParticipantId().getId(), split.getType(),
+                acrossAll ? participants.size() : 0, splitMembers, splitShares);
+    }
+
+    /**
+     * Returns a read-only live view of the activities, in the order they were added. The view is
+     * created once per aggregate, so calling this allocates nothing; copy it if a snapshot is needed.
+     */
     public List<ExpenseActivity> getActivities() {
-        return Collections.unmodifiableList(new ArrayList<>(activities));
+        return activitiesView;
     }
 
+    /**
+     * Returns a read-only live view of the participants, in the order they joined. The view is
+     * created once per aggregate, so calling this allocates nothing; copy it if a snapshot is needed.
+     */
     public List<Participant> getParticipants() {
-        return Collections.unmodifiableList(new ArrayList<>(participants));
+        return participantsView;
     }
 
     public GroupName getGroupName() {
@@ -174,43 +282,51 @@ public class ExpenseGroup extends BaseAggregateRoot<ExpenseGroupId> {
             throw new IllegalStateException("Activity cannot be registered as it has not been activated");
         }
         Participant activityCreatedBy = expenseActivity.getPaidBy();
-        if(!this.participants.contains(activityCreatedBy)) {
+        if(getParticipantById(activityCreatedBy.getParticipantId()).orElse(null) != activityCreatedBy) {
             throw new IllegalArgumentException("Participant " + activityCreatedBy + " does not exist in the expense group");
         }
         if(this.activities.contains(expenseActivity)) {
             throw new IllegalArgumentException("Activity " + expenseActivity + " already exists in the expense group");
         }
+        ExpenseSplit split = expenseActivity.getSplit();
+        if (!split.isEvenSplit()) {
+            for (ParticipantId memberId : split.getSplitMembers()) {
+                if (getParticipantById(memberId).isEmpty()) {
+                    throw new IllegalArgumentException("Split participant " + memberId + " does not exist in the expense group");
+                }
+            }
+        }
     }
 
+    /**
+     * Applies the activity to balances through {@link ExpenseShares}: each member is debited its
+     * exact share and the payer is credited the total less their own share, so balances across the
+     * group always net to zero.
+     */
     private void calculateGroupBalance(ExpenseActivity activity) {
-        List<Participant> splitMembers = resolveSplitMembers(activity);
-        Money total = activity.getAmount();
-        int count = splitMembers.size();
-        Money share = total.split(count);
-
-        for (Participant member : splitMembers) {
-            if (!member.getParticipantId().equals(activity.getPaidBy().getParticipantId())) {
-                member.debit(share);
-            }
-        }
-        Participant payer = activity.getPaidBy();
-        payer.credit(total.subtract(share));
+        ExpenseShares.allocate(activity.getAmount(), activity.getSplit(), activity.getPaidBy().getParticipantId(),
+                participants.size(), this::positionOf, (position, amount, credit) -> {
+                    if (credit) {
+                        participants.get(position).credit(amount);
+                    } else {
+                        participants.get(position).debit(amount);
+                    }
+                });
     }
 
-    private List<Participant> resolveSplitMembers(ExpenseActivity activity) {
-        if (activity.getSplit().isSplitEvenlyForAllMembers()) {
-            return new ArrayList<>(participants);
-        }
-        List<ParticipantId> splitMembers = new ArrayList<>(activity.getSplit().getSplitMembers());
-        splitMembers.add(activity.getPaidBy().getParticipantId());
-        return participants.stream()
-                .filter(p -> splitMembers.contains(p.getParticipantId()))
-                .toList();
+    private void index(Participant participant) {
+        participantIndexById.put(participant.getParticipantId(), participants.size());
+        participantsByEmail.putIfAbsent(participant.getEmail().toLowerCase(), participant);
+        participants.add(participant);
+    }
+
+    private int positionOf(ParticipantId participantId) {
+        Integer position = participantIndexById.get(participantId);
+        return position != null ? position : -1;
     }
 
     public Optional<Participant> getParticipantById(ParticipantId from) {
-        return this.participants.stream()
-                .filter(p -> p.getParticipantId().equals(from))
-                .findFirst();
+        Integer position = participantIndexById.get(from);
+        return position != null ? Optional.of(participants.get(position)) : Optional.empty();
     }
 }
@@ -0,0 +1,138 @@
+package io.github.sardul3.expense.domain.service;
+
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Domain service: works out how one expense changes its group's balances. Each member of the split
+ * is debited its share and the payer is credited the total less their own share, so the changes
+ * always net to zero. The group applies the changes to its participants; a read model replaying
+ * the expense gets the same changes to the cent.
+ * <p>
+ * Even splits hand leftover cents to the earliest members in join order. Splitting across all
+ * members walks the positions directly, so it allocates nothing per member beyond the shares;
+ * custom even splits resolve their members by position, costing the split size rather than the
+ * group size.
+ */
+public final class ExpenseShares {
+
+    private ExpenseShares() {
+    }
+
+    /** Receives one balance change of an expense. */
+    @FunctionalInterface
+    public interface Change {
+
+        /**
+         * @param position position of the participant in join order
+         * @param amount   positive amount
+         * @param credit   true for the payer's credit, false for a member's debit
+         */
+        void apply(int position, Money amount, boolean credit);
+    }
+
+    /**
+     * Reports every balance change of the expense to {@code changes}. Nothing is reported until
+     * the split has been resolved against the members, so a split that cannot be applied throws
+     * before the first change.
+     *
+     * @param total       expense amount
+     * @param split       how the amount is shared
+     * @param payer       participant who paid
+     * @param memberCount number of group members; an even split across all members shares the
+     *                    total among positions {@code 0..memberCount-1}
+     * @param positionOf  a participant's position in join order, or -1 if it is not a member
+     * @param changes     receives each member's debit and the payer's credit
+     * @throws IllegalArgumentException if the payer or a member of an explicit split is not in the group,
+     *                                  or the split cannot share the total
+     */
+    public static void allocate(Money total, ExpenseSplit split, ParticipantId payer, int memberCount,
+                                ToIntFunction<ParticipantId> positionOf, Change changes) {
+        int payerPosition = requirePosition(positionOf, payer);
+        Money payerShare;
+        if (!split.isEvenSplit()) {
+            payerShare = applyAllocatedSplit(total, split, payer, positionOf, changes);
+        } else if (split.isSplitEvenlyForAllMembers()) {
+            payerShare = applyEvenSplit(total, payerPosition, memberCount, null, changes);
+        } else {
+            int[] positions = customPositions(split.getSplitMembers(), payerPosition, positionOf);
+            payerShare = applyEvenSplit(total, payerPosition, positions.length, positions, changes);
+        }
+        Money payerCredit = total.subtract(payerShare);
+        if (!payerCredit.isNotPositive()) {
+            changes.apply(payerPosition, payerCredit, true);
+        }
+    }
+
+    /** Debits the even shares; {@code positions} is null when every member takes part. */
+    private static Money applyEvenSplit(Money total, int payerPosition, int ways, int[] positions, Change changes) {
+        Money payerShare = Money.withZeroBalance();
+        for (int i = 0; i < ways; i++) {
+            int position = positions != null ? positions[i] : i;
+            Money share = total.allocatedShare(ways, i);
+            if (position == payerPosition) {
+                payerShare = share;
+            } else if (!share.isNotPositive()) {
+                changes.apply(position, share, false);
+            }
+        }
+        return payerShare;
+    }
+
+    /**
+     * Positions of the custom members plus the payer, in join order without repeats. Members that
+     * are not in the group are left out, as they always have been for custom even splits.
+     */
+    private static int[] customPositions(List<ParticipantId> memberIds, int payerPosition,
+                                         ToIntFunction<ParticipantId> positionOf) {
+        int[] positions = new int[memberIds.size() + 1];
+        int count = 0;
+        positions[count++] = payerPosition;
+        for (ParticipantId memberId : memberIds) {
+            int position = positionOf.applyAsInt(memberId);
+            if (position >= 0) {
+                positions[count++] = position;
+            }
+        }
+        Arrays.sort(positions, 0, count);
+        int ways = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0 || positions[i] != positions[i - 1]) {
+                positions[ways++] = positions[i];
+            }
+        }
+        return Arrays.copyOf(positions, ways);
+    }
+
+    private static Money applyAllocatedSplit(Money total, ExpenseSplit split, ParticipantId payer,
+                                             ToIntFunction<ParticipantId> positionOf, Change changes) {
+        List<ParticipantId> memberIds = split.getSplitMembers();
+        Money[] parts = split.allocate(total);
+        int[] positions = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            positions[i] = requirePosition(positionOf, memberIds.get(i));
+        }
+        Money payerShare = Money.withZeroBalance();
+        for (int i = 0; i < parts.length; i++) {
+            if (memberIds.get(i).equals(payer)) {
+                payerShare = parts[i];
+            } else if (!parts[i].isNotPositive()) {
+                changes.apply(positions[i], parts[i], false);
+            }
+        }
+        return payerShare;
+    }
+
+    private static int requirePosition(ToIntFunction<ParticipantId> positionOf, ParticipantId participantId) {
+        int position = positionOf.applyAsInt(participantId);
+        if (position < 0) {
+            throw new IllegalArgumentException("Participant " + participantId + " does not exist in the expense group");
+        }
+        return position;
+    }
+}
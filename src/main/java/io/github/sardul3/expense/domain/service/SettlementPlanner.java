@@ -0,0 +1,201 @@
+package io.github.sardul3.expense.domain.service;
+
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Domain service: turns participant balances into a short list of transfers that clears them.
+ * A negative balance owes the group and a positive one is owed; each {@link Settlement} has a
+ * debtor pay a creditor, which is exactly what {@code ExpenseGroup.settle} applies.
+ * <p>
+ * With {@code n} non-zero balances, {@code n - 1} transfers always suffice, and the true minimum
+ * is {@code n - k} where {@code k} is the largest number of disjoint zero-sum subsets the
+ * balances split into. Finding {@code k} is NP-hard, so it is computed exactly (a subset DP over
+ * bitmasks) only when at most {@value #EXACT_SEARCH_LIMIT} balances are non-zero. Larger groups
+ * use greedy matching: the largest debtor repeatedly pays the largest creditor, which settles at
+ * least one of them per transfer and runs in {@code O(n log n)} on long cents.
+ */
+public final class SettlementPlanner {
+
+    /** Largest number of non-zero balances searched exactly; the DP is O(2^n * n). */
+    public static final int EXACT_SEARCH_LIMIT = 16;
+
+    private SettlementPlanner() {
+    }
+
+    /**
+     * @param participants participants whose balances to clear
+     * @return transfers that bring every balance to zero
+     * @throws IllegalArgumentException if the balances do not sum to zero
+     */
+    public static List<Settlement> plan(Collection<Participant> participants) {
+        int count = 0;
+        ParticipantId[] ids = new ParticipantId[participants.size()];
+        long[] cents = new long[participants.size()];
+        long total = 0;
+        for (Participant participant : participants) {
+            long balance = Money.fromBalance(participant.getBalance()).getCents();
+            if (balance != 0) {
+                ids[count] = participant.getParticipantId();
+                cents[count] = balance;
+                total = Math.addExact(total, balance);
+                count++;
+            }
+        }
+        if (total != 0) {
+            throw new IllegalArgumentException("Balances must sum to zero but sum to " + Money.ofCents(total));
+        }
+        if (count == 0) {
+            return List.of();
+        }
+        List<Settlement> transfers = new ArrayList<>(count - 1);
+        if (count <= EXACT_SEARCH_LIMIT) {
+            for (int[] subset : zeroSumPartition(cents, count)) {
+                settleGreedily(ids, cents, subset, transfers);
+            }
+        } else {
+            int[] all = new int[count];
+            for (int i = 0; i < count; i++) {
+                all[i] = i;
+            }
+            settleGreedily(ids, cents, all, transfers);
+        }
+        return transfers;
+    }
+
+    /**
+     * Splits the balances into as many disjoint zero-sum subsets as possible. {@code best[mask]}
+     * is the most zero-sum subsets a chain of removals from {@code mask} passes through; walking
+     * back from the full mask along the best removals, each zero-sum mask on the path closes one
+     * subset.
+     */
+    private static List<int[]> zeroSumPartition(long[] cents, int count) {
+        int full = (1 << count) - 1;
+        long[] sum = new long[full + 1];
+        int[] best = new int[full + 1];
+        for (int mask = 1; mask <= full; mask++) {
+            int lowest = Integer.numberOfTrailingZeros(mask);
+            sum[mask] = sum[mask & (mask - 1)] + cents[lowest];
+            int most = 0;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                most = Math.max(most, best[mask & ~Integer.lowestOneBit(rest)]);
+            }
+            best[mask] = most + (sum[mask] == 0 ? 1 : 0);
+        }
+
+        List<int[]> subsets = new ArrayList<>();
+        int mask = full;
+        int subsetStart = full;
+        while (mask != 0) {
+            int next = -1;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                int candidate = mask & ~Integer.lowestOneBit(rest);
+                if (next < 0 || best[candidate] > best[next]) {
+                    next = candidate;
+                }
+            }
+            mask = next;
+            if (sum[mask] == 0) {
+                subsets.add(members(subsetStart & ~mask));
+                subsetStart = mask;
+            }
+        }
+        return subsets;
+    }
+
+    private static int[] members(int mask) {
+        int[] members = new int[Integer.bitCount(mask)];
+        for (int i = 0, rest = mask; rest != 0; rest &= rest - 1) {
+            members[i++] = Integer.numberOfTrailingZeros(rest);
+        }
+        return members;
+    }
+
+    /**
+     * Largest debtor pays largest creditor until the zero-sum subset is cleared; at most
+     * {@code subset.length - 1} transfers.
+     */
+    private static void settleGreedily(ParticipantId[] ids, long[] cents, int[] subset, List<Settlement> transfers) {
+        long[] remaining = new long[cents.length];
+        IndexHeap creditors = new IndexHeap(subset.length, remaining);
+        IndexHeap debtors = new IndexHeap(subset.length, remaining);
+        for (int index : subset) {
+            remaining[index] = Math.abs(cents[index]);
+            (cents[index] > 0 ? creditors : debtors).push(index);
+        }
+        while (!debtors.isEmpty()) {
+            int debtor = debtors.pop();
+            int creditor = creditors.pop();
+            long amount = Math.min(remaining[debtor], remaining[creditor]);
+            transfers.add(Settlement.of(ids[debtor], ids[creditor], Money.ofCents(amount)));
+            remaining[debtor] -= amount;
+            remaining[creditor] -= amount;
+            if (remaining[debtor] > 0) {
+                debtors.push(debtor);
+            }
+            if (remaining[creditor] > 0) {
+                creditors.push(creditor);
+            }
+        }
+    }
+
+    /** Binary max-heap of indices ordered by {@code keys[index]}; avoids boxing for large groups. */
+    private static final class IndexHeap {
+        private final int[] heap;
+        private final long[] keys;
+        private int size;
+
+        IndexHeap(int capacity, long[] keys) {
+            this.heap = new int[capacity];
+            this.keys = keys;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int index) {
+            int i = size++;
+            heap[i] = index;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (keys[heap[parent]] >= keys[heap[i]]) {
+                    break;
+                }
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        int pop() {
+            int top = heap[0];
+            heap[0] = heap[--size];
+            int i = 0;
+            while (true) {
+                int left = 2 * i + 1;
+                if (left >= size) {
+                    break;
+                }
+                int larger = left + 1 < size && keys[heap[left + 1]] > keys[heap[left]] ? left + 1 : left;
+                if (keys[heap[i]] >= keys[heap[larger]]) {
+                    break;
+                }
+                swap(i, larger);
+                i = larger;
+            }
+            return top;
+        }
+
+        private void swap(int a, int b) {
+            int tmp = heap[a];
+            heap[a] = heap[b];
+            heap[b] = tmp;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.sardul3.expense.domain.valueobject;
+
+import io.github.sardul3.expense.domain.common.base.BaseId;
+
+import java.util.UUID;
+
+/**
+ * Type-safe identifier for ExpenseActivity entity. Stable across saves so persistence can
+ * tell new activities apart from ones already stored.
+ */
+public class ExpenseActivityId extends BaseId<UUID> {
+    private ExpenseActivityId(UUID id) {
+        super(id);
+    }
+
+    /**
+     * Reconstitutes an ExpenseActivityId from a persisted UUID.
+     *
+     * @param id the stored identifier
+     * @return a strongly typed ExpenseActivityId
+     */
+    public static ExpenseActivityId from(UUID id) {
+        return new ExpenseActivityId(id);
+    }
+
+    public static ExpenseActivityId generate() {
+        return new ExpenseActivityId(UUID.randomUUID());
+    }
+}
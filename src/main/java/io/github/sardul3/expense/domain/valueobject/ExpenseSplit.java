@@ -2,26 +2,52 @@ package io.github.sardul3.expense.domain.valueobject;
 
 import io.github.sardul3.expense.domain.common.annotation.ValueObject;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @ValueObject(
         description = "Represents a manner to split the expenses between group participants",
         boundedContext = "expense-management"
 )
 public class ExpenseSplit {
+
+    /**
+     * How the amount is shared. {@code EVEN} shares are resolved by the group (all members, or the
+     * custom members plus the payer); the other types carry explicit shares for their members.
+     */
+    public enum Type {
+        EVEN, WEIGHTED, PERCENTAGE, FIXED
+    }
+
+    private static final BigDecimal HUNDRED_PERCENT = BigDecimal.valueOf(100);
+
+    private final Type type;
     private final boolean splitEvenlyForAllMembers;
     private final List<ParticipantId> splitMembers;
+    /** Weights aligned with {@link #splitMembers}; percentages are held as basis points. */
+    private final long[] weights;
+    /** Fixed shares aligned with {@link #splitMembers}; empty for other types. */
+    private final List<Money> fixedAmounts;
 
     public ExpenseSplit(boolean splitEvenlyForAllMembers) {
-        this.splitEvenlyForAllMembers = splitEvenlyForAllMembers;
-        this.splitMembers = List.of();
+        this(Type.EVEN, splitEvenlyForAllMembers, List.of(), null, List.of());
     }
 
     private ExpenseSplit(boolean splitEvenlyForAllMembers, List<ParticipantId> splitMembers) {
+        this(Type.EVEN, splitEvenlyForAllMembers, splitMembers, null, List.of());
+    }
+
+    private ExpenseSplit(Type type, boolean splitEvenlyForAllMembers, List<ParticipantId> splitMembers,
+                         long[] weights, List<Money> fixedAmounts) {
+        this.type = type;
         this.splitEvenlyForAllMembers = splitEvenlyForAllMembers;
         this.splitMembers = Collections.unmodifiableList(new ArrayList<>(splitMembers));
+        this.weights = weights;
+        this.fixedAmounts = Collections.unmodifiableList(new ArrayList<>(fixedAmounts));
     }
 
     /**
@@ -42,6 +68,167 @@ public class ExpenseSplit {
         return new ExpenseSplit(false, copy);
     }
 
+    /**
+     * Creates a split proportional to the given weights, in the map's iteration order.
+     * The payer only takes a share when listed.
+     *
+     * @param weightsByMember non-negative weight per member, at least one positive
+     */
+    public static ExpenseSplit weighted(Map<ParticipantId, Long> weightsByMember) {
+        List<ParticipantId> members = requireMembers(weightsByMember);
+        long[] weights = new long[members.size()];
+        long total = 0L;
+        for (int i = 0; i < weights.length; i++) {
+            Long weight = weightsByMember.get(members.get(i));
+            if (weight == null || weight < 0) {
+                throw new IllegalArgumentException("Split weight must be zero or positive for " + members.get(i));
+            }
+            weights[i] = weight;
+            total = Math.addExact(total, weight);
+        }
+        if (total == 0L) {
+            throw new IllegalArgumentException("At least one split weight must be positive");
+        }
+        return new ExpenseSplit(Type.WEIGHTED, false, members, weights, List.of());
+    }
+
+    /**
+     * Creates a split by percentage, in the map's iteration order. Percentages may have at most two
+     * decimal places and must add up to exactly 100.
+     *
+     * @param percentagesByMember non-negative percentage per member
+     */
+    public static ExpenseSplit byPercentage(Map<ParticipantId, BigDecimal> percentagesByMember) {
+        List<ParticipantId> members = requireMembers(percentagesByMember);
+        long[] basisPoints = new long[members.size()];
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < basisPoints.length; i++) {
+            BigDecimal percentage = percentagesByMember.get(members.get(i));
+            if (percentage == null || percentage.signum() < 0) {
+                throw new IllegalArgumentException("Split percentage must be zero or positive for " + members.get(i));
+            }
+            if (percentage.stripTrailingZeros().scale() > 2) {
+                throw new IllegalArgumentException("Split percentage cannot have more than two decimal places");
+            }
+            basisPoints[i] = percentage.movePointRight(2).longValueExact();
+            total = total.add(percentage);
+        }
+        if (total.compareTo(HUNDRED_PERCENT) != 0) {
+            throw new IllegalArgumentException("Split percentages must add up to 100 but were " + total.toPlainString());
+        }
+        return new ExpenseSplit(Type.PERCENTAGE, false, members, basisPoints, List.of());
+    }
+
+    /**
+     * Creates a split with a fixed amount per member, in the map's iteration order. The amounts must
+     * add up to the expense amount; see {@link #validateFor(Money)}.
+     *
+     * @param amountsByMember amount owed per member
+     */
+    public static ExpenseSplit fixedAmounts(Map<ParticipantId, Money> amountsByMember) {
+        List<ParticipantId> members = requireMembers(amountsByMember);
+        List<Money> amounts = new ArrayList<>(members.size());
+        for (ParticipantId member : members) {
+            Money amount = amountsByMember.get(member);
+            if (amount == null || amount.isNegative()) {
+                throw new IllegalArgumentException("Split amount must be zero or positive for " + member);
+            }
+            amounts.add(amount);
+        }
+        return new ExpenseSplit(Type.FIXED, false, members, null, amounts);
+    }
+
+    /**
+     * Rebuilds a split from its type, members and {@link #getShares()}, e.g. when it is read back
+     * from storage or from an event.
+     *
+     * @param type                     split type
+     * @param splitEvenlyForAllMembers for {@code EVEN} only: share across all members rather than {@code members}
+     * @param members                  split members in their original order
+     * @param shares                   shares aligned with {@code members}; ignored for {@code EVEN}
+     * @throws IllegalArgumentException if the shares do not line up with the members or are invalid for the type
+     */
+    public static ExpenseSplit of(Type type, boolean splitEvenlyForAllMembers, List<ParticipantId> members,
+                                  long[] shares) {
+        if (type == Type.EVEN) {
+            return splitEvenlyForAllMembers ? new ExpenseSplit(true) : customSplit(members);
+        }
+        if (shares.length != members.size()) {
+            throw new IllegalArgumentException("Split has " + members.size() + " members but " + shares.length + " shares");
+        }
+        return switch (type) {
+            case WEIGHTED -> {
+                Map<ParticipantId, Long> weightsByMember = new LinkedHashMap<>();
+                for (int i = 0; i < shares.length; i++) {
+                    weightsByMember.put(members.get(i), shares[i]);
+                }
+                yield weighted(weightsByMember);
+            }
+            case PERCENTAGE -> {
+                Map<ParticipantId, BigDecimal> percentagesByMember = new LinkedHashMap<>();
+                for (int i = 0; i < shares.length; i++) {
+                    percentagesByMember.put(members.get(i), BigDecimal.valueOf(shares[i], 2));
+                }
+                yield byPercentage(percentagesByMember);
+            }
+            case FIXED -> {
+                Map<ParticipantId, Money> amountsByMember = new LinkedHashMap<>();
+                for (int i = 0; i < shares.length; i++) {
+                    amountsByMember.put(members.get(i), Money.ofCents(shares[i]));
+                }
+                yield fixedAmounts(amountsByMember);
+            }
+            case EVEN -> throw new IllegalStateException("Even splits are handled above");
+        };
+    }
+
+    /**
+     * Checks that this split can share the given total; fixed amounts must add up to it exactly.
+     *
+     * @param total expense amount
+     * @throws IllegalArgumentException if fixed amounts do not add up to the total
+     */
+    public void validateFor(Money total) {
+        if (type != Type.FIXED) {
+            return;
+        }
+        Money sum = Money.withZeroBalance();
+        for (Money amount : fixedAmounts) {
+            sum = sum.add(amount);
+        }
+        if (!sum.equals(total)) {
+            throw new IllegalArgumentException("Split amounts add up to " + sum.getAmount().toPlainString()
+                    + " but the expense is " + total.getAmount().toPlainString());
+        }
+    }
+
+    /**
+     * Allocates the total across {@link #getSplitMembers()} for splits with explicit shares. The parts
+     * are aligned with the members and always add up to the total. Even splits are allocated by the
+     * group, which resolves their members.
+     *
+     * @param total expense amount
+     * @return one part per split member
+     */
+    public Money[] allocate(Money total) {
+        return switch (type) {
+            case WEIGHTED, PERCENTAGE -> total.allocate(weights);
+            case FIXED -> {
+                validateFor(total);
+                yield fixedAmounts.toArray(new Money[0]);
+            }
+            case EVEN -> throw new IllegalStateException("Even splits are allocated over the group's members");
+        };
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public boolean isEvenSplit() {
+        return type == Type.EVEN;
+    }
+
     public boolean isSplitEvenlyForAllMembers() {
         return splitEvenlyForAllMembers;
     }
@@ -49,4 +236,37 @@ public class ExpenseSplit {
     public List<ParticipantId> getSplitMembers() {
         return splitMembers;
     }
+
+    /**
+     * Returns a copy of the weights aligned with {@link #getSplitMembers()}: plain weights for
+     * {@code WEIGHTED}, basis points for {@code PERCENTAGE}, and an empty array for other types.
+     */
+    public long[] getWeights() {
+        return weights != null ? weights.clone() : new long[0];
+    }
+
+    /**
+     * Returns the shares aligned with {@link #getSplitMembers()} as whole numbers: weights for
+     * {@code WEIGHTED}, basis points for {@code PERCENTAGE}, cents for {@code FIXED}, and an empty
+     * array for {@code EVEN}. {@link #of} turns them back into the same split.
+     */
+    public long[] getShares() {
+        return switch (type) {
+            case WEIGHTED, PERCENTAGE -> weights.clone();
+            case FIXED -> fixedAmounts.stream().mapToLong(Money::getCents).toArray();
+            case EVEN -> new long[0];
+        };
+    }
+
+    /** Fixed shares aligned with {@link #getSplitMembers()}; empty unless the type is {@code FIXED}. */
+    public List<Money> getFixedAmounts() {
+        return fixedAmounts;
+    }
+
+    private static List<ParticipantId> requireMembers(Map<ParticipantId, ?> sharesByMember) {
+        if (sharesByMember == null || sharesByMember.isEmpty()) {
+            throw new IllegalArgumentException("Split must have at least one member");
+        }
+        return new ArrayList<>(sharesByMember.keySet());
+    }
 }
@@ -3,22 +3,44 @@ package io.github.sardul3.expense.domain.valueobject;
 import io.github.sardul3.expense.domain.common.annotation.ValueObject;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Objects;
 
 /**
  * Value object: immutable monetary amount with scale 2 and HALF_UP rounding.
+ * <p>
+ * Amounts are held as a {@code long} count of cents whenever they fit, so arithmetic on the hot
+ * path ({@link #add}, {@link #subtract}, {@link #split}) needs no BigDecimal allocation. Amounts
+ * beyond the long range fall back to a scale-2 BigDecimal. Every value has exactly one
+ * representation, and results are identical to scale-2 HALF_UP BigDecimal arithmetic.
  */
 @ValueObject(description = "Represents an amount in currency",
         boundedContext = "expense-management")
 public class Money {
     private static final int MONEY_SCALE_DECIMAL_PLACES = 2;
+    private static final Money ZERO = new Money(0L);
 
-    private final BigDecimal amount;
+    /** Amount in cents; meaningful only when {@link #overflow} is null. */
+    private final long cents;
+    /** Scale-2 amount for values that do not fit in a long count of cents; null otherwise. */
+    private final BigDecimal overflow;
+
+    private Money(long cents) {
+        this.cents = cents;
+        this.overflow = null;
+    }
 
     private Money(BigDecimal amount) {
-        this.amount = Objects.requireNonNull(amount, "Amount cannot be null")
+        BigDecimal scaled = Objects.requireNonNull(amount, "Amount cannot be null")
                 .setScale(MONEY_SCALE_DECIMAL_PLACES, RoundingMode.HALF_UP);
+        if (scaled.unscaledValue().bitLength() < Long.SIZE) {
+            this.cents = scaled.unscaledValue().longValue();
+            this.overflow = null;
+        } else {
+            this.cents = 0L;
+            this.overflow = scaled;
+        }
     }
 
     public static Money of(BigDecimal amount) {
@@ -27,7 +49,7 @@ public class Money {
     }
 
     public static Money withZeroBalance() {
-        return new Money(BigDecimal.ZERO);
+        return ZERO;
     }
 
     /**
@@ -41,38 +63,202 @@ public class Money {
         if (amount == null) {
             throw new IllegalArgumentException("Amount cannot be null");
         }
-        return new Money(amount.setScale(MONEY_SCALE_DECIMAL_PLACES, RoundingMode.HALF_UP));
+        return new Money(amount);
+    }
+
+    /**
+     * Creates Money from a count of cents (minor units). Allows negative values.
+     *
+     * @param cents amount in cents
+     * @return Money with the given amount
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
     }
 
     public Money add(Money other) {
         if(other.isNegative()) {
             throw new IllegalArgumentException("Cannot add negative money");
         }
-        return new Money(this.amount.add(other.amount));
+        if (this.overflow == null && other.overflow == null) {
+            long sum = this.cents + other.cents;
+            if (((this.cents ^ sum) & (other.cents ^ sum)) >= 0) {
+                return ofCents(sum);
+            }
+        }
+        return new Money(this.toBigDecimal().add(other.toBigDecimal()));
     }
 
     public Money subtract(Money other) {
-        BigDecimal result = this.amount.subtract(other.amount);
-        return new Money(result);
+        if (this.overflow == null && other.overflow == null) {
+            long difference = this.cents - other.cents;
+            if (((this.cents ^ other.cents) & (this.cents ^ difference)) >= 0) {
+                return ofCents(difference);
+            }
+        }
+        return new Money(this.toBigDecimal().subtract(other.toBigDecimal()));
     }
 
     public Money split(int ways) {
-        validateAmount(amount);
+        if (isNegative()) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
         if (ways <= 0) throw new IllegalArgumentException("Divisor must be greater than zero");
-        return new Money(this.amount.divide(BigDecimal.valueOf(ways),
+        if (overflow == null) {
+            long share = cents / ways;
+            long remainder = cents % ways;
+            // HALF_UP on a non-negative quotient: round up when the remainder is at least half the divisor
+            return ofCents(remainder * 2 >= ways ? share + 1 : share);
+        }
+        return new Money(overflow.divide(BigDecimal.valueOf(ways),
                 MONEY_SCALE_DECIMAL_PLACES, RoundingMode.HALF_UP));
     }
 
+    /**
+     * Splits this amount into {@code ways} parts that sum exactly to it. Each part is the amount
+     * divided down to the cent; the leftover cents go one each to the first parts.
+     *
+     * @param ways number of parts
+     * @return parts in order, summing to this amount
+     */
+    public Money[] allocate(int ways) {
+        requireAllocatable();
+        if (ways <= 0) throw new IllegalArgumentException("Divisor must be greater than zero");
+        Money[] parts = new Money[ways];
+        for (int i = 0; i < ways; i++) {
+            parts[i] = allocatedShare(ways, i);
+        }
+        return parts;
+    }
+
+    /**
+     * Returns the part at {@code index} of {@link #allocate(int)} without building the whole array,
+     * so callers walking the parts in order allocate nothing beyond the returned values.
+     *
+     * @param ways  number of parts
+     * @param index zero-based part index
+     * @return the part at the given index
+     */
+    public Money allocatedShare(int ways, int index) {
+        requireAllocatable();
+        if (ways <= 0) throw new IllegalArgumentException("Divisor must be greater than zero");
+        if (index < 0 || index >= ways) throw new IndexOutOfBoundsException("Part " + index + " of " + ways);
+        if (overflow == null) {
+            long share = cents / ways;
+            return ofCents(index < cents % ways ? share + 1 : share);
+        }
+        BigInteger[] quotientAndRemainder = overflow.unscaledValue().divideAndRemainder(BigInteger.valueOf(ways));
+        BigInteger share = quotientAndRemainder[0];
+        if (BigInteger.valueOf(index).compareTo(quotientAndRemainder[1]) < 0) {
+            share = share.add(BigInteger.ONE);
+        }
+        return new Money(new BigDecimal(share, MONEY_SCALE_DECIMAL_PLACES));
+    }
+
+    /**
+     * Splits this amount in proportion to the given weights. Each part is rounded down to the cent;
+     * the leftover cents go one each to the first parts with a non-zero weight, so parts always sum
+     * exactly to this amount and a zero weight always receives zero.
+     *
+     * @param weights non-negative weights, at least one positive
+     * @return parts in weight order, summing to this amount
+     */
+    public Money[] allocate(long... weights) {
+        requireAllocatable();
+        long totalWeight = totalWeight(weights);
+        Money[] parts = new Money[weights.length];
+        if (overflow == null && fitsProducts(weights)) {
+            long allocated = 0L;
+            for (long weight : weights) {
+                allocated += cents * weight / totalWeight;
+            }
+            long leftover = cents - allocated;
+            for (int i = 0; i < weights.length; i++) {
+                long part = cents * weights[i] / totalWeight;
+                if (leftover > 0 && weights[i] > 0) {
+                    part++;
+                    leftover--;
+                }
+                parts[i] = ofCents(part);
+            }
+            return parts;
+        }
+        BigInteger unscaled = toBigDecimal().unscaledValue();
+        BigInteger total = BigInteger.valueOf(totalWeight);
+        BigInteger leftover = unscaled;
+        for (long weight : weights) {
+            leftover = leftover.subtract(unscaled.multiply(BigInteger.valueOf(weight)).divide(total));
+        }
+        for (int i = 0; i < weights.length; i++) {
+            BigInteger part = unscaled.multiply(BigInteger.valueOf(weights[i])).divide(total);
+            if (leftover.signum() > 0 && weights[i] > 0) {
+                part = part.add(BigInteger.ONE);
+                leftover = leftover.subtract(BigInteger.ONE);
+            }
+            parts[i] = new Money(new BigDecimal(part, MONEY_SCALE_DECIMAL_PLACES));
+        }
+        return parts;
+    }
+
     public boolean isNegative() {
-        return this.amount.compareTo(BigDecimal.ZERO) < 0;
+        return overflow == null ? cents < 0 : overflow.signum() < 0;
     }
 
     public boolean isNotPositive() {
-        return this.amount.compareTo(BigDecimal.ZERO) <= 0;
+        return overflow == null ? cents <= 0 : overflow.signum() <= 0;
+    }
+
+    /**
+     * Returns the amount in cents.
+     *
+     * @return amount in cents
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public long getCents() {
+        if (overflow != null) {
+            throw new ArithmeticException("Amount does not fit in a long count of cents: " + overflow.toPlainString());
+        }
+        return cents;
     }
 
     public BigDecimal getAmount() {
-        return amount;
+        return toBigDecimal();
+    }
+
+    private BigDecimal toBigDecimal() {
+        return overflow != null ? overflow : BigDecimal.valueOf(cents, MONEY_SCALE_DECIMAL_PLACES);
+    }
+
+    private void requireAllocatable() {
+        if (isNegative()) {
+            throw new IllegalArgumentException("Amount cannot be negative");
+        }
+    }
+
+    private boolean fitsProducts(long[] weights) {
+        for (long weight : weights) {
+            if (weight != 0 && cents > Long.MAX_VALUE / weight) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long totalWeight(long[] weights) {
+        if (weights == null || weights.length == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+        long total = 0L;
+        for (long weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weights cannot be negative");
+            }
+            total = Math.addExact(total, weight);
+        }
+        if (total == 0L) {
+            throw new IllegalArgumentException("At least one weight must be positive");
+        }
+        return total;
     }
 
     private static void validateAmount(BigDecimal amount) {
@@ -89,18 +275,18 @@ public class Money {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Money money = (Money) o;
-        return Objects.equals(amount, money.amount);
+        return cents == money.cents && Objects.equals(overflow, money.overflow);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(amount);
+        return overflow != null ? overflow.hashCode() : Long.hashCode(cents);
     }
 
     @Override
     public String toString() {
         return "Money{" +
-                "amount=" + amount.toPlainString() +
+                "amount=" + toBigDecimal().toPlainString() +
                 '}';
     }
 }
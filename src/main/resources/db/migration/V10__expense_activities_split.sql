@@ -0,0 +1,8 @@
+-- Full expense split per activity, so a reload rebuilds the exact split rather than an even one.
+-- split_members lists the split's members in allocation order; split_shares is aligned with it and
+-- holds weights (WEIGHTED), basis points (PERCENTAGE) or cents (FIXED), and is empty for EVEN.
+-- Rows written before this migration only recorded split_evenly and stay EVEN.
+ALTER TABLE expense_activities
+    ADD COLUMN split_type VARCHAR(16) NOT NULL DEFAULT 'EVEN',
+    ADD COLUMN split_members UUID[] NOT NULL DEFAULT '{}',
+    ADD COLUMN split_shares BIGINT[] NOT NULL DEFAULT '{}';
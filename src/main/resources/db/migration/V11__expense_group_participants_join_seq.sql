@@ -0,0 +1,26 @@
+-- Join order of participants. The aggregate hands leftover cents to the earliest members in group
+-- order, so a group must come back in the order its members joined whether it is read from the
+-- cache or the database. Rows are numbered from a sequence as they are inserted; a batch of new
+-- participants is inserted in aggregate order, so the numbers follow it.
+CREATE SEQUENCE expense_group_participants_join_seq;
+
+ALTER TABLE expense_group_participants ADD COLUMN join_seq BIGINT;
+
+-- Existing rows were always loaded by email, so that is the order they keep.
+UPDATE expense_group_participants p
+SET join_seq = o.seq
+FROM (SELECT group_id, participant_id, ROW_NUMBER() OVER (ORDER BY group_id, email) AS seq
+      FROM expense_group_participants) o
+WHERE p.group_id = o.group_id AND p.participant_id = o.participant_id;
+
+SELECT setval('expense_group_participants_join_seq',
+              COALESCE((SELECT MAX(join_seq) FROM expense_group_participants), 0) + 1, false);
+
+ALTER TABLE expense_group_participants
+    ALTER COLUMN join_seq SET DEFAULT nextval('expense_group_participants_join_seq'),
+    ALTER COLUMN join_seq SET NOT NULL;
+ALTER SEQUENCE expense_group_participants_join_seq OWNED BY expense_group_participants.join_seq;
+
+-- Serves participant loads in join order; also covers group_id lookups.
+CREATE INDEX idx_expense_group_participants_group_join ON expense_group_participants(group_id, join_seq);
+DROP INDEX IF EXISTS idx_expense_group_participants_group_id;
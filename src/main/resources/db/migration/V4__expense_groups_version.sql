@@ -0,0 +1,3 @@
+-- Optimistic concurrency: every save of a group bumps its version and only succeeds
+-- if the version still matches the one the writer loaded.
+ALTER TABLE expense_groups ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
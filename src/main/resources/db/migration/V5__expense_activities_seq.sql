@@ -0,0 +1,9 @@
+-- Insertion order of activities, which history is paged on. Rows are numbered from a sequence as
+-- they are inserted; a batch of new activities is inserted in aggregate order, so the numbers
+-- follow it. Existing rows recorded no order and are numbered as they are stored, oldest first
+-- for a table that was only ever appended to.
+ALTER TABLE expense_activities ADD COLUMN seq BIGSERIAL NOT NULL;
+
+-- Serves keyset pagination (group_id, seq) newest first; also covers group_id lookups.
+CREATE INDEX idx_expense_activities_group_seq ON expense_activities(group_id, seq DESC);
+DROP INDEX IF EXISTS idx_expense_activities_group_id;
@@ -0,0 +1,10 @@
+-- Transactional outbox: domain events written in the same transaction as the group change and
+-- relayed to handlers afterwards. Rows are deleted once every handler has accepted them.
+CREATE TABLE outbox (
+    id BIGSERIAL PRIMARY KEY,
+    dedup_key UUID NOT NULL UNIQUE,
+    group_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload JSONB NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp()
+);
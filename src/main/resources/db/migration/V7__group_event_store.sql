@@ -0,0 +1,25 @@
+-- Event-sourced expense groups: each save appends one commit row holding the binary-encoded
+-- events it produced. The primary key doubles as the optimistic concurrency check, since two
+-- writers that loaded the same commit both try to insert the next one.
+CREATE TABLE group_event_stream (
+    group_id UUID NOT NULL,
+    commit_seq BIGINT NOT NULL,
+    event_version BIGINT NOT NULL,
+    event_count INT NOT NULL,
+    -- set on the first commit only, where the group is created
+    group_name VARCHAR(255),
+    payload BYTEA NOT NULL,
+    recorded_at TIMESTAMPTZ NOT NULL DEFAULT clock_timestamp(),
+    PRIMARY KEY (group_id, commit_seq)
+);
+
+-- Group names are unique, as in expense_groups; the first commit is the only one that names a group.
+CREATE UNIQUE INDEX ux_group_event_stream_name ON group_event_stream (group_name) WHERE commit_seq = 1;
+
+-- Latest full state per group, so loading replays at most a snapshot interval of events.
+CREATE TABLE group_snapshots (
+    group_id UUID PRIMARY KEY,
+    commit_seq BIGINT NOT NULL,
+    event_version BIGINT NOT NULL,
+    payload BYTEA NOT NULL
+);
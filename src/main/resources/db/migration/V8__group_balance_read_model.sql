@@ -0,0 +1,39 @@
+-- Read model for group details and balances, maintained by the outbox relay from domain events.
+-- Outbox rows of a group up to rebuilt_through are already reflected in its rows (they were
+-- copied from the state those rows describe) and are skipped when relayed.
+CREATE TABLE group_balance_view (
+    group_id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    created_by VARCHAR(255) NOT NULL,
+    activated BOOLEAN NOT NULL DEFAULT FALSE,
+    rebuilt_through BIGINT NOT NULL DEFAULT 0
+);
+
+-- join_seq numbers rows as they are inserted, which is join order: an expense split evenly across
+-- all members is shared among the first members in that order.
+CREATE TABLE participant_balance_view (
+    group_id UUID NOT NULL,
+    participant_id UUID NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    balance DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    join_seq BIGSERIAL NOT NULL,
+    PRIMARY KEY (group_id, participant_id)
+);
+
+-- Single row that relays share while they apply a batch and a rebuild takes exclusively.
+CREATE TABLE balance_projection_state (
+    id SMALLINT PRIMARY KEY CHECK (id = 1)
+);
+
+-- Lets a read tell whether the group still has events waiting to be applied.
+CREATE INDEX idx_outbox_group_id ON outbox(group_id);
+
+INSERT INTO group_balance_view (group_id, name, created_by, activated, rebuilt_through)
+SELECT id, name, created_by, activated, (SELECT COALESCE(MAX(id), 0) FROM outbox) FROM expense_groups;
+
+-- Existing participants were always loaded by email, so that is the order they keep.
+INSERT INTO participant_balance_view (group_id, participant_id, email, balance)
+SELECT group_id, participant_id, email, balance_amount FROM expense_group_participants
+ORDER BY group_id, email;
+
+INSERT INTO balance_projection_state (id) VALUES (1);
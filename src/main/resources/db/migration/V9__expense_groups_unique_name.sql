@@ -0,0 +1,30 @@
+-- Group names are unique. GroupName trims the name before it is stored and compares it
+-- case-sensitively, so the stored value is already the normalized name and is indexed as is.
+-- Creating a group is then a single insert: the index rejects a taken name atomically, and
+-- existsByName is an index probe rather than a sequential scan.
+--
+-- Names were not unique before, so check first and stop with the offending names rather than
+-- with a bare index error. Which group keeps a name is a decision for whoever owns the data;
+-- rename the others and rerun the migration.
+DO $$
+DECLARE
+    duplicates TEXT;
+BEGIN
+    SELECT string_agg(format('%L (%s groups)', name, groups), ', ' ORDER BY name)
+    INTO duplicates
+    FROM (
+        SELECT name, count(*) AS groups
+        FROM expense_groups
+        GROUP BY name
+        HAVING count(*) > 1
+        ORDER BY name
+        LIMIT 20
+    ) taken;
+    IF duplicates IS NOT NULL THEN
+        RAISE EXCEPTION 'Expense group names must be unique before ux_expense_groups_name can be created; duplicated: %', duplicates
+            USING HINT = 'Rename all but one group with each name, e.g. UPDATE expense_groups SET name = name || '' (2)'' WHERE id = ..., then rerun the migration.';
+    END IF;
+END
+$$;
+
+CREATE UNIQUE INDEX ux_expense_groups_name ON expense_groups (name);
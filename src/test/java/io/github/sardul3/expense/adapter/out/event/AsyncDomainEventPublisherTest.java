@@ -0,0 +1,246 @@
+package io.github.sardul3.expense.adapter.out.event;
+
+import io.github.sardul3.expense.config.EventPublisherProperties;
+import io.github.sardul3.expense.config.EventPublisherProperties.OverflowPolicy;
+import io.github.sardul3.expense.domain.event.DomainEvent;
+import io.github.sardul3.expense.domain.event.ParticipantAddedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("AsyncDomainEventPublisher")
+class AsyncDomainEventPublisherTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private List<DomainEvent> received;
+    private List<String> deliveryThreads;
+    private AsyncDomainEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        received = new CopyOnWriteArrayList<>();
+        deliveryThreads = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("should deliver events to every handler on virtual consumer threads")
+    void shouldDeliverOnConsumerThreads() {
+        List<DomainEvent> second = new CopyOnWriteArrayList<>();
+        publisher = publisher(properties(64, 2, OverflowPolicy.BLOCK), recording(), second::addAll);
+        List<DomainEvent> events = events(10);
+
+        events.forEach(publisher::publish);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(received).containsExactlyInAnyOrderElementsOf(events);
+            assertThat(second).containsExactlyInAnyOrderElementsOf(events);
+        });
+        assertThat(deliveryThreads).allMatch(name -> name.startsWith("domain-event-consumer-"));
+        assertThat(meterRegistry.counter("domain.events.published").count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("should wake parked consumers for each publish after they go idle")
+    void shouldWakeIdleConsumers() {
+        publisher = publisher(properties(64, 2, OverflowPolicy.BLOCK), recording());
+        List<DomainEvent> events = events(200);
+
+        for (int i = 0; i < events.size(); i++) {
+            if (i % 20 == 0) {
+                // long enough for both consumers to find the buffer empty and park
+                sleep(5);
+            }
+            publisher.publish(events.get(i));
+            int delivered = i + 1;
+            await().atMost(Duration.ofSeconds(5)).until(() -> received.size() == delivered);
+        }
+
+        assertThat(received).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    @DisplayName("should keep delivering to other handlers when one throws")
+    void shouldIsolateFailingHandler() {
+        DomainEventBatchHandler failing = DomainEventBatchHandler.forEach("failing", event -> {
+            throw new IllegalStateException("boom");
+        });
+        publisher = publisher(properties(64, 1, OverflowPolicy.BLOCK), failing, recording());
+        DomainEvent event = events(1).get(0);
+
+        publisher.publish(event);
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(received).containsExactly(event));
+        assertThat(meterRegistry.counter("domain.events.handler.failures", "handler", "failing").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should drop events when the buffer is full under the DROP policy")
+    void shouldDropWhenFull() throws Exception {
+        Gate gate = new Gate();
+        publisher = publisher(properties(1, 1, OverflowPolicy.DROP), gate);
+        List<DomainEvent> events = events(3);
+
+        fillBehindBlockedConsumer(gate, events);
+        gate.release();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(received).containsExactly(events.get(0), events.get(1)));
+        assertThat(meterRegistry.counter("domain.events.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should spill overflow and deliver it after the buffer in publish order")
+    void shouldSpillWhenFull() throws Exception {
+        Gate gate = new Gate();
+        publisher = publisher(properties(1, 1, OverflowPolicy.SPILL), gate);
+        List<DomainEvent> events = events(5);
+
+        fillBehindBlockedConsumer(gate, events.subList(0, 3));
+        publisher.publish(events.get(3));
+        publisher.publish(events.get(4));
+        assertThat(publisher.queueDepth()).isEqualTo(4);
+        gate.release();
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(received).containsExactlyElementsOf(events));
+        assertThat(meterRegistry.counter("domain.events.spilled").count()).isEqualTo(3);
+        assertThat(publisher.queueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("should block the publisher until a slot frees up under the BLOCK policy")
+    void shouldBlockWhenFull() throws Exception {
+        Gate gate = new Gate();
+        publisher = publisher(properties(1, 1, OverflowPolicy.BLOCK), gate);
+        List<DomainEvent> events = events(3);
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> filling = callers.submit(() -> {
+                fillBehindBlockedConsumer(gate, events);
+                return null;
+            });
+            assertThatThrownBy(() -> filling.get(200, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            gate.release();
+            filling.get(5, TimeUnit.SECONDS);
+        }
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(received).containsExactlyElementsOf(events));
+        assertThat(meterRegistry.counter("domain.events.blocked").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should deliver everything queued before close returns")
+    void shouldDrainOnClose() {
+        DomainEventBatchHandler slow = events -> {
+            sleep(1);
+            received.addAll(events);
+        };
+        publisher = publisher(properties(1024, 2, OverflowPolicy.BLOCK), slow);
+        List<DomainEvent> events = events(200);
+
+        events.forEach(publisher::publish);
+        publisher.close();
+
+        assertThat(received).containsExactlyInAnyOrderElementsOf(events);
+    }
+
+    @Test
+    @DisplayName("should deliver on the publishing thread after close")
+    void shouldDeliverInlineAfterClose() {
+        publisher = publisher(properties(64, 1, OverflowPolicy.BLOCK), recording());
+        publisher.close();
+        DomainEvent event = events(1).get(0);
+
+        publisher.publish(event);
+
+        assertThat(received).containsExactly(event);
+        assertThat(deliveryThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    private AsyncDomainEventPublisher publisher(EventPublisherProperties properties, DomainEventBatchHandler... handlers) {
+        return new AsyncDomainEventPublisher(List.of(handlers), properties, meterRegistry);
+    }
+
+    private static EventPublisherProperties properties(int bufferSize, int consumers, OverflowPolicy policy) {
+        return new EventPublisherProperties(true, bufferSize, consumers, 64, policy, Duration.ofSeconds(5));
+    }
+
+    private DomainEventBatchHandler recording() {
+        return events -> {
+            deliveryThreads.add(Thread.currentThread().getName());
+            received.addAll(events);
+        };
+    }
+
+    /** Publishes the first event, waits until the consumer is stuck handling it, then publishes the rest. */
+    private void fillBehindBlockedConsumer(Gate gate, List<DomainEvent> events) throws InterruptedException {
+        publisher.publish(events.get(0));
+        assertThat(gate.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        for (DomainEvent event : events.subList(1, events.size())) {
+            publisher.publish(event);
+        }
+    }
+
+    private static List<DomainEvent> events(int count) {
+        UUID groupId = UUID.randomUUID();
+        return IntStream.range(0, count)
+                .<DomainEvent>mapToObj(i -> new ParticipantAddedEvent(groupId, UUID.randomUUID(), "member" + i + "@example.com"))
+                .toList();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Handler whose first batch blocks until released, so the buffer can be filled behind it. */
+    private final class Gate implements DomainEventBatchHandler {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void handle(List<DomainEvent> events) {
+            entered.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.addAll(events);
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.sardul3.expense.adapter.out.persistence.inmemory;
+
+import io.github.sardul3.expense.adapter.out.event.NoOpDomainEventPublisher;
+import io.github.sardul3.expense.config.InMemoryStoreProperties;
+import io.github.sardul3.expense.config.InMemoryStoreProperties.FsyncPolicy;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryExpenseGroupRepository | write-ahead log and snapshot recovery")
+class InMemoryExpenseGroupRepositoryDurabilityTest {
+
+    @TempDir
+    Path directory;
+
+    private final AtomicBoolean diskFull = new AtomicBoolean();
+    private InMemoryExpenseGroupRepository repository;
+    private ExpenseGroup group;
+
+    @BeforeEach
+    void setUp() {
+        repository = open();
+        group = ExpenseGroup.from(GroupName.withName("trip"), Participant.withEmail("owner@wal.com"));
+        group.addParticipant(Participant.withEmail("member@wal.com"));
+        group.activate();
+        repository.save(group);
+    }
+
+    @Test
+    @DisplayName("should recover every save from the log alone")
+    void shouldRecoverFromLog() {
+        addDinnerAndSettle();
+        repository.close();
+
+        InMemoryExpenseGroupRepository recovered = open();
+
+        assertSameState(recovered.findById(groupId()).orElseThrow(), repository.findById(groupId()).orElseThrow());
+        assertThat(recovered.existsByName(GroupName.withName("trip"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should recover from the snapshot plus the log written after the checkpoint")
+    void shouldRecoverFromSnapshotAndLog() throws IOException {
+        addDinnerAndSettle();
+        repository.checkpoint();
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        loaded.addParticipant(Participant.withEmail("late@wal.com"));
+        repository.save(loaded);
+        repository.close();
+
+        InMemoryExpenseGroupRepository recovered = open();
+
+        assertThat(logSegments()).hasSize(1);
+        ExpenseGroup reloaded = recovered.findById(groupId()).orElseThrow();
+        assertSameState(reloaded, repository.findById(groupId()).orElseThrow());
+        assertThat(reloaded.getParticipantByEmail("late@wal.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("should drop a record cut short at the end of the log and keep the saves before it")
+    void shouldIgnoreTornTail() throws IOException {
+        addDinnerAndSettle();
+        repository.close();
+        Files.write(logSegments().get(logSegments().size() - 1), new byte[]{0, 0, 0, 64, 1, 2, 3},
+                StandardOpenOption.APPEND);
+
+        InMemoryExpenseGroupRepository recovered = open();
+
+        assertSameState(recovered.findById(groupId()).orElseThrow(), repository.findById(groupId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("should roll a save back to the stored group when its log write fails")
+    void shouldRollBackWhenLogWriteFails() {
+        addDinnerAndSettle();
+        repository.checkpoint();
+        ExpenseGroup before = repository.findById(groupId()).orElseThrow();
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        loaded.addParticipant(Participant.withEmail("late@wal.com"));
+        diskFull.set(true);
+
+        assertThatThrownBy(() -> repository.save(loaded)).isInstanceOf(UncheckedIOException.class);
+
+        assertSameState(repository.findById(groupId()).orElseThrow(), before);
+        assertThat(repository.findById(groupId()).orElseThrow().getParticipantByEmail("late@wal.com")).isEmpty();
+        repository.close();
+        assertSameState(open().findById(groupId()).orElseThrow(), before);
+    }
+
+    @Test
+    @DisplayName("should forget a new group when its log write fails")
+    void shouldForgetNewGroupWhenLogWriteFails() {
+        repository.checkpoint();
+        ExpenseGroup created = ExpenseGroup.from(GroupName.withName("lost"), Participant.withEmail("owner@wal.com"));
+        diskFull.set(true);
+
+        assertThatThrownBy(() -> repository.save(created)).isInstanceOf(UncheckedIOException.class);
+
+        assertThat(repository.existsById(created.getId().getId())).isFalse();
+        assertThat(repository.existsByName(GroupName.withName("lost"))).isFalse();
+        assertThat(repository.idsAfter(null)).containsExactly(groupId());
+    }
+
+    private void addDinnerAndSettle() {
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        Participant member = loaded.getParticipantByEmail("member@wal.com").orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("Dinner", Money.of(new BigDecimal("30.01")), loaded.getGroupCreator()));
+        loaded.settle(Settlement.of(member.getParticipantId(), loaded.getGroupCreator().getParticipantId(),
+                Money.of(new BigDecimal("5.00"))));
+        repository.save(loaded);
+    }
+
+    private void assertSameState(ExpenseGroup actual, ExpenseGroup expected) {
+        assertThat(actual.isActivated()).isEqualTo(expected.isActivated());
+        assertThat(actual.getParticipants()).extracting(Participant::getEmail)
+                .containsExactlyElementsOf(expected.getParticipants().stream().map(Participant::getEmail).toList());
+        assertThat(actual.getParticipants()).extracting(Participant::getBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyElementsOf(expected.getParticipants().stream().map(Participant::getBalance).toList());
+        assertThat(actual.getActivities()).extracting(activity -> activity.getId().getId())
+                .containsExactlyElementsOf(expected.getActivities().stream().map(a -> a.getId().getId()).toList());
+    }
+
+    private List<Path> logSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+    /** Opens the store on {@link #directory}; once {@link #diskFull} is set, new log segments cannot be written. */
+    private InMemoryExpenseGroupRepository open() {
+        return new InMemoryExpenseGroupRepository(new NoOpDomainEventPublisher(), new InMemoryStoreProperties(
+                true, directory.toString(), FsyncPolicy.ALWAYS, null, null, null), file -> {
+            if (diskFull.get()) {
+                throw new IOException("No space left on device");
+            }
+            return GroupWriteAheadLog.SegmentOpener.FILES.open(file);
+        });
+    }
+
+    private UUID groupId() {
+        return group.getId().getId();
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.sardul3.expense.adapter.out.persistence.inmemory;
+
+import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.exception.ExpenseGroupAlreadyExistsException;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InMemoryExpenseGroupRepository | concurrent, isolated in-memory store")
+class InMemoryExpenseGroupRepositoryTest {
+
+    private InMemoryExpenseGroupRepository repository;
+    private ExpenseGroup group;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryExpenseGroupRepository();
+        group = ExpenseGroup.from(GroupName.withName("trip"), Participant.withEmail("owner@memory.com"));
+        group.addParticipant(Participant.withEmail("member@memory.com"));
+        group.activate();
+        repository.save(group);
+    }
+
+    @Test
+    @DisplayName("should answer existsByName from the name index")
+    void shouldFindGroupByName() {
+        assertThat(repository.existsByName(GroupName.withName("  trip "))).isTrue();
+        assertThat(repository.existsByName(GroupName.withName("other"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should not let callers change stored state without saving")
+    void shouldIsolateStoredState() {
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("Dinner", Money.of(new BigDecimal("20.00")), loaded.getGroupCreator()));
+        group.addParticipant(Participant.withEmail("late@memory.com"));
+
+        ExpenseGroup reloaded = repository.findById(groupId()).orElseThrow();
+
+        assertThat(reloaded).isNotSameAs(loaded);
+        assertThat(reloaded.getActivities()).isEmpty();
+        assertThat(reloaded.getParticipants()).hasSize(2);
+        assertThat(reloaded.getParticipants()).extracting(Participant::getBalance)
+                .allSatisfy(balance -> assertThat(balance).isEqualByComparingTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("should store every kind of change made to a loaded group")
+    void shouldStoreEveryChangeOfLoadedGroup() {
+        List<Consumer<ExpenseGroup>> changes = List.of(
+                loaded -> loaded.addParticipant(Participant.withEmail("late@memory.com")),
+                loaded -> loaded.addActivity(ExpenseActivity.from("Dinner", Money.of(new BigDecimal("20.00")),
+                        loaded.getGroupCreator())),
+                loaded -> loaded.settle(Settlement.of(
+                        loaded.getParticipantByEmail("member@memory.com").orElseThrow().getParticipantId(),
+                        loaded.getGroupCreator().getParticipantId(), Money.of(new BigDecimal("5.00")))));
+
+        for (Consumer<ExpenseGroup> change : changes) {
+            ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+            change.accept(loaded);
+            repository.save(loaded);
+
+            ExpenseGroup reloaded = repository.findById(groupId()).orElseThrow();
+            assertThat(reloaded.getParticipants()).extracting(Participant::getEmail)
+                    .containsExactlyElementsOf(loaded.getParticipants().stream().map(Participant::getEmail).toList());
+            assertThat(reloaded.getParticipants()).extracting(Participant::getBalance)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactlyElementsOf(loaded.getParticipants().stream().map(Participant::getBalance).toList());
+            assertThat(reloaded.getActivities()).hasSameSizeAs(loaded.getActivities());
+        }
+    }
+
+    @Test
+    @DisplayName("should reject a save based on a stale version")
+    void shouldRejectStaleSave() {
+        ExpenseGroup first = repository.findById(groupId()).orElseThrow();
+        ExpenseGroup second = repository.findById(groupId()).orElseThrow();
+        first.addParticipant(Participant.withEmail("first@memory.com"));
+        second.addParticipant(Participant.withEmail("second@memory.com"));
+        repository.save(first);
+
+        assertThatThrownBy(() -> repository.save(second)).isInstanceOf(ConcurrentGroupUpdateException.class);
+        assertThat(repository.findById(groupId()).orElseThrow().getParticipantByEmail("first@memory.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("should create only one of several groups racing for the same name")
+    void shouldCreateOneGroupPerName() throws Exception {
+        int writers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            int writer = i;
+            results.add(executor.submit(() -> {
+                ExpenseGroup candidate = ExpenseGroup.from(GroupName.withName("race"),
+                        Participant.withEmail("writer" + writer + "@memory.com"));
+                start.await();
+                try {
+                    repository.save(candidate);
+                    return true;
+                } catch (ExpenseGroupAlreadyExistsException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> result : results) {
+            created += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(created).isEqualTo(1);
+        assertThat(repository.findAll()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should page history newest first with a cursor that survives new activities")
+    void shouldPageHistoryByCursor() {
+        InMemoryExpenseActivityQueryRepository history = new InMemoryExpenseActivityQueryRepository(repository);
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        for (int i = 1; i <= 5; i++) {
+            loaded.addActivity(ExpenseActivity.from("Expense " + i, Money.of(BigDecimal.ONE), loaded.getGroupCreator()));
+        }
+        repository.save(loaded);
+
+        ExpenseHistoryCursorPageResponse first = history.findByGroupIdAfter(groupId(), null, 2, true);
+        loaded.addActivity(ExpenseActivity.from("Expense 6", Money.of(BigDecimal.ONE), loaded.getGroupCreator()));
+        repository.save(loaded);
+        ExpenseHistoryCursorPageResponse second = history.findByGroupIdAfter(groupId(), first.nextCursor(), 2, false);
+        ExpenseHistoryCursorPageResponse last = history.findByGroupIdAfter(groupId(), second.nextCursor(), 2, false);
+
+        assertThat(first.content()).extracting(ActivityView::description).containsExactly("Expense 5", "Expense 4");
+        assertThat(first.totalElements()).isEqualTo(5L);
+        assertThat(second.content()).extracting(ActivityView::description).containsExactly("Expense 3", "Expense 2");
+        assertThat(last.content()).extracting(ActivityView::description).containsExactly("Expense 1");
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    private UUID groupId() {
+        return group.getId().getId();
+    }
+}
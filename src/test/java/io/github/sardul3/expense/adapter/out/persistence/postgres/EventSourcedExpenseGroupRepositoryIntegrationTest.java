@@ -0,0 +1,171 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.adapter.out.persistence.postgres.eventstore.EventSourcedExpenseGroupRepository;
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.exception.ExpenseGroupAlreadyExistsException;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import io.github.sardul3.integration.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("integration")
+@ActiveProfiles("event-sourced")
+@Import(StatementCounter.Config.class)
+@TestPropertySource(properties = {
+        "app.persistence.snapshot-interval=5",
+        "app.outbox.relay-enabled=false"
+})
+@DisplayName("EventSourcedExpenseGroupRepository | event streams with snapshots")
+class EventSourcedExpenseGroupRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Participant owner;
+    private Participant member;
+    private ExpenseGroup group;
+
+    @BeforeEach
+    void setUp() {
+        owner = Participant.withEmail("owner@stream.com");
+        member = Participant.withEmail("member@stream.com");
+        group = ExpenseGroup.from(GroupName.withName("stream-" + UUID.randomUUID()), owner);
+        group.addParticipant(member);
+        group.activate();
+        repository.save(group);
+    }
+
+    @Test
+    @DisplayName("should be the active repository under the event-sourced profile")
+    void shouldBeActiveRepository() {
+        assertThat(repository).isInstanceOf(EventSourcedExpenseGroupRepository.class);
+        assertThat(repository.existsById(groupId())).isTrue();
+        assertThat(repository.existsByName(group.getGroupName())).isTrue();
+        assertThat(repository.existsByName(GroupName.withName("absent-" + UUID.randomUUID()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("should rebuild balances, activities and splits from the stream")
+    void shouldRebuildGroupFromStream() {
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        Participant carol = Participant.withEmail("carol@stream.com");
+        loaded.addParticipant(carol);
+        Participant payer = loaded.getParticipantById(owner.getParticipantId()).orElseThrow();
+        Map<ParticipantId, Long> weights = new LinkedHashMap<>();
+        weights.put(owner.getParticipantId(), 1L);
+        weights.put(carol.getParticipantId(), 2L);
+        loaded.addActivity(ExpenseActivity.from("Rent", Money.of(new BigDecimal("90.00")), payer,
+                ExpenseSplit.weighted(weights)));
+        loaded.addActivity(ExpenseActivity.from("Dinner", Money.of(new BigDecimal("10.01")), payer));
+        loaded.settle(Settlement.of(carol.getParticipantId(), owner.getParticipantId(), Money.of(BigDecimal.TEN)));
+        repository.save(loaded);
+
+        ExpenseGroup reloaded = repository.findById(groupId()).orElseThrow();
+
+        assertThat(reloaded.isActivated()).isTrue();
+        assertThat(reloaded.getParticipants()).extracting(Participant::getEmail)
+                .containsExactly("owner@stream.com", "member@stream.com", "carol@stream.com");
+        assertThat(reloaded.getParticipants()).extracting(Participant::getBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyElementsOf(loaded.getParticipants().stream().map(Participant::getBalance).toList());
+        assertThat(reloaded.getActivities()).extracting(activity -> activity.getId().getId())
+                .containsExactlyElementsOf(loaded.getActivities().stream().map(a -> a.getId().getId()).toList());
+        assertThat(reloaded.getActivities().get(0).getSplit().getType()).isEqualTo(ExpenseSplit.Type.WEIGHTED);
+        assertThat(reloaded.pullEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should append a save with one insert alongside the outbox write")
+    void shouldAppendWithSingleInsert() {
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("Coffee", Money.of(new BigDecimal("4.50")),
+                loaded.getGroupCreator()));
+
+        statementCounter.reset();
+        repository.save(loaded);
+
+        // the commit row, then the outbox batch
+        assertThat(statementCounter.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("should snapshot every interval and load with a single query")
+    void shouldSnapshotAndLoadInOneQuery() {
+        for (int i = 0; i < 12; i++) {
+            ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+            loaded.addActivity(ExpenseActivity.from("Expense " + i, Money.of(BigDecimal.ONE), loaded.getGroupCreator()));
+            repository.save(loaded);
+        }
+
+        Long snapshotCommit = jdbcTemplate.queryForObject(
+                "SELECT commit_seq FROM group_snapshots WHERE group_id = ?", Long.class, groupId());
+        Integer tail = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM group_event_stream WHERE group_id = ? AND commit_seq > ?",
+                Integer.class, groupId(), snapshotCommit);
+        assertThat(snapshotCommit).isEqualTo(10L);
+        assertThat(tail).isLessThan(5);
+
+        statementCounter.reset();
+        ExpenseGroup reloaded = repository.findById(groupId()).orElseThrow();
+
+        assertThat(statementCounter.count()).isEqualTo(1);
+        assertThat(reloaded.getActivities()).hasSize(12);
+        assertThat(reloaded.getGroupCreator().getBalance()).isEqualByComparingTo("6.00");
+    }
+
+    @Test
+    @DisplayName("should reject a save based on a stale commit")
+    void shouldRejectStaleSave() {
+        ExpenseGroup first = repository.findById(groupId()).orElseThrow();
+        ExpenseGroup second = repository.findById(groupId()).orElseThrow();
+        first.addParticipant(Participant.withEmail("first@stream.com"));
+        second.addParticipant(Participant.withEmail("second@stream.com"));
+        repository.save(first);
+
+        assertThatThrownBy(() -> repository.save(second)).isInstanceOf(ConcurrentGroupUpdateException.class);
+        assertThat(repository.findById(groupId()).orElseThrow().getParticipantByEmail("first@stream.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("should reject a new stream whose group name is already taken")
+    void shouldRejectDuplicateName() {
+        ExpenseGroup duplicate = ExpenseGroup.from(group.getGroupName(), Participant.withEmail("other@stream.com"));
+
+        assertThatThrownBy(() -> repository.save(duplicate)).isInstanceOf(ExpenseGroupAlreadyExistsException.class);
+        assertThat(repository.existsById(duplicate.getId().getId())).isFalse();
+    }
+
+    private UUID groupId() {
+        return group.getId().getId();
+    }
+}
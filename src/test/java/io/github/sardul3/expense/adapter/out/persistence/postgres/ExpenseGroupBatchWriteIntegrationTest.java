@@ -0,0 +1,103 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import io.github.sardul3.integration.StatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@Import(StatementCounter.Config.class)
+@TestPropertySource(properties = {
+        "app.persistence.batch-size=1000",
+        "app.cache.expense-groups.enabled=false",
+        "app.outbox.relay-enabled=false"
+})
+@DisplayName("PostgresExpenseGroupRepository | batched writes")
+class ExpenseGroupBatchWriteIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int PARTICIPANTS = 1_000;
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Test
+    @DisplayName("should write a 1,000-participant group with one statement per table")
+    void shouldWriteLargeGroupWithOneStatementPerTable() {
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("batch-1000"), Participant.withEmail("owner@batch.com"));
+        for (int i = 1; i < PARTICIPANTS; i++) {
+            group.addParticipant(Participant.withEmail("member" + i + "@batch.com"));
+        }
+
+        statementCounter.reset();
+        repository.save(group);
+
+        // existence probe for the unseen aggregate + group upsert + one participant batch,
+        // then the outbox batch for the creation events, written in the same transaction
+        assertThat(statementCounter.count()).isEqualTo(4);
+        ExpenseGroup loaded = repository.findById(group.getId().getId()).orElseThrow();
+        assertThat(loaded.getParticipants()).hasSize(PARTICIPANTS);
+    }
+
+    @Test
+    @DisplayName("should write one activity and the changed balances in a constant number of statements")
+    void shouldWriteExpenseDeltaInConstantStatements() {
+        Participant owner = Participant.withEmail("owner@delta.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("batch-delta"), owner);
+        for (int i = 1; i < PARTICIPANTS; i++) {
+            group.addParticipant(Participant.withEmail("member" + i + "@delta.com"));
+        }
+        group.activate();
+        repository.save(group);
+
+        ExpenseGroup loaded = repository.findById(group.getId().getId()).orElseThrow();
+        Participant payer = loaded.getParticipantById(owner.getParticipantId()).orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("Office lunch", Money.of(BigDecimal.valueOf(10_000)), payer));
+
+        statementCounter.reset();
+        repository.save(loaded);
+
+        // version check + participant balance batch + activity batch, then the outbox batch for the expense event
+        assertThat(statementCounter.count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("should load and append to a group without reading its activity history")
+    void shouldAppendExpenseWithoutReadingHistory() {
+        Participant owner = Participant.withEmail("owner@ledger.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("batch-ledger"), owner);
+        group.addParticipant(Participant.withEmail("member@ledger.com"));
+        group.activate();
+        for (int i = 0; i < 200; i++) {
+            group.addActivity(ExpenseActivity.from("Expense " + i, Money.of(BigDecimal.TEN), owner));
+        }
+        repository.save(group);
+
+        statementCounter.reset();
+        ExpenseGroup loaded = repository.findById(group.getId().getId()).orElseThrow();
+        Participant payer = loaded.getParticipantById(owner.getParticipantId()).orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("One more", Money.of(BigDecimal.TEN), payer));
+        repository.save(loaded);
+
+        // group and participant select, then version check + balance delta batch + activity batch
+        // + the outbox batch for the expense event
+        assertThat(statementCounter.count()).isEqualTo(5);
+        assertThat(repository.findById(group.getId().getId()).orElseThrow().getActivities()).hasSize(201);
+    }
+}
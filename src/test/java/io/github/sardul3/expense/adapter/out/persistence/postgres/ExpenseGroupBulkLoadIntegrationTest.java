@@ -0,0 +1,60 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import io.github.sardul3.integration.StatementCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@Import(StatementCounter.Config.class)
+@TestPropertySource(properties = {"app.persistence.batch-size=1000", "app.outbox.relay-enabled=false"})
+@DisplayName("PostgresExpenseGroupRepository | set-based findAll")
+class ExpenseGroupBulkLoadIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Test
+    @DisplayName("should reconstitute many groups with a constant number of queries")
+    void shouldLoadAllGroupsInConstantQueries() {
+        for (int i = 0; i < 50; i++) {
+            Participant owner = Participant.withEmail("owner" + i + "@bulk.com");
+            ExpenseGroup group = ExpenseGroup.from(GroupName.withName("bulk-load-" + i), owner);
+            group.addParticipant(Participant.withEmail("member" + i + "@bulk.com"));
+            group.activate();
+            group.addActivity(ExpenseActivity.from("Groceries", Money.of(BigDecimal.valueOf(20)), owner));
+            repository.save(group);
+        }
+
+        statementCounter.reset();
+        List<ExpenseGroup> groups = repository.findAll();
+
+        // groups + participants + activities, independent of the number of groups
+        assertThat(statementCounter.count()).isEqualTo(3);
+        assertThat(groups)
+                .filteredOn(g -> g.getGroupName().getName().startsWith("bulk-load-"))
+                .hasSize(50)
+                .allSatisfy(g -> {
+                    assertThat(g.getParticipants()).hasSize(2);
+                    assertThat(g.getActivities()).hasSize(1);
+                });
+    }
+}
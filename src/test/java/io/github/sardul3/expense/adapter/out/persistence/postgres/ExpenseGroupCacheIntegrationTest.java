@@ -0,0 +1,148 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.adapter.out.persistence.postgres.repository.ExpenseGroupCache;
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import io.github.sardul3.integration.StatementCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("integration")
+@Import(StatementCounter.Config.class)
+@TestPropertySource(properties = "app.outbox.relay-enabled=false")
+@DisplayName("PostgresExpenseGroupRepository | group cache")
+class ExpenseGroupCacheIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    @Autowired
+    private ExpenseGroupCache cache;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Participant owner;
+    private UUID groupId;
+
+    @BeforeEach
+    void setUp() {
+        owner = Participant.withEmail("owner@cache.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("cache-" + UUID.randomUUID()), owner);
+        group.addParticipant(Participant.withEmail("member@cache.com"));
+        group.activate();
+        repository.save(group);
+        groupId = group.getId().getId();
+    }
+
+    @Test
+    @DisplayName("should serve a saved group without querying the database")
+    void shouldServeSavedGroupFromCache() {
+        long hitsBefore = cache.stats().hitCount();
+
+        statementCounter.reset();
+        ExpenseGroup loaded = repository.findById(groupId).orElseThrow();
+
+        assertThat(statementCounter.count()).isZero();
+        assertThat(loaded.getParticipants()).hasSize(2);
+        assertThat(cache.stats().hitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("should hand out a separate aggregate per hit and write the saved state through")
+    void shouldWriteThroughOnSave() {
+        ExpenseGroup first = repository.findById(groupId).orElseThrow();
+        ExpenseGroup second = repository.findById(groupId).orElseThrow();
+        assertThat(first).isNotSameAs(second);
+
+        first.addActivity(ExpenseActivity.from("Lunch", Money.of(BigDecimal.valueOf(20)),
+                first.getParticipantById(owner.getParticipantId()).orElseThrow()));
+        repository.save(first);
+
+        statementCounter.reset();
+        ExpenseGroup reloaded = repository.findById(groupId).orElseThrow();
+        assertThat(statementCounter.count()).isZero();
+        assertThat(reloaded.getActivities()).hasSize(1);
+        assertThat(reloaded.getParticipantById(owner.getParticipantId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("10.00");
+    }
+
+    @Test
+    @DisplayName("should evict a stale entry when a save conflicts, so the retry reads fresh rows")
+    void shouldEvictOnConflict() {
+        ExpenseGroup cached = repository.findById(groupId).orElseThrow();
+        jdbcTemplate.update("UPDATE expense_groups SET version = version + 1 WHERE id = ?", groupId);
+
+        cached.addActivity(ExpenseActivity.from("Lunch", Money.of(BigDecimal.valueOf(20)),
+                cached.getParticipantById(owner.getParticipantId()).orElseThrow()));
+        assertThatThrownBy(() -> repository.save(cached)).isInstanceOf(ConcurrentGroupUpdateException.class);
+
+        ExpenseGroup fresh = repository.findById(groupId).orElseThrow();
+        fresh.addActivity(ExpenseActivity.from("Lunch", Money.of(BigDecimal.valueOf(20)),
+                fresh.getParticipantById(owner.getParticipantId()).orElseThrow()));
+        repository.save(fresh);
+        assertThat(repository.findById(groupId).orElseThrow().getActivities()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("should hand out participants in join order from the cache and the database alike")
+    void shouldKeepJoinOrderAcrossCacheAndDatabase() {
+        Participant zoe = Participant.withEmail("zoe@order.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("order-" + UUID.randomUUID()), zoe);
+        group.addParticipant(Participant.withEmail("mia@order.com"));
+        group.addParticipant(Participant.withEmail("amy@order.com"));
+        group.activate();
+        repository.save(group);
+        UUID orderedGroupId = group.getId().getId();
+
+        ExpenseGroup cached = repository.findById(orderedGroupId).orElseThrow();
+        cache.invalidate(orderedGroupId);
+        ExpenseGroup fromDatabase = repository.findById(orderedGroupId).orElseThrow();
+
+        assertThat(cached.getParticipants()).extracting(Participant::getEmail)
+                .containsExactly("zoe@order.com", "mia@order.com", "amy@order.com");
+        assertThat(fromDatabase.getParticipants()).extracting(Participant::getEmail)
+                .containsExactly("zoe@order.com", "mia@order.com", "amy@order.com");
+        // 0.10 three ways leaves a cent over, which goes to the earliest member on both copies
+        cached.addActivity(ExpenseActivity.from("Gum", Money.of(new BigDecimal("0.10")),
+                cached.getParticipantById(zoe.getParticipantId()).orElseThrow()));
+        fromDatabase.addActivity(ExpenseActivity.from("Gum", Money.of(new BigDecimal("0.10")),
+                fromDatabase.getParticipantById(zoe.getParticipantId()).orElseThrow()));
+        assertThat(cached.getParticipants()).extracting(Participant::getBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyElementsOf(fromDatabase.getParticipants().stream().map(Participant::getBalance).toList());
+    }
+
+    @Test
+    @DisplayName("should reload from the database after an explicit invalidation")
+    void shouldReloadAfterInvalidation() {
+        cache.invalidate(groupId);
+
+        statementCounter.reset();
+        repository.findById(groupId).orElseThrow();
+
+        // group row and participants in one select
+        assertThat(statementCounter.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.application.dto.CreateExpenseActivityCommand;
+import io.github.sardul3.expense.application.port.in.CreateExpenseActivityUseCase;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@TestPropertySource(properties = {
+        "app.concurrency.max-attempts=200",
+        "app.concurrency.initial-backoff=1ms",
+        "app.concurrency.max-backoff=50ms"
+})
+@DisplayName("ExpenseGroup | concurrent writers")
+class ExpenseGroupConcurrencyIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int MEMBERS = 4;
+    private static final int PAYERS = 3;
+    private static final int EXPENSES = 300;
+
+    @Autowired
+    private CreateExpenseActivityUseCase createExpenseActivityUseCase;
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    @Test
+    @DisplayName("should keep every expense and conserve balances under hundreds of parallel writers")
+    void shouldConserveBalancesUnderParallelExpenses() throws Exception {
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("concurrency-stress"), Participant.withEmail("member0@stress.com"));
+        for (int i = 1; i < MEMBERS; i++) {
+            group.addParticipant(Participant.withEmail("member" + i + "@stress.com"));
+        }
+        group.activate();
+        repository.save(group);
+        UUID groupId = group.getId().getId();
+        List<UUID> memberIds = group.getParticipants().stream()
+                .map(p -> p.getParticipantId().getId())
+                .toList();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < EXPENSES; i++) {
+                UUID payer = memberIds.get(i % PAYERS);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return createExpenseActivityUseCase.createExpenseActivity(new CreateExpenseActivityCommand(
+                            groupId, "Round", BigDecimal.valueOf(4), payer, null));
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        ExpenseGroup reloaded = repository.findById(groupId).orElseThrow();
+        assertThat(reloaded.getActivities()).hasSize(EXPENSES);
+        // every round costs each member 1.00; payers get back 4.00 for each round they paid
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < MEMBERS; i++) {
+            long roundsPaid = i < PAYERS ? EXPENSES / PAYERS : 0;
+            BigDecimal balance = reloaded.getParticipantById(ParticipantId.from(memberIds.get(i))).orElseThrow().getBalance();
+            assertThat(balance).isEqualByComparingTo(BigDecimal.valueOf(4 * roundsPaid - EXPENSES));
+            total = total.add(balance);
+        }
+        assertThat(total).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+}
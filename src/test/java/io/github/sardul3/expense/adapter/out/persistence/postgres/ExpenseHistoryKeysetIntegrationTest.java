@@ -0,0 +1,105 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
+import io.github.sardul3.expense.application.port.out.ExpenseActivityQueryRepository;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("integration")
+@DisplayName("PostgresExpenseActivityQueryRepository | keyset pagination and export")
+class ExpenseHistoryKeysetIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int ACTIVITIES = 53;
+
+    @Autowired
+    private ExpenseGroupRepository groupRepository;
+
+    @Autowired
+    private ExpenseActivityQueryRepository queryRepository;
+
+    @Test
+    @DisplayName("should walk the whole history by cursor newest first, without gaps or repeats")
+    void shouldWalkHistoryByCursor() {
+        Participant owner = Participant.withEmail("owner@keyset.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("keyset-walk"), owner);
+        group.addParticipant(Participant.withEmail("member@keyset.com"));
+        group.activate();
+        List<UUID> inserted = new ArrayList<>();
+        for (int i = 0; i < ACTIVITIES; i++) {
+            ExpenseActivity activity = ExpenseActivity.from("Expense " + i, Money.of(BigDecimal.TEN), owner);
+            group.addActivity(activity);
+            inserted.add(activity.getId().getId());
+        }
+        groupRepository.save(group);
+        UUID groupId = group.getId().getId();
+
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ExpenseHistoryCursorPageResponse page = queryRepository.findByGroupIdAfter(groupId, cursor, 10, pages == 0);
+            if (pages == 0) {
+                assertThat(page.totalElements()).isEqualTo(ACTIVITIES);
+            } else {
+                assertThat(page.totalElements()).isNull();
+            }
+            page.content().stream().map(ActivityView::id).forEach(seen::add);
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(6);
+        // all rows go out in one batch and may share a timestamp; the insertion sequence still
+        // returns them exactly in reverse insertion order
+        Collections.reverse(inserted);
+        assertThat(seen).containsExactlyElementsOf(inserted);
+    }
+
+    @Test
+    @DisplayName("should stream every activity of the group in the same order as the cursor pages")
+    void shouldStreamWholeHistory() {
+        Participant owner = Participant.withEmail("owner@export.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("keyset-export"), owner);
+        group.addParticipant(Participant.withEmail("member@export.com"));
+        group.activate();
+        for (int i = 0; i < ACTIVITIES; i++) {
+            group.addActivity(ExpenseActivity.from("Expense " + i, Money.of(BigDecimal.TEN), owner));
+        }
+        groupRepository.save(group);
+        UUID groupId = group.getId().getId();
+
+        List<UUID> streamed = new ArrayList<>();
+        queryRepository.forEachByGroupId(groupId, view -> streamed.add(view.id()));
+
+        List<UUID> paged = queryRepository.findByGroupIdAfter(groupId, null, ACTIVITIES, false).content().stream()
+                .map(ActivityView::id)
+                .toList();
+        assertThat(streamed).hasSize(ACTIVITIES).containsExactlyElementsOf(paged);
+    }
+
+    @Test
+    @DisplayName("should reject a cursor it did not issue")
+    void shouldRejectForeignCursor() {
+        assertThatThrownBy(() -> queryRepository.findByGroupIdAfter(UUID.randomUUID(), "not-a-cursor", 10, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
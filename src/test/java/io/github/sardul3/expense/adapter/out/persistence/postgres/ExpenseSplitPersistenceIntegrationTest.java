@@ -0,0 +1,100 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@TestPropertySource(properties = {"app.cache.expense-groups.enabled=false", "app.outbox.relay-enabled=false"})
+@DisplayName("PostgresExpenseGroupRepository | expense split round trip")
+class ExpenseSplitPersistenceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    static Stream<Arguments> splits() {
+        return Stream.of(
+                Arguments.of("even across all members", (SplitFactory) (alice, bob, carol) -> new ExpenseSplit(true)),
+                Arguments.of("even across custom members", (SplitFactory) (alice, bob, carol) ->
+                        ExpenseSplit.customSplitWithPayerIncluded(List.of(carol), alice)),
+                Arguments.of("weighted", (SplitFactory) (alice, bob, carol) -> {
+                    Map<ParticipantId, Long> weights = new LinkedHashMap<>();
+                    weights.put(carol, 3L);
+                    weights.put(bob, 1L);
+                    return ExpenseSplit.weighted(weights);
+                }),
+                Arguments.of("percentage", (SplitFactory) (alice, bob, carol) -> {
+                    Map<ParticipantId, BigDecimal> percentages = new LinkedHashMap<>();
+                    percentages.put(bob, new BigDecimal("66.66"));
+                    percentages.put(alice, new BigDecimal("33.34"));
+                    return ExpenseSplit.byPercentage(percentages);
+                }),
+                Arguments.of("fixed amounts", (SplitFactory) (alice, bob, carol) -> {
+                    Map<ParticipantId, Money> amounts = new LinkedHashMap<>();
+                    amounts.put(carol, Money.of(new BigDecimal("7.50")));
+                    amounts.put(alice, Money.of(new BigDecimal("2.50")));
+                    return ExpenseSplit.fixedAmounts(amounts);
+                }));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("splits")
+    @DisplayName("should reload the exact split through findById and findAll")
+    void shouldRoundTripSplit(String kind, SplitFactory splitFactory) {
+        Participant alice = Participant.withEmail("alice@split.com");
+        Participant bob = Participant.withEmail("bob@split.com");
+        Participant carol = Participant.withEmail("carol@split.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("split-" + UUID.randomUUID()), alice);
+        group.addParticipant(bob);
+        group.addParticipant(carol);
+        group.activate();
+        ExpenseSplit original = splitFactory.create(alice.getParticipantId(), bob.getParticipantId(), carol.getParticipantId());
+        group.addActivity(ExpenseActivity.from("Shared", Money.of(BigDecimal.TEN), alice, original));
+        repository.save(group);
+        UUID groupId = group.getId().getId();
+
+        ExpenseGroup loaded = repository.findById(groupId).orElseThrow();
+        ExpenseGroup bulkLoaded = repository.findAll().stream()
+                .filter(g -> g.getId().getId().equals(groupId))
+                .findFirst()
+                .orElseThrow();
+
+        assertSameSplit(loaded.getActivities().get(0).getSplit(), original);
+        assertSameSplit(bulkLoaded.getActivities().get(0).getSplit(), original);
+    }
+
+    private static void assertSameSplit(ExpenseSplit copy, ExpenseSplit original) {
+        assertThat(copy.getType()).isEqualTo(original.getType());
+        assertThat(copy.isSplitEvenlyForAllMembers()).isEqualTo(original.isSplitEvenlyForAllMembers());
+        assertThat(copy.getSplitMembers()).isEqualTo(original.getSplitMembers());
+        assertThat(copy.getWeights()).isEqualTo(original.getWeights());
+        assertThat(copy.getFixedAmounts()).isEqualTo(original.getFixedAmounts());
+    }
+
+    @FunctionalInterface
+    interface SplitFactory {
+        ExpenseSplit create(ParticipantId alice, ParticipantId bob, ParticipantId carol);
+    }
+}
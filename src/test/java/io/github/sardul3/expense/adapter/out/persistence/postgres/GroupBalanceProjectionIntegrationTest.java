@@ -0,0 +1,141 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.adapter.out.persistence.postgres.outbox.OutboxRelay;
+import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
+import io.github.sardul3.expense.application.dto.GroupBalanceResponse;
+import io.github.sardul3.expense.application.dto.ParticipantBalanceView;
+import io.github.sardul3.expense.application.port.in.GetGroupBalanceUseCase;
+import io.github.sardul3.expense.application.port.in.RebuildBalanceReadModelUseCase;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.application.port.out.GroupBalanceReadModel;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("integration")
+@TestPropertySource(properties = {"app.outbox.relay-enabled=false", "app.outbox.batch-size=1000",
+        "app.read-model.balances.rebuild-chunk-size=1"})
+@DisplayName("GroupBalanceProjection | balance read model fed from the outbox")
+class GroupBalanceProjectionIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    @Autowired
+    private GroupBalanceReadModel readModel;
+
+    @Autowired
+    private GetGroupBalanceUseCase getGroupBalanceUseCase;
+
+    @Autowired
+    private RebuildBalanceReadModelUseCase rebuildBalanceReadModelUseCase;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Participant owner;
+    private Participant member;
+    private ExpenseGroup group;
+
+    @BeforeEach
+    void setUp() {
+        owner = Participant.withEmail("owner@projection.com");
+        member = Participant.withEmail("member@projection.com");
+        group = ExpenseGroup.from(GroupName.withName("projection-" + UUID.randomUUID()), owner);
+        group.addParticipant(member);
+        group.activate();
+        repository.save(group);
+        drainOutbox();
+    }
+
+    @Test
+    @DisplayName("should project a new group from its creation, join and activation events")
+    void shouldProjectNewGroup() {
+        ExpenseGroupDetailResponse projected = readModel.findByGroupId(groupId()).orElseThrow();
+
+        assertThat(projected.name()).isEqualTo(group.getGroupName().getName());
+        assertThat(projected.createdBy()).isEqualTo("owner@projection.com");
+        assertThat(projected.activated()).isTrue();
+        assertThat(projected.participants()).extracting(ParticipantBalanceView::email)
+                .containsExactly("member@projection.com", "owner@projection.com");
+        assertThat(projected.participants()).extracting(ParticipantBalanceView::balance)
+                .allSatisfy(balance -> assertThat(balance).isEqualByComparingTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("should fall back to the group while events are pending, then serve the applied balances")
+    void shouldServeAppliedBalancesOnceRelayed() {
+        long lagSamples = meterRegistry.get("read_model.group_balances.lag").timer().count();
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("Dinner", Money.of(new BigDecimal("30.01")), loaded.getGroupCreator()));
+        loaded.settle(Settlement.of(member.getParticipantId(), owner.getParticipantId(), Money.of(new BigDecimal("5.00"))));
+        repository.save(loaded);
+
+        assertThat(readModel.findByGroupId(groupId())).isEmpty();
+        assertBalances(getGroupBalanceUseCase.getBalance(groupId()), "10.00", "-10.00");
+
+        drainOutbox();
+
+        ExpenseGroupDetailResponse projected = readModel.findByGroupId(groupId()).orElseThrow();
+        assertBalances(new GroupBalanceResponse(projected.id(), projected.participants()), "10.00", "-10.00");
+        assertThat(meterRegistry.get("read_model.group_balances.lag").timer().count()).isGreaterThan(lagSamples);
+    }
+
+    @Test
+    @DisplayName("should rebuild from the stored groups without applying pending events twice")
+    void shouldRebuildWithoutDoubleCounting() {
+        jdbcTemplate.update("UPDATE participant_balance_view SET balance = 999 WHERE group_id = ?", groupId());
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("Taxi", Money.of(new BigDecimal("20.00")), loaded.getGroupCreator()));
+        repository.save(loaded);
+
+        int groups = rebuildBalanceReadModelUseCase.rebuild();
+        drainOutbox();
+
+        assertThat(groups).isGreaterThanOrEqualTo(1);
+        ExpenseGroupDetailResponse projected = readModel.findByGroupId(groupId()).orElseThrow();
+        assertBalances(new GroupBalanceResponse(projected.id(), projected.participants()), "10.00", "-10.00");
+    }
+
+    private void assertBalances(GroupBalanceResponse response, String ownerBalance, String memberBalance) {
+        assertThat(response.participants()).filteredOn(p -> p.participantId().equals(owner.getParticipantId().getId()))
+                .singleElement()
+                .satisfies(p -> assertThat(p.balance()).isEqualByComparingTo(ownerBalance));
+        assertThat(response.participants()).filteredOn(p -> p.participantId().equals(member.getParticipantId().getId()))
+                .singleElement()
+                .satisfies(p -> assertThat(p.balance()).isEqualByComparingTo(memberBalance));
+    }
+
+    private void drainOutbox() {
+        while (relay.relayBatch() > 0) {
+            // keep relaying until the outbox is empty
+        }
+    }
+
+    private UUID groupId() {
+        return group.getId().getId();
+    }
+}
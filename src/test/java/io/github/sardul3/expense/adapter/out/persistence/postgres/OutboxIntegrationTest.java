@@ -0,0 +1,204 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.adapter.out.persistence.postgres.outbox.OutboxEvent;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.outbox.OutboxEventHandler;
+import io.github.sardul3.expense.adapter.out.persistence.postgres.outbox.OutboxRelay;
+import io.github.sardul3.expense.application.dto.SettleUpCommand;
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.port.in.SettleUpUseCase;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.event.SettlementCompletedEvent;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("integration")
+@Import(OutboxIntegrationTest.RecordingHandlerConfig.class)
+@TestPropertySource(properties = {"app.outbox.relay-enabled=false", "app.outbox.batch-size=1000"})
+@DisplayName("PostgresExpenseGroupRepository | transactional outbox")
+class OutboxIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    @Autowired
+    private SettleUpUseCase settleUpUseCase;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ExpenseGroup group;
+    private Participant owner;
+    private Participant member;
+
+    @BeforeEach
+    void setUp() {
+        handler.failNext.set(false);
+        owner = Participant.withEmail("owner@outbox.com");
+        member = Participant.withEmail("member@outbox.com");
+        group = ExpenseGroup.from(GroupName.withName("outbox-" + UUID.randomUUID()), owner);
+        group.addParticipant(member);
+        group.activate();
+        repository.save(group);
+        relay.relayBatch();
+        handler.received.clear();
+    }
+
+    @Test
+    @DisplayName("should write a use case's event with the change and relay it once")
+    void shouldRelayEventWrittenWithChange() {
+        settleUpUseCase.settleUp(groupId(), new SettleUpCommand(
+                member.getParticipantId().getId(), owner.getParticipantId().getId(), BigDecimal.TEN));
+        assertThat(pendingRows()).isEqualTo(1);
+
+        assertThat(relay.relayBatch()).isEqualTo(1);
+
+        assertThat(handler.received).singleElement().satisfies(relayed -> {
+            assertThat(relayed.groupId()).isEqualTo(groupId());
+            assertThat(relayed.dedupKey()).isNotNull();
+            assertThat(relayed.event()).isEqualTo(new SettlementCompletedEvent(groupId(),
+                    member.getParticipantId().getId(), owner.getParticipantId().getId(), new BigDecimal("10.00")));
+        });
+        assertThat(pendingRows()).isZero();
+        assertThat(relay.relayBatch()).isZero();
+    }
+
+    @Test
+    @DisplayName("should not write events when the save is rejected")
+    void shouldNotWriteEventsForRejectedSave() {
+        ExpenseGroup stale = repository.findById(groupId()).orElseThrow();
+        ExpenseGroup current = repository.findById(groupId()).orElseThrow();
+        current.addParticipant(Participant.withEmail("first@outbox.com"));
+        repository.save(current);
+
+        stale.addParticipant(Participant.withEmail("second@outbox.com"));
+        assertThatThrownBy(() -> repository.save(stale))
+                .isInstanceOf(ConcurrentGroupUpdateException.class);
+
+        assertThat(pendingRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should redeliver a failed batch with the same dedup keys")
+    void shouldRedeliverFailedBatch() {
+        saveWithEvents(3);
+        handler.failNext.set(true);
+
+        assertThatThrownBy(() -> relay.relayBatch()).isInstanceOf(IllegalStateException.class);
+        assertThat(pendingRows()).isEqualTo(3);
+        List<UUID> firstKeys = handler.received.stream().map(OutboxEvent::dedupKey).toList();
+        handler.received.clear();
+
+        assertThat(relay.relayBatch()).isEqualTo(3);
+
+        assertThat(handler.received).extracting(OutboxEvent::dedupKey).containsExactlyElementsOf(firstKeys);
+        assertThat(pendingRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("should skip rows another relay has claimed")
+    void shouldSkipLockedRows() throws Exception {
+        saveWithEvents(4);
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate otherRelay = new TransactionTemplate(transactionManager);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> holder = executor.submit(() -> otherRelay.executeWithoutResult(status -> {
+                jdbcTemplate.queryForList("SELECT id FROM outbox ORDER BY id LIMIT 2 FOR UPDATE");
+                claimed.countDown();
+                await(release);
+            }));
+            assertThat(claimed.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(relay.relayBatch()).isEqualTo(2);
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(handler.received).hasSize(2);
+        assertThat(pendingRows()).isEqualTo(2);
+    }
+
+    private UUID groupId() {
+        return group.getId().getId();
+    }
+
+    private void saveWithEvents(int count) {
+        ExpenseGroup loaded = repository.findById(groupId()).orElseThrow();
+        for (int i = 0; i < count; i++) {
+            loaded.addParticipant(Participant.withEmail("added" + i + "@outbox.com"));
+        }
+        repository.save(loaded);
+    }
+
+    private int pendingRows() {
+        Integer rows = jdbcTemplate.queryForObject("SELECT count(*) FROM outbox WHERE group_id = ?", Integer.class, groupId());
+        return rows == null ? 0 : rows;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class RecordingHandler implements OutboxEventHandler {
+        final List<OutboxEvent> received = new CopyOnWriteArrayList<>();
+        final AtomicBoolean failNext = new AtomicBoolean();
+
+        @Override
+        public void handle(List<OutboxEvent> events) {
+            received.addAll(events);
+            if (failNext.getAndSet(false)) {
+                throw new IllegalStateException("handler down");
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.sardul3.expense.adapter.out.persistence.postgres;
+
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.exception.ExpenseGroupAlreadyExistsException;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import io.github.sardul3.integration.AbstractIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Tag("integration")
+@DisplayName("PostgresExpenseGroupRepository | incremental save")
+class PostgresExpenseGroupRepositoryIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private ExpenseGroupRepository repository;
+
+    @Test
+    @DisplayName("should report whether a group exists without loading it")
+    void shouldProbeExistence() {
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("exists-probe"), Participant.withEmail("alice@exists.com"));
+        repository.save(group);
+
+        assertThat(repository.existsById(group.getId().getId())).isTrue();
+        assertThat(repository.existsById(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    @DisplayName("should let exactly one of many concurrent creates with the same name succeed")
+    void shouldRejectDuplicateNamesAtomically() throws Exception {
+        int creators = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < creators; i++) {
+                ExpenseGroup group = ExpenseGroup.from(GroupName.withName("unique-name"), Participant.withEmail("owner" + i + "@unique.com"));
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return repository.save(group);
+                }));
+            }
+            start.countDown();
+            int created = 0;
+            for (Future<?> result : results) {
+                try {
+                    result.get();
+                    created++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(ExpenseGroupAlreadyExistsException.class);
+                }
+            }
+            assertThat(created).isEqualTo(1);
+        }
+        assertThat(repository.existsByName(GroupName.withName("unique-name"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("should keep activity ids stable when a loaded group is saved again")
+    void shouldKeepActivityIdsStableAcrossSaves() {
+        Participant alice = Participant.withEmail("alice@stable.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("stable-ids"), alice);
+        group.addParticipant(Participant.withEmail("bob@stable.com"));
+        group.activate();
+        group.addActivity(ExpenseActivity.from("Dinner", Money.of(BigDecimal.valueOf(40)), alice));
+        repository.save(group);
+        UUID groupId = group.getId().getId();
+        UUID firstActivityId = group.getActivities().get(0).getId().getId();
+
+        ExpenseGroup loaded = repository.findById(groupId).orElseThrow();
+        Participant payer = loaded.getParticipantById(alice.getParticipantId()).orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("Taxi", Money.of(BigDecimal.valueOf(10)), payer));
+        repository.save(loaded);
+
+        ExpenseGroup reloaded = repository.findById(groupId).orElseThrow();
+        List<UUID> activityIds = reloaded.getActivities().stream()
+                .map(a -> a.getId().getId())
+                .toList();
+        assertThat(activityIds).hasSize(2).contains(firstActivityId);
+        assertThat(reloaded.getParticipantById(alice.getParticipantId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("25.00");
+    }
+
+    @Test
+    @DisplayName("should persist balance changes from a settlement without touching activities")
+    void shouldPersistSettlementBalances() {
+        Participant alice = Participant.withEmail("alice@settle.com");
+        Participant bob = Participant.withEmail("bob@settle.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("settle-delta"), alice);
+        group.addParticipant(bob);
+        group.activate();
+        group.addActivity(ExpenseActivity.from("Hotel", Money.of(BigDecimal.valueOf(100)), alice));
+        repository.save(group);
+
+        ExpenseGroup loaded = repository.findById(group.getId().getId()).orElseThrow();
+        ParticipantId aliceId = alice.getParticipantId();
+        ParticipantId bobId = bob.getParticipantId();
+        loaded.settle(Settlement.of(bobId, aliceId, Money.of(BigDecimal.valueOf(50))));
+        repository.save(loaded);
+
+        ExpenseGroup reloaded = repository.findById(group.getId().getId()).orElseThrow();
+        assertThat(reloaded.getActivities()).hasSize(1);
+        assertThat(reloaded.getParticipantById(aliceId).orElseThrow().getBalance()).isEqualByComparingTo("0.00");
+        assertThat(reloaded.getParticipantById(bobId).orElseThrow().getBalance()).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    @DisplayName("should reject saving a stale copy once another copy has been saved")
+    void shouldRejectStaleCopy() {
+        Participant alice = Participant.withEmail("alice@ledger.com");
+        Participant bob = Participant.withEmail("bob@ledger.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("ledger-deltas"), alice);
+        group.addParticipant(bob);
+        group.activate();
+        repository.save(group);
+        UUID groupId = group.getId().getId();
+
+        ExpenseGroup first = repository.findById(groupId).orElseThrow();
+        ExpenseGroup second = repository.findById(groupId).orElseThrow();
+        first.addActivity(ExpenseActivity.from("Lunch", Money.of(BigDecimal.valueOf(20)),
+                first.getParticipantById(alice.getParticipantId()).orElseThrow()));
+        second.addActivity(ExpenseActivity.from("Coffee", Money.of(BigDecimal.valueOf(6)),
+                second.getParticipantById(bob.getParticipantId()).orElseThrow()));
+        repository.save(first);
+
+        assertThatThrownBy(() -> repository.save(second))
+                .isInstanceOf(ConcurrentGroupUpdateException.class);
+        ExpenseGroup reloaded = repository.findById(groupId).orElseThrow();
+        assertThat(reloaded.getActivities()).hasSize(1);
+        assertThat(reloaded.getParticipantById(alice.getParticipantId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("10.00");
+        assertThat(reloaded.getParticipantById(bob.getParticipantId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("-10.00");
+    }
+
+    @Test
+    @DisplayName("should reject a detached copy of a stored group instead of adopting the stored version")
+    void shouldRejectDetachedCopy() {
+        Participant alice = Participant.withEmail("alice@detached.com");
+        Participant bob = Participant.withEmail("bob@detached.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("detached-copy"), alice);
+        group.addParticipant(bob);
+        group.activate();
+        repository.save(group);
+        UUID groupId = group.getId().getId();
+        ExpenseGroup detached = ExpenseGroup.reconstitute(group.getId(), group.getGroupName(), alice.getEmail(),
+                List.of(Participant.reconstitute(alice.getParticipantId(), alice.getEmail(), Money.withZeroBalance()),
+                        Participant.reconstitute(bob.getParticipantId(), bob.getEmail(), Money.withZeroBalance())),
+                true);
+
+        ExpenseGroup loaded = repository.findById(groupId).orElseThrow();
+        loaded.addActivity(ExpenseActivity.from("Lunch", Money.of(BigDecimal.valueOf(20)),
+                loaded.getParticipantById(alice.getParticipantId()).orElseThrow()));
+        repository.save(loaded);
+        detached.addActivity(ExpenseActivity.from("Coffee", Money.of(BigDecimal.valueOf(6)),
+                detached.getParticipantById(bob.getParticipantId()).orElseThrow()));
+
+        assertThatThrownBy(() -> repository.save(detached))
+                .isInstanceOf(ConcurrentGroupUpdateException.class);
+        ExpenseGroup reloaded = repository.findById(groupId).orElseThrow();
+        assertThat(reloaded.getActivities()).extracting(ExpenseActivity::getDescription).containsExactly("Lunch");
+        assertThat(reloaded.getParticipantById(alice.getParticipantId()).orElseThrow().getBalance())
+                .isEqualByComparingTo("10.00");
+    }
+}
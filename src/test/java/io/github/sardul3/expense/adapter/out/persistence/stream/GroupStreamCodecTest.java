@@ -0,0 +1,124 @@
+package io.github.sardul3.expense.adapter.out.persistence.stream;
+
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.ActivityAdded;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.GroupActivated;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.GroupCreated;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.ParticipantJoined;
+import io.github.sardul3.expense.adapter.out.persistence.stream.GroupStreamEvent.SettlementRecorded;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GroupStreamCodec | binary commits and snapshots")
+class GroupStreamCodecTest {
+
+    private Participant alice;
+    private Participant bob;
+    private Participant carol;
+    private ExpenseGroup group;
+
+    @BeforeEach
+    void setUp() {
+        alice = Participant.withEmail("alice@example.com");
+        bob = Participant.withEmail("bob@example.com");
+        carol = Participant.withEmail("carol@example.com");
+        group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.addParticipant(carol);
+        group.activate();
+    }
+
+    @Test
+    @DisplayName("should round-trip a snapshot with every kind of split")
+    void shouldRoundTripSnapshot() {
+        Map<ParticipantId, Long> weights = new LinkedHashMap<>();
+        weights.put(bob.getParticipantId(), 1L);
+        weights.put(carol.getParticipantId(), 3L);
+        Map<ParticipantId, BigDecimal> percentages = new LinkedHashMap<>();
+        percentages.put(alice.getParticipantId(), new BigDecimal("33.34"));
+        percentages.put(bob.getParticipantId(), new BigDecimal("66.66"));
+        Map<ParticipantId, Money> fixed = new LinkedHashMap<>();
+        fixed.put(carol.getParticipantId(), Money.of(new BigDecimal("7.50")));
+        fixed.put(alice.getParticipantId(), Money.of(new BigDecimal("2.50")));
+        group.addActivity(ExpenseActivity.from("Even", Money.of(BigDecimal.TEN), alice));
+        group.addActivity(ExpenseActivity.from("Custom", Money.of(BigDecimal.TEN), bob, List.of(carol.getParticipantId())));
+        group.addActivity(ExpenseActivity.from("Weighted", Money.of(BigDecimal.TEN), alice, ExpenseSplit.weighted(weights)));
+        group.addActivity(ExpenseActivity.from("Percent", Money.of(BigDecimal.TEN), carol, ExpenseSplit.byPercentage(percentages)));
+        group.addActivity(ExpenseActivity.from("Fixed", Money.of(BigDecimal.TEN), bob, ExpenseSplit.fixedAmounts(fixed)));
+        group.settle(Settlement.of(bob.getParticipantId(), alice.getParticipantId(), Money.of(BigDecimal.ONE)));
+
+        ExpenseGroup decoded = GroupStreamCodec.decodeSnapshot(GroupStreamCodec.encodeSnapshot(group));
+
+        assertThat(decoded.getId()).isEqualTo(group.getId());
+        assertThat(decoded.getGroupName()).isEqualTo(group.getGroupName());
+        assertThat(decoded.getGroupCreator().getEmail()).isEqualTo("alice@example.com");
+        assertThat(decoded.isActivated()).isTrue();
+        assertThat(decoded.getParticipants()).extracting(Participant::getBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyElementsOf(group.getParticipants().stream().map(Participant::getBalance).toList());
+        for (int i = 0; i < group.getActivities().size(); i++) {
+            ExpenseSplit original = group.getActivities().get(i).getSplit();
+            ExpenseSplit copy = decoded.getActivities().get(i).getSplit();
+            assertThat(copy.getType()).isEqualTo(original.getType());
+            assertThat(copy.isSplitEvenlyForAllMembers()).isEqualTo(original.isSplitEvenlyForAllMembers());
+            assertThat(copy.getSplitMembers()).isEqualTo(original.getSplitMembers());
+            assertThat(copy.getWeights()).isEqualTo(original.getWeights());
+            assertThat(copy.getFixedAmounts()).isEqualTo(original.getFixedAmounts());
+            assertThat(decoded.getActivities().get(i).getPaidBy())
+                    .isSameAs(decoded.getParticipantById(group.getActivities().get(i).getPaidBy().getParticipantId()).orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("should replay a decoded commit to the same balances as the original changes")
+    void shouldReplayCommit() {
+        ExpenseGroup initial = ExpenseGroup.from(GroupName.withName("trip"), Participant.withEmail("alice@example.com"));
+        UUID dave = UUID.randomUUID();
+        ExpenseActivity dinner = ExpenseActivity.from("Dinner", Money.of(new BigDecimal("9.99")), initial.getGroupCreator());
+        byte[] payload = GroupStreamCodec.encodeCommit(List.of(
+                new GroupCreated(initial),
+                new ParticipantJoined(dave, "dave@example.com"),
+                new GroupActivated(),
+                ActivityAdded.of(dinner),
+                new SettlementRecorded(dave, initial.getGroupCreator().getParticipantId().getId(), 499L)));
+
+        ExpenseGroup replayed = null;
+        for (GroupStreamEvent event : GroupStreamCodec.decodeCommit(payload)) {
+            replayed = event.applyTo(replayed);
+        }
+
+        assertThat(replayed.getActivities()).singleElement()
+                .satisfies(activity -> assertThat(activity.getId()).isEqualTo(dinner.getId()));
+        assertThat(replayed.getParticipants()).extracting(Participant::getBalance)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("should reject payloads written in an unknown format")
+    void shouldRejectUnknownFormat() {
+        byte[] payload = GroupStreamCodec.encodeSnapshot(group);
+        payload[0] = 42;
+
+        assertThatThrownBy(() -> GroupStreamCodec.decodeSnapshot(payload))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("format 42");
+    }
+}
@@ -4,7 +4,6 @@ import io.github.sardul3.expense.application.dto.AddParticipantCommand;
 import io.github.sardul3.expense.application.dto.AddParticipantResponse;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.exception.ParticipantAlreadyInGroupException;
-import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
 import io.github.sardul3.expense.domain.event.ParticipantAddedEvent;
 import io.github.sardul3.expense.domain.model.ExpenseGroup;
@@ -21,7 +20,6 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,14 +27,12 @@ import static org.mockito.Mockito.when;
 class AddParticipantServiceTest {
 
     private ExpenseGroupRepository expenseGroupRepository;
-    private DomainEventPublisher domainEventPublisher;
     private AddParticipantService addParticipantService;
 
     @BeforeEach
     void setUp() {
         expenseGroupRepository = mock(ExpenseGroupRepository.class);
-        domainEventPublisher = mock(DomainEventPublisher.class);
-        addParticipantService = new AddParticipantService(expenseGroupRepository, domainEventPublisher);
+        addParticipantService = new AddParticipantService(expenseGroupRepository);
     }
 
     @Test
@@ -106,22 +102,24 @@ class AddParticipantServiceTest {
     }
 
     @Test
-    @DisplayName("should publish ParticipantAddedEvent when participant is added")
-    void shouldPublishParticipantAddedEventWhenParticipantAdded() {
+    @DisplayName("should record ParticipantAddedEvent on the saved group")
+    void shouldRecordParticipantAddedEvent() {
         Participant creator = Participant.withEmail("alice@example.com");
         ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), creator);
         UUID groupId = group.getId().getId();
+        group.pullEvents();
 
         when(expenseGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
         when(expenseGroupRepository.save(any(ExpenseGroup.class))).thenAnswer(inv -> inv.getArgument(0));
 
         addParticipantService.addParticipant(groupId, new AddParticipantCommand("bob@example.com"));
 
-        verify(domainEventPublisher).publish(argThat(event ->
-                event instanceof ParticipantAddedEvent e
-                        && e.groupId().equals(groupId)
-                        && e.email().equals("bob@example.com")
-                        && e.participantId() != null));
+        verify(expenseGroupRepository).save(group);
+        assertThat(group.pullEvents()).singleElement().isInstanceOfSatisfying(ParticipantAddedEvent.class, e -> {
+            assertThat(e.groupId()).isEqualTo(groupId);
+            assertThat(e.email()).isEqualTo("bob@example.com");
+            assertThat(e.participantId()).isNotNull();
+        });
     }
 
     @Test
@@ -0,0 +1,64 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConflictRetryPolicyTest {
+
+    private final ConflictRetryPolicy policy = new ConflictRetryPolicy(3, Duration.ZERO, Duration.ZERO);
+
+    @Test
+    @DisplayName("should retry conflicts until an attempt succeeds")
+    void shouldRetryUntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConcurrentGroupUpdateException("conflict");
+            }
+            return "saved";
+        });
+
+        assertThat(result).isEqualTo("saved");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should rethrow the conflict once attempts run out")
+    void shouldGiveUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> policy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ConcurrentGroupUpdateException("conflict");
+        })).isInstanceOf(ConcurrentGroupUpdateException.class);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("should not retry other failures")
+    void shouldNotRetryOtherExceptions() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> policy.execute(() -> {
+            attempts.incrementAndGet();
+            throw new ExpenseGroupNotFoundException("missing");
+        })).isInstanceOf(ExpenseGroupNotFoundException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("should reject fewer than one attempt")
+    void shouldRejectInvalidAttempts() {
+        assertThatThrownBy(() -> new ConflictRetryPolicy(0, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
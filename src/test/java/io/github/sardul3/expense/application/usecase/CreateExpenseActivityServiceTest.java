@@ -2,20 +2,23 @@ package io.github.sardul3.expense.application.usecase;
 
 import io.github.sardul3.expense.application.dto.CreateExpenseActivityCommand;
 import io.github.sardul3.expense.application.dto.CreateExpenseActivityResponse;
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.exception.ParticipantNotFoundInGroupException;
-import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
 import io.github.sardul3.expense.domain.event.ExpenseAddedEvent;
 import io.github.sardul3.expense.domain.model.ExpenseGroup;
 import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,15 +26,14 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class CreateExpenseActivityServiceTest {
 
     private ExpenseGroupRepository expenseGroupRepository;
-    private DomainEventPublisher domainEventPublisher;
     private CreateExpenseActivityService service;
 
     ExpenseGroup expenseGroup;
@@ -41,8 +43,7 @@ class CreateExpenseActivityServiceTest {
     @BeforeEach
     void setUp() {
         expenseGroupRepository = mock(ExpenseGroupRepository.class);
-        domainEventPublisher = mock(DomainEventPublisher.class);
-        service = new CreateExpenseActivityService(expenseGroupRepository, domainEventPublisher);
+        service = new CreateExpenseActivityService(expenseGroupRepository);
 
         groupCreator = Participant.withEmail("test@example.com");
         expenseGroup = ExpenseGroup.from(GroupName.withName("apt-group"), groupCreator);
@@ -81,8 +82,8 @@ class CreateExpenseActivityServiceTest {
     }
 
     @Test
-    @DisplayName("should publish ExpenseAddedEvent when expense activity is created")
-    void shouldPublishExpenseAddedEventWhenActivityCreated() {
+    @DisplayName("should record ExpenseAddedEvent on the saved group when expense activity is created")
+    void shouldRecordExpenseAddedEventWhenActivityCreated() {
         when(expenseGroupRepository.findById(any())).thenReturn(Optional.of(expenseGroup));
         CreateExpenseActivityCommand command = new CreateExpenseActivityCommand(
                 expenseGroup.getId().getId(),
@@ -93,12 +94,10 @@ class CreateExpenseActivityServiceTest {
 
         service.createExpenseActivity(command);
 
-        verify(domainEventPublisher).publish(argThat(event ->
-                event instanceof ExpenseAddedEvent e
-                        && e.groupId().equals(expenseGroup.getId().getId())
-                        && e.description().equals("Lunch")
-                        && e.amount().compareTo(BigDecimal.valueOf(50)) == 0
-                        && e.paidByParticipantId().equals(groupCreator.getParticipantId().getId())));
+        verify(expenseGroupRepository).save(expenseGroup);
+        assertThat(expenseGroup.pullEvents()).last().isEqualTo(new ExpenseAddedEvent(
+                expenseGroup.getId().getId(), "Lunch", new BigDecimal("50.00"), groupCreator.getParticipantId().getId(),
+                ExpenseSplit.Type.EVEN, 2, List.of(), List.of()));
     }
 
     @Test
@@ -133,6 +132,32 @@ class CreateExpenseActivityServiceTest {
 
     }
 
+    @Test
+    @DisplayName("should reload and reapply the expense when the save hits a concurrent update")
+    void shouldRetryOnConcurrentUpdate() {
+        CreateExpenseActivityService retryingService = new CreateExpenseActivityService(
+                new DirectGroupCommandExecutor(expenseGroupRepository, new ConflictRetryPolicy(3, Duration.ZERO, Duration.ZERO)));
+        ExpenseGroup freshCopy = ExpenseGroup.reconstitute(expenseGroup.getId(), expenseGroup.getGroupName(),
+                groupCreator.getEmail(),
+                List.of(Participant.reconstitute(groupCreator.getParticipantId(), groupCreator.getEmail(), Money.withZeroBalance()),
+                        Participant.reconstitute(anotherParticipant.getParticipantId(), anotherParticipant.getEmail(), Money.withZeroBalance())),
+                true);
+        when(expenseGroupRepository.findById(any())).thenReturn(Optional.of(expenseGroup), Optional.of(freshCopy));
+        when(expenseGroupRepository.save(any(ExpenseGroup.class)))
+                .thenThrow(new ConcurrentGroupUpdateException("conflict"))
+                .thenAnswer(inv -> inv.getArgument(0));
+
+        var response = retryingService.createExpenseActivity(new CreateExpenseActivityCommand(
+                expenseGroup.getId().getId(), "Lunch", BigDecimal.valueOf(50),
+                groupCreator.getParticipantId().getId(), null));
+
+        assertThat(response.payerBalance()).isEqualByComparingTo("25.00");
+        assertThat(freshCopy.getActivities()).hasSize(1);
+        verify(expenseGroupRepository, times(2)).findById(expenseGroup.getId().getId());
+        verify(expenseGroupRepository, times(1)).save(freshCopy);
+        assertThat(freshCopy.pullEvents()).singleElement().isInstanceOf(ExpenseAddedEvent.class);
+    }
+
     @Nested
     @DisplayName("CreateExpenseActivity use case | Edge cases and validation")
     class EdgeCasesAndValidation {
@@ -0,0 +1,71 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.dto.ActivityExport;
+import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.out.ExpenseActivityQueryRepository;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExportExpenseHistoryServiceTest {
+
+    private ExpenseGroupRepository expenseGroupRepository;
+    private ExpenseActivityQueryRepository expenseActivityQueryRepository;
+    private ExportExpenseHistoryService service;
+
+    @BeforeEach
+    void setUp() {
+        expenseGroupRepository = mock(ExpenseGroupRepository.class);
+        expenseActivityQueryRepository = mock(ExpenseActivityQueryRepository.class);
+        service = new ExportExpenseHistoryService(expenseGroupRepository, expenseActivityQueryRepository);
+    }
+
+    @Test
+    @DisplayName("should read the history only when the export is consumed")
+    @SuppressWarnings("unchecked")
+    void shouldStreamLazily() {
+        UUID groupId = UUID.randomUUID();
+        ActivityView view = new ActivityView(UUID.randomUUID(), "Dinner", BigDecimal.TEN, UUID.randomUUID(), true);
+        when(expenseGroupRepository.existsById(groupId)).thenReturn(true);
+        doAnswer(invocation -> {
+            ((Consumer<ActivityView>) invocation.getArgument(1)).accept(view);
+            return null;
+        }).when(expenseActivityQueryRepository).forEachByGroupId(eq(groupId), any());
+
+        ActivityExport export = service.exportHistory(groupId);
+        verify(expenseActivityQueryRepository, never()).forEachByGroupId(any(), any());
+
+        List<ActivityView> received = new ArrayList<>();
+        export.forEach(received::add);
+        assertThat(received).containsExactly(view);
+    }
+
+    @Test
+    @DisplayName("should throw ExpenseGroupNotFoundException before streaming when the group is missing")
+    void shouldRejectMissingGroup() {
+        UUID groupId = UUID.randomUUID();
+        when(expenseGroupRepository.existsById(groupId)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.exportHistory(groupId))
+                .isInstanceOf(ExpenseGroupNotFoundException.class)
+                .hasMessageContaining(groupId.toString());
+    }
+}
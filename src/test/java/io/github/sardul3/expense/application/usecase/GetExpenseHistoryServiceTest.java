@@ -1,6 +1,7 @@
 package io.github.sardul3.expense.application.usecase;
 
 import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
 import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.port.out.ExpenseActivityQueryRepository;
@@ -20,7 +21,10 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class GetExpenseHistoryServiceTest {
@@ -40,8 +44,6 @@ class GetExpenseHistoryServiceTest {
     @DisplayName("should return paginated history when group exists")
     void shouldReturnPaginatedHistoryWhenGroupExists() {
         UUID groupId = UUID.randomUUID();
-        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), Participant.withEmail("a@b.com"));
-        when(expenseGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
         ExpenseHistoryPageResponse pageResponse = new ExpenseHistoryPageResponse(
                 List.of(new ActivityView(UUID.randomUUID(), "Dinner", BigDecimal.valueOf(50), UUID.randomUUID(), true)),
                 1L, 1, 0, 20
@@ -55,19 +57,75 @@ class GetExpenseHistoryServiceTest {
         assertThat(response.totalElements()).isEqualTo(1);
         assertThat(response.number()).isZero();
         assertThat(response.size()).isEqualTo(20);
+        verify(expenseGroupRepository, never()).existsById(any());
+        verify(expenseGroupRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("should return an empty page when the group exists but has no activities")
+    void shouldReturnEmptyPageForExistingGroup() {
+        UUID groupId = UUID.randomUUID();
+        when(expenseActivityQueryRepository.findByGroupId(groupId, 0, 20))
+                .thenReturn(new ExpenseHistoryPageResponse(List.of(), 0L, 0, 0, 20));
+        when(expenseGroupRepository.existsById(groupId)).thenReturn(true);
+
+        ExpenseHistoryPageResponse response = getExpenseHistoryService.getExpenseHistory(groupId, 0, 20);
+
+        assertThat(response.content()).isEmpty();
+        verify(expenseGroupRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("should throw ExpenseGroupNotFoundException when group not found")
     void shouldThrowWhenGroupNotFound() {
         UUID groupId = UUID.randomUUID();
-        when(expenseGroupRepository.findById(groupId)).thenReturn(Optional.empty());
+        when(expenseActivityQueryRepository.findByGroupId(groupId, 0, 20))
+                .thenReturn(new ExpenseHistoryPageResponse(List.of(), 0L, 0, 0, 20));
+        when(expenseGroupRepository.existsById(groupId)).thenReturn(false);
 
         assertThatThrownBy(() -> getExpenseHistoryService.getExpenseHistory(groupId, 0, 20))
                 .isInstanceOf(ExpenseGroupNotFoundException.class)
                 .hasMessageContaining("Expense group not found");
     }
 
+    @Nested
+    @DisplayName("GetExpenseHistory use case | Cursor pagination")
+    class CursorPagination {
+
+        @Test
+        @DisplayName("should pass the cursor through and skip the existence probe for a non-empty page")
+        void shouldReturnPageAfterCursor() {
+            UUID groupId = UUID.randomUUID();
+            ExpenseHistoryCursorPageResponse page = new ExpenseHistoryCursorPageResponse(
+                    List.of(new ActivityView(UUID.randomUUID(), "Dinner", BigDecimal.valueOf(50), UUID.randomUUID(), true)),
+                    "next", 1, null);
+            when(expenseActivityQueryRepository.findByGroupIdAfter(groupId, "cursor", 1, false)).thenReturn(page);
+
+            assertThat(getExpenseHistoryService.getExpenseHistoryAfter(groupId, "cursor", 1, false)).isSameAs(page);
+            verify(expenseGroupRepository, never()).existsById(any());
+        }
+
+        @Test
+        @DisplayName("should throw ExpenseGroupNotFoundException when the first page is empty and the group is missing")
+        void shouldThrowWhenGroupMissing() {
+            UUID groupId = UUID.randomUUID();
+            when(expenseActivityQueryRepository.findByGroupIdAfter(groupId, null, 20, false))
+                    .thenReturn(new ExpenseHistoryCursorPageResponse(List.of(), null, 20, null));
+            when(expenseGroupRepository.existsById(groupId)).thenReturn(false);
+
+            assertThatThrownBy(() -> getExpenseHistoryService.getExpenseHistoryAfter(groupId, null, 20, false))
+                    .isInstanceOf(ExpenseGroupNotFoundException.class);
+        }
+
+        @Test
+        @DisplayName("should reject a page size above the maximum")
+        void shouldRejectOversizedPage() {
+            assertThatThrownBy(() -> getExpenseHistoryService.getExpenseHistoryAfter(UUID.randomUUID(), null, 10_000, false))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("size");
+        }
+    }
+
     @Nested
     @DisplayName("GetExpenseHistory use case | Edge cases and validation")
     class EdgeCasesAndValidation {
@@ -1,8 +1,11 @@
 package io.github.sardul3.expense.application.usecase;
 
+import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
 import io.github.sardul3.expense.application.dto.GroupBalanceResponse;
+import io.github.sardul3.expense.application.dto.ParticipantBalanceView;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.application.port.out.GroupBalanceReadModel;
 import io.github.sardul3.expense.domain.model.ExpenseGroup;
 import io.github.sardul3.expense.domain.model.Participant;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
@@ -12,23 +15,29 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class GetGroupBalanceServiceTest {
 
     private ExpenseGroupRepository expenseGroupRepository;
+    private GroupBalanceReadModel groupBalanceReadModel;
     private GetGroupBalanceService getGroupBalanceService;
 
     @BeforeEach
     void setUp() {
         expenseGroupRepository = mock(ExpenseGroupRepository.class);
-        getGroupBalanceService = new GetGroupBalanceService(expenseGroupRepository);
+        groupBalanceReadModel = mock(GroupBalanceReadModel.class);
+        getGroupBalanceService = new GetGroupBalanceService(expenseGroupRepository, groupBalanceReadModel);
     }
 
     @Test
@@ -50,6 +59,21 @@ class GetGroupBalanceServiceTest {
         assertThat(response.participants()).allMatch(p -> p.balance().compareTo(BigDecimal.ZERO) == 0);
     }
 
+    @Test
+    @DisplayName("should serve balances from the read model without loading the group")
+    void shouldServeBalancesFromReadModel() {
+        UUID groupId = UUID.randomUUID();
+        ParticipantBalanceView alice = new ParticipantBalanceView(UUID.randomUUID(), "alice@example.com", new BigDecimal("12.50"));
+        when(groupBalanceReadModel.findByGroupId(groupId)).thenReturn(Optional.of(
+                new ExpenseGroupDetailResponse(groupId, "trip", "alice@example.com", true, List.of(alice))));
+
+        GroupBalanceResponse response = getGroupBalanceService.getBalance(groupId);
+
+        assertThat(response.groupId()).isEqualTo(groupId);
+        assertThat(response.participants()).containsExactly(alice);
+        verify(expenseGroupRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("should throw ExpenseGroupNotFoundException when group does not exist")
     void shouldThrowWhenGroupNotFound() {
@@ -0,0 +1,74 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.dto.SettlementPlanResponse;
+import io.github.sardul3.expense.application.dto.SettlementTransferView;
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GetSettlementPlanServiceTest {
+
+    private ExpenseGroupRepository expenseGroupRepository;
+    private GetSettlementPlanService getSettlementPlanService;
+
+    @BeforeEach
+    void setUp() {
+        expenseGroupRepository = mock(ExpenseGroupRepository.class);
+        getSettlementPlanService = new GetSettlementPlanService(expenseGroupRepository);
+    }
+
+    @Test
+    @DisplayName("should plan transfers that pay back the payer")
+    void shouldPlanTransfersToPayer() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.addActivity(ExpenseActivity.from("Dinner", Money.ofCents(3000), alice));
+        UUID groupId = group.getId().getId();
+        when(expenseGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
+
+        SettlementPlanResponse response = getSettlementPlanService.getSettlementPlan(groupId);
+
+        assertThat(response.groupId()).isEqualTo(groupId);
+        assertThat(response.transfers()).containsExactly(new SettlementTransferView(
+                bob.getParticipantId().getId(), alice.getParticipantId().getId(), new BigDecimal("15.00")));
+    }
+
+    @Test
+    @DisplayName("should return an empty plan when everyone is settled")
+    void shouldReturnEmptyPlanWhenSettled() {
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), Participant.withEmail("alice@example.com"));
+        UUID groupId = group.getId().getId();
+        when(expenseGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
+
+        assertThat(getSettlementPlanService.getSettlementPlan(groupId).transfers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should throw ExpenseGroupNotFoundException when group does not exist")
+    void shouldThrowWhenGroupNotFound() {
+        UUID groupId = UUID.randomUUID();
+        when(expenseGroupRepository.findById(groupId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> getSettlementPlanService.getSettlementPlan(groupId))
+                .isInstanceOf(ExpenseGroupNotFoundException.class)
+                .hasMessageContaining("Expense group not found");
+    }
+}
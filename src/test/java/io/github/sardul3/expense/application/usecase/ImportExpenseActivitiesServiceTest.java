@@ -0,0 +1,103 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.dto.CreateExpenseActivityCommand;
+import io.github.sardul3.expense.application.dto.ExpenseImportOutcome;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.event.ExpenseAddedEvent;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImportExpenseActivitiesServiceTest {
+
+    private ExpenseGroupRepository expenseGroupRepository;
+    private ImportExpenseActivitiesService service;
+
+    private ExpenseGroup tripGroup;
+    private Participant tripOwner;
+    private ExpenseGroup flatGroup;
+    private Participant flatOwner;
+
+    @BeforeEach
+    void setUp() {
+        expenseGroupRepository = mock(ExpenseGroupRepository.class);
+        service = new ImportExpenseActivitiesService(
+                new DirectGroupCommandExecutor(expenseGroupRepository, new ConflictRetryPolicy(3, Duration.ZERO, Duration.ZERO)));
+
+        tripOwner = Participant.withEmail("owner@trip.com");
+        tripGroup = ExpenseGroup.from(GroupName.withName("trip"), tripOwner);
+        tripGroup.addParticipant(Participant.withEmail("friend@trip.com"));
+        tripGroup.activate();
+        flatOwner = Participant.withEmail("owner@flat.com");
+        flatGroup = ExpenseGroup.from(GroupName.withName("flat"), flatOwner);
+        flatGroup.addParticipant(Participant.withEmail("mate@flat.com"));
+        flatGroup.activate();
+        when(expenseGroupRepository.findById(tripGroup.getId().getId())).thenReturn(Optional.of(tripGroup));
+        when(expenseGroupRepository.findById(flatGroup.getId().getId())).thenReturn(Optional.of(flatGroup));
+        when(expenseGroupRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("should load and save each group once however many records it receives")
+    void shouldApplyEachGroupOnce() {
+        List<CreateExpenseActivityCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            commands.add(expense(tripGroup, tripOwner, "Trip " + i));
+            commands.add(expense(flatGroup, flatOwner, "Flat " + i));
+        }
+
+        List<ExpenseImportOutcome> outcomes = service.importActivities(commands);
+
+        assertThat(outcomes).hasSize(100).allMatch(ExpenseImportOutcome::created);
+        assertThat(outcomes).extracting(ExpenseImportOutcome::index).containsExactlyElementsOf(
+                IntStream.range(0, 100).boxed().toList());
+        assertThat(tripGroup.getActivities()).hasSize(50);
+        assertThat(flatGroup.getActivities()).hasSize(50);
+        verify(expenseGroupRepository, times(1)).save(tripGroup);
+        verify(expenseGroupRepository, times(1)).save(flatGroup);
+        assertThat(tripGroup.pullEvents()).filteredOn(ExpenseAddedEvent.class::isInstance).hasSize(50);
+        assertThat(flatGroup.pullEvents()).filteredOn(ExpenseAddedEvent.class::isInstance).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("should reject individual records without affecting the rest of their group")
+    void shouldRejectIndividualRecords() {
+        UUID stranger = UUID.randomUUID();
+        List<CreateExpenseActivityCommand> commands = List.of(
+                expense(tripGroup, tripOwner, "Dinner"),
+                new CreateExpenseActivityCommand(tripGroup.getId().getId(), "Taxi", BigDecimal.TEN, stranger, null),
+                new CreateExpenseActivityCommand(UUID.randomUUID(), "Nowhere", BigDecimal.TEN, stranger, null),
+                expense(tripGroup, tripOwner, "Museum"));
+        when(expenseGroupRepository.findById(commands.get(2).groupId())).thenReturn(Optional.empty());
+
+        List<ExpenseImportOutcome> outcomes = service.importActivities(commands);
+
+        assertThat(outcomes).extracting(ExpenseImportOutcome::created).containsExactly(true, false, false, true);
+        assertThat(outcomes.get(1).error()).contains("Participant not found");
+        assertThat(outcomes.get(2).error()).contains("Expense group not found");
+        assertThat(tripGroup.getActivities()).hasSize(2);
+    }
+
+    private static CreateExpenseActivityCommand expense(ExpenseGroup group, Participant payer, String description) {
+        return new CreateExpenseActivityCommand(group.getId().getId(), description, BigDecimal.valueOf(20),
+                payer.getParticipantId().getId(), null);
+    }
+}
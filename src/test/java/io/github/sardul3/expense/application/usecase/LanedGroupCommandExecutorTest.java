@@ -0,0 +1,254 @@
+package io.github.sardul3.expense.application.usecase;
+
+import io.github.sardul3.expense.application.exception.ConcurrentGroupUpdateException;
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LanedGroupCommandExecutorTest {
+
+    private ExpenseGroupRepository expenseGroupRepository;
+    private LanedGroupCommandExecutor executor;
+    private ExpenseGroup expenseGroup;
+    private UUID groupId;
+
+    @BeforeEach
+    void setUp() {
+        expenseGroupRepository = mock(ExpenseGroupRepository.class);
+        executor = new LanedGroupCommandExecutor(expenseGroupRepository,
+                new ConflictRetryPolicy(3, Duration.ZERO, Duration.ZERO), 4, 64, Duration.ofSeconds(5));
+        expenseGroup = ExpenseGroup.from(GroupName.withName("apt-group"), Participant.withEmail("owner@example.com"));
+        groupId = expenseGroup.getId().getId();
+        when(expenseGroupRepository.findById(groupId)).thenReturn(Optional.of(expenseGroup));
+        when(expenseGroupRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    @DisplayName("should load, apply and save a single command and return its result")
+    void shouldRunSingleCommand() {
+        String email = executor.execute(groupId, group -> {
+            group.addParticipant(Participant.withEmail("member@example.com"));
+            return "member@example.com";
+        });
+
+        assertThat(email).isEqualTo("member@example.com");
+        assertThat(expenseGroup.getParticipants()).hasSize(2);
+        verify(expenseGroupRepository, times(1)).save(expenseGroup);
+    }
+
+    @Test
+    @DisplayName("should coalesce commands queued behind a running batch into one save")
+    void shouldCoalesceQueuedCommands() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        int queued = 10;
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> first = callers.submit(() -> executor.execute(groupId, group -> {
+                firstStarted.countDown();
+                await(releaseFirst);
+                return 0;
+            }));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<Integer>> rest = new ArrayList<>();
+            for (int i = 1; i <= queued; i++) {
+                int index = i;
+                rest.add(callers.submit(() -> executor.execute(groupId, group -> {
+                    group.addParticipant(Participant.withEmail("member" + index + "@example.com"));
+                    return index;
+                })));
+            }
+            waitUntilQueued(queued);
+            releaseFirst.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isZero();
+            for (int i = 0; i < queued; i++) {
+                assertThat(rest.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i + 1);
+            }
+        }
+
+        assertThat(expenseGroup.getParticipants()).hasSize(1 + queued);
+        verify(expenseGroupRepository, times(2)).findById(groupId);
+        verify(expenseGroupRepository, times(2)).save(expenseGroup);
+    }
+
+    @Test
+    @DisplayName("should report a rejected command to its caller only")
+    void shouldIsolateRejectedCommand() throws Exception {
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> blocker = callers.submit(() -> executor.execute(groupId, group -> {
+                firstStarted.countDown();
+                await(releaseFirst);
+                return null;
+            }));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<Object> rejected = callers.submit(() -> executor.execute(groupId, group -> {
+                throw new IllegalArgumentException("rejected");
+            }));
+            Future<Integer> accepted = callers.submit(() -> executor.execute(groupId, group -> {
+                group.addParticipant(Participant.withEmail("member@example.com"));
+                return 1;
+            }));
+            waitUntilQueued(2);
+            releaseFirst.countDown();
+            blocker.get(5, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> rejected.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(accepted.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+
+        assertThat(expenseGroup.getParticipants()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("should reapply the batch when the save hits a concurrent update")
+    void shouldReapplyOnConflict() {
+        AtomicInteger saves = new AtomicInteger();
+        when(expenseGroupRepository.save(any())).thenAnswer(invocation -> {
+            if (saves.incrementAndGet() == 1) {
+                throw new ConcurrentGroupUpdateException("conflict");
+            }
+            return invocation.getArgument(0);
+        });
+        AtomicInteger applications = new AtomicInteger();
+
+        int result = executor.execute(groupId, group -> applications.incrementAndGet());
+
+        assertThat(result).isEqualTo(2);
+        verify(expenseGroupRepository, times(2)).findById(groupId);
+    }
+
+    @Test
+    @DisplayName("should fail with not found when the group does not exist")
+    void shouldFailWhenGroupMissing() {
+        UUID missing = UUID.randomUUID();
+        when(expenseGroupRepository.findById(missing)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> executor.execute(missing, group -> 1))
+                .isInstanceOf(ExpenseGroupNotFoundException.class)
+                .hasMessageContaining(missing.toString());
+    }
+
+    @Test
+    @DisplayName("should keep a lane serving after a batch throws an error")
+    void shouldSurviveErrorInBatch() {
+        assertThatThrownBy(() -> executor.execute(groupId, group -> {
+            throw new AssertionError("boom");
+        })).isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(AssertionError.class);
+
+        assertThat(executor.execute(groupId, group -> 1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("should fail queued commands on close and let the running batch finish")
+    void shouldFailQueuedCommandsOnClose() throws Exception {
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> running = callers.submit(() -> executor.execute(groupId, group -> {
+                firstStarted.countDown();
+                await(releaseFirst);
+                return Thread.currentThread().isInterrupted() ? -1 : 1;
+            }));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Integer> queued = callers.submit(() -> executor.execute(groupId, group -> 2));
+            waitUntilQueued(1);
+
+            Future<?> closing = callers.submit(executor::close);
+            assertThatThrownBy(() -> queued.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+            releaseFirst.countDown();
+            closing.get(5, TimeUnit.SECONDS);
+
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        assertThatThrownBy(() -> executor.execute(groupId, group -> 3))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("shut down");
+    }
+
+    @Test
+    @DisplayName("should give up waiting after the command timeout and skip the abandoned command")
+    void shouldTimeOutWaitingCaller() throws Exception {
+        executor.close();
+        executor = new LanedGroupCommandExecutor(expenseGroupRepository,
+                new ConflictRetryPolicy(3, Duration.ZERO, Duration.ZERO), 1, 64, Duration.ofMillis(100));
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        AtomicInteger abandonedRuns = new AtomicInteger();
+
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> blocker = callers.submit(() -> executor.execute(groupId, group -> {
+                firstStarted.countDown();
+                await(releaseFirst);
+                return null;
+            }));
+            assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatThrownBy(() -> executor.execute(groupId, group -> abandonedRuns.incrementAndGet()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("did not finish");
+            releaseFirst.countDown();
+            assertThatThrownBy(() -> blocker.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(executor.execute(groupId, group -> 1)).isEqualTo(1);
+        assertThat(abandonedRuns).hasValue(0);
+    }
+
+    private void waitUntilQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.queuedCommands() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(executor.queuedCommands()).isEqualTo(expected);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,10 +1,8 @@
 package io.github.sardul3.expense.application.usecase;
 
-import io.github.sardul3.expense.application.dto.RetrieveExpenseGroupsResponse;
-import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
-import io.github.sardul3.expense.domain.model.ExpenseGroup;
-import io.github.sardul3.expense.domain.model.Participant;
-import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryPageResponse;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryView;
+import io.github.sardul3.expense.application.port.out.ExpenseGroupSummaryQueryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -12,19 +10,29 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 class RetrieveAllExpenseGroupServiceTest {
 
-    private ExpenseGroupRepository expenseGroupRepository;
+    private ExpenseGroupSummaryQueryRepository summaryQueryRepository;
     private RetrieveAllExpenseGroupService expenseGroupService;
 
     @BeforeEach
     void setUp() {
-        expenseGroupRepository = mock(ExpenseGroupRepository.class);
-        expenseGroupService = new RetrieveAllExpenseGroupService(expenseGroupRepository);
+        summaryQueryRepository = mock(ExpenseGroupSummaryQueryRepository.class);
+        expenseGroupService = new RetrieveAllExpenseGroupService(summaryQueryRepository);
+    }
+
+    private static ExpenseGroupSummaryView summary(String name) {
+        return new ExpenseGroupSummaryView(UUID.randomUUID(), name, false, 1);
     }
 
     @Nested
@@ -35,71 +43,86 @@ class RetrieveAllExpenseGroupServiceTest {
         @DisplayName("should return all expense groups when data exists")
         void shouldReturnExpenseGroupsWhenDataExists() {
             // Arrange
-            ExpenseGroup group = ExpenseGroup.from(GroupName.withName("Test Group"), Participant.withEmail("owner@test.com"));
-            when(expenseGroupRepository.findAll()).thenReturn(List.of(group));
+            when(summaryQueryRepository.findPage(isNull(), eq(21))).thenReturn(List.of(summary("Test Group")));
 
             // Act
-            List<RetrieveExpenseGroupsResponse> response = expenseGroupService.getAllExpenseGroups();
+            ExpenseGroupSummaryPageResponse response = expenseGroupService.getAllExpenseGroups(null, 20);
 
             // Assert
-            assertThat(response)
+            assertThat(response.content())
                     .hasSize(1)
-                    .extracting(RetrieveExpenseGroupsResponse::name)
+                    .extracting(ExpenseGroupSummaryView::name)
                     .containsExactly("Test Group");
+            assertThat(response.nextCursor()).isNull();
         }
 
         @Test
         @DisplayName("should return empty list when no expense groups exist")
         void shouldReturnEmptyListWhenNoGroupsExist() {
             // Arrange
-            when(expenseGroupRepository.findAll()).thenReturn(Collections.emptyList());
+            when(summaryQueryRepository.findPage(any(), anyInt())).thenReturn(Collections.emptyList());
 
             // Act
-            List<RetrieveExpenseGroupsResponse> response = expenseGroupService.getAllExpenseGroups();
+            ExpenseGroupSummaryPageResponse response = expenseGroupService.getAllExpenseGroups(null, 20);
 
             // Assert
-            assertThat(response).isEmpty();
+            assertThat(response.content()).isEmpty();
+            assertThat(response.nextCursor()).isNull();
         }
 
         @Test
-        @DisplayName("should gracefully handle groups with unexpected null names")
-        void shouldHandleGroupWithNullName() {
+        @DisplayName("should return a cursor that resumes after the last group of a full page")
+        void shouldReturnCursorForNextPage() {
             // Arrange
-            ExpenseGroup invalidGroup = mock(ExpenseGroup.class);
-            when(invalidGroup.getGroupName()).thenReturn(null);
-
-            ExpenseGroup validGroup = mock(ExpenseGroup.class);
-            when(validGroup.getGroupName()).thenReturn(GroupName.withName("Test Group"));
-
-            when(expenseGroupRepository.findAll()).thenReturn(List.of(invalidGroup, validGroup));
+            ExpenseGroupSummaryView first = summary("Group One");
+            ExpenseGroupSummaryView second = summary("Group Two");
+            ExpenseGroupSummaryView third = summary("Group Three");
+            when(summaryQueryRepository.findPage(isNull(), eq(3))).thenReturn(List.of(first, second, third));
+            when(summaryQueryRepository.findPage(eq(second.id()), eq(3))).thenReturn(List.of(third));
 
             // Act
-            List<RetrieveExpenseGroupsResponse> response = expenseGroupService.getAllExpenseGroups();
+            ExpenseGroupSummaryPageResponse page1 = expenseGroupService.getAllExpenseGroups(null, 2);
+            ExpenseGroupSummaryPageResponse page2 = expenseGroupService.getAllExpenseGroups(page1.nextCursor(), 2);
 
             // Assert
-            assertThat(response)
-                    .hasSize(1)
-                    .extracting(RetrieveExpenseGroupsResponse::name)
-                    .containsExactly((String) "Test Group");
+            assertThat(page1.content())
+                    .extracting(ExpenseGroupSummaryView::name)
+                    .containsExactly("Group One", "Group Two");
+            assertThat(page1.nextCursor()).isNotBlank();
+            assertThat(page2.content())
+                    .extracting(ExpenseGroupSummaryView::name)
+                    .containsExactly("Group Three");
+            assertThat(page2.nextCursor()).isNull();
         }
+    }
 
-        @Test
-        @DisplayName("should handle multiple groups correctly")
-        void shouldHandleMultipleGroupsCorrectly() {
-            // Arrange
-            ExpenseGroup group1 = ExpenseGroup.from(GroupName.withName("Group One"), Participant.withEmail("one@test.com"));
-            ExpenseGroup group2 = ExpenseGroup.from(GroupName.withName("Group Two"), Participant.withEmail("two@test.com"));
+    @Nested
+    @DisplayName("Retrieve All Expense Groups | Edge cases and validation")
+    class EdgeCasesAndValidation {
 
-            when(expenseGroupRepository.findAll()).thenReturn(List.of(group1, group2));
+        @Test
+        @DisplayName("When cursor is not one we issued, throw IllegalArgumentException")
+        void whenCursorIsInvalid_throwIllegalArgumentException() {
+            assertThatThrownBy(() -> expenseGroupService.getAllExpenseGroups("not-a-cursor", 20))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("cursor");
+            verifyNoInteractions(summaryQueryRepository);
+        }
 
-            // Act
-            List<RetrieveExpenseGroupsResponse> response = expenseGroupService.getAllExpenseGroups();
+        @Test
+        @DisplayName("When size is zero, throw IllegalArgumentException")
+        void whenSizeIsZero_throwIllegalArgumentException() {
+            assertThatThrownBy(() -> expenseGroupService.getAllExpenseGroups(null, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("size");
+        }
 
-            // Assert
-            assertThat(response)
-                    .hasSize(2)
-                    .extracting(RetrieveExpenseGroupsResponse::name)
-                    .containsExactlyInAnyOrder("Group One", "Group Two");
+        @Test
+        @DisplayName("When size exceeds maximum allowed, throw IllegalArgumentException")
+        void whenSizeExceedsMaximum_throwIllegalArgumentException() {
+            assertThatThrownBy(() -> expenseGroupService.getAllExpenseGroups(null, 10_000))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("size");
         }
     }
 }
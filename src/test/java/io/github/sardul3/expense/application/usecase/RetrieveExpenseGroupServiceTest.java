@@ -4,6 +4,7 @@ import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
 import io.github.sardul3.expense.application.dto.ParticipantBalanceView;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
+import io.github.sardul3.expense.application.port.out.GroupBalanceReadModel;
 import io.github.sardul3.expense.domain.model.ExpenseGroup;
 import io.github.sardul3.expense.domain.model.Participant;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
@@ -13,23 +14,29 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class RetrieveExpenseGroupServiceTest {
 
     private ExpenseGroupRepository expenseGroupRepository;
+    private GroupBalanceReadModel groupBalanceReadModel;
     private RetrieveExpenseGroupService retrieveExpenseGroupService;
 
     @BeforeEach
     void setUp() {
         expenseGroupRepository = mock(ExpenseGroupRepository.class);
-        retrieveExpenseGroupService = new RetrieveExpenseGroupService(expenseGroupRepository);
+        groupBalanceReadModel = mock(GroupBalanceReadModel.class);
+        retrieveExpenseGroupService = new RetrieveExpenseGroupService(expenseGroupRepository, groupBalanceReadModel);
     }
 
     @Test
@@ -56,6 +63,18 @@ class RetrieveExpenseGroupServiceTest {
                 });
     }
 
+    @Test
+    @DisplayName("should serve group detail from the read model without loading the group")
+    void shouldServeGroupDetailFromReadModel() {
+        UUID groupId = UUID.randomUUID();
+        ExpenseGroupDetailResponse projected = new ExpenseGroupDetailResponse(groupId, "team-lunch", "alice@example.com",
+                true, List.of(new ParticipantBalanceView(UUID.randomUUID(), "alice@example.com", BigDecimal.ZERO)));
+        when(groupBalanceReadModel.findByGroupId(groupId)).thenReturn(Optional.of(projected));
+
+        assertThat(retrieveExpenseGroupService.getExpenseGroup(groupId)).isEqualTo(projected);
+        verify(expenseGroupRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("should throw ExpenseGroupNotFoundException when group does not exist")
     void shouldThrowWhenGroupNotFound() {
@@ -3,7 +3,6 @@ package io.github.sardul3.expense.application.usecase;
 import io.github.sardul3.expense.application.dto.SettleUpCommand;
 import io.github.sardul3.expense.application.dto.SettleUpResponse;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
-import io.github.sardul3.expense.application.port.out.DomainEventPublisher;
 import io.github.sardul3.expense.application.port.out.ExpenseGroupRepository;
 import io.github.sardul3.expense.domain.event.SettlementCompletedEvent;
 import io.github.sardul3.expense.domain.model.ExpenseGroup;
@@ -21,7 +20,6 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -29,14 +27,12 @@ import static org.mockito.Mockito.when;
 class SettleUpServiceTest {
 
     private ExpenseGroupRepository expenseGroupRepository;
-    private DomainEventPublisher domainEventPublisher;
     private SettleUpService settleUpService;
 
     @BeforeEach
     void setUp() {
         expenseGroupRepository = mock(ExpenseGroupRepository.class);
-        domainEventPublisher = mock(DomainEventPublisher.class);
-        settleUpService = new SettleUpService(expenseGroupRepository, domainEventPublisher);
+        settleUpService = new SettleUpService(expenseGroupRepository);
     }
 
     @Test
@@ -62,8 +58,8 @@ class SettleUpServiceTest {
     }
 
     @Test
-    @DisplayName("should publish SettlementCompletedEvent when settlement recorded")
-    void shouldPublishSettlementCompletedEventWhenSettlementRecorded() {
+    @DisplayName("should record SettlementCompletedEvent on the saved group")
+    void shouldRecordSettlementCompletedEvent() {
         Participant alice = Participant.withEmail("alice@example.com");
         Participant bob = Participant.withEmail("bob@example.com");
         ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
@@ -76,12 +72,9 @@ class SettleUpServiceTest {
         settleUpService.settleUp(groupId,
                 new SettleUpCommand(bob.getParticipantId().getId(), alice.getParticipantId().getId(), BigDecimal.TEN));
 
-        verify(domainEventPublisher).publish(argThat(event ->
-                event instanceof SettlementCompletedEvent e
-                        && e.groupId().equals(groupId)
-                        && e.fromParticipantId().equals(bob.getParticipantId().getId())
-                        && e.toParticipantId().equals(alice.getParticipantId().getId())
-                        && e.amount().compareTo(BigDecimal.TEN) == 0));
+        verify(expenseGroupRepository).save(group);
+        assertThat(group.pullEvents()).last().isEqualTo(new SettlementCompletedEvent(
+                groupId, bob.getParticipantId().getId(), alice.getParticipantId().getId(), new BigDecimal("10.00")));
     }
 
     @Test
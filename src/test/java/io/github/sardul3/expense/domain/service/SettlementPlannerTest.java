@@ -0,0 +1,132 @@
+package io.github.sardul3.expense.domain.service;
+
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import io.github.sardul3.expense.domain.valueobject.Settlement;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.LongRange;
+import net.jqwik.api.constraints.Size;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SettlementPlanner | minimal transfers from balances")
+class SettlementPlannerTest {
+
+    @Test
+    @DisplayName("should return no transfers when everyone is settled")
+    void shouldReturnNoTransfersWhenSettled() {
+        assertThat(SettlementPlanner.plan(participants(0, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("should have debtors pay creditors")
+    void shouldHaveDebtorsPayCreditors() {
+        List<Participant> participants = participants(-1500, 1500);
+
+        List<Settlement> plan = SettlementPlanner.plan(participants);
+
+        assertThat(plan).containsExactly(Settlement.of(participants.get(0).getParticipantId(),
+                participants.get(1).getParticipantId(), Money.ofCents(1500)));
+    }
+
+    @Test
+    @DisplayName("should settle independent pairs separately instead of chaining through one creditor")
+    void shouldFindZeroSumSubsets() {
+        // Greedy on the largest amounts would need four transfers; the pairs {-500, 500},
+        // {-300, 300} and {-700, 700} need three.
+        List<Settlement> plan = SettlementPlanner.plan(participants(-500, -300, -700, 700, 300, 500));
+
+        assertThat(plan).hasSize(3);
+        assertThat(plan).allMatch(s -> s.getAmount().getCents() == 500
+                || s.getAmount().getCents() == 300 || s.getAmount().getCents() == 700);
+    }
+
+    @Test
+    @DisplayName("should use at most n - 1 transfers for large groups")
+    void shouldUseGreedyMatchingForLargeGroups() {
+        int size = 10_000;
+        long[] cents = new long[size];
+        for (int i = 0; i < size - 1; i++) {
+            cents[i] = (i % 2 == 0 ? -1 : 1) * (100 + i * 7L);
+            cents[size - 1] -= cents[i];
+        }
+        List<Participant> participants = participants(cents);
+
+        List<Settlement> plan = SettlementPlanner.plan(participants);
+
+        assertThat(plan.size()).isLessThanOrEqualTo(size - 1);
+        assertThat(remaining(participants, plan)).allMatch(balance -> balance == 0);
+    }
+
+    @Test
+    @DisplayName("should reject balances that do not sum to zero")
+    void shouldRejectUnbalancedInput() {
+        assertThatThrownBy(() -> SettlementPlanner.plan(participants(-100, 99)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sum to zero");
+    }
+
+    @Property(tries = 300)
+    @Label("every plan clears all balances with at most n - 1 positive transfers")
+    void planClearsBalances(@ForAll @Size(min = 1, max = 40) List<@LongRange(min = -1_000_000, max = 1_000_000) Long> amounts) {
+        long[] cents = new long[amounts.size() + 1];
+        for (int i = 0; i < amounts.size(); i++) {
+            cents[i] = amounts.get(i);
+            cents[amounts.size()] -= amounts.get(i);
+        }
+        List<Participant> participants = participants(cents);
+        long nonZero = Arrays.stream(cents).filter(c -> c != 0).count();
+
+        List<Settlement> plan = SettlementPlanner.plan(participants);
+
+        assertThat(remaining(participants, plan)).allMatch(balance -> balance == 0);
+        assertThat((long) plan.size()).isLessThanOrEqualTo(Math.max(0, nonZero - 1));
+        assertThat(plan).allMatch(s -> s.getAmount().getCents() > 0);
+    }
+
+    @Property(tries = 200)
+    @Label("small groups get one transfer fewer per extra zero-sum pair")
+    void smallGroupsFindPairs(@ForAll @Size(min = 1, max = 7) List<@LongRange(min = 1, max = 100_000) Long> amounts) {
+        long[] cents = new long[amounts.size() * 2];
+        for (int i = 0; i < amounts.size(); i++) {
+            cents[2 * i] = -amounts.get(i);
+            cents[2 * i + 1] = amounts.get(i);
+        }
+
+        assertThat(SettlementPlanner.plan(participants(cents))).hasSize(amounts.size());
+    }
+
+    private static List<Participant> participants(long... cents) {
+        List<Participant> participants = new ArrayList<>(cents.length);
+        for (int i = 0; i < cents.length; i++) {
+            participants.add(Participant.reconstitute(ParticipantId.generate(), "member" + i + "@example.com",
+                    Money.ofCents(cents[i])));
+        }
+        return participants;
+    }
+
+    private static List<Long> remaining(List<Participant> participants, List<Settlement> plan) {
+        Map<ParticipantId, Long> balances = new HashMap<>();
+        for (Participant participant : participants) {
+            balances.put(participant.getParticipantId(), Money.fromBalance(participant.getBalance()).getCents());
+        }
+        for (Settlement settlement : plan) {
+            long amount = settlement.getAmount().getCents();
+            balances.merge(settlement.getFromParticipantId(), amount, Long::sum);
+            balances.merge(settlement.getToParticipantId(), -amount, Long::sum);
+        }
+        return List.copyOf(balances.values());
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.sardul3.expense.expense.model;
+
+import io.github.sardul3.expense.domain.model.ExpenseActivity;
+import io.github.sardul3.expense.domain.model.ExpenseGroup;
+import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
+import io.github.sardul3.expense.domain.valueobject.GroupName;
+import io.github.sardul3.expense.domain.valueobject.Money;
+import io.github.sardul3.expense.domain.valueobject.ParticipantId;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import net.jqwik.api.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Label("ExpenseGroup | balances net to zero")
+class ExpenseGroupBalancePropertiesTest {
+
+    @Property(tries = 300)
+    @Label("even splits never create or lose a cent")
+    void evenSplitsConserveMoney(@ForAll @IntRange(min = 2, max = 40) int members,
+                                 @ForAll @Size(min = 1, max = 30) List<@LongRange(min = 1, max = 10_000_000) Long> amounts) {
+        ExpenseGroup group = groupWith(members);
+
+        for (int i = 0; i < amounts.size(); i++) {
+            Participant payer = group.getParticipants().get(i % members);
+            group.addActivity(ExpenseActivity.from("Expense " + i, Money.ofCents(amounts.get(i)), payer));
+        }
+
+        assertThat(balanceTotal(group)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Property(tries = 300)
+    @Label("weighted splits never create or lose a cent")
+    void weightedSplitsConserveMoney(@ForAll @Size(min = 2, max = 20) List<@LongRange(min = 0, max = 1_000) Long> weights,
+                                     @ForAll @LongRange(min = 1, max = 10_000_000) long amount) {
+        ExpenseGroup group = groupWith(weights.size());
+        List<Participant> participants = group.getParticipants();
+        Map<ParticipantId, Long> weightsByMember = new LinkedHashMap<>();
+        for (int i = 0; i < weights.size(); i++) {
+            weightsByMember.put(participants.get(i).getParticipantId(), i == 0 ? weights.get(i) + 1 : weights.get(i));
+        }
+
+        group.addActivity(ExpenseActivity.from("Shared", Money.ofCents(amount), participants.get(1),
+                ExpenseSplit.weighted(weightsByMember)));
+
+        assertThat(balanceTotal(group)).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    private static ExpenseGroup groupWith(int members) {
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), Participant.withEmail("member0@example.com"));
+        for (int i = 1; i < members; i++) {
+            group.addParticipant(Participant.withEmail("member" + i + "@example.com"));
+        }
+        group.activate();
+        return group;
+    }
+
+    private static BigDecimal balanceTotal(ExpenseGroup group) {
+        return group.getParticipants().stream()
+                .map(Participant::getBalance)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+}
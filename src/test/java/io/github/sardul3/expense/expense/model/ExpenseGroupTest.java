@@ -1,8 +1,17 @@
 package io.github.sardul3.expense.expense.model;
 
+import io.github.sardul3.expense.domain.event.ExpenseAddedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupActivatedEvent;
+import io.github.sardul3.expense.domain.event.ExpenseGroupCreatedEvent;
+import io.github.sardul3.expense.domain.event.ParticipantAddedEvent;
+import io.github.sardul3.expense.domain.event.SettlementCompletedEvent;
 import io.github.sardul3.expense.domain.model.ExpenseActivity;
 import io.github.sardul3.expense.domain.model.ExpenseGroup;
 import io.github.sardul3.expense.domain.model.Participant;
+import io.github.sardul3.expense.domain.service.ExpenseShares;
+import io.github.sardul3.expense.domain.valueobject.ExpenseActivityId;
+import io.github.sardul3.expense.domain.valueobject.ExpenseGroupId;
+import io.github.sardul3.expense.domain.valueobject.ExpenseSplit;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
 import io.github.sardul3.expense.domain.valueobject.Money;
 import io.github.sardul3.expense.domain.valueobject.ParticipantId;
@@ -11,7 +20,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -298,8 +311,9 @@ public class ExpenseGroupTest {
 
         group.addActivity(activity);
 
+        // 100.00 / 3 leaves one cent over; it goes to the first member in group order (the creator)
         Money expectedSplit = Money.of(BigDecimal.valueOf(33.33));
-        Money expectedCredit = Money.of(BigDecimal.valueOf(66.67));
+        Money expectedCredit = Money.of(BigDecimal.valueOf(66.66));
 
         assertEquals(expectedCredit.getAmount(), creator.getBalance());
         assertEquals(expectedSplit.getAmount().negate(), participant2.getBalance());
@@ -366,4 +380,331 @@ public class ExpenseGroupTest {
                 .hasMessageContaining("not in group");
     }
 
+    @Test
+    @DisplayName("Expense Group | should spread leftover cents so balances net to zero")
+    void expenseGroupShouldSpreadLeftoverCentsExactly() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        Participant carol = Participant.withEmail("carol@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.addParticipant(carol);
+        group.activate();
+
+        group.addActivity(ExpenseActivity.from("Taxi", Money.of(new BigDecimal("100.00")), bob));
+
+        assertThat(alice.getBalance()).isEqualByComparingTo("-33.34");
+        assertThat(bob.getBalance()).isEqualByComparingTo("66.67");
+        assertThat(carol.getBalance()).isEqualByComparingTo("-33.33");
+    }
+
+    @Test
+    @DisplayName("Expense Group | should not debit members whose share rounds to zero")
+    void expenseGroupShouldSkipZeroShares() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        Participant carol = Participant.withEmail("carol@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.addParticipant(carol);
+        group.activate();
+
+        group.addActivity(ExpenseActivity.from("Gum", Money.of(new BigDecimal("0.01")), carol));
+
+        assertThat(alice.getBalance()).isEqualByComparingTo("-0.01");
+        assertThat(bob.getBalance()).isEqualByComparingTo("0.00");
+        assertThat(carol.getBalance()).isEqualByComparingTo("0.01");
+    }
+
+    @Test
+    @DisplayName("Expense Group | should split by weight")
+    void expenseGroupShouldSplitByWeight() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.activate();
+        Map<ParticipantId, Long> weights = new LinkedHashMap<>();
+        weights.put(alice.getParticipantId(), 1L);
+        weights.put(bob.getParticipantId(), 2L);
+
+        group.addActivity(ExpenseActivity.from("Hotel", Money.of(new BigDecimal("100.00")), alice,
+                ExpenseSplit.weighted(weights)));
+
+        assertThat(alice.getBalance()).isEqualByComparingTo("66.66");
+        assertThat(bob.getBalance()).isEqualByComparingTo("-66.66");
+    }
+
+    @Test
+    @DisplayName("Expense Group | should split by percentage")
+    void expenseGroupShouldSplitByPercentage() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        Participant carol = Participant.withEmail("carol@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.addParticipant(carol);
+        group.activate();
+        Map<ParticipantId, BigDecimal> percentages = new LinkedHashMap<>();
+        percentages.put(bob.getParticipantId(), new BigDecimal("12.5"));
+        percentages.put(carol.getParticipantId(), new BigDecimal("87.5"));
+
+        group.addActivity(ExpenseActivity.from("Rental", Money.of(new BigDecimal("10.01")), alice,
+                ExpenseSplit.byPercentage(percentages)));
+
+        assertThat(alice.getBalance()).isEqualByComparingTo("10.01");
+        assertThat(bob.getBalance()).isEqualByComparingTo("-1.26");
+        assertThat(carol.getBalance()).isEqualByComparingTo("-8.75");
+    }
+
+    @Test
+    @DisplayName("Expense Group | should reject percentages that do not add up to 100")
+    void expenseSplitShouldRejectIncompletePercentages() {
+        Map<ParticipantId, BigDecimal> percentages = Map.of(ParticipantId.generate(), new BigDecimal("99.99"));
+
+        assertThatThrownBy(() -> ExpenseSplit.byPercentage(percentages))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("add up to 100");
+    }
+
+    @Test
+    @DisplayName("Expense Group | should split by fixed amounts")
+    void expenseGroupShouldSplitByFixedAmounts() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.activate();
+        Map<ParticipantId, Money> amounts = new LinkedHashMap<>();
+        amounts.put(alice.getParticipantId(), Money.of(new BigDecimal("30.00")));
+        amounts.put(bob.getParticipantId(), Money.of(new BigDecimal("20.00")));
+
+        group.addActivity(ExpenseActivity.from("Groceries", Money.of(new BigDecimal("50.00")), alice,
+                ExpenseSplit.fixedAmounts(amounts)));
+
+        assertThat(alice.getBalance()).isEqualByComparingTo("20.00");
+        assertThat(bob.getBalance()).isEqualByComparingTo("-20.00");
+    }
+
+    @Test
+    @DisplayName("Expense Group | should reject fixed amounts that do not add up to the expense")
+    void expenseActivityShouldRejectMismatchedFixedAmounts() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        ExpenseSplit split = ExpenseSplit.fixedAmounts(
+                Map.of(alice.getParticipantId(), Money.of(new BigDecimal("49.99"))));
+
+        assertThatThrownBy(() -> ExpenseActivity.from("Groceries", Money.of(new BigDecimal("50.00")), alice, split))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("add up to");
+    }
+
+    @Test
+    @DisplayName("Expense Group | should reject weighted split members outside the group")
+    void expenseGroupShouldRejectSplitMembersOutsideGroup() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.activate();
+        ExpenseActivity activity = ExpenseActivity.from("Hotel", Money.of(BigDecimal.TEN), alice,
+                ExpenseSplit.weighted(Map.of(ParticipantId.generate(), 1L)));
+
+        assertThatThrownBy(() -> group.addActivity(activity))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not exist");
+        assertThat(alice.getBalance()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+    @Test
+    @DisplayName("Expense Group | should find participants by id and by email ignoring case")
+    void expenseGroupShouldLookUpParticipantsByIdAndEmail() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+
+        assertThat(group.getParticipantById(bob.getParticipantId())).containsSame(bob);
+        assertThat(group.getParticipantByEmail("BOB@Example.com")).containsSame(bob);
+        assertThat(group.getParticipantByEmail("carol@example.com")).isEmpty();
+        assertThat(group.getParticipantById(ParticipantId.generate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Expense Group | should split a custom expense in group order regardless of member order")
+    void expenseGroupShouldSplitCustomMembersInGroupOrder() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        Participant carol = Participant.withEmail("carol@example.com");
+        Participant dave = Participant.withEmail("dave@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        group.addParticipant(bob);
+        group.addParticipant(carol);
+        group.addParticipant(dave);
+        group.activate();
+
+        group.addActivity(ExpenseActivity.from("Museum", Money.of(new BigDecimal("10.00")), dave,
+                List.of(carol.getParticipantId(), bob.getParticipantId(), carol.getParticipantId())));
+
+        assertThat(alice.getBalance()).isEqualByComparingTo("0.00");
+        assertThat(bob.getBalance()).isEqualByComparingTo("-3.34");
+        assertThat(carol.getBalance()).isEqualByComparingTo("-3.33");
+        assertThat(dave.getBalance()).isEqualByComparingTo("6.67");
+    }
+
+    @Test
+    @DisplayName("Expense Group | should expose read-only views of participants and activities")
+    void expenseGroupGettersShouldReturnReadOnlyViews() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        List<Participant> participants = group.getParticipants();
+
+        group.addParticipant(bob);
+
+        assertThat(participants).containsExactly(alice, bob);
+        assertThat(group.getParticipants()).isSameAs(participants);
+        assertThrows(UnsupportedOperationException.class, () -> participants.add(Participant.withEmail("carol@example.com")));
+        assertThrows(UnsupportedOperationException.class, () -> group.getActivities().clear());
+    }
+
+    @Test
+    @DisplayName("Expense Group | should record an event for each change and hand them over once")
+    void expenseGroupShouldRecordEventsUntilPulled() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        UUID groupId = group.getId().getId();
+        assertThat(group.pullEvents()).containsExactly(
+                new ExpenseGroupCreatedEvent(groupId, "trip", alice.getParticipantId().getId(), "alice@example.com"));
+
+        group.addParticipant(bob);
+        group.activate();
+        group.activate();
+        group.addActivity(ExpenseActivity.from("Dinner", Money.of(BigDecimal.valueOf(100)), alice));
+        group.settle(Settlement.of(bob.getParticipantId(), alice.getParticipantId(), Money.of(BigDecimal.valueOf(50))));
+
+        assertThat(group.pullEvents()).containsExactly(
+                new ParticipantAddedEvent(groupId, bob.getParticipantId().getId(), "bob@example.com"),
+                new ExpenseGroupActivatedEvent(groupId),
+                new ExpenseAddedEvent(groupId, "Dinner", new BigDecimal("100.00"), alice.getParticipantId().getId(),
+                        ExpenseSplit.Type.EVEN, 2, List.of(), List.of()),
+                new SettlementCompletedEvent(groupId, bob.getParticipantId().getId(), alice.getParticipantId().getId(),
+                        new BigDecimal("50.00")));
+        assertThat(group.pullEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Expense Group | should record exactly one event for every mutator that changes the group")
+    void expenseGroupShouldRecordAnEventForEveryChange() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("trip"), alice);
+        assertThat(group.pullEvents()).hasOnlyElementsOfType(ExpenseGroupCreatedEvent.class).hasSize(1);
+
+        group.addParticipant(bob);
+        assertThat(group.pullEvents()).hasOnlyElementsOfType(ParticipantAddedEvent.class).hasSize(1);
+
+        group.activate();
+        assertThat(group.pullEvents()).hasOnlyElementsOfType(ExpenseGroupActivatedEvent.class).hasSize(1);
+
+        group.addActivity(ExpenseActivity.from("Dinner", Money.of(BigDecimal.TEN), alice));
+        assertThat(group.pullEvents()).hasOnlyElementsOfType(ExpenseAddedEvent.class).hasSize(1);
+
+        group.settle(Settlement.of(bob.getParticipantId(), alice.getParticipantId(), Money.of(BigDecimal.ONE)));
+        assertThat(group.pullEvents()).hasOnlyElementsOfType(SettlementCompletedEvent.class).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Expense Group | should record no event for a mutator that changes nothing")
+    void expenseGroupShouldRecordNoEventWithoutChange() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        ExpenseGroup group = ExpenseGroup.reconstitute(ExpenseGroupId.generate(), GroupName.withName("trip"),
+                alice.getEmail(), List.of(alice, bob), true);
+
+        group.activate();
+
+        assertThat(group.isActivated()).isTrue();
+        assertThat(group.pullEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Expense Group | should record split inputs that replay to the same balances")
+    void expenseGroupShouldRecordSplitInputsOfEachActivity() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        Participant carol = Participant.withEmail("carol@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("flat"), alice);
+        group.addParticipant(bob);
+        group.addParticipant(carol);
+        group.activate();
+        Map<ParticipantId, Long> weights = new LinkedHashMap<>();
+        weights.put(bob.getParticipantId(), 1L);
+        weights.put(carol.getParticipantId(), 2L);
+        group.addActivity(ExpenseActivity.from("Rent", Money.of(new BigDecimal("100.00")), alice));
+        group.addActivity(ExpenseActivity.from("Power", Money.of(new BigDecimal("10.00")), bob, ExpenseSplit.weighted(weights)));
+        group.addActivity(ExpenseActivity.from("Snacks", Money.of(new BigDecimal("0.10")), carol,
+                List.of(alice.getParticipantId())));
+        group.addParticipant(Participant.withEmail("dave@example.com"));
+
+        List<Participant> members = group.getParticipants();
+        Map<UUID, BigDecimal> totals = new HashMap<>();
+        for (var event : group.pullEvents()) {
+            if (event instanceof ExpenseAddedEvent added) {
+                ExpenseShares.allocate(Money.of(added.amount()), added.split(),
+                        ParticipantId.from(added.paidByParticipantId()), added.memberCount(),
+                        id -> members.indexOf(group.getParticipantById(id).orElseThrow()),
+                        (position, amount, credit) -> totals.merge(members.get(position).getParticipantId().getId(),
+                                credit ? amount.getAmount() : amount.getAmount().negate(), BigDecimal::add));
+            }
+        }
+        for (Participant participant : group.getParticipants()) {
+            assertThat(totals.getOrDefault(participant.getParticipantId().getId(), BigDecimal.ZERO))
+                    .isEqualByComparingTo(participant.getBalance());
+        }
+    }
+
+    @Test
+    @DisplayName("Expense Group | should not record events for rejected changes or reconstitution")
+    void expenseGroupShouldNotRecordEventsForRejectedChanges() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        ExpenseGroup group = ExpenseGroup.reconstitute(ExpenseGroupId.generate(), GroupName.withName("trip"),
+                alice.getEmail(), List.of(alice), false);
+
+        assertThatThrownBy(() -> group.addParticipant(alice)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> group.addActivity(ExpenseActivity.from("Dinner", Money.of(BigDecimal.TEN), alice)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> group.settle(Settlement.of(ParticipantId.generate(), alice.getParticipantId(),
+                Money.of(BigDecimal.ONE)))).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(group.pullEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Expense Group | should leave the group unchanged when the split calculation fails")
+    void expenseGroupShouldStayUnchangedWhenSplitCalculationFails() {
+        Participant alice = Participant.withEmail("alice@example.com");
+        Participant bob = Participant.withEmail("bob@example.com");
+        Participant carol = Participant.withEmail("carol@example.com");
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("flat"), alice);
+        group.addParticipant(bob);
+        group.addParticipant(carol);
+        group.activate();
+        group.addActivity(ExpenseActivity.from("Rent", Money.of(new BigDecimal("30.00")), alice));
+        group.pullEvents();
+        Map<ParticipantId, Money> amounts = new LinkedHashMap<>();
+        amounts.put(bob.getParticipantId(), Money.of(new BigDecimal("4.00")));
+        amounts.put(carol.getParticipantId(), Money.of(new BigDecimal("5.00")));
+        // reconstitute skips the check that fixed amounts add up, so the allocation itself rejects it
+        ExpenseActivity mismatched = ExpenseActivity.reconstitute(ExpenseActivityId.generate(), "Power",
+                Money.of(new BigDecimal("10.00")), alice, ExpenseSplit.fixedAmounts(amounts));
+
+        assertThatThrownBy(() -> group.addActivity(mismatched)).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(group.getActivities()).hasSize(1);
+        assertThat(group.getParticipants()).extracting(Participant::getBalance)
+                .containsExactly(new BigDecimal("20.00"), new BigDecimal("-10.00"), new BigDecimal("-10.00"));
+        assertThat(group.pullEvents()).isEmpty();
+    }
+
 }
@@ -0,0 +1,76 @@
+package io.github.sardul3.expense.expense.valueobject;
+
+import io.github.sardul3.expense.domain.valueobject.Money;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Label;
+import net.jqwik.api.Property;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+import net.jqwik.api.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Label("Money | allocation conserves money")
+class MoneyAllocationPropertiesTest {
+
+    @Property
+    @Label("even parts add up to the total and differ by at most one cent")
+    void evenPartsAddUpToTotal(@ForAll @LongRange(min = 0, max = 1_000_000_000_000L) long cents,
+                               @ForAll @IntRange(min = 1, max = 500) int ways) {
+        Money total = Money.ofCents(cents);
+
+        Money[] parts = total.allocate(ways);
+
+        assertThat(sum(parts)).isEqualTo(total);
+        long smallest = Arrays.stream(parts).mapToLong(Money::getCents).min().orElseThrow();
+        long largest = Arrays.stream(parts).mapToLong(Money::getCents).max().orElseThrow();
+        assertThat(largest - smallest).isLessThanOrEqualTo(1L);
+        for (int i = 0; i < ways; i++) {
+            assertThat(total.allocatedShare(ways, i)).isEqualTo(parts[i]);
+        }
+    }
+
+    @Property
+    @Label("weighted parts add up to the total and zero weights receive nothing")
+    void weightedPartsAddUpToTotal(@ForAll @LongRange(min = 0, max = 1_000_000_000_000L) long cents,
+                                   @ForAll @Size(min = 1, max = 50) List<@LongRange(min = 0, max = 10_000) Long> weights) {
+        long[] weightArray = weights.stream().mapToLong(Long::longValue).toArray();
+        if (Arrays.stream(weightArray).sum() == 0) {
+            weightArray[0] = 1;
+        }
+        Money total = Money.ofCents(cents);
+
+        Money[] parts = total.allocate(weightArray);
+
+        assertThat(sum(parts)).isEqualTo(total);
+        for (int i = 0; i < parts.length; i++) {
+            assertThat(parts[i].isNegative()).isFalse();
+            if (weightArray[i] == 0) {
+                assertThat(parts[i]).isEqualTo(Money.withZeroBalance());
+            }
+        }
+    }
+
+    @Property(tries = 200)
+    @Label("amounts beyond the long range are allocated exactly")
+    void overflowingAmountsAreAllocatedExactly(@ForAll @LongRange(min = 1, max = Long.MAX_VALUE) long extraCents,
+                                               @ForAll @IntRange(min = 1, max = 97) int ways) {
+        Money total = Money.fromBalance(BigDecimal.valueOf(Long.MAX_VALUE, 2))
+                .add(Money.ofCents(extraCents));
+
+        assertThat(sum(total.allocate(ways))).isEqualTo(total);
+        assertThat(sum(total.allocate(3L, 5L, 7L))).isEqualTo(total);
+    }
+
+    private static Money sum(Money[] parts) {
+        Money sum = Money.withZeroBalance();
+        for (Money part : parts) {
+            sum = sum.add(part);
+        }
+        return sum;
+    }
+}
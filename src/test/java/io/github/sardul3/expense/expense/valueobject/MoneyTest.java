@@ -187,4 +187,36 @@ class MoneyTest {
             assertThat(highPrecision.getAmount()).isEqualByComparingTo("10.12");
         }
     }
+
+    @Nested
+    @DisplayName("Money | cents representation")
+    class MoneyCentsTests {
+
+        @Test
+        @DisplayName("should expose the amount as cents")
+        void shouldExposeCents() {
+            assertThat(Money.of(new BigDecimal("10.005")).getCents()).isEqualTo(1001L);
+            assertThat(Money.ofCents(1050)).isEqualTo(Money.of(new BigDecimal("10.5")));
+        }
+
+        @Test
+        @DisplayName("should split with half-up rounding")
+        void shouldSplitWithHalfUpRounding() {
+            assertThat(Money.of(new BigDecimal("100.00")).split(3).getAmount()).isEqualByComparingTo("33.33");
+            assertThat(Money.of(new BigDecimal("0.05")).split(2).getAmount()).isEqualByComparingTo("0.03");
+        }
+
+        @Test
+        @DisplayName("should fall back to BigDecimal when cents overflow a long")
+        void shouldFallBackToBigDecimalOnOverflow() {
+            Money max = Money.ofCents(Long.MAX_VALUE);
+
+            Money sum = max.add(Money.ofCents(1));
+
+            assertThat(sum.getAmount())
+                    .isEqualByComparingTo(BigDecimal.valueOf(Long.MAX_VALUE, 2).add(new BigDecimal("0.01")));
+            assertThatThrownBy(sum::getCents).isInstanceOf(ArithmeticException.class);
+            assertEquals(max, sum.subtract(Money.ofCents(1)));
+        }
+    }
 }
@@ -11,6 +11,7 @@ import io.github.sardul3.expense.domain.model.Participant;
 import io.github.sardul3.expense.domain.valueobject.GroupName;
 import io.github.sardul3.expense.application.dto.CreateExpenseGroupResponse;
 import io.github.sardul3.expense.application.dto.ExpenseGroupDetailResponse;
+import io.github.sardul3.expense.application.dto.ExpenseGroupSummaryPageResponse;
 import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
 import io.github.sardul3.expense.application.dto.GroupBalanceResponse;
 import io.github.sardul3.expense.application.dto.SettleUpResponse;
@@ -364,10 +365,10 @@ class ExpenseGroupIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     void shouldSaveAndRetrieveAnExpenseGroup() {
-        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("demo"), Participant.withEmail("a@b.com"));
+        ExpenseGroup group = ExpenseGroup.from(GroupName.withName("saved-demo"), Participant.withEmail("a@b.com"));
         ExpenseGroup saved = repository.save(group);
         assertThat(saved).isNotNull();
-        assertThat(repository.existsByName(GroupName.withName("demo"))).isTrue();
+        assertThat(repository.existsByName(GroupName.withName("saved-demo"))).isTrue();
     }
 
     @Test
@@ -381,6 +382,33 @@ class ExpenseGroupIntegrationTest extends AbstractIntegrationTest {
         assertThat(postgres.isRunning()).isTrue();
     }
 
+    @Test
+    void shouldListExpenseGroupsPageByPage() {
+        restTemplate.postForEntity("/api/v1/expense/groups",
+                new CreateExpenseGroupRequest("list-page-a", "a@list.com"), CreateExpenseGroupResponse.class);
+        restTemplate.postForEntity("/api/v1/expense/groups",
+                new CreateExpenseGroupRequest("list-page-b", "b@list.com"), CreateExpenseGroupResponse.class);
+
+        ResponseEntity<ExpenseGroupSummaryPageResponse> firstPage = restTemplate.getForEntity(
+                "/api/v1/expense/groups?size=1", ExpenseGroupSummaryPageResponse.class);
+
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody()).isNotNull();
+        assertThat(firstPage.getBody().content()).hasSize(1);
+        assertThat(firstPage.getBody().content().get(0).participantCount()).isPositive();
+        assertThat(firstPage.getBody().nextCursor()).isNotBlank();
+
+        ResponseEntity<ExpenseGroupSummaryPageResponse> secondPage = restTemplate.getForEntity(
+                "/api/v1/expense/groups?size=1&cursor=" + firstPage.getBody().nextCursor(),
+                ExpenseGroupSummaryPageResponse.class);
+
+        assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(secondPage.getBody()).isNotNull();
+        assertThat(secondPage.getBody().content()).hasSize(1);
+        assertThat(secondPage.getBody().content().get(0).id())
+                .isNotEqualTo(firstPage.getBody().content().get(0).id());
+    }
+
     @Test
     void shouldCreateExpenseGroupWithValidJsonInput() throws Exception {
         CreateExpenseGroupRequest request = loadTestDataFromJson(
@@ -0,0 +1,109 @@
+package io.github.sardul3.expense.expense.web;
+
+import io.github.sardul3.expense.adapter.in.web.controller.ExportExpenseHistoryController;
+import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.in.ExportExpenseHistoryUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ExportExpenseHistoryController.class)
+@DisplayName("ExportExpenseHistoryController | GET history export")
+class ExportExpenseHistoryControllerTest {
+
+    private static final UUID ACTIVITY_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID PAYER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID MEMBER_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportExpenseHistoryUseCase exportExpenseHistoryUseCase;
+
+    @Test
+    @DisplayName("should stream one JSON object per line")
+    void shouldStreamNdjson() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        when(exportExpenseHistoryUseCase.exportHistory(groupId)).thenReturn(action -> {
+            action.accept(new ActivityView(ACTIVITY_ID, "Lunch", new BigDecimal("30.00"), PAYER_ID, true));
+            action.accept(new ActivityView(ACTIVITY_ID, "Taxi", new BigDecimal("12.50"), PAYER_ID, false,
+                    "WEIGHTED", List.of(PAYER_ID, MEMBER_ID), List.of(1L, 3L)));
+        });
+
+        MvcResult started = mockMvc.perform(get("/api/v1/expense/groups/{id}/activities/export", groupId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).endsWith("\n");
+        assertThat(body.split("\n"))
+                .hasSize(2)
+                .satisfiesExactly(
+                        line -> assertThat(line).startsWith("{").contains("\"description\":\"Lunch\"", "\"amount\":30.00"),
+                        line -> assertThat(line).startsWith("{").contains("\"description\":\"Taxi\"", "\"splitEvenly\":false",
+                                "\"splitType\":\"WEIGHTED\"", "\"splitShares\":[1,3]")));
+    }
+
+    @Test
+    @DisplayName("should stream CSV with a header, quoted descriptions and the split")
+    void shouldStreamCsv() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        when(exportExpenseHistoryUseCase.exportHistory(groupId)).thenReturn(action -> {
+            action.accept(new ActivityView(ACTIVITY_ID, "Dinner, \"fancy\"", new BigDecimal("80.00"), PAYER_ID, true));
+            action.accept(new ActivityView(ACTIVITY_ID, "Taxi", new BigDecimal("12.50"), PAYER_ID, false,
+                    "FIXED", List.of(PAYER_ID, MEMBER_ID), List.of(250L, 1000L)));
+        });
+
+        MvcResult started = mockMvc.perform(get("/api/v1/expense/groups/{id}/activities/export", groupId)
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().string("id,description,amount,paidByParticipantId,splitEvenly,splitType,splitMembers,splitShares\n"
+                        + ACTIVITY_ID + ",\"Dinner, \"\"fancy\"\"\",80.00," + PAYER_ID + ",true,EVEN,,\n"
+                        + ACTIVITY_ID + ",Taxi,12.50," + PAYER_ID + ",false,FIXED," + PAYER_ID + ";" + MEMBER_ID + ",250;1000\n"));
+    }
+
+    @Test
+    @DisplayName("should return 404 before streaming when the group does not exist")
+    void shouldReturn404WhenGroupNotFound() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        when(exportExpenseHistoryUseCase.exportHistory(groupId))
+                .thenThrow(new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
+
+        mockMvc.perform(get("/api/v1/expense/groups/{id}/activities/export", groupId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("should return 400 for an unknown format")
+    void shouldRejectUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/expense/groups/{id}/activities/export", UUID.randomUUID())
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -2,6 +2,7 @@ package io.github.sardul3.expense.expense.web;
 
 import io.github.sardul3.expense.adapter.in.web.controller.GetExpenseHistoryController;
 import io.github.sardul3.expense.application.dto.ActivityView;
+import io.github.sardul3.expense.application.dto.ExpenseHistoryCursorPageResponse;
 import io.github.sardul3.expense.application.dto.ExpenseHistoryPageResponse;
 import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
 import io.github.sardul3.expense.application.port.in.GetExpenseHistoryUseCase;
@@ -18,6 +19,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -69,4 +71,23 @@ class GetExpenseHistoryControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("should return 200 with the next cursor for cursor-paginated history")
+    void shouldReturnCursorPage() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        ExpenseHistoryCursorPageResponse response = new ExpenseHistoryCursorPageResponse(
+                List.of(new ActivityView(UUID.randomUUID(), "Lunch", BigDecimal.valueOf(30), UUID.randomUUID(), true)),
+                "next-token", 1, null
+        );
+        when(getExpenseHistoryUseCase.getExpenseHistoryAfter(eq(groupId), isNull(), eq(1), eq(false))).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/expense/groups/{id}/activities/cursor", groupId)
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("next-token"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
 }
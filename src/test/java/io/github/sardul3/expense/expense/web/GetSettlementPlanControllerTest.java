@@ -0,0 +1,66 @@
+package io.github.sardul3.expense.expense.web;
+
+import io.github.sardul3.expense.adapter.in.web.controller.GetSettlementPlanController;
+import io.github.sardul3.expense.application.dto.SettlementPlanResponse;
+import io.github.sardul3.expense.application.dto.SettlementTransferView;
+import io.github.sardul3.expense.application.exception.ExpenseGroupNotFoundException;
+import io.github.sardul3.expense.application.port.in.GetSettlementPlanUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(GetSettlementPlanController.class)
+@DisplayName("GetSettlementPlanController | GET settlement plan")
+class GetSettlementPlanControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetSettlementPlanUseCase getSettlementPlanUseCase;
+
+    @Test
+    @DisplayName("should return 200 and transfers when group exists")
+    void shouldReturn200AndTransfersWhenGroupExists() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID from = UUID.randomUUID();
+        UUID to = UUID.randomUUID();
+        when(getSettlementPlanUseCase.getSettlementPlan(groupId)).thenReturn(new SettlementPlanResponse(
+                groupId, List.of(new SettlementTransferView(from, to, new BigDecimal("12.50")))));
+
+        mockMvc.perform(get("/api/v1/expense/groups/{id}/settlement-plan", groupId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.groupId").value(groupId.toString()))
+                .andExpect(jsonPath("$.transfers.length()").value(1))
+                .andExpect(jsonPath("$.transfers[0].fromParticipantId").value(from.toString()))
+                .andExpect(jsonPath("$.transfers[0].toParticipantId").value(to.toString()))
+                .andExpect(jsonPath("$.transfers[0].amount").value(12.50));
+    }
+
+    @Test
+    @DisplayName("should return 404 when group does not exist")
+    void shouldReturn404WhenGroupNotFound() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        when(getSettlementPlanUseCase.getSettlementPlan(groupId))
+                .thenThrow(new ExpenseGroupNotFoundException("Expense group not found: " + groupId));
+
+        mockMvc.perform(get("/api/v1/expense/groups/{id}/settlement-plan", groupId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status").value(404));
+    }
+}
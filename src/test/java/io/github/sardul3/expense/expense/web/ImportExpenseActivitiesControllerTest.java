@@ -0,0 +1,97 @@
+package io.github.sardul3.expense.expense.web;
+
+import io.github.sardul3.expense.adapter.in.web.controller.ImportExpenseActivitiesController;
+import io.github.sardul3.expense.application.dto.CreateExpenseActivityCommand;
+import io.github.sardul3.expense.application.dto.ExpenseImportOutcome;
+import io.github.sardul3.expense.application.port.in.ImportExpenseActivitiesUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ImportExpenseActivitiesController.class)
+@DisplayName("ImportExpenseActivitiesController | POST bulk import")
+class ImportExpenseActivitiesControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportExpenseActivitiesUseCase importExpenseActivitiesUseCase;
+
+    @Test
+    @DisplayName("should report invalid records without passing them on, keeping input positions")
+    void shouldReportPerRecordOutcomes() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID payer = UUID.randomUUID();
+        UUID activityId = UUID.randomUUID();
+        when(importExpenseActivitiesUseCase.importActivities(anyList())).thenAnswer(invocation -> {
+            List<CreateExpenseActivityCommand> commands = invocation.getArgument(0);
+            return List.of(
+                    ExpenseImportOutcome.created(0, commands.get(0).groupId(), activityId),
+                    ExpenseImportOutcome.rejected(1, commands.get(1).groupId(), "Participant not found"));
+        });
+        String body = String.join("\n",
+                "{\"groupId\":\"" + groupId + "\",\"description\":\"Lunch\",\"amount\":20,\"paidBy\":\"" + payer + "\"}",
+                "{\"groupId\":\"" + groupId + "\",\"description\":\"\",\"amount\":20,\"paidBy\":\"" + payer + "\"}",
+                "{\"groupId\":\"" + groupId + "\",\"description\":\"Taxi\",\"amount\":12,\"paidBy\":\"" + payer + "\"}");
+
+        mockMvc.perform(post("/api/v1/expense/activities/import")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.outcomes[0].activityId").value(activityId.toString()))
+                .andExpect(jsonPath("$.outcomes[1].index").value(1))
+                .andExpect(jsonPath("$.outcomes[1].error").value("description cannot be empty"))
+                .andExpect(jsonPath("$.outcomes[2].index").value(2))
+                .andExpect(jsonPath("$.outcomes[2].error").value("Participant not found"));
+    }
+
+    @Test
+    @DisplayName("should validate records with the constraints of a single expense request")
+    void shouldApplyCreateRequestConstraints() throws Exception {
+        String body = "{\"description\":\"" + "x".repeat(51) + "\",\"amount\":0,\"paidBy\":\"" + UUID.randomUUID() + "\"}";
+
+        mockMvc.perform(post("/api/v1/expense/activities/import")
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.outcomes[0].error").value(
+                        "amount must be positive, description cannot be longer than 50 characters, groupId cannot be null"));
+    }
+
+    @Test
+    @DisplayName("should accept a JSON array and stop at a malformed record")
+    void shouldStopAtMalformedRecord() throws Exception {
+        UUID groupId = UUID.randomUUID();
+        UUID payer = UUID.randomUUID();
+        when(importExpenseActivitiesUseCase.importActivities(anyList()))
+                .thenReturn(List.of(ExpenseImportOutcome.created(0, groupId, UUID.randomUUID())));
+        String body = "[{\"groupId\":\"" + groupId + "\",\"description\":\"Lunch\",\"amount\":20,\"paidBy\":\"" + payer + "\"},"
+                + "{\"groupId\":\"not-a-uuid\"}]";
+
+        mockMvc.perform(post("/api/v1/expense/activities/import")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.outcomes[0].created").value(true))
+                .andExpect(jsonPath("$.outcomes[1].created").value(false));
+    }
+}